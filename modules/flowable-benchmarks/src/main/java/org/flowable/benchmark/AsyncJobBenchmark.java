@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.job.service.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Acquires and executes async jobs the same way the async executor does, but on the benchmark thread.
+ * 
+ * Every iteration is a batch of {@link #BATCH_SIZE} acquisitions. Before the iteration, process instances are started
+ * that each create one async job, enough for the whole batch, so the measurement doesn't include JMH setup calls.
+ * The score is the time of a batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = AsyncJobBenchmark.BATCH_SIZE)
+@Measurement(iterations = 5, batchSize = AsyncJobBenchmark.BATCH_SIZE)
+@Fork(1)
+public class AsyncJobBenchmark {
+
+    public static final int BATCH_SIZE = 100;
+
+    @Param({ "1", "10" })
+    public int jobCount;
+
+    @Setup(Level.Iteration)
+    public void createJobs(ProcessEngineState processEngineState) {
+        processEngineState.getProcessEngineConfiguration().getAsyncExecutor().setMaxAsyncJobsDuePerAcquisition(jobCount);
+        for (int i = 0; i < BATCH_SIZE * jobCount; i++) {
+            processEngineState.getRuntimeService().startProcessInstanceByKey("asyncServiceTask");
+        }
+    }
+
+    @Benchmark
+    public int acquireAndExecuteJobs(ProcessEngineState processEngineState) {
+        AsyncExecutor asyncExecutor = processEngineState.getProcessEngineConfiguration().getAsyncExecutor();
+        AcquiredJobEntities acquiredJobs = processEngineState.getManagementService().executeCommand(new AcquireJobsCmd(asyncExecutor));
+        for (JobInfoEntity job : acquiredJobs.getJobs()) {
+            processEngineState.getManagementService().executeJob(job.getId());
+        }
+        return acquiredJobs.size();
+    }
+
+}
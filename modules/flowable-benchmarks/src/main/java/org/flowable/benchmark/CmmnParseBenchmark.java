@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.flowable.cmmn.converter.CmmnXmlConverter;
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.engine.common.api.io.InputStreamProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Converts CMMN XML to a {@link CmmnModel}, with and without validation against the CMMN schema.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CmmnParseBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean validateSchema;
+
+    protected CmmnXmlConverter cmmnXmlConverter;
+    protected byte[] cmmnXml;
+
+    @Setup
+    public void readCmmnXml() throws IOException {
+        cmmnXmlConverter = new CmmnXmlConverter();
+        InputStream inputStream = CmmnParseBenchmark.class.getClassLoader().getResourceAsStream("org/flowable/benchmark/sentry-chain.cmmn");
+        try {
+            cmmnXml = IOUtils.toByteArray(inputStream);
+        } finally {
+            IOUtils.closeQuietly(inputStream);
+        }
+    }
+
+    @Benchmark
+    public CmmnModel convertToCmmnModel() {
+        return cmmnXmlConverter.convertToCmmnModel(new InputStreamProvider() {
+
+            @Override
+            public InputStream getInputStream() {
+                return new ByteArrayInputStream(cmmnXml);
+            }
+        }, validateSchema, false);
+    }
+
+}
@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.cmmn.engine.CmmnEngine;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.CmmnRuntimeService;
+import org.flowable.cmmn.engine.runtime.CaseInstance;
+import org.flowable.cmmn.engine.runtime.PlanItemInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs a case instance in which every completed task satisfies the sentry of the next task, so that every
+ * transition triggers the evaluation of the sentries of the case. Runs against an in-memory H2 database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CmmnSentryBenchmark {
+
+    protected CmmnEngine cmmnEngine;
+
+    @Setup
+    public void buildCmmnEngine() {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CmmnEngineConfiguration.createStandaloneInMemCmmnEngineConfiguration();
+        cmmnEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-cmmn-benchmark;DB_CLOSE_DELAY=1000");
+        cmmnEngineConfiguration.setDatabaseSchemaUpdate(CmmnEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+        cmmnEngine = cmmnEngineConfiguration.buildCmmnEngine();
+
+        cmmnEngine.getCmmnRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/sentry-chain.cmmn")
+                .deploy();
+    }
+
+    @TearDown
+    public void closeCmmnEngine() {
+        cmmnEngine.close();
+    }
+
+    @Benchmark
+    public int runCaseInstance() {
+        CmmnRuntimeService cmmnRuntimeService = cmmnEngine.getCmmnRuntimeService();
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("sentryChain").start();
+
+        int triggerCount = 0;
+        List<PlanItemInstance> activePlanItemInstances = getActivePlanItemInstances(caseInstance.getId());
+        while (!activePlanItemInstances.isEmpty()) {
+            for (PlanItemInstance planItemInstance : activePlanItemInstances) {
+                cmmnRuntimeService.triggerPlanItemInstance(planItemInstance.getId());
+                triggerCount++;
+            }
+            activePlanItemInstances = getActivePlanItemInstances(caseInstance.getId());
+        }
+        return triggerCount;
+    }
+
+    protected List<PlanItemInstance> getActivePlanItemInstances(String caseInstanceId) {
+        return cmmnEngine.getCmmnRuntimeService().createPlanItemInstanceQuery()
+                .caseInstanceId(caseInstanceId)
+                .planItemInstanceStateActive()
+                .list();
+    }
+
+}
@@ -0,0 +1,104 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates a decision table with the DMN engine, running against an in-memory H2 database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DmnDecisionBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean historyEnabled;
+
+    protected DmnEngine dmnEngine;
+    protected List<Map<String, Object>> inputVariables;
+    protected int inputIndex;
+
+    @Setup
+    public void buildDmnEngine() {
+        DmnEngineConfiguration dmnEngineConfiguration = DmnEngineConfiguration.createStandaloneInMemDmnEngineConfiguration();
+        dmnEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-dmn-benchmark;DB_CLOSE_DELAY=1000");
+        dmnEngineConfiguration.setDatabaseSchemaUpdate(DmnEngineConfiguration.DB_SCHEMA_UPDATE_DROP_CREATE);
+        dmnEngineConfiguration.setHistoryEnabled(historyEnabled);
+        dmnEngine = dmnEngineConfiguration.buildDmnEngine();
+
+        dmnEngine.getDmnRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/decision-table.dmn")
+                .deploy();
+
+        inputVariables = new ArrayList<>();
+        String[] categories = { "A", "B", "C", "D", "E" };
+        int[] amounts = { 50, 250, 750, 2500, 10000 };
+        for (String category : categories) {
+            for (int amount : amounts) {
+                Map<String, Object> variables = new HashMap<>();
+                variables.put("amount", amount);
+                variables.put("category", category);
+                inputVariables.add(variables);
+            }
+        }
+    }
+
+    @TearDown
+    public void closeDmnEngine() {
+        dmnEngine.close();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> executeDecision() {
+        Map<String, Object> variables = inputVariables.get(inputIndex++ % inputVariables.size());
+        DmnRuleService dmnRuleService = dmnEngine.getDmnRuleService();
+        return dmnRuleService.createExecuteDecisionBuilder()
+                .decisionKey("benchmarkDecision")
+                .variables(variables)
+                .execute();
+    }
+
+    @Benchmark
+    public List<List<Map<String, Object>>> executeDecisionBatch() {
+        DmnRuleService dmnRuleService = dmnEngine.getDmnRuleService();
+        return dmnRuleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("benchmarkDecision")
+                .variables(inputVariables)
+                .execute();
+    }
+
+}
@@ -0,0 +1,102 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.common.api.delegate.Expression;
+import org.flowable.engine.common.api.variable.VariableContainer;
+import org.flowable.engine.common.impl.el.DefaultExpressionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses and evaluates expressions through the {@link DefaultExpressionManager}, without an engine or database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpressionBenchmark {
+
+    @Param({ "${amount}", "${amount + 100}", "${amount > 100 && category == 'A'}", "${customer.name == 'kermit'}" })
+    public String expressionText;
+
+    protected DefaultExpressionManager expressionManager;
+    protected Expression expression;
+    protected VariableContainer variableContainer;
+
+    @Setup
+    public void createExpression() {
+        expressionManager = new DefaultExpressionManager();
+        expression = expressionManager.createExpression(expressionText);
+
+        Map<String, Object> customer = new HashMap<>();
+        customer.put("name", "kermit");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("amount", 500);
+        variables.put("category", "A");
+        variables.put("customer", customer);
+        variableContainer = new MapVariableContainer(variables);
+    }
+
+    @Benchmark
+    public Object evaluate() {
+        return expression.getValue(variableContainer);
+    }
+
+    @Benchmark
+    public Object parseAndEvaluate() {
+        return expressionManager.createExpression(expressionText).getValue(variableContainer);
+    }
+
+    protected static class MapVariableContainer implements VariableContainer {
+
+        protected Map<String, Object> variables;
+
+        public MapVariableContainer(Map<String, Object> variables) {
+            this.variables = variables;
+        }
+
+        @Override
+        public boolean hasVariable(String variableName) {
+            return variables.containsKey(variableName);
+        }
+
+        @Override
+        public Object getVariable(String variableName) {
+            return variables.get(variableName);
+        }
+
+        @Override
+        public void setVariable(String variableName, Object variableValue) {
+            variables.put(variableName, variableValue);
+        }
+
+    }
+
+}
@@ -0,0 +1,114 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.cmmn.converter.CmmnXmlConverter;
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.engine.common.api.io.InputStreamProvider;
+import org.flowable.engine.common.impl.persistence.deploy.ModelSnapshotCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading a model snapshot with converting the XML again, the way the deployers do when a deployment is put in the cache again:
+ * BPMN XML is converted without schema validation, CMMN XML with schema validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelSnapshotBenchmark {
+
+    protected BpmnXMLConverter bpmnXMLConverter;
+    protected CmmnXmlConverter cmmnXmlConverter;
+    protected ModelSnapshotCodec bpmnModelSnapshotCodec;
+    protected ModelSnapshotCodec cmmnModelSnapshotCodec;
+
+    protected byte[] bpmnXml;
+    protected byte[] bpmnModelSnapshot;
+    protected byte[] cmmnXml;
+    protected byte[] cmmnModelSnapshot;
+
+    @Setup
+    public void createModelSnapshots() throws IOException {
+        bpmnXMLConverter = new BpmnXMLConverter();
+        cmmnXmlConverter = new CmmnXmlConverter();
+        bpmnModelSnapshotCodec = new ModelSnapshotCodec("org.flowable.bpmn.model");
+        cmmnModelSnapshotCodec = new ModelSnapshotCodec("org.flowable.cmmn.model");
+
+        bpmnXml = readResource("org/flowable/benchmark/process-shapes.bpmn20.xml");
+        bpmnModelSnapshot = bpmnModelSnapshotCodec.encode(convertBpmnXml());
+        cmmnXml = readResource("org/flowable/benchmark/sentry-chain.cmmn");
+        cmmnModelSnapshot = cmmnModelSnapshotCodec.encode(convertCmmnXml());
+    }
+
+    @Benchmark
+    public BpmnModel convertBpmnXml() {
+        return bpmnXMLConverter.convertToBpmnModel(new InputStreamProvider() {
+
+            @Override
+            public InputStream getInputStream() {
+                return new ByteArrayInputStream(bpmnXml);
+            }
+        }, false, false);
+    }
+
+    @Benchmark
+    public BpmnModel readBpmnModelSnapshot() {
+        return bpmnModelSnapshotCodec.decode(bpmnModelSnapshot, BpmnModel.class);
+    }
+
+    @Benchmark
+    public CmmnModel convertCmmnXml() {
+        return cmmnXmlConverter.convertToCmmnModel(new InputStreamProvider() {
+
+            @Override
+            public InputStream getInputStream() {
+                return new ByteArrayInputStream(cmmnXml);
+            }
+        }, true, false);
+    }
+
+    @Benchmark
+    public CmmnModel readCmmnModelSnapshot() {
+        return cmmnModelSnapshotCodec.decode(cmmnModelSnapshot, CmmnModel.class);
+    }
+
+    protected byte[] readResource(String resourceName) throws IOException {
+        InputStream inputStream = ModelSnapshotBenchmark.class.getClassLoader().getResourceAsStream(resourceName);
+        try {
+            return IOUtils.toByteArray(inputStream);
+        } finally {
+            IOUtils.closeQuietly(inputStream);
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.task.service.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Claims and completes the user task of a process instance. Every invocation gets a new process instance.
+ * 
+ * Every iteration is a batch of {@link #BATCH_SIZE} invocations. The process instances of the batch are started before
+ * the iteration, so neither the cost of starting them nor JMH setup calls are part of the measurement.
+ * The score is the time of a batch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = TaskBenchmark.BATCH_SIZE)
+@Measurement(iterations = 5, batchSize = TaskBenchmark.BATCH_SIZE)
+@Fork(1)
+public class TaskBenchmark {
+
+    public static final int BATCH_SIZE = 500;
+
+    protected Deque<String> taskIds = new ArrayDeque<>(BATCH_SIZE);
+
+    @Setup(Level.Iteration)
+    public void startProcessInstances(ProcessEngineState processEngineState) {
+        taskIds.clear();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            String processInstanceId = processEngineState.getRuntimeService().startProcessInstanceByKey("userTask").getId();
+            Task task = processEngineState.getTaskService().createTaskQuery().processInstanceId(processInstanceId).singleResult();
+            taskIds.add(task.getId());
+        }
+    }
+
+    @Benchmark
+    public void claimAndCompleteTask(ProcessEngineState processEngineState) {
+        String taskId = taskIds.poll();
+        processEngineState.getTaskService().claim(taskId, "kermit");
+        processEngineState.getTaskService().complete(taskId);
+    }
+
+}
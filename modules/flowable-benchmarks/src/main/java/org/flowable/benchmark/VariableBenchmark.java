@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.RuntimeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Sets and gets a process variable of a running process instance, for the different variable types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VariableBenchmark {
+
+    @Param({ "string", "integer", "long", "double", "boolean", "date", "bytes", "json", "serializable" })
+    public String variableType;
+
+    protected String processInstanceId;
+    protected Object value;
+
+    @Setup
+    public void startProcessInstance(ProcessEngineState processEngineState) {
+        processInstanceId = processEngineState.getRuntimeService().startProcessInstanceByKey("userTask").getId();
+        value = createValue(processEngineState);
+        processEngineState.getRuntimeService().setVariable(processInstanceId, "benchmarkVariable", value);
+    }
+
+    @Benchmark
+    public void setVariable(ProcessEngineState processEngineState) {
+        processEngineState.getRuntimeService().setVariable(processInstanceId, "benchmarkVariable", value);
+    }
+
+    @Benchmark
+    public Object getVariable(ProcessEngineState processEngineState) {
+        return processEngineState.getRuntimeService().getVariable(processInstanceId, "benchmarkVariable");
+    }
+
+    @Benchmark
+    public Object setAndGetVariable(ProcessEngineState processEngineState) {
+        RuntimeService runtimeService = processEngineState.getRuntimeService();
+        runtimeService.setVariable(processInstanceId, "benchmarkVariable", value);
+        return runtimeService.getVariable(processInstanceId, "benchmarkVariable");
+    }
+
+    protected Object createValue(ProcessEngineState processEngineState) {
+        switch (variableType) {
+        case "string":
+            return "Benchmark variable value";
+        case "integer":
+            return 123456;
+        case "long":
+            return 123456789L;
+        case "double":
+            return 1234.5678;
+        case "boolean":
+            return Boolean.TRUE;
+        case "date":
+            return new Date();
+        case "bytes":
+            return new byte[1024];
+        case "json":
+            ObjectNode objectNode = processEngineState.getProcessEngineConfiguration().getObjectMapper().createObjectNode();
+            objectNode.put("name", "kermit");
+            objectNode.put("amount", 500);
+            objectNode.putArray("groups").add("management").add("sales");
+            return objectNode;
+        case "serializable":
+            return new ArrayList<>(Arrays.asList("management", "sales", "engineering"));
+        default:
+            throw new IllegalArgumentException("Unknown variable type " + variableType);
+        }
+    }
+
+}
@@ -22,6 +22,9 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.XMLConstants;
 import javax.xml.stream.XMLInputFactory;
@@ -110,6 +113,13 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     protected static Map<String, BaseBpmnXMLConverter> convertersToBpmnMap = new HashMap<>();
     protected static Map<Class<? extends BaseElement>, BaseBpmnXMLConverter> convertersToXMLMap = new HashMap<>();
 
+    // Compiling the XSD takes much longer than parsing a model, the compiled schema is immutable and can be shared by all threads.
+    // The schemas are cached per converter class, as subclasses can override createSchema, and per classloader. Access is synchronized on the map.
+    protected static Map<Class<?>, Map<ClassLoader, Schema>> schemaCache = new WeakHashMap<>();
+
+    // Configured factories are reused, each one by one thread at a time
+    protected static Queue<XMLInputFactory> xmlInputFactoryPool = new ConcurrentLinkedQueue<>();
+
     protected ClassLoader classloader;
     protected List<String> userTaskFormTypes;
     protected List<String> startEventFormTypes;
@@ -209,19 +219,46 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     }
 
     public void validateModel(InputStreamProvider inputStreamProvider) throws Exception {
-        Schema schema = createSchema();
+        Schema schema = getSchema();
 
         Validator validator = schema.newValidator();
         validator.validate(new StreamSource(inputStreamProvider.getInputStream()));
     }
 
     public void validateModel(XMLStreamReader xmlStreamReader) throws Exception {
-        Schema schema = createSchema();
+        Schema schema = getSchema();
 
         Validator validator = schema.newValidator();
         validator.validate(new StAXSource(xmlStreamReader));
     }
 
+    /**
+     * Returns the compiled BPMN XSD for the class and the classloader of this converter, which is only compiled the first time it's needed.
+     */
+    protected Schema getSchema() throws SAXException {
+        ClassLoader schemaClassloader = classloader != null ? classloader : BpmnXMLConverter.class.getClassLoader();
+        Schema schema = null;
+        synchronized (schemaCache) {
+            Map<ClassLoader, Schema> classSchemaCache = schemaCache.get(getClass());
+            if (classSchemaCache != null) {
+                schema = classSchemaCache.get(schemaClassloader);
+            }
+        }
+
+        if (schema == null) {
+            schema = createSchema();
+            synchronized (schemaCache) {
+                Map<ClassLoader, Schema> classSchemaCache = schemaCache.get(getClass());
+                if (classSchemaCache == null) {
+                    classSchemaCache = new WeakHashMap<>();
+                    schemaCache.put(getClass(), classSchemaCache);
+                }
+                classSchemaCache.put(schemaClassloader, schema);
+            }
+        }
+        return schema;
+    }
+
     protected Schema createSchema() throws SAXException {
         SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
         Schema schema = null;
@@ -244,20 +281,15 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     }
 
     public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
-        XMLInputFactory xif = XMLInputFactory.newInstance();
-
-        if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
-            xif.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
-        }
-
-        if (xif.isPropertySupported(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES)) {
-            xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-        }
-
-        if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
-            xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XMLInputFactory xif = borrowXMLInputFactory();
+        try {
+            return convertToBpmnModel(inputStreamProvider, validateSchema, enableSafeBpmnXml, encoding, xif);
+        } finally {
+            xmlInputFactoryPool.offer(xif);
         }
+    }
 
+    protected BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding, XMLInputFactory xif) {
         if (validateSchema) {
             try (InputStreamReader in = new InputStreamReader(inputStreamProvider.getInputStream(), encoding)) {
                 if (!enableSafeBpmnXml) {
@@ -286,6 +318,26 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
         }
     }
 
+    protected XMLInputFactory borrowXMLInputFactory() {
+        XMLInputFactory xif = xmlInputFactoryPool.poll();
+        if (xif == null) {
+            xif = XMLInputFactory.newInstance();
+
+            if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
+                xif.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+            }
+
+            if (xif.isPropertySupported(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES)) {
+                xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            }
+
+            if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
+                xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            }
+        }
+        return xif;
+    }
+
     public BpmnModel convertToBpmnModel(XMLStreamReader xtr) {
         BpmnModel model = new BpmnModel();
         model.setStartEventFormTypes(startEventFormTypes);
@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.validation.Schema;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.engine.common.api.io.InputStreamProvider;
+import org.junit.Test;
+import org.xml.sax.SAXException;
+
+public class SchemaCacheTest {
+
+    @Test
+    public void schemaIsCompiledOncePerClassloader() throws Exception {
+        ClassLoader classloader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        AtomicInteger schemaCount = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            BpmnModel bpmnModel = createConverter(classloader, schemaCount).convertToBpmnModel(createProvider("usertaskmodel.bpmn"), true, true);
+            assertNotNull(bpmnModel.getMainProcess());
+        }
+        assertEquals(1, schemaCount.get());
+
+        createConverter(new URLClassLoader(new URL[0], getClass().getClassLoader()), schemaCount).convertToBpmnModel(createProvider("usertaskmodel.bpmn"), true, true);
+        assertEquals(2, schemaCount.get());
+    }
+
+    @Test
+    public void schemaIsCachedPerConverterClass() throws Exception {
+        ClassLoader classloader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        AtomicInteger schemaCount = new AtomicInteger();
+        createConverter(classloader, schemaCount).convertToBpmnModel(createProvider("usertaskmodel.bpmn"), true, true);
+        assertEquals(1, schemaCount.get());
+
+        // A subclass that overrides createSchema, for example to add extension XSDs, doesn't get the schema of another converter class
+        final AtomicInteger extensionSchemaCount = new AtomicInteger();
+        BpmnXMLConverter extensionConverter = new BpmnXMLConverter() {
+
+            @Override
+            protected Schema createSchema() throws SAXException {
+                extensionSchemaCount.incrementAndGet();
+                return super.createSchema();
+            }
+        };
+        extensionConverter.setClassloader(classloader);
+        for (int i = 0; i < 2; i++) {
+            extensionConverter.convertToBpmnModel(createProvider("usertaskmodel.bpmn"), true, true);
+        }
+        assertEquals(1, extensionSchemaCount.get());
+        assertEquals(1, schemaCount.get());
+    }
+
+    @Test
+    public void concurrentParsing() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<BpmnModel>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                final String resource = i % 2 == 0 ? "usertaskmodel.bpmn" : "callactivity.bpmn";
+                futures.add(executorService.submit(new Callable<BpmnModel>() {
+
+                    @Override
+                    public BpmnModel call() throws Exception {
+                        return new BpmnXMLConverter().convertToBpmnModel(createProvider(resource), true, true);
+                    }
+                }));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                BpmnModel bpmnModel = futures.get(i).get();
+                assertNotNull(bpmnModel.getMainProcess().getFlowElement(i % 2 == 0 ? "usertask" : "callactivity"));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    protected BpmnXMLConverter createConverter(ClassLoader classloader, final AtomicInteger schemaCount) {
+        BpmnXMLConverter converter = new BpmnXMLConverter() {
+
+            @Override
+            protected Schema createSchema() throws SAXException {
+                schemaCount.incrementAndGet();
+                return super.createSchema();
+            }
+        };
+        converter.setClassloader(classloader);
+        return converter;
+    }
+
+    protected InputStreamProvider createProvider(final String resource) {
+        return new InputStreamProvider() {
+
+            @Override
+            public InputStream getInputStream() {
+                return SchemaCacheTest.class.getClassLoader().getResourceAsStream(resource);
+            }
+        };
+    }
+
+}
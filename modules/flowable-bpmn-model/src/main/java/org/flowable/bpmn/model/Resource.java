@@ -22,6 +22,9 @@ public class Resource extends BaseElement {
 
     protected String name;
 
+    public Resource() {
+    }
+
     public Resource(String resourceId, String resourceName) {
         super();
         setId(resourceId);
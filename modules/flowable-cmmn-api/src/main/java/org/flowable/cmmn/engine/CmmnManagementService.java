@@ -13,6 +13,7 @@
 package org.flowable.cmmn.engine;
 
 import java.util.Collection;
+import java.util.Date;
 import java.util.Map;
 
 /**
@@ -24,4 +25,12 @@ public interface CmmnManagementService {
     
     Collection<String> getTableNames();
     
+    /**
+     * Deletes the history of all case instances that have ended before the given date.
+     * The case instances are deleted in batches of the configured history cleaning batch size, each batch in its own transaction.
+     * 
+     * @return the number of case instances of which the history was deleted
+     */
+    long deleteHistoricCaseInstancesEndedBefore(Date endedBefore);
+    
 }
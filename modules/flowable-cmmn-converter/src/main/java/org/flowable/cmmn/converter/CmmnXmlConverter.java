@@ -21,7 +21,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.XMLConstants;
 import javax.xml.stream.XMLInputFactory;
@@ -77,6 +80,13 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
     protected static Map<String, BaseCmmnXmlConverter> elementConverters = new HashMap<>();
     protected static Map<String, BaseCmmnXmlConverter> textConverters = new HashMap<>();
 
+    // Compiling the XSD takes much longer than parsing a model, the compiled schema is immutable and can be shared by all threads.
+    // The schemas are cached per converter class, as subclasses can override createSchema, and per classloader. Access is synchronized on the map.
+    protected static Map<Class<?>, Map<ClassLoader, Schema>> schemaCache = new WeakHashMap<>();
+
+    // Configured factories are reused, each one by one thread at a time
+    protected static Queue<XMLInputFactory> xmlInputFactoryPool = new ConcurrentLinkedQueue<>();
+
     protected ClassLoader classloader;
 
     static {
@@ -124,18 +134,15 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
     }
 
     public CmmnModel convertToCmmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
-        XMLInputFactory xif = XMLInputFactory.newInstance();
-
-        if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
-            xif.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
-        }
-        if (xif.isPropertySupported(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES)) {
-            xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-        }
-        if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
-            xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XMLInputFactory xif = borrowXMLInputFactory();
+        try {
+            return convertToCmmnModel(inputStreamProvider, validateSchema, enableSafeBpmnXml, encoding, xif);
+        } finally {
+            xmlInputFactoryPool.offer(xif);
         }
+    }
 
+    protected CmmnModel convertToCmmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding, XMLInputFactory xif) {
         if (encoding == null) {
             encoding = DEFAULT_ENCODING;
         }
@@ -168,6 +175,24 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
         }
     }
 
+    protected XMLInputFactory borrowXMLInputFactory() {
+        XMLInputFactory xif = xmlInputFactoryPool.poll();
+        if (xif == null) {
+            xif = XMLInputFactory.newInstance();
+
+            if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
+                xif.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+            }
+            if (xif.isPropertySupported(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES)) {
+                xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            }
+            if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
+                xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            }
+        }
+        return xif;
+    }
+
     public CmmnModel convertToCmmnModel(XMLStreamReader xtr) {
 
         ConversionHelper conversionHelper = new ConversionHelper();
@@ -217,19 +242,46 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
     }
 
     public void validateModel(InputStreamProvider inputStreamProvider) throws Exception {
-        Schema schema = createSchema();
+        Schema schema = getSchema();
 
         Validator validator = schema.newValidator();
         validator.validate(new StreamSource(inputStreamProvider.getInputStream()));
     }
 
     public void validateModel(XMLStreamReader xmlStreamReader) throws Exception {
-        Schema schema = createSchema();
+        Schema schema = getSchema();
 
         Validator validator = schema.newValidator();
         validator.validate(new StAXSource(xmlStreamReader));
     }
 
+    /**
+     * Returns the compiled CMMN XSD for the class and the classloader of this converter, which is only compiled the first time it's needed.
+     */
+    protected Schema getSchema() throws SAXException {
+        ClassLoader schemaClassloader = classloader != null ? classloader : this.getClass().getClassLoader();
+        Schema schema = null;
+        synchronized (schemaCache) {
+            Map<ClassLoader, Schema> classSchemaCache = schemaCache.get(getClass());
+            if (classSchemaCache != null) {
+                schema = classSchemaCache.get(schemaClassloader);
+            }
+        }
+
+        if (schema == null) {
+            schema = createSchema();
+            synchronized (schemaCache) {
+                Map<ClassLoader, Schema> classSchemaCache = schemaCache.get(getClass());
+                if (classSchemaCache == null) {
+                    classSchemaCache = new WeakHashMap<>();
+                    schemaCache.put(getClass(), classSchemaCache);
+                }
+                classSchemaCache.put(schemaClassloader, schema);
+            }
+        }
+        return schema;
+    }
+
     protected Schema createSchema() throws SAXException {
         SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
         Schema schema = null;
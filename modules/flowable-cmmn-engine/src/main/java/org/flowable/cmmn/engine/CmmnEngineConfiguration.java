@@ -189,8 +189,36 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration {
 
     protected int caseDefinitionCacheLimit = -1;
     protected DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache;
+
+    /**
+     * When enabled, the latest version of every case definition is put in the case definition cache in the background when the engine boots,
+     * so the first case instances that are started after a restart don't have to wait for their deployment to be parsed.
+     * When the cache has a limit, only the case definitions of the most recent deployments are put in the cache.
+     */
+    protected boolean enableCaseDefinitionCacheWarmUp;
+
+    /**
+     * The maximum number of deployments that are parsed at the same time when warming up the case definition cache.
+     */
+    protected int caseDefinitionCacheWarmUpPoolSize = 4;
+
+    /**
+     * When enabled, a binary snapshot of the parsed CmmnModel is stored as an extra resource of every new deployment, and used instead
+     * of the CMMN XML when the case definitions of the deployment are put in the cache again.
+     * When the snapshot can't be read, for example after an upgrade that changed the model classes, the XML is parsed instead.
+     */
+    protected boolean enableModelSnapshots;
     
     protected HistoryLevel historyLevel = HistoryLevel.AUDIT;
+
+    /**
+     * When enabled, the history of case instances that have ended more than {@link #cleanInstancesEndedAfterNumberOfDays} days ago
+     * is removed periodically, every {@link #historyCleaningIntervalInMillis} milliseconds, in batches of {@link #historyCleaningBatchSize} case instances.
+     */
+    protected boolean enableHistoryCleaning;
+    protected int cleanInstancesEndedAfterNumberOfDays = 365;
+    protected int historyCleaningBatchSize = 100;
+    protected long historyCleaningIntervalInMillis = 24 * 60 * 60 * 1000L;
     
     protected ExpressionManager expressionManager;
     protected List<FlowableFunctionDelegate> flowableFunctionDelegates;
@@ -204,6 +232,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration {
     protected VariableServiceConfiguration variableServiceConfiguration;
     protected InternalHistoryVariableManager internalHistoryVariableManager;
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
+    protected boolean jsonVariableTypeTrackObjects;
     protected ObjectMapper objectMapper = new ObjectMapper();
 
     public static CmmnEngineConfiguration createCmmnEngineConfigurationFromResourceDefault() {
@@ -561,8 +590,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration {
             variableTypes.addType(new JodaDateTimeType());
             variableTypes.addType(new DoubleType());
             variableTypes.addType(new UUIDType());
-            variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper));
-            variableTypes.addType(new LongJsonType(getMaxLengthString() + 1, objectMapper));
+            variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
+            variableTypes.addType(new LongJsonType(getMaxLengthString() + 1, objectMapper, jsonVariableTypeTrackObjects));
             variableTypes.addType(new ByteArrayType());
             variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
             if (customPostVariableTypes != null) {
@@ -944,6 +973,33 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isEnableCaseDefinitionCacheWarmUp() {
+        return enableCaseDefinitionCacheWarmUp;
+    }
+
+    public CmmnEngineConfiguration setEnableCaseDefinitionCacheWarmUp(boolean enableCaseDefinitionCacheWarmUp) {
+        this.enableCaseDefinitionCacheWarmUp = enableCaseDefinitionCacheWarmUp;
+        return this;
+    }
+
+    public int getCaseDefinitionCacheWarmUpPoolSize() {
+        return caseDefinitionCacheWarmUpPoolSize;
+    }
+
+    public CmmnEngineConfiguration setCaseDefinitionCacheWarmUpPoolSize(int caseDefinitionCacheWarmUpPoolSize) {
+        this.caseDefinitionCacheWarmUpPoolSize = caseDefinitionCacheWarmUpPoolSize;
+        return this;
+    }
+
+    public boolean isEnableModelSnapshots() {
+        return enableModelSnapshots;
+    }
+
+    public CmmnEngineConfiguration setEnableModelSnapshots(boolean enableModelSnapshots) {
+        this.enableModelSnapshots = enableModelSnapshots;
+        return this;
+    }
+
     public ProcessInstanceService getProcessInstanceService() {
         return processInstanceService;
     }
@@ -1060,6 +1116,51 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isJsonVariableTypeTrackObjects() {
+        return jsonVariableTypeTrackObjects;
+    }
+
+    public CmmnEngineConfiguration setJsonVariableTypeTrackObjects(boolean jsonVariableTypeTrackObjects) {
+        this.jsonVariableTypeTrackObjects = jsonVariableTypeTrackObjects;
+        return this;
+    }
+
+    public boolean isEnableHistoryCleaning() {
+        return enableHistoryCleaning;
+    }
+
+    public CmmnEngineConfiguration setEnableHistoryCleaning(boolean enableHistoryCleaning) {
+        this.enableHistoryCleaning = enableHistoryCleaning;
+        return this;
+    }
+
+    public int getCleanInstancesEndedAfterNumberOfDays() {
+        return cleanInstancesEndedAfterNumberOfDays;
+    }
+
+    public CmmnEngineConfiguration setCleanInstancesEndedAfterNumberOfDays(int cleanInstancesEndedAfterNumberOfDays) {
+        this.cleanInstancesEndedAfterNumberOfDays = cleanInstancesEndedAfterNumberOfDays;
+        return this;
+    }
+
+    public int getHistoryCleaningBatchSize() {
+        return historyCleaningBatchSize;
+    }
+
+    public CmmnEngineConfiguration setHistoryCleaningBatchSize(int historyCleaningBatchSize) {
+        this.historyCleaningBatchSize = historyCleaningBatchSize;
+        return this;
+    }
+
+    public long getHistoryCleaningIntervalInMillis() {
+        return historyCleaningIntervalInMillis;
+    }
+
+    public CmmnEngineConfiguration setHistoryCleaningIntervalInMillis(long historyCleaningIntervalInMillis) {
+        this.historyCleaningIntervalInMillis = historyCleaningIntervalInMillis;
+        return this;
+    }
+
     public ObjectMapper getObjectMapper() {
         return objectMapper;
     }
@@ -12,14 +12,29 @@
  */
 package org.flowable.cmmn.engine.impl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
 import org.flowable.cmmn.engine.CmmnEngine;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.CmmnHistoryService;
 import org.flowable.cmmn.engine.CmmnManagementService;
 import org.flowable.cmmn.engine.CmmnRepositoryService;
 import org.flowable.cmmn.engine.CmmnRuntimeService;
+import org.flowable.cmmn.engine.impl.cmd.GetCmmnModelCmd;
 import org.flowable.cmmn.engine.impl.cmd.SchemaOperationsCmmnEngineBuild;
+import org.flowable.cmmn.engine.impl.history.CmmnHistoryCleanupRunnable;
+import org.flowable.cmmn.engine.repository.CaseDefinition;
+import org.flowable.cmmn.engine.repository.CmmnDeployment;
+import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandExecutor;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheWarmUp;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +51,8 @@ public class CmmnEngineImpl implements CmmnEngine {
     protected CmmnManagementService cmmnManagementService;
     protected CmmnRepositoryService cmmnRepositoryService;
     protected CmmnHistoryService cmmnHistoryService;
+    protected ScheduledExecutorService historyCleanupExecutorService;
+    protected DeploymentCacheWarmUp caseDefinitionCacheWarmUp;
     
     public CmmnEngineImpl(CmmnEngineConfiguration cmmnEngineConfiguration) {
         this.cmmnEngineConfiguration = cmmnEngineConfiguration;
@@ -50,9 +67,52 @@ public class CmmnEngineImpl implements CmmnEngine {
             commandExecutor.execute(cmmnEngineConfiguration.getSchemaCommandConfig(), new SchemaOperationsCmmnEngineBuild());
         }
 
+        if (cmmnEngineConfiguration.isEnableHistoryCleaning()) {
+            startHistoryCleanup();
+        }
+
+        if (cmmnEngineConfiguration.isEnableCaseDefinitionCacheWarmUp()) {
+            startCaseDefinitionCacheWarmUp();
+        }
+
         LOGGER.info("CmmnEngine {} created", name);
     }
     
+    protected void startHistoryCleanup() {
+        historyCleanupExecutorService = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "flowable-cmmn-history-cleanup");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        long interval = cmmnEngineConfiguration.getHistoryCleaningIntervalInMillis();
+        historyCleanupExecutorService.scheduleWithFixedDelay(new CmmnHistoryCleanupRunnable(cmmnEngineConfiguration), interval, interval, TimeUnit.MILLISECONDS);
+    }
+    
+    protected void startCaseDefinitionCacheWarmUp() {
+        Map<String, String> deploymentIdByCaseDefinitionId = new HashMap<>();
+        for (CaseDefinition caseDefinition : cmmnRepositoryService.createCaseDefinitionQuery().latestVersion().list()) {
+            deploymentIdByCaseDefinitionId.put(caseDefinition.getId(), caseDefinition.getDeploymentId());
+        }
+        List<String> deploymentIds = new ArrayList<>();
+        for (CmmnDeployment deployment : cmmnRepositoryService.createDeploymentQuery().orderByDeploymenTime().desc().orderByDeploymentId().desc().list()) {
+            deploymentIds.add(deployment.getId());
+        }
+
+        List<Command<?>> resolveCommands = new ArrayList<>();
+        for (String caseDefinitionId : DeploymentCacheWarmUp.selectDefinitionIds(deploymentIdByCaseDefinitionId, deploymentIds,
+                cmmnEngineConfiguration.getCaseDefinitionCacheLimit())) {
+            resolveCommands.add(new GetCmmnModelCmd(caseDefinitionId));
+        }
+
+        caseDefinitionCacheWarmUp = new DeploymentCacheWarmUp("cmmn", cmmnEngineConfiguration.getCommandExecutor(),
+                cmmnEngineConfiguration.getCaseDefinitionCacheWarmUpPoolSize());
+        caseDefinitionCacheWarmUp.start(resolveCommands);
+    }
+    
     public String getName() {
         return name;
     }
@@ -64,8 +124,20 @@ public class CmmnEngineImpl implements CmmnEngine {
     @Override
     public void close() {
         // TODO (see ProcessEngineImpl)
+        if (historyCleanupExecutorService != null) {
+            historyCleanupExecutorService.shutdownNow();
+            historyCleanupExecutorService = null;
+        }
+        if (caseDefinitionCacheWarmUp != null) {
+            caseDefinitionCacheWarmUp.shutdown();
+            caseDefinitionCacheWarmUp = null;
+        }
     }
     
+    public DeploymentCacheWarmUp getCaseDefinitionCacheWarmUp() {
+        return caseDefinitionCacheWarmUp;
+    }
+
     public CmmnEngineConfiguration getCmmnEngineConfiguration() {
         return cmmnEngineConfiguration;
     }
@@ -13,9 +13,11 @@
 package org.flowable.cmmn.engine.impl;
 
 import java.util.Collection;
+import java.util.Date;
 import java.util.Map;
 
 import org.flowable.cmmn.engine.CmmnManagementService;
+import org.flowable.cmmn.engine.impl.cmd.DeleteHistoricCaseInstancesBatchCmd;
 import org.flowable.cmmn.engine.impl.cmd.GetTableCountsCmd;
 import org.flowable.cmmn.engine.impl.cmd.GetTableNamesCmd;
 
@@ -34,4 +36,16 @@ public class CmmnManagementServiceImpl extends ServiceImpl implements CmmnManage
         return commandExecutor.execute(new GetTableNamesCmd());
     }
 
+    @Override
+    public long deleteHistoricCaseInstancesEndedBefore(Date endedBefore) {
+        int batchSize = cmmnEngineConfiguration.getHistoryCleaningBatchSize();
+        long deletedCount = 0;
+        int batchCount;
+        do {
+            batchCount = commandExecutor.execute(new DeleteHistoricCaseInstancesBatchCmd(endedBefore, batchSize));
+            deletedCount += batchCount;
+        } while (batchCount == batchSize);
+        return deletedCount;
+    }
+
 }
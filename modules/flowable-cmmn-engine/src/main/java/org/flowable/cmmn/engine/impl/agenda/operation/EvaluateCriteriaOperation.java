@@ -17,11 +17,13 @@ import java.util.List;
 import java.util.Set;
 
 import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
+import org.flowable.cmmn.engine.impl.criteria.SentryIndex;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.EntityWithSentryPartInstances;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntityManager;
+import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.cmmn.engine.runtime.PlanItemInstanceState;
 import org.flowable.cmmn.model.Criterion;
@@ -44,6 +46,8 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
     private static final Logger LOGGER = LoggerFactory.getLogger(EvaluateCriteriaOperation.class);
 
     protected PlanItemLifeCycleEvent planItemLifeCycleEvent;
+    protected SentryIndex sentryIndex;
+    protected Set<String> affectedPlanItemIds;
 
     private enum CriteriaEvaluationResult {SENTRY_SATISFIED, PART_TRIGGERED, NONE}
 
@@ -59,6 +63,10 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
     @Override
     public void run() {
         super.run();
+        sentryIndex = CaseDefinitionUtil.getSentryIndex(caseInstanceEntity.getCaseDefinitionId());
+        if (sentryIndex != null) {
+            affectedPlanItemIds = sentryIndex.getAffectedPlanItemIds(planItemLifeCycleEvent);
+        }
 
         CriteriaEvaluationResult planModelExitCriteriaEvaluationResult = evaluateExitCriteria(caseInstanceEntity, getPlanModel(caseInstanceEntity));
         if (CriteriaEvaluationResult.SENTRY_SATISFIED.equals(planModelExitCriteriaEvaluationResult)) {
@@ -92,6 +100,14 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
         for (PlanItemInstanceEntity planItemInstanceEntity : planItemInstances) {
 
             PlanItem planItem = planItemInstanceEntity.getPlanItem();
+            if (affectedPlanItemIds != null && !affectedPlanItemIds.contains(planItem.getId())) {
+                // Neither the criteria of the plan item nor those of its children can change because of the current lifecycle event
+                if (PlanItemInstanceState.ACTIVE.equals(planItemInstanceEntity.getState())) {
+                    activeChildren++;
+                }
+                continue;
+            }
+
             CriteriaEvaluationResult evaluationResult = null;
             if (PlanItemInstanceState.AVAILABLE.equals(planItemInstanceEntity.getState())) {
                 evaluationResult = evaluateEntryCriteria(planItemInstanceEntity, planItem);
@@ -164,6 +180,9 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
         boolean partTriggered = false;
         for (Criterion entryCriterion : criteria) {
             Sentry sentry = entryCriterion.getSentry();
+            if (sentryIndex != null && !sentryIndex.isSentryAffected(sentry, planItemLifeCycleEvent)) {
+                continue; // none of the on parts listens to the current lifecycle event
+            }
 
             if (sentry.getOnParts().size() == 1 && sentry.getSentryIfPart() == null) { // No need to look into the satisfied onparts
                 if (planItemLifeCycleEvent != null) {
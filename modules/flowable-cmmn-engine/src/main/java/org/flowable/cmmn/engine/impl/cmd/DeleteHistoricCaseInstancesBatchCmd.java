@@ -0,0 +1,52 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.cmd;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.impl.variable.VariableScopeType;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+
+/**
+ * Deletes the history of at most batchSize case instances that have ended before the given date, using set-based statements.
+ * Returns the number of case instances that were deleted.
+ */
+public class DeleteHistoricCaseInstancesBatchCmd implements Command<Integer> {
+
+    protected Date endedBefore;
+    protected int batchSize;
+
+    public DeleteHistoricCaseInstancesBatchCmd(Date endedBefore, int batchSize) {
+        this.endedBefore = endedBefore;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public Integer execute(CommandContext commandContext) {
+        List<String> caseInstanceIds = CommandContextUtil.getHistoricCaseInstanceEntityManager(commandContext)
+                .findHistoricCaseInstanceIdsEndedBefore(endedBefore, batchSize);
+        if (caseInstanceIds.isEmpty()) {
+            return 0;
+        }
+
+        CommandContextUtil.getHistoricVariableService(commandContext).bulkDeleteHistoricVariableInstancesByScopeIdsAndScopeType(caseInstanceIds, VariableScopeType.CASE_INSTANCE);
+        CommandContextUtil.getHistoricMilestoneInstanceEntityManager(commandContext).bulkDeleteHistoricMilestoneInstancesByCaseInstanceIds(caseInstanceIds);
+        CommandContextUtil.getHistoricCaseInstanceEntityManager(commandContext).bulkDeleteHistoricCaseInstancesByIds(caseInstanceIds);
+
+        return caseInstanceIds.size();
+    }
+
+}
@@ -0,0 +1,174 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.criteria;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.Criterion;
+import org.flowable.cmmn.model.PlanFragment;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.SentryOnPart;
+import org.flowable.cmmn.model.Stage;
+
+/**
+ * Index of the sentries and plan items of a case definition by the plan item lifecycle transitions their on parts listen to.
+ * 
+ * Built when the case definition is deployed, it allows the criteria evaluation to only look at the plan items 
+ * that can be affected by the {@link PlanItemLifeCycleEvent} that triggered the evaluation, and to skip every sentry
+ * that can't be affected by it, without looking at the satisfied sentry parts of the plan item instance.
+ * 
+ * Sentries with an if part depend on more than the lifecycle event and are always evaluated, as are plan items without entry criteria.
+ * Like in the criteria evaluation, an on part without standard event doesn't match any lifecycle event and isn't indexed.
+ */
+public class SentryIndex {
+
+    protected Map<String, Set<String>> sentryIdsByOnPart = new HashMap<>();
+
+    /**
+     * The plan items with a sentry listening to an on part, together with the stages containing them.
+     */
+    protected Map<String, Set<String>> planItemIdsByOnPart = new HashMap<>();
+
+    /**
+     * The plan items that are evaluated for every lifecycle event, together with the stages containing them.
+     */
+    protected Set<String> alwaysAffectedPlanItemIds = new HashSet<>();
+
+    protected Map<String, List<String>> parentStagePlanItemIds = new HashMap<>();
+
+    public SentryIndex(Case caze) {
+        Stage planModel = caze.getPlanModel();
+        if (planModel != null) {
+            addSentries(planModel);
+            addPlanItems(planModel, Collections.<String>emptyList());
+        }
+    }
+
+    protected void addSentries(PlanFragment planFragment) {
+        for (Sentry sentry : planFragment.getSentries()) {
+            for (SentryOnPart sentryOnPart : sentry.getOnParts()) {
+                if (sentryOnPart.getStandardEvent() != null) {
+                    addToIndex(sentryIdsByOnPart, getOnPartKey(sentryOnPart.getSourceRef(), sentryOnPart.getStandardEvent()), Collections.singletonList(sentry.getId()));
+                }
+            }
+        }
+    }
+
+    protected void addPlanItems(Stage stage, List<String> stagePlanItemIds) {
+        for (PlanItem planItem : stage.getPlanItems()) {
+            List<String> affectedPlanItemIds = new ArrayList<>(stagePlanItemIds);
+            affectedPlanItemIds.add(planItem.getId());
+            parentStagePlanItemIds.put(planItem.getId(), stagePlanItemIds);
+
+            if (planItem.getEntryCriteria() == null || planItem.getEntryCriteria().isEmpty()) {
+                alwaysAffectedPlanItemIds.addAll(affectedPlanItemIds);
+            }
+            addCriteria(planItem.getEntryCriteria(), affectedPlanItemIds);
+            addCriteria(planItem.getExitCriteria(), affectedPlanItemIds);
+
+            if (planItem.getPlanItemDefinition() instanceof Stage) {
+                Stage childStage = (Stage) planItem.getPlanItemDefinition();
+                addSentries(childStage);
+                addPlanItems(childStage, affectedPlanItemIds);
+            }
+        }
+    }
+
+    protected void addCriteria(List<Criterion> criteria, List<String> affectedPlanItemIds) {
+        if (criteria == null) {
+            return;
+        }
+        for (Criterion criterion : criteria) {
+            Sentry sentry = criterion.getSentry();
+            if (sentry == null) {
+                continue;
+            } else if (sentry.getSentryIfPart() != null || sentry.getId() == null) {
+                alwaysAffectedPlanItemIds.addAll(affectedPlanItemIds);
+            } else {
+                for (SentryOnPart sentryOnPart : sentry.getOnParts()) {
+                    if (sentryOnPart.getStandardEvent() != null) {
+                        addToIndex(planItemIdsByOnPart, getOnPartKey(sentryOnPart.getSourceRef(), sentryOnPart.getStandardEvent()), affectedPlanItemIds);
+                    }
+                }
+            }
+        }
+    }
+
+    protected void addToIndex(Map<String, Set<String>> index, String key, List<String> ids) {
+        Set<String> indexedIds = index.get(key);
+        if (indexedIds == null) {
+            indexedIds = new HashSet<>();
+            index.put(key, indexedIds);
+        }
+        indexedIds.addAll(ids);
+    }
+
+    /**
+     * Returns true if the state of the given sentry can change because of the given lifecycle event (which can be null), 
+     * meaning it needs to be evaluated.
+     */
+    public boolean isSentryAffected(Sentry sentry, PlanItemLifeCycleEvent planItemLifeCycleEvent) {
+        if (sentry.getSentryIfPart() != null || sentry.getId() == null) {
+            return true;
+        }
+        if (planItemLifeCycleEvent == null || planItemLifeCycleEvent.getPlanItem() == null) {
+            return false;
+        }
+
+        String sourceRef = planItemLifeCycleEvent.getPlanItem().getId();
+        return containsId(sentryIdsByOnPart, getOnPartKey(sourceRef, planItemLifeCycleEvent.getTransition()), sentry.getId());
+    }
+
+    /**
+     * Returns the ids of the plan items of which the criteria or the children need to be evaluated because of the given lifecycle event:
+     * the plan items with a sentry that can be affected by it, the plan items that are always evaluated, the source of the event
+     * and all stages containing them. Returns null when every plan item needs to be evaluated, as no lifecycle event is given.
+     */
+    public Set<String> getAffectedPlanItemIds(PlanItemLifeCycleEvent planItemLifeCycleEvent) {
+        if (planItemLifeCycleEvent == null || planItemLifeCycleEvent.getPlanItem() == null) {
+            return null;
+        }
+
+        String sourceRef = planItemLifeCycleEvent.getPlanItem().getId();
+        Set<String> affectedPlanItemIds = new HashSet<>(alwaysAffectedPlanItemIds);
+        addIds(affectedPlanItemIds, planItemIdsByOnPart.get(getOnPartKey(sourceRef, planItemLifeCycleEvent.getTransition())));
+        affectedPlanItemIds.add(sourceRef);
+        addIds(affectedPlanItemIds, parentStagePlanItemIds.get(sourceRef));
+        return affectedPlanItemIds;
+    }
+
+    protected boolean containsId(Map<String, Set<String>> index, String key, String id) {
+        Set<String> ids = index.get(key);
+        return ids != null && ids.contains(id);
+    }
+
+    protected void addIds(Set<String> ids, Collection<String> idsToAdd) {
+        if (idsToAdd != null) {
+            ids.addAll(idsToAdd);
+        }
+    }
+
+    protected String getOnPartKey(String sourceRef, String standardEvent) {
+        return sourceRef + '#' + standardEvent;
+    }
+
+}
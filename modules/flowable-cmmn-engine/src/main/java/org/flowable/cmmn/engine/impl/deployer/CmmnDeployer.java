@@ -21,12 +21,14 @@ import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.criteria.SentryIndex;
 import org.flowable.cmmn.engine.impl.parser.CmmnParseResult;
 import org.flowable.cmmn.engine.impl.parser.CmmnParser;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntityManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CmmnResourceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.CmmnResourceEntityManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.cmmn.model.Case;
@@ -34,6 +36,7 @@ import org.flowable.cmmn.model.CmmnModel;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.cfg.IdGenerator;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.ModelSnapshotCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,11 +58,17 @@ public class CmmnDeployer implements Deployer {
     public void deploy(CmmnDeploymentEntity deployment, Map<String, Object> deploymentSettings) {
         LOGGER.debug("Processing deployment {}", deployment.getName());
 
+        boolean enableModelSnapshots = CommandContextUtil.getCmmnEngineConfiguration().isEnableModelSnapshots();
+
         CmmnParseResult parseResult = new CmmnParseResult(deployment);
         for (CmmnResourceEntity resource : deployment.getResources().values()) {
             if (isCmmnResource(resource.getName())) {
                 LOGGER.debug("Processing CMMN resource {}", resource.getName());
-                parseResult.merge(cmmnParser.parse(resource));
+                if (enableModelSnapshots) {
+                    parseResult.merge(cmmnParser.parse(resource, getModelSnapshot(deployment, resource), deployment.isNew()));
+                } else {
+                    parseResult.merge(cmmnParser.parse(resource));
+                }
             }
         }
 
@@ -71,6 +80,7 @@ public class CmmnDeployer implements Deployer {
             Map<CaseDefinitionEntity, CaseDefinitionEntity> mapOfNewCaseDefinitionToPreviousVersion = getPreviousVersionsOfCaseDefinitions(parseResult);
             setCaseDefinitionVersionsAndIds(parseResult, mapOfNewCaseDefinitionToPreviousVersion);
             persistCaseDefinitions(parseResult);
+            persistModelSnapshots(parseResult);
         } else {
             makeCaseDefinitionsConsistentWithPersistedVersions(parseResult);
         }
@@ -87,6 +97,43 @@ public class CmmnDeployer implements Deployer {
         return false;
     }
 
+    /**
+     * Returns the snapshot of the model of the given resource that was stored when the deployment was new, or null if there is none.
+     * A resource of the user with the name of the snapshot is ignored.
+     */
+    protected byte[] getModelSnapshot(CmmnDeploymentEntity deployment, CmmnResourceEntity resource) {
+        if (deployment.isNew()) {
+            return null;
+        }
+        CmmnResourceEntity modelSnapshotResource = deployment.getResources().get(ModelSnapshotCodec.getResourceName(resource.getName()));
+        return modelSnapshotResource != null && modelSnapshotResource.isGenerated() ? modelSnapshotResource.getBytes() : null;
+    }
+
+    /**
+     * Stores the snapshots of the models as extra resources of the new deployment. No snapshot is stored for a resource when the deployment
+     * already holds a resource with the name of its snapshot.
+     */
+    protected void persistModelSnapshots(CmmnParseResult parseResult) {
+        CmmnResourceEntityManager resourceEntityManager = CommandContextUtil.getCmmnResourceEntityManager();
+        CmmnDeploymentEntity deployment = parseResult.getDeployment();
+        for (Map.Entry<CmmnResourceEntity, byte[]> modelSnapshot : parseResult.getModelSnapshots().entrySet()) {
+            String modelSnapshotResourceName = ModelSnapshotCodec.getResourceName(modelSnapshot.getKey().getName());
+            if (deployment.getResources().containsKey(modelSnapshotResourceName)) {
+                LOGGER.warn("No model snapshot is stored for resource {}, the deployment already contains a resource named {}",
+                        modelSnapshot.getKey().getName(), modelSnapshotResourceName);
+                continue;
+            }
+
+            CmmnResourceEntity resource = resourceEntityManager.create();
+            resource.setName(modelSnapshotResourceName);
+            resource.setBytes(modelSnapshot.getValue());
+            resource.setDeploymentId(deployment.getId());
+            resource.setGenerated(true);
+            resourceEntityManager.insert(resource);
+            deployment.addResource(resource);
+        }
+    }
+
     protected Map<CaseDefinitionEntity, CaseDefinitionEntity> getPreviousVersionsOfCaseDefinitions(CmmnParseResult parseResult) {
         Map<CaseDefinitionEntity, CaseDefinitionEntity> result = new LinkedHashMap<>();
         for (CaseDefinitionEntity newDefinition : parseResult.getAllCaseDefinitions()) {
@@ -195,6 +242,7 @@ public class CmmnDeployer implements Deployer {
             CmmnModel model = parseResult.getCmmnModelForCaseDefinition(caseDefinitionEntity);
             Case caze = parseResult.getCmmnCaseForCaseDefinition(caseDefinitionEntity);
             CaseDefinitionCacheEntry cacheEntry = new CaseDefinitionCacheEntry(caseDefinitionEntity, model, caze);
+            cacheEntry.setSentryIndex(new SentryIndex(caze));
             caseDefinitionCache.add(caseDefinitionEntity.getId(), cacheEntry);
 
             deployment.addDeployedArtifact(caseDefinitionEntity);
@@ -15,6 +15,7 @@ package org.flowable.cmmn.engine.impl.deployer;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntity;
@@ -28,11 +29,13 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentResolutionLocks;
 
 public class CmmnDeploymentManager {
 
     protected DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache;
     protected List<Deployer> deployers;
+    protected DeploymentResolutionLocks resolutionLocks = new DeploymentResolutionLocks();
     protected CmmnEngineConfiguration cmmnEngineConfiguration;
     protected CmmnDeploymentEntityManager deploymentEntityManager;
     protected CaseDefinitionEntityManager caseDefinitionEntityManager;
@@ -94,6 +97,9 @@ public class CmmnDeploymentManager {
         return caseDefinition;
     }
 
+    /**
+     * When several threads resolve case definitions of the same deployment at the same time, only the first one parses the deployment.
+     */
     public CaseDefinitionCacheEntry resolveCaseDefinition(CaseDefinition caseDefinition) {
         String caseDefinitionId = caseDefinition.getId();
         String deploymentId = caseDefinition.getDeploymentId();
@@ -101,10 +107,19 @@ public class CmmnDeploymentManager {
         CaseDefinitionCacheEntry cachedCaseDefinition = caseDefinitionCache.get(caseDefinitionId);
 
         if (cachedCaseDefinition == null) {
-            CmmnDeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
-            deployment.setNew(false);
-            deploy(deployment, null);
-            cachedCaseDefinition = caseDefinitionCache.get(caseDefinitionId);
+            ReentrantLock lock = resolutionLocks.lock(deploymentId);
+            try {
+                // Another thread could have parsed the deployment while waiting for the lock
+                cachedCaseDefinition = caseDefinitionCache.get(caseDefinitionId);
+                if (cachedCaseDefinition == null) {
+                    CmmnDeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
+                    deployment.setNew(false);
+                    deploy(deployment, null);
+                    cachedCaseDefinition = caseDefinitionCache.get(caseDefinitionId);
+                }
+            } finally {
+                resolutionLocks.unlock(deploymentId, lock);
+            }
 
             if (cachedCaseDefinition == null) {
                 throw new FlowableException("deployment '" + deploymentId + "' didn't put case definition '" + caseDefinitionId + "' in the cache");
@@ -138,6 +153,14 @@ public class CmmnDeploymentManager {
         this.deployers = deployers;
     }
 
+    public DeploymentResolutionLocks getResolutionLocks() {
+        return resolutionLocks;
+    }
+
+    public void setResolutionLocks(DeploymentResolutionLocks resolutionLocks) {
+        this.resolutionLocks = resolutionLocks;
+    }
+
     public DeploymentCache<CaseDefinitionCacheEntry> getCaseDefinitionCache() {
         return caseDefinitionCache;
     }
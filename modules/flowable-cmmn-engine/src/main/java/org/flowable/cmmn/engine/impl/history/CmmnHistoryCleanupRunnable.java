@@ -0,0 +1,49 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history;
+
+import java.util.Calendar;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Removes the history of the case instances that have ended longer ago than the configured number of days.
+ * Scheduled periodically by the {@link org.flowable.cmmn.engine.CmmnEngine} when history cleaning is enabled.
+ */
+public class CmmnHistoryCleanupRunnable implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CmmnHistoryCleanupRunnable.class);
+
+    protected CmmnEngineConfiguration cmmnEngineConfiguration;
+
+    public CmmnHistoryCleanupRunnable(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        this.cmmnEngineConfiguration = cmmnEngineConfiguration;
+    }
+
+    @Override
+    public void run() {
+        try {
+            Calendar calendar = cmmnEngineConfiguration.getClock().getCurrentCalendar();
+            calendar.add(Calendar.DAY_OF_YEAR, -cmmnEngineConfiguration.getCleanInstancesEndedAfterNumberOfDays());
+            long deletedCount = cmmnEngineConfiguration.getCmmnManagementService().deleteHistoricCaseInstancesEndedBefore(calendar.getTime());
+            LOGGER.debug("Deleted the history of {} case instances that ended before {}", deletedCount, calendar.getTime());
+
+        } catch (RuntimeException e) {
+            // Don't let the exception cancel the next executions
+            LOGGER.warn("Exception while cleaning the case instance history", e);
+        }
+    }
+
+}
@@ -14,6 +14,7 @@ package org.flowable.cmmn.engine.impl.parser;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -33,6 +34,7 @@ public class CmmnParseResult {
     protected List<CaseDefinitionEntity> definitions = new ArrayList<>();
     protected Map<CaseDefinitionEntity, CmmnModel> mapDefinitionsToCmmnModel = new HashMap<>();
     protected Map<CaseDefinitionEntity, CmmnResourceEntity> mapDefinitionsToResources = new HashMap<>();
+    protected Map<CmmnResourceEntity, byte[]> mapResourcesToModelSnapshots = new LinkedHashMap<>();
     
     public CmmnParseResult() {
         
@@ -68,6 +70,14 @@ public class CmmnParseResult {
         return mapDefinitionsToCmmnModel.get(caseDefinition);
     }
 
+    public void addModelSnapshot(CmmnResourceEntity resourceEntity, byte[] modelSnapshot) {
+        mapResourcesToModelSnapshots.put(resourceEntity, modelSnapshot);
+    }
+
+    public Map<CmmnResourceEntity, byte[]> getModelSnapshots() {
+        return mapResourcesToModelSnapshots;
+    }
+
     public Case getCmmnCaseForCaseDefinition(CaseDefinitionEntity caseDefinition) {
         CmmnModel model = getCmmnModelForCaseDefinition(caseDefinition);
         return (model == null ? null : model.getCaseById(caseDefinition.getKey()));
@@ -85,6 +95,7 @@ public class CmmnParseResult {
                     cmmnParseResult.getResourceForCaseDefinition(caseDefinitionEntity),
                     cmmnParseResult.getCmmnModelForCaseDefinition(caseDefinitionEntity));
         }
+        mapResourcesToModelSnapshots.putAll(cmmnParseResult.getModelSnapshots());
     }
 
 }
@@ -21,5 +21,11 @@ import org.flowable.cmmn.engine.impl.persistence.entity.CmmnResourceEntity;
 public interface CmmnParser {
     
     CmmnParseResult parse(CmmnResourceEntity resourceEntity);
+
+    /**
+     * Parses the given resource, reading the model from the given snapshot when it isn't null and can be read.
+     * When createModelSnapshot is true, the parse result holds a snapshot of the model that was converted from the XML.
+     */
+    CmmnParseResult parse(CmmnResourceEntity resourceEntity, byte[] modelSnapshot, boolean createModelSnapshot);
     
 }
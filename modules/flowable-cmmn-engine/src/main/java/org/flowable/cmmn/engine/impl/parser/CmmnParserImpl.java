@@ -38,6 +38,7 @@ import org.flowable.cmmn.model.Stage;
 import org.flowable.cmmn.model.Task;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.el.ExpressionManager;
+import org.flowable.engine.common.impl.persistence.deploy.ModelSnapshotCodec;
 import org.flowable.engine.common.impl.util.io.InputStreamSource;
 import org.flowable.engine.common.impl.util.io.StreamSource;
 import org.slf4j.Logger;
@@ -52,21 +53,49 @@ public class CmmnParserImpl implements CmmnParser {
     
     protected CmmnActivityBehaviorFactory activityBehaviorFactory;
     protected ExpressionManager expressionManager;
+    protected ModelSnapshotCodec modelSnapshotCodec = new ModelSnapshotCodec("org.flowable.cmmn.model");
     
     public CmmnParseResult parse(CmmnResourceEntity resourceEntity) {
+        return parse(resourceEntity, null, false);
+    }
+
+    public CmmnParseResult parse(CmmnResourceEntity resourceEntity, byte[] modelSnapshot, boolean createModelSnapshot) {
         CmmnParseResult parseResult = new CmmnParseResult();
-        try(ByteArrayInputStream inputStream = new ByteArrayInputStream(resourceEntity.getBytes())) {
-            Pair<CmmnModel, List<CaseDefinitionEntity>> pair = parse(resourceEntity, parseResult, new InputStreamSource(inputStream));
-            for (CaseDefinitionEntity caseDefinitionEntity : pair.getRight()) {
-                parseResult.addCaseDefinition(caseDefinitionEntity, resourceEntity, pair.getLeft());
+
+        CmmnModel cmmnModel = null;
+        if (modelSnapshot != null) {
+            cmmnModel = readModelSnapshot(resourceEntity, modelSnapshot);
+        }
+
+        if (cmmnModel == null) {
+            try (ByteArrayInputStream inputStream = new ByteArrayInputStream(resourceEntity.getBytes())) {
+                cmmnModel = convertToCmmnModel(new InputStreamSource(inputStream));
+            } catch (IOException e) {
+                logger.error("Could not read bytes from CMMN resource", e);
+                return parseResult;
+            }
+
+            if (createModelSnapshot) {
+                byte[] createdModelSnapshot = createModelSnapshot(resourceEntity, cmmnModel);
+                if (createdModelSnapshot != null) {
+                    parseResult.addModelSnapshot(resourceEntity, createdModelSnapshot);
+                }
             }
-        } catch (IOException e) {
-            logger.error("Could not read bytes from CMMN resource", e);
+        }
+
+        for (CaseDefinitionEntity caseDefinitionEntity : processCmmnElements(resourceEntity, cmmnModel)) {
+            parseResult.addCaseDefinition(caseDefinitionEntity, resourceEntity, cmmnModel);
         }
         return parseResult;
     }
     
     public Pair<CmmnModel, List<CaseDefinitionEntity>> parse(CmmnResourceEntity resourceEntity, CmmnParseResult parseResult, StreamSource cmmnSource) {
+        CmmnModel cmmnModel = convertToCmmnModel(cmmnSource);
+        List<CaseDefinitionEntity> caseDefinitionEntities = processCmmnElements(resourceEntity, cmmnModel);
+        return Pair.of(cmmnModel, caseDefinitionEntities);
+    }
+
+    protected CmmnModel convertToCmmnModel(StreamSource cmmnSource) {
         try {
             boolean enableSafeBpmnXml = false;
             String encoding = null;
@@ -75,9 +104,7 @@ public class CmmnParserImpl implements CmmnParser {
                 enableSafeBpmnXml = cmmnEngineConfiguration.isEnableSafeCmmnXml();
                 encoding = cmmnEngineConfiguration.getXmlEncoding();
             }
-            CmmnModel cmmnModel = new CmmnXmlConverter().convertToCmmnModel(cmmnSource, true, enableSafeBpmnXml, encoding);
-            List<CaseDefinitionEntity> caseDefinitionEntities = processCmmnElements(resourceEntity, cmmnModel);
-            return Pair.of(cmmnModel, caseDefinitionEntities);
+            return new CmmnXmlConverter().convertToCmmnModel(cmmnSource, true, enableSafeBpmnXml, encoding);
             
         } catch (Exception e) {
             if (e instanceof FlowableException) {
@@ -90,6 +117,28 @@ public class CmmnParserImpl implements CmmnParser {
         }
     }
     
+    /**
+     * Reads the model from the given snapshot, or returns null when the snapshot can't be read, for example when it was written by another
+     * version of the format or of the model classes. The model is then converted from the XML again.
+     */
+    protected CmmnModel readModelSnapshot(CmmnResourceEntity resourceEntity, byte[] modelSnapshot) {
+        try {
+            return modelSnapshotCodec.decode(modelSnapshot, CmmnModel.class);
+        } catch (FlowableException e) {
+            logger.warn("Could not read the model snapshot of {}, parsing the XML instead: {}", resourceEntity.getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    protected byte[] createModelSnapshot(CmmnResourceEntity resourceEntity, CmmnModel cmmnModel) {
+        try {
+            return modelSnapshotCodec.encode(cmmnModel);
+        } catch (FlowableException e) {
+            logger.warn("Could not create a model snapshot of {}", resourceEntity.getName(), e);
+            return null;
+        }
+    }
+
     protected List<CaseDefinitionEntity> processCmmnElements(CmmnResourceEntity resourceEntity, CmmnModel cmmnModel) {
         List<CaseDefinitionEntity> caseDefinitionEntities = new ArrayList<>();
         for (Case caze : cmmnModel.getCases()) {
@@ -163,5 +212,13 @@ public class CmmnParserImpl implements CmmnParser {
     public void setExpressionManager(ExpressionManager expressionManager) {
         this.expressionManager = expressionManager;
     }
+
+    public ModelSnapshotCodec getModelSnapshotCodec() {
+        return modelSnapshotCodec;
+    }
+
+    public void setModelSnapshotCodec(ModelSnapshotCodec modelSnapshotCodec) {
+        this.modelSnapshotCodec = modelSnapshotCodec;
+    }
     
 }
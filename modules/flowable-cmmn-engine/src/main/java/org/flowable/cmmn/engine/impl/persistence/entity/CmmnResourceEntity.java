@@ -27,5 +27,9 @@ public interface CmmnResourceEntity extends Entity {
     String getDeploymentId();
 
     void setDeploymentId(String deploymentId);
+
+    boolean isGenerated();
+
+    void setGenerated(boolean generated);
     
 }
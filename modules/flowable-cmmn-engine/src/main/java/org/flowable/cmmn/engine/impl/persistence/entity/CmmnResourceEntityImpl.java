@@ -23,6 +23,7 @@ public class CmmnResourceEntityImpl extends AbstractEntityNoRevision implements
     protected String name;
     protected byte[] bytes;
     protected String deploymentId;
+    protected boolean generated;
 
     public CmmnResourceEntityImpl() {
 
@@ -52,6 +53,14 @@ public class CmmnResourceEntityImpl extends AbstractEntityNoRevision implements
         this.deploymentId = deploymentId;
     }
 
+    public boolean isGenerated() {
+        return generated;
+    }
+
+    public void setGenerated(boolean generated) {
+        this.generated = generated;
+    }
+
     public Object getPersistentState() {
         return CmmnResourceEntityImpl.class;
     }
@@ -12,6 +12,8 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.cmmn.engine.history.HistoricCaseInstance;
@@ -33,4 +35,8 @@ public interface HistoricCaseInstanceEntityManager extends EntityManager<Histori
     
     void deleteByCaseDefinitionId(String caseDefinitionId);
     
+    List<String> findHistoricCaseInstanceIdsEndedBefore(Date endedBefore, int maxResults);
+    
+    void bulkDeleteHistoricCaseInstancesByIds(Collection<String> caseInstanceIds);
+    
 }
\ No newline at end of file
@@ -13,6 +13,8 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -64,4 +66,14 @@ public class HistoricCaseInstanceEntityManagerImpl extends AbstractCmmnEntityMan
         historicCaseInstanceDataManager.deleteByCaseDefinitionId(caseDefinitionId);
     }
 
+    @Override
+    public List<String> findHistoricCaseInstanceIdsEndedBefore(Date endedBefore, int maxResults) {
+        return historicCaseInstanceDataManager.findHistoricCaseInstanceIdsEndedBefore(endedBefore, maxResults);
+    }
+
+    @Override
+    public void bulkDeleteHistoricCaseInstancesByIds(Collection<String> caseInstanceIds) {
+        historicCaseInstanceDataManager.bulkDeleteHistoricCaseInstancesByIds(caseInstanceIds);
+    }
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.engine.history.HistoricMilestoneInstance;
@@ -30,5 +31,7 @@ public interface HistoricMilestoneInstanceEntityManager extends EntityManager<Hi
     long findHistoricMilestoneInstanceCountByQueryCriteria(HistoricMilestoneInstanceQuery query);
     
     void deleteByCaseDefinitionId(String caseDefinitionId);
+    
+    void bulkDeleteHistoricMilestoneInstancesByCaseInstanceIds(Collection<String> caseInstanceIds);
 
 }
\ No newline at end of file
@@ -12,6 +12,8 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.cmmn.engine.history.HistoricCaseInstance;
@@ -32,4 +34,8 @@ public interface HistoricCaseInstanceDataManager extends DataManager<HistoricCas
     
     void deleteByCaseDefinitionId(String caseDefinitionId);
     
+    List<String> findHistoricCaseInstanceIdsEndedBefore(Date endedBefore, int maxResults);
+    
+    void bulkDeleteHistoricCaseInstancesByIds(Collection<String> caseInstanceIds);
+    
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.engine.history.HistoricMilestoneInstance;
@@ -29,5 +30,7 @@ public interface HistoricMilestoneInstanceDataManager extends DataManager<Histor
     long findHistoricMilestoneInstancesCountByQueryCriteria(HistoricMilestoneInstanceQueryImpl query);
     
     void deleteByCaseDefinitionId(String caseDefinitionId);
+    
+    void bulkDeleteHistoricMilestoneInstancesByCaseInstanceIds(Collection<String> caseInstanceIds);
 
 }
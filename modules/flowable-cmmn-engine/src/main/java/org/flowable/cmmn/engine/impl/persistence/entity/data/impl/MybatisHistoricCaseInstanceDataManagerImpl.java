@@ -12,6 +12,8 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -65,4 +67,15 @@ public class MybatisHistoricCaseInstanceDataManagerImpl extends AbstractCmmnData
         getDbSqlSession().delete("deleteHistoricCaseInstanceByCaseDefinitionId", caseDefinitionId, getManagedEntityClass());
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricCaseInstanceIdsEndedBefore(Date endedBefore, int maxResults) {
+        return getDbSqlSession().selectList("selectHistoricCaseInstanceIdsEndedBefore", endedBefore, 0, maxResults);
+    }
+
+    @Override
+    public void bulkDeleteHistoricCaseInstancesByIds(Collection<String> caseInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteHistoricCaseInstancesByIds", caseInstanceIds, getManagedEntityClass());
+    }
+
 }
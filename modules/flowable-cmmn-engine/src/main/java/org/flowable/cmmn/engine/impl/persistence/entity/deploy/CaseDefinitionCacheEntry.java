@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.deploy;
 
+import org.flowable.cmmn.engine.impl.criteria.SentryIndex;
 import org.flowable.cmmn.engine.repository.CaseDefinition;
 import org.flowable.cmmn.model.Case;
 import org.flowable.cmmn.model.CmmnModel;
@@ -21,6 +22,7 @@ public class CaseDefinitionCacheEntry {
     protected CaseDefinition caseDefinition;
     protected CmmnModel cmmnModel;
     protected Case caze;
+    protected SentryIndex sentryIndex;
 
     public CaseDefinitionCacheEntry(CaseDefinition caseDefinition, CmmnModel cmmnModel, Case caze) {
         this.caseDefinition = caseDefinition;
@@ -52,4 +54,12 @@ public class CaseDefinitionCacheEntry {
         this.caze = caze;
     }
 
+    public SentryIndex getSentryIndex() {
+        return sentryIndex;
+    }
+
+    public void setSentryIndex(SentryIndex sentryIndex) {
+        this.sentryIndex = sentryIndex;
+    }
+
 }
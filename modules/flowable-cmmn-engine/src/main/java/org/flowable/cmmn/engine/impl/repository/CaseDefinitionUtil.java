@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.repository;
 
+import org.flowable.cmmn.engine.impl.criteria.SentryIndex;
 import org.flowable.cmmn.engine.impl.deployer.CmmnDeploymentManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
@@ -34,17 +35,25 @@ public class CaseDefinitionUtil {
     }
     
     public static CmmnModel getCmmnModel(String caseDefinitionId) {
+        return getCaseDefinitionCacheEntry(caseDefinitionId).getCmmnModel();
+    }
+    
+    public static Case getCase(String caseDefinitionId) {
+        return getCmmnModel(caseDefinitionId).getPrimaryCase();
+    }
+    
+    public static SentryIndex getSentryIndex(String caseDefinitionId) {
+        return getCaseDefinitionCacheEntry(caseDefinitionId).getSentryIndex();
+    }
+
+    protected static CaseDefinitionCacheEntry getCaseDefinitionCacheEntry(String caseDefinitionId) {
         CmmnDeploymentManager deploymentManager = CommandContextUtil.getCmmnEngineConfiguration().getDeploymentManager();
         CaseDefinitionCacheEntry cacheEntry = deploymentManager.getCaseDefinitionCache().get(caseDefinitionId);
         if (cacheEntry != null) {
-            return cacheEntry.getCmmnModel();
+            return cacheEntry;
         }
         deploymentManager.findDeployedCaseDefinitionById(caseDefinitionId);
-        return deploymentManager.getCaseDefinitionCache().get(caseDefinitionId).getCmmnModel();
-    }
-    
-    public static Case getCase(String caseDefinitionId) {
-        return getCmmnModel(caseDefinitionId).getPrimaryCase();
+        return deploymentManager.getCaseDefinitionCache().get(caseDefinitionId);
     }
 
 }
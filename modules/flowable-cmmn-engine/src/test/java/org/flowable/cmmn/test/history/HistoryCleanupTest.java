@@ -0,0 +1,94 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.history;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.CmmnEngineImpl;
+import org.flowable.cmmn.engine.runtime.CaseInstance;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HistoryCleanupTest extends FlowableCmmnTestCase {
+
+    protected CmmnEngineConfiguration cmmnEngineConfiguration;
+    protected int originalBatchSize;
+
+    @Before
+    public void setBatchSize() {
+        cmmnEngineConfiguration = ((CmmnEngineImpl) cmmnEngine).getCmmnEngineConfiguration();
+        originalBatchSize = cmmnEngineConfiguration.getHistoryCleaningBatchSize();
+        cmmnEngineConfiguration.setHistoryCleaningBatchSize(2);
+    }
+
+    @After
+    public void resetConfiguration() {
+        cmmnEngineConfiguration.setHistoryCleaningBatchSize(originalBatchSize);
+        cmmnEngineConfiguration.getClock().reset();
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/RuntimeServiceTest.testStartSimplePassthroughCase.cmmn")
+    public void testDeleteHistoricCaseInstancesEndedBefore() {
+        Calendar calendar = cmmnEngineConfiguration.getClock().getCurrentCalendar();
+        calendar.add(Calendar.DAY_OF_YEAR, -40);
+        cmmnEngineConfiguration.getClock().setCurrentTime(calendar.getTime());
+
+        List<String> oldCaseInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                    .caseDefinitionKey("myCase")
+                    .variable("stringVar", "Hello World " + i)
+                    .variable("bytesVar", ("bytes " + i).getBytes())
+                    .start();
+            assertCaseInstanceEnded(caseInstance, 2);
+            oldCaseInstanceIds.add(caseInstance.getId());
+        }
+
+        cmmnEngineConfiguration.getClock().reset();
+        CaseInstance recentCaseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("myCase")
+                .variable("stringVar", "Hello World")
+                .start();
+        assertCaseInstanceEnded(recentCaseInstance, 2);
+
+        calendar = cmmnEngineConfiguration.getClock().getCurrentCalendar();
+        calendar.add(Calendar.DAY_OF_YEAR, -30);
+        Date endedBefore = calendar.getTime();
+
+        long historicVariableCount = cmmnHistoryService.createHistoricVariableInstanceQuery().count();
+        assertEquals(5, cmmnManagementService.deleteHistoricCaseInstancesEndedBefore(endedBefore));
+
+        for (String caseInstanceId : oldCaseInstanceIds) {
+            assertEquals(0, cmmnHistoryService.createHistoricCaseInstanceQuery().caseInstanceId(caseInstanceId).count());
+            assertEquals(0, cmmnHistoryService.createHistoricMilestoneInstanceQuery().milestoneInstanceCaseInstanceId(caseInstanceId).count());
+        }
+        assertEquals(historicVariableCount - 10, cmmnHistoryService.createHistoricVariableInstanceQuery().count());
+
+        assertEquals(1, cmmnHistoryService.createHistoricCaseInstanceQuery().caseInstanceId(recentCaseInstance.getId()).count());
+        assertEquals(2, cmmnHistoryService.createHistoricMilestoneInstanceQuery().milestoneInstanceCaseInstanceId(recentCaseInstance.getId()).count());
+
+        // Nothing left to clean
+        assertEquals(0, cmmnManagementService.deleteHistoricCaseInstancesEndedBefore(endedBefore));
+    }
+
+}
@@ -0,0 +1,162 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.CmmnEngineImpl;
+import org.flowable.cmmn.engine.impl.deployer.CmmnDeploymentManager;
+import org.flowable.cmmn.engine.impl.deployer.Deployer;
+import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
+import org.flowable.cmmn.engine.repository.CaseDefinition;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DeploymentResolutionTest extends FlowableCmmnTestCase {
+
+    protected CmmnEngineConfiguration cmmnEngineConfiguration;
+
+    @Before
+    public void setupConfiguration() {
+        cmmnEngineConfiguration = ((CmmnEngineImpl) cmmnEngine).getCmmnEngineConfiguration();
+    }
+
+    @Test
+    public void testConcurrentCacheMissesParseDeploymentOnce() throws Exception {
+        deploymentId = cmmnRepositoryService.createDeployment()
+                .addClasspathResource("org/flowable/cmmn/test/repository/simple-case.cmmn")
+                .addClasspathResource("org/flowable/cmmn/test/repository/simple-case2.cmmn")
+                .deploy()
+                .getId();
+        final List<CaseDefinition> caseDefinitions = cmmnRepositoryService.createCaseDefinitionQuery().deploymentId(deploymentId).list();
+        assertEquals(2, caseDefinitions.size());
+        cmmnEngineConfiguration.getCaseDefinitionCache().clear();
+
+        CmmnDeploymentManager deploymentManager = cmmnEngineConfiguration.getDeploymentManager();
+        List<Deployer> originalDeployers = deploymentManager.getDeployers();
+        CountingDeployer countingDeployer = new CountingDeployer();
+        List<Deployer> deployers = new ArrayList<>();
+        deployers.add(countingDeployer);
+        deployers.addAll(originalDeployers);
+        deploymentManager.setDeployers(deployers);
+
+        try {
+            final CountDownLatch startLatch = new CountDownLatch(1);
+            final List<Throwable> failures = Collections.synchronizedList(new ArrayList<Throwable>());
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                final String caseDefinitionId = caseDefinitions.get(i % 2).getId();
+                Thread thread = new Thread(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        try {
+                            startLatch.await();
+                            cmmnRepositoryService.getCmmnModel(caseDefinitionId);
+                        } catch (Throwable t) {
+                            failures.add(t);
+                        }
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+
+            startLatch.countDown();
+            for (Thread thread : threads) {
+                thread.join(10000L);
+            }
+
+            assertTrue(failures.isEmpty());
+            assertEquals(1, countingDeployer.count.get());
+            assertTrue(cmmnEngineConfiguration.getCaseDefinitionCache().contains(caseDefinitions.get(0).getId()));
+            assertTrue(cmmnEngineConfiguration.getCaseDefinitionCache().contains(caseDefinitions.get(1).getId()));
+            assertEquals(0, deploymentManager.getResolutionLocks().size());
+
+        } finally {
+            deploymentManager.setDeployers(originalDeployers);
+        }
+    }
+
+    @Test
+    public void testEngineBootWarmsUpMostRecentDeployments() throws Exception {
+        String[] resources = { "org/flowable/cmmn/test/repository/simple-case.cmmn", "org/flowable/cmmn/test/repository/simple-case2.cmmn",
+                "org/flowable/cmmn/test/one-task-model.cmmn" };
+        List<String> deploymentIds = new ArrayList<>();
+        List<String> caseDefinitionIds = new ArrayList<>();
+        Date now = new Date();
+        for (int i = 0; i < resources.length; i++) {
+            cmmnEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + (i + 1) * 60000L));
+            String deploymentId = cmmnRepositoryService.createDeployment().addClasspathResource(resources[i]).deploy().getId();
+            deploymentIds.add(deploymentId);
+            caseDefinitionIds.add(cmmnRepositoryService.createCaseDefinitionQuery().deploymentId(deploymentId).singleResult().getId());
+        }
+        cmmnEngineConfiguration.getClock().reset();
+
+        CmmnEngineConfiguration warmUpEngineConfiguration = new CmmnEngineConfiguration();
+        warmUpEngineConfiguration.setCmmnEngineName("cacheWarmUpEngine");
+        warmUpEngineConfiguration.setDataSource(cmmnEngineConfiguration.getDataSource());
+        warmUpEngineConfiguration.setCaseDefinitionCacheLimit(2);
+        warmUpEngineConfiguration.setEnableCaseDefinitionCacheWarmUp(true);
+        CmmnEngineImpl warmUpEngine = (CmmnEngineImpl) warmUpEngineConfiguration.buildCmmnEngine();
+
+        try {
+            assertTrue(warmUpEngine.getCaseDefinitionCacheWarmUp().awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(2, warmUpEngine.getCaseDefinitionCacheWarmUp().getResolvedCount());
+
+            // Only the two most recent deployments fit in the cache
+            DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache = warmUpEngineConfiguration.getCaseDefinitionCache();
+            assertFalse(caseDefinitionCache.contains(caseDefinitionIds.get(0)));
+            assertTrue(caseDefinitionCache.contains(caseDefinitionIds.get(1)));
+            assertTrue(caseDefinitionCache.contains(caseDefinitionIds.get(2)));
+
+        } finally {
+            warmUpEngine.close();
+            for (String deploymentId : deploymentIds) {
+                cmmnRepositoryService.deleteDeployment(deploymentId, true);
+            }
+        }
+    }
+
+    protected static class CountingDeployer implements Deployer {
+
+        protected AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void deploy(CmmnDeploymentEntity deployment, Map<String, Object> deploymentSettings) {
+            count.incrementAndGet();
+            try {
+                // Give the other threads the time to miss the cache as well
+                Thread.sleep(200L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,162 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.CmmnEngineImpl;
+import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.repository.CaseDefinition;
+import org.flowable.cmmn.engine.runtime.CaseInstance;
+import org.flowable.cmmn.engine.runtime.PlanItemInstance;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.deploy.ModelSnapshotCodec;
+import org.flowable.engine.common.impl.util.IoUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ModelSnapshotTest extends FlowableCmmnTestCase {
+
+    protected static final String RESOURCE_NAME = "org/flowable/cmmn/test/one-task-model.cmmn";
+
+    protected CmmnEngineConfiguration cmmnEngineConfiguration;
+
+    @Before
+    public void setupConfiguration() {
+        cmmnEngineConfiguration = ((CmmnEngineImpl) cmmnEngine).getCmmnEngineConfiguration();
+    }
+
+    @After
+    public void resetConfiguration() {
+        cmmnEngineConfiguration.setEnableModelSnapshots(false);
+    }
+
+    @Test
+    public void testNoModelSnapshotByDefault() {
+        deploymentId = cmmnRepositoryService.createDeployment().addClasspathResource(RESOURCE_NAME).deploy().getId();
+        assertFalse(cmmnRepositoryService.getDeploymentResourceNames(deploymentId).contains(ModelSnapshotCodec.getResourceName(RESOURCE_NAME)));
+    }
+
+    @Test
+    public void testModelSnapshotIsUsedOnCacheMiss() {
+        cmmnEngineConfiguration.setEnableModelSnapshots(true);
+        deploymentId = cmmnRepositoryService.createDeployment().addClasspathResource(RESOURCE_NAME).deploy().getId();
+        assertTrue(cmmnRepositoryService.getDeploymentResourceNames(deploymentId).contains(ModelSnapshotCodec.getResourceName(RESOURCE_NAME)));
+        assertTrue(isGeneratedResource(deploymentId, ModelSnapshotCodec.getResourceName(RESOURCE_NAME)));
+        assertFalse(isGeneratedResource(deploymentId, RESOURCE_NAME));
+        CaseDefinition caseDefinition = cmmnRepositoryService.createCaseDefinitionQuery().deploymentId(deploymentId).singleResult();
+        cmmnEngineConfiguration.getCaseDefinitionCache().clear();
+
+        // The XML can't be parsed anymore, so the case definition can only be resolved from the snapshot
+        resolveWithResourceBytes(caseDefinition, RESOURCE_NAME, "not xml".getBytes());
+        assertCaseDefinitionIsExecutable(caseDefinition);
+    }
+
+    @Test
+    public void testXmlIsParsedWhenModelSnapshotFormatVersionDoesNotMatch() {
+        cmmnEngineConfiguration.setEnableModelSnapshots(true);
+        deploymentId = cmmnRepositoryService.createDeployment().addClasspathResource(RESOURCE_NAME).deploy().getId();
+        CaseDefinition caseDefinition = cmmnRepositoryService.createCaseDefinitionQuery().deploymentId(deploymentId).singleResult();
+        String snapshotResourceName = ModelSnapshotCodec.getResourceName(RESOURCE_NAME);
+        byte[] snapshot = IoUtil.readInputStream(cmmnRepositoryService.getResourceAsStream(deploymentId, snapshotResourceName), snapshotResourceName);
+        cmmnEngineConfiguration.getCaseDefinitionCache().clear();
+
+        // The format version follows the 4 bytes of the magic number
+        snapshot[4]++;
+        resolveWithResourceBytes(caseDefinition, snapshotResourceName, snapshot);
+        assertCaseDefinitionIsExecutable(caseDefinition);
+    }
+
+    @Test
+    public void testXmlIsParsedWhenModelSnapshotWasWrittenByAnotherVersion() {
+        cmmnEngineConfiguration.setEnableModelSnapshots(true);
+        deploymentId = cmmnRepositoryService.createDeployment().addClasspathResource(RESOURCE_NAME).deploy().getId();
+        CaseDefinition caseDefinition = cmmnRepositoryService.createCaseDefinitionQuery().deploymentId(deploymentId).singleResult();
+        String snapshotResourceName = ModelSnapshotCodec.getResourceName(RESOURCE_NAME);
+        byte[] snapshot = IoUtil.readInputStream(cmmnRepositoryService.getResourceAsStream(deploymentId, snapshotResourceName), snapshotResourceName);
+        cmmnEngineConfiguration.getCaseDefinitionCache().clear();
+
+        // A snapshot of another engine version with a changed case id, which must not end up in the cache
+        ModelSnapshotCodec modelSnapshotCodec = new ModelSnapshotCodec("org.flowable.cmmn.model");
+        CmmnModel cmmnModel = modelSnapshotCodec.decode(snapshot, CmmnModel.class);
+        cmmnModel.getPrimaryCase().setId("otherVersionCase");
+        modelSnapshotCodec.setVersion("6.1.0.0");
+        resolveWithResourceBytes(caseDefinition, snapshotResourceName, modelSnapshotCodec.encode(cmmnModel));
+        assertCaseDefinitionIsExecutable(caseDefinition);
+    }
+
+    @Test
+    public void testResourceWithModelSnapshotNameIsNotUsedAsSnapshot() {
+        cmmnEngineConfiguration.setEnableModelSnapshots(true);
+        String otherResourceName = "org/flowable/cmmn/test/repository/simple-case2.cmmn";
+        String otherSnapshotResourceName = ModelSnapshotCodec.getResourceName(otherResourceName);
+        String snapshotDeploymentId = cmmnRepositoryService.createDeployment().addClasspathResource(RESOURCE_NAME).deploy().getId();
+        String snapshotResourceName = ModelSnapshotCodec.getResourceName(RESOURCE_NAME);
+        byte[] snapshot = IoUtil.readInputStream(cmmnRepositoryService.getResourceAsStream(snapshotDeploymentId, snapshotResourceName), snapshotResourceName);
+        cmmnRepositoryService.deleteDeployment(snapshotDeploymentId, true);
+
+        // The deployment holds a resource of the user named like the snapshot of the other case, with the snapshot of the one task case
+        deploymentId = cmmnRepositoryService.createDeployment().addClasspathResource(otherResourceName).addBytes(otherSnapshotResourceName, snapshot).deploy().getId();
+        assertFalse(isGeneratedResource(deploymentId, otherSnapshotResourceName));
+
+        CaseDefinition caseDefinition = cmmnRepositoryService.createCaseDefinitionQuery().deploymentId(deploymentId).singleResult();
+        cmmnEngineConfiguration.getCaseDefinitionCache().clear();
+        assertEquals("myCase2", cmmnRepositoryService.getCmmnModel(caseDefinition.getId()).getPrimaryCase().getId());
+    }
+
+    protected boolean isGeneratedResource(final String deploymentId, final String resourceName) {
+        return cmmnEngineConfiguration.getCommandExecutor().execute(new Command<Boolean>() {
+
+            @Override
+            public Boolean execute(CommandContext commandContext) {
+                return CommandContextUtil.getCmmnResourceEntityManager(commandContext).findResourceByDeploymentIdAndResourceName(deploymentId, resourceName).isGenerated();
+            }
+        });
+    }
+
+    protected void resolveWithResourceBytes(final CaseDefinition caseDefinition, final String resourceName, final byte[] bytes) {
+        cmmnEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                CmmnDeploymentEntity deployment = CommandContextUtil.getCmmnDeploymentEntityManager(commandContext).findById(caseDefinition.getDeploymentId());
+                deployment.getResources().get(resourceName).setBytes(bytes);
+                CommandContextUtil.getCmmnEngineConfiguration(commandContext).getDeploymentManager().findDeployedCaseDefinitionById(caseDefinition.getId());
+                return null;
+            }
+        });
+    }
+
+    protected void assertCaseDefinitionIsExecutable(CaseDefinition caseDefinition) {
+        CaseDefinitionCacheEntry cacheEntry = cmmnEngineConfiguration.getCaseDefinitionCache().get(caseDefinition.getId());
+        assertNotNull(cacheEntry);
+        assertEquals("oneTaskCase", cacheEntry.getCase().getId());
+
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionId(caseDefinition.getId()).start();
+        PlanItemInstance planItemInstance = cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        assertNotNull(planItemInstance);
+        cmmnRuntimeService.triggerPlanItemInstance(planItemInstance.getId());
+        assertCaseInstanceEnded(caseInstance);
+    }
+
+}
@@ -0,0 +1,152 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.cmmn.engine.impl.CmmnEngineImpl;
+import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
+import org.flowable.cmmn.engine.impl.criteria.SentryIndex;
+import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
+import org.flowable.cmmn.engine.repository.CaseDefinition;
+import org.flowable.cmmn.engine.runtime.CaseInstance;
+import org.flowable.cmmn.engine.runtime.PlanItemInstance;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.PlanItemTransition;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.Stage;
+import org.junit.Test;
+
+public class SentryIndexTest extends FlowableCmmnTestCase {
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/StageTest.testThreeNestedStagesWithCriteria.cmmn")
+    public void testOnPartSentriesOfNestedStages() {
+        CaseDefinitionCacheEntry cacheEntry = getCaseDefinitionCacheEntry("myCase");
+        SentryIndex sentryIndex = cacheEntry.getSentryIndex();
+        assertNotNull(sentryIndex);
+
+        Case caze = cacheEntry.getCase();
+        Stage stage = caze.findStage("stage1");
+        Sentry entrySentry = stage.findSentry("stage2EntrySentry");
+        Sentry exitSentry = stage.findSentry("stage2ExitSentry");
+
+        // On part with a source in the parent stage
+        PlanItemLifeCycleEvent planItem1Completed = new PlanItemLifeCycleEvent(caze.getPlanModel().findPlanItem("planItem1"), PlanItemTransition.COMPLETE);
+        assertTrue(sentryIndex.isSentryAffected(entrySentry, planItem1Completed));
+        assertFalse(sentryIndex.isSentryAffected(exitSentry, planItem1Completed));
+
+        PlanItemLifeCycleEvent planItem4Completed = new PlanItemLifeCycleEvent(stage.findPlanItem("planItem4"), PlanItemTransition.COMPLETE);
+        assertFalse(sentryIndex.isSentryAffected(entrySentry, planItem4Completed));
+        assertTrue(sentryIndex.isSentryAffected(exitSentry, planItem4Completed));
+
+        // Other transition of the same plan item
+        PlanItemLifeCycleEvent planItem4Started = new PlanItemLifeCycleEvent(stage.findPlanItem("planItem4"), PlanItemTransition.START);
+        assertFalse(sentryIndex.isSentryAffected(exitSentry, planItem4Started));
+
+        // Without lifecycle event, the on parts can't be satisfied
+        assertFalse(sentryIndex.isSentryAffected(entrySentry, null));
+    }
+
+    @Test
+    @CmmnDeployment
+    public void testOnPartWithoutStandardEvent() {
+        CaseDefinitionCacheEntry cacheEntry = getCaseDefinitionCacheEntry("sentryIndexCase");
+        SentryIndex sentryIndex = cacheEntry.getSentryIndex();
+        Case caze = cacheEntry.getCase();
+        Stage stage = caze.findStage("stage1");
+        Sentry sentryOnAnyEventOfC = stage.findSentry("sentryOnAnyEventOfC");
+
+        PlanItemLifeCycleEvent planItemCStarted = new PlanItemLifeCycleEvent(stage.findPlanItem("planItem4"), PlanItemTransition.START);
+        PlanItemLifeCycleEvent planItemCCompleted = new PlanItemLifeCycleEvent(stage.findPlanItem("planItem4"), PlanItemTransition.COMPLETE);
+        assertFalse(sentryIndex.isSentryAffected(sentryOnAnyEventOfC, planItemCStarted));
+        assertFalse(sentryIndex.isSentryAffected(sentryOnAnyEventOfC, planItemCCompleted));
+
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("sentryIndexCase").start();
+        assertEquals(Collections.singletonList("A"), getActivePlanItemNames(caseInstance));
+
+        cmmnRuntimeService.triggerPlanItemInstance(getActivePlanItemInstance(caseInstance, "A").getId());
+        assertEquals(Collections.singletonList("B"), getActivePlanItemNames(caseInstance));
+
+        // The on part of D has no standard event, so starting C doesn't satisfy it
+        cmmnRuntimeService.triggerPlanItemInstance(getActivePlanItemInstance(caseInstance, "B").getId());
+        assertEquals(Arrays.asList("C", "Stage"), getActivePlanItemNames(caseInstance));
+        assertEquals(1, cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId())
+                .planItemInstanceStateAvailable().planItemInstanceName("D").count());
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/SentryIndexTest.testOnPartWithoutStandardEvent.cmmn")
+    public void testAffectedPlanItems() {
+        CaseDefinitionCacheEntry cacheEntry = getCaseDefinitionCacheEntry("sentryIndexCase");
+        SentryIndex sentryIndex = cacheEntry.getSentryIndex();
+        Case caze = cacheEntry.getCase();
+        Stage stage = caze.findStage("stage1");
+
+        // Plan items without entry criteria, like C, are always evaluated, together with the stages containing them
+        Set<String> affectedPlanItemIds = sentryIndex.getAffectedPlanItemIds(
+                new PlanItemLifeCycleEvent(caze.getPlanModel().findPlanItem("planItem1"), PlanItemTransition.COMPLETE));
+        assertEquals(new HashSet<>(Arrays.asList("planItem1", "planItem2", "planItem3", "planItem4")), affectedPlanItemIds);
+
+        affectedPlanItemIds = sentryIndex.getAffectedPlanItemIds(new PlanItemLifeCycleEvent(stage.findPlanItem("planItem4"), PlanItemTransition.START));
+        assertEquals(new HashSet<>(Arrays.asList("planItem1", "planItem3", "planItem4")), affectedPlanItemIds);
+
+        // Without lifecycle event, all plan items are evaluated
+        assertNull(sentryIndex.getAffectedPlanItemIds(null));
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/IfPartTest.testIfPartOnly.cmmn")
+    public void testIfPartSentryIsAlwaysAffected() {
+        CaseDefinitionCacheEntry cacheEntry = getCaseDefinitionCacheEntry("testIfPartOnly");
+        Case caze = cacheEntry.getCase();
+        Sentry sentry = caze.getPlanModel().findSentry("sentry1");
+
+        PlanItemLifeCycleEvent planItem1Completed = new PlanItemLifeCycleEvent(caze.getPlanModel().findPlanItem("planItem1"), PlanItemTransition.COMPLETE);
+        assertTrue(cacheEntry.getSentryIndex().isSentryAffected(sentry, planItem1Completed));
+        assertTrue(cacheEntry.getSentryIndex().isSentryAffected(sentry, null));
+    }
+
+    protected List<String> getActivePlanItemNames(CaseInstance caseInstance) {
+        List<String> names = new ArrayList<>();
+        for (PlanItemInstance planItemInstance : cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId())
+                .planItemInstanceStateActive().orderByName().asc().list()) {
+            names.add(planItemInstance.getName());
+        }
+        return names;
+    }
+
+    protected PlanItemInstance getActivePlanItemInstance(CaseInstance caseInstance, String name) {
+        return cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId())
+                .planItemInstanceStateActive().planItemInstanceName(name).singleResult();
+    }
+
+    protected CaseDefinitionCacheEntry getCaseDefinitionCacheEntry(String caseDefinitionKey) {
+        CaseDefinition caseDefinition = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey(caseDefinitionKey).singleResult();
+        return ((CmmnEngineImpl) cmmnEngine).getCmmnEngineConfiguration().getCaseDefinitionCache().get(caseDefinition.getId());
+    }
+
+}
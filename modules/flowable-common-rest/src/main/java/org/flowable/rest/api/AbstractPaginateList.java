@@ -13,21 +13,36 @@
 
 package org.flowable.rest.api;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.CursorPage;
 import org.flowable.engine.common.api.query.Query;
 import org.flowable.engine.common.api.query.QueryProperty;
+import org.flowable.engine.common.api.query.ScrollableQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 /**
  * @author Tijs Rademakers
  */
 public abstract class AbstractPaginateList {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractPaginateList.class);
+
+    protected static final int STREAM_BATCH_SIZE = 100;
+
     /**
      * Uses the pagination parameters form the request and makes sure to order the result and set all pagination attributes for the response to render.
      *
+     * When a cursor is passed, the page after the cursor is returned together with the cursor of the next page, and the total is only
+     * counted when includeTotal is true. Otherwise, the page at the start index is returned and the total is counted unless includeTotal is false.
+     * Whenever the total is not counted, totalIncluded is false in the response.
+     *
      * @param requestParams
      *            The request containing the pagination parameters
      * @param paginateRequest
@@ -61,6 +76,14 @@ public abstract class AbstractPaginateList {
             paginateRequest.setSort(requestParams.get("sort"));
         }
 
+        if (paginateRequest.getCursor() == null) {
+            paginateRequest.setCursor(requestParams.get("cursor"));
+        }
+
+        if (paginateRequest.getIncludeTotal() == null && requestParams.get("includeTotal") != null) {
+            paginateRequest.setIncludeTotal(Boolean.valueOf(requestParams.get("includeTotal")));
+        }
+
         // Use defaults for paging, if not set in the PaginationRequest, nor in the URL
         Integer start = paginateRequest.getStart();
         if (start == null || start < 0) {
@@ -81,26 +104,7 @@ public abstract class AbstractPaginateList {
             order = "asc";
         }
 
-        // Sort order
-        if (sort != null && !properties.isEmpty()) {
-            Object qp = properties.get(sort);
-            if (qp == null) {
-                throw new FlowableIllegalArgumentException("Value for param 'sort' is not valid, '" + sort + "' is not a valid property");
-            }
-
-            if (query instanceof Query) {
-                Query queryObject = (Query) query;
-                QueryProperty queryProperty = (QueryProperty) qp;
-                queryObject.orderBy(queryProperty);
-                if (order.equals("asc")) {
-                    queryObject.asc();
-                } else if (order.equals("desc")) {
-                    queryObject.desc();
-                } else {
-                    throw new FlowableIllegalArgumentException("Value for param 'order' is not valid : '" + order + "', must be 'asc' or 'desc'");
-                }
-            }
-        }
+        applySort(query, sort, order, properties);
 
         DataResponse response = new DataResponse();
         response.setStart(start);
@@ -110,11 +114,28 @@ public abstract class AbstractPaginateList {
         Query queryObject = (Query) query;
 
         // Get result and set pagination parameters
-        List list = processList(queryObject.listPage(start, size));
-        if (start == 0 && list.size() < size) {
-            response.setTotal(list.size());
+        List list = null;
+        if (paginateRequest.getCursor() != null) {
+            CursorPage page = getScrollableQuery(query).listPageAfter(QueryCursorCodec.decode(paginateRequest.getCursor()), size);
+            list = processList(page.getResults());
+            response.setNextCursor(QueryCursorCodec.encode(page.getNextCursor()));
+            boolean includeTotal = Boolean.TRUE.equals(paginateRequest.getIncludeTotal());
+            if (includeTotal) {
+                response.setTotal(queryObject.count());
+            }
+            response.setTotalIncluded(includeTotal);
+
         } else {
-            response.setTotal(queryObject.count());
+            list = processList(queryObject.listPage(start, size));
+            if (!Boolean.FALSE.equals(paginateRequest.getIncludeTotal())) {
+                if (start == 0 && list.size() < size) {
+                    response.setTotal(list.size());
+                } else {
+                    response.setTotal(queryObject.count());
+                }
+            } else {
+                response.setTotalIncluded(false);
+            }
         }
 
         response.setSize(list.size());
@@ -140,6 +161,106 @@ public abstract class AbstractPaginateList {
         return paginateList(requestParams, null, query, defaultSort, properties);
     }
 
+    /**
+     * Uses the sort parameters from the request to order the query and writes all of its results as a JSON array to the given generator.
+     *
+     * The results are read from the database in batches of {@link #STREAM_BATCH_SIZE}, each batch seeking after the last result of the previous
+     * one in a separate command, so no transaction is held open while the results are written to the client and the size of the result doesn't
+     * need to fit in memory. Pagination parameters other than sort and order are ignored.
+     *
+     * A query that can't be paged by cursor is rejected before anything is written. When reading or converting a later batch fails, the
+     * response status has already been sent, so the exception is rethrown without ending the array. The response is then aborted and the
+     * client gets incomplete JSON, which can't be mistaken for a complete result.
+     *
+     * @param requestParams
+     *            The request containing the sort parameters
+     * @param paginateRequest
+     * @param query
+     *            The query to stream the results from
+     * @param defaultSort
+     *            The default sort column (the rest attribute) that later will be mapped to an internal engine name
+     * @param properties
+     * @param generator
+     *            The generator to write the JSON array to, which needs an object codec to write the converted results
+     */
+    @SuppressWarnings("rawtypes")
+    public void streamList(Map<String, String> requestParams, PaginateRequest paginateRequest, Object query, String defaultSort, Map properties,
+            JsonGenerator generator) throws IOException {
+
+        String sort = paginateRequest != null ? paginateRequest.getSort() : null;
+        if (sort == null) {
+            sort = requestParams.get("sort");
+        }
+        if (sort == null) {
+            sort = defaultSort;
+        }
+        String order = paginateRequest != null ? paginateRequest.getOrder() : null;
+        if (order == null) {
+            order = requestParams.get("order");
+        }
+        if (order == null) {
+            order = "asc";
+        }
+
+        applySort(query, sort, order, properties);
+
+        ScrollableQuery queryObject = getScrollableQuery(query);
+        CursorPage page = queryObject.listPageAfter(null, STREAM_BATCH_SIZE);
+        generator.writeStartArray();
+        try {
+            writeBatch(page.getResults(), generator);
+            while (page.getNextCursor() != null) {
+                page = queryObject.listPageAfter(page.getNextCursor(), STREAM_BATCH_SIZE);
+                writeBatch(page.getResults(), generator);
+            }
+
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not stream all results, aborting the response", e);
+            throw e;
+        }
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    @SuppressWarnings("rawtypes")
+    protected ScrollableQuery getScrollableQuery(Object query) {
+        if (!(query instanceof ScrollableQuery)) {
+            throw new FlowableIllegalArgumentException("Cursor paging is not supported by " + query.getClass().getName());
+        }
+        return (ScrollableQuery) query;
+    }
+
+    @SuppressWarnings("rawtypes")
+    protected void writeBatch(List batch, JsonGenerator generator) throws IOException {
+        for (Object response : processList(batch)) {
+            generator.writeObject(response);
+        }
+        generator.flush();
+    }
+
+    @SuppressWarnings("rawtypes")
+    protected void applySort(Object query, String sort, String order, Map properties) {
+        if (sort != null && !properties.isEmpty()) {
+            Object qp = properties.get(sort);
+            if (qp == null) {
+                throw new FlowableIllegalArgumentException("Value for param 'sort' is not valid, '" + sort + "' is not a valid property");
+            }
+
+            if (query instanceof Query) {
+                Query queryObject = (Query) query;
+                QueryProperty queryProperty = (QueryProperty) qp;
+                queryObject.orderBy(queryProperty);
+                if (order.equals("asc")) {
+                    queryObject.asc();
+                } else if (order.equals("desc")) {
+                    queryObject.desc();
+                } else {
+                    throw new FlowableIllegalArgumentException("Value for param 'order' is not valid : '" + order + "', must be 'asc' or 'desc'");
+                }
+            }
+        }
+    }
+
     @SuppressWarnings("rawtypes")
     protected abstract List processList(List list);
 }
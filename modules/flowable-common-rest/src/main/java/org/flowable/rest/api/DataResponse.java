@@ -13,6 +13,8 @@
 
 package org.flowable.rest.api;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * @author Tijs Rademakers
  */
@@ -24,6 +26,8 @@ public class DataResponse {
     String sort;
     String order;
     int size;
+    String nextCursor;
+    Boolean totalIncluded;
 
     public Object getData() {
         return data;
@@ -73,4 +77,25 @@ public class DataResponse {
     public void setSize(int size) {
         this.size = size;
     }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @return whether the total was counted, or null when the total is always counted. When false, the total is 0 and should be ignored.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Boolean getTotalIncluded() {
+        return totalIncluded;
+    }
+
+    public void setTotalIncluded(Boolean totalIncluded) {
+        this.totalIncluded = totalIncluded;
+    }
 }
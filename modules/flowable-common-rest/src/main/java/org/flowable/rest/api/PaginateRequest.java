@@ -29,6 +29,10 @@ public class PaginateRequest {
 
     protected String order;
 
+    protected String cursor;
+
+    protected Boolean includeTotal;
+
     public Integer getStart() {
         return start;
     }
@@ -60,4 +64,24 @@ public class PaginateRequest {
     public void setOrder(String order) {
         this.order = order;
     }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Requests the page after the given cursor, as returned in the nextCursor of the previous page, instead of the page at the start index.
+     * An empty cursor requests the first page.
+     */
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Boolean getIncludeTotal() {
+        return includeTotal;
+    }
+
+    public void setIncludeTotal(Boolean includeTotal) {
+        this.includeTotal = includeTotal;
+    }
 }
@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.QueryCursor;
+import org.springframework.util.Base64Utils;
+
+/**
+ * Converts a {@link QueryCursor} from and to the opaque string that is exposed to REST clients. The type of the sort value is encoded
+ * along with the value, so that the cursor can be passed to the query with the same type it was created with. A null value is encoded
+ * as a type without a value.
+ */
+public class QueryCursorCodec {
+
+    protected static final char SEPARATOR = '\n';
+
+    public static String encode(QueryCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        Object sortValue = cursor.getSortValue();
+        String typedValue;
+        if (sortValue == null) {
+            typedValue = "n";
+        } else if (sortValue instanceof String) {
+            typedValue = "s" + sortValue;
+        } else if (sortValue instanceof Date) {
+            typedValue = "d" + ((Date) sortValue).getTime();
+        } else if (sortValue instanceof Long) {
+            typedValue = "l" + sortValue;
+        } else if (sortValue instanceof Integer) {
+            typedValue = "i" + sortValue;
+        } else if (sortValue instanceof Boolean) {
+            typedValue = "b" + sortValue;
+        } else {
+            throw new FlowableIllegalArgumentException("Cursor paging is not supported for values of type " + sortValue.getClass().getName());
+        }
+
+        return Base64Utils.encodeToUrlSafeString((typedValue + SEPARATOR + cursor.getId()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static QueryCursor decode(String encodedCursor) {
+        if (encodedCursor == null || encodedCursor.isEmpty()) {
+            return null;
+        }
+
+        try {
+            String decodedCursor = new String(Base64Utils.decodeFromUrlSafeString(encodedCursor), StandardCharsets.UTF_8);
+            int separatorIndex = decodedCursor.lastIndexOf(SEPARATOR);
+            String value = decodedCursor.substring(1, separatorIndex);
+            String id = decodedCursor.substring(separatorIndex + 1);
+
+            switch (decodedCursor.charAt(0)) {
+            case 'n':
+                return new QueryCursor(null, id);
+            case 's':
+                return new QueryCursor(value, id);
+            case 'd':
+                return new QueryCursor(new Date(Long.parseLong(value)), id);
+            case 'l':
+                return new QueryCursor(Long.valueOf(value), id);
+            case 'i':
+                return new QueryCursor(Integer.valueOf(value), id);
+            case 'b':
+                return new QueryCursor(Boolean.valueOf(value), id);
+            default:
+                throw new FlowableIllegalArgumentException("Value for param 'cursor' is not valid");
+            }
+
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new FlowableIllegalArgumentException("Value for param 'cursor' is not valid", e);
+        }
+    }
+
+}
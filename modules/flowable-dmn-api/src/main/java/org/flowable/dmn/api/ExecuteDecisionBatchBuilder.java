@@ -0,0 +1,76 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.api;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builder to execute one decision for a batch of input variable maps in a single command.
+ * The decision is resolved once and the results are returned in the order of the input variable maps.
+ */
+public interface ExecuteDecisionBatchBuilder {
+
+    /**
+     * Set the key of the decision
+     **/
+    ExecuteDecisionBatchBuilder decisionKey(String decisionKey);
+
+    /**
+     * Set the parent deployment id
+     */
+    ExecuteDecisionBatchBuilder parentDeploymentId(String parentDeploymentId);
+
+    /**
+     * Set the tenantId of the decision
+     **/
+    ExecuteDecisionBatchBuilder tenantId(String tenantId);
+
+    /**
+     * Adds the input variables of one decision execution
+     */
+    ExecuteDecisionBatchBuilder addVariables(Map<String, Object> variables);
+
+    /**
+     * Adds the input variables of multiple decision executions, in the order in which they are iterated
+     */
+    ExecuteDecisionBatchBuilder variables(Iterable<Map<String, Object>> variablesIterable);
+
+    /**
+     * Set the number of ranges in which the input variables are split, which are evaluated concurrently by the decision batch threads of the engine.
+     * By default the decision is evaluated on the calling thread only.
+     */
+    ExecuteDecisionBatchBuilder parallelism(int parallelism);
+
+    /**
+     * Only record a historic decision execution for every n-th execution of the batch, starting with the first one.
+     * By default every execution is recorded when history is enabled.
+     */
+    ExecuteDecisionBatchBuilder historySampleRate(int historySampleRate);
+
+    /**
+     * Don't record historic decision executions for the executions of the batch
+     */
+    ExecuteDecisionBatchBuilder disableHistory();
+
+    /**
+     * Executes the decision returning the output results of every execution, in the order of the input variables
+     **/
+    List<List<Map<String, Object>>> execute();
+
+    /**
+     * Executes the decision returning a result object including an audit trail for every execution, in the order of the input variables
+     **/
+    List<DecisionExecutionAuditContainer> executeWithAuditTrail();
+
+}
@@ -19,6 +19,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.sql.DataSource;
 
@@ -155,6 +161,32 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
 
     protected int decisionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<DecisionTableCacheEntry> decisionCache;
+
+    /**
+     * When enabled, the latest version of every decision table is put in the decision cache in the background when the engine boots,
+     * so the first decisions that are executed after a restart don't have to wait for their deployment to be parsed.
+     * When the cache has a limit, only the decision tables of the most recent deployments are put in the cache.
+     */
+    protected boolean enableDecisionCacheWarmUp;
+
+    /**
+     * The maximum number of deployments that are parsed at the same time when warming up the decision cache.
+     */
+    protected int decisionCacheWarmUpPoolSize = 4;
+
+    /**
+     * The maximum number of threads that evaluate the decisions of batch executions with a parallelism higher than 1.
+     * The threads are shared by all batch executions of the engine.
+     */
+    protected int decisionBatchPoolSize = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The maximum number of ranges of batch executions that wait for a thread. When the queue is full, the range is evaluated by the thread
+     * executing the batch.
+     */
+    protected int decisionBatchQueueSize = 100;
+
+    protected ExecutorService decisionBatchExecutorService;
     
     protected ObjectMapper objectMapper = new ObjectMapper();
 
@@ -249,6 +281,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
         initClock();
         initHitPolicyBehaviors();
         initRuleEngineExecutor();
+        initDecisionBatchExecutorService();
     }
 
     // services
@@ -544,6 +577,25 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
         ruleEngineExecutor = new RuleEngineExecutorImpl(hitPolicyBehaviors, expressionManager, objectMapper);
     }
 
+    public void initDecisionBatchExecutorService() {
+        if (decisionBatchExecutorService == null) {
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(decisionBatchPoolSize, decisionBatchPoolSize, 60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(decisionBatchQueueSize), new ThreadFactory() {
+
+                protected AtomicInteger threadNumber = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "flowable-dmn-decision-batch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            decisionBatchExecutorService = threadPoolExecutor;
+        }
+    }
+
 
     // getters and setters
     // //////////////////////////////////////////////////////
@@ -777,6 +829,51 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
         return this;
     }
 
+    public boolean isEnableDecisionCacheWarmUp() {
+        return enableDecisionCacheWarmUp;
+    }
+
+    public DmnEngineConfiguration setEnableDecisionCacheWarmUp(boolean enableDecisionCacheWarmUp) {
+        this.enableDecisionCacheWarmUp = enableDecisionCacheWarmUp;
+        return this;
+    }
+
+    public int getDecisionBatchPoolSize() {
+        return decisionBatchPoolSize;
+    }
+
+    public DmnEngineConfiguration setDecisionBatchPoolSize(int decisionBatchPoolSize) {
+        this.decisionBatchPoolSize = decisionBatchPoolSize;
+        return this;
+    }
+
+    public int getDecisionBatchQueueSize() {
+        return decisionBatchQueueSize;
+    }
+
+    public DmnEngineConfiguration setDecisionBatchQueueSize(int decisionBatchQueueSize) {
+        this.decisionBatchQueueSize = decisionBatchQueueSize;
+        return this;
+    }
+
+    public ExecutorService getDecisionBatchExecutorService() {
+        return decisionBatchExecutorService;
+    }
+
+    public DmnEngineConfiguration setDecisionBatchExecutorService(ExecutorService decisionBatchExecutorService) {
+        this.decisionBatchExecutorService = decisionBatchExecutorService;
+        return this;
+    }
+
+    public int getDecisionCacheWarmUpPoolSize() {
+        return decisionCacheWarmUpPoolSize;
+    }
+
+    public DmnEngineConfiguration setDecisionCacheWarmUpPoolSize(int decisionCacheWarmUpPoolSize) {
+        this.decisionCacheWarmUpPoolSize = decisionCacheWarmUpPoolSize;
+        return this;
+    }
+
     public DmnDeploymentDataManager getDeploymentDataManager() {
         return deploymentDataManager;
     }
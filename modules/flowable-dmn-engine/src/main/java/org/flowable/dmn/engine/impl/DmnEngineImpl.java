@@ -12,6 +12,13 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.DmnDeployment;
 import org.flowable.dmn.api.DmnHistoryService;
 import org.flowable.dmn.api.DmnManagementService;
 import org.flowable.dmn.api.DmnRepositoryService;
@@ -19,6 +26,9 @@ import org.flowable.dmn.api.DmnRuleService;
 import org.flowable.dmn.engine.DmnEngine;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.DmnEngines;
+import org.flowable.dmn.engine.impl.cmd.GetDeploymentDecisionTableCmd;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheWarmUp;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +45,7 @@ public class DmnEngineImpl implements DmnEngine {
     protected DmnRuleService dmnRuleService;
     protected DmnHistoryService dmnHistoryService;
     protected DmnEngineConfiguration dmnEngineConfiguration;
+    protected DeploymentCacheWarmUp decisionCacheWarmUp;
 
     public DmnEngineImpl(DmnEngineConfiguration dmnEngineConfiguration) {
         this.dmnEngineConfiguration = dmnEngineConfiguration;
@@ -51,11 +62,43 @@ public class DmnEngineImpl implements DmnEngine {
         }
 
         DmnEngines.registerDmnEngine(this);
+
+        if (dmnEngineConfiguration.isEnableDecisionCacheWarmUp()) {
+            startDecisionCacheWarmUp();
+        }
+    }
+
+    protected void startDecisionCacheWarmUp() {
+        Map<String, String> deploymentIdByDecisionTableId = new HashMap<>();
+        for (DmnDecisionTable decisionTable : dmnRepositoryService.createDecisionTableQuery().latestVersion().list()) {
+            deploymentIdByDecisionTableId.put(decisionTable.getId(), decisionTable.getDeploymentId());
+        }
+        List<String> deploymentIds = new ArrayList<>();
+        for (DmnDeployment deployment : dmnRepositoryService.createDeploymentQuery().orderByDeploymenTime().desc().orderByDeploymentId().desc().list()) {
+            deploymentIds.add(deployment.getId());
+        }
+
+        List<Command<?>> resolveCommands = new ArrayList<>();
+        for (String decisionTableId : DeploymentCacheWarmUp.selectDefinitionIds(deploymentIdByDecisionTableId, deploymentIds,
+                dmnEngineConfiguration.getDecisionCacheLimit())) {
+            resolveCommands.add(new GetDeploymentDecisionTableCmd(decisionTableId));
+        }
+
+        decisionCacheWarmUp = new DeploymentCacheWarmUp("dmn", dmnEngineConfiguration.getCommandExecutor(), dmnEngineConfiguration.getDecisionCacheWarmUpPoolSize());
+        decisionCacheWarmUp.start(resolveCommands);
     }
 
     @Override
     public void close() {
         DmnEngines.unregister(this);
+        if (decisionCacheWarmUp != null) {
+            decisionCacheWarmUp.shutdown();
+            decisionCacheWarmUp = null;
+        }
+        if (dmnEngineConfiguration.getDecisionBatchExecutorService() != null) {
+            dmnEngineConfiguration.getDecisionBatchExecutorService().shutdownNow();
+            dmnEngineConfiguration.setDecisionBatchExecutorService(null);
+        }
     }
 
     // getters and setters
@@ -86,6 +129,10 @@ public class DmnEngineImpl implements DmnEngine {
         return dmnHistoryService;
     }
 
+    public DeploymentCacheWarmUp getDecisionCacheWarmUp() {
+        return decisionCacheWarmUp;
+    }
+
     @Override
     public DmnEngineConfiguration getDmnEngineConfiguration() {
         return dmnEngineConfiguration;
@@ -12,12 +12,15 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.api.ExecuteDecisionBatchBuilder;
 import org.flowable.dmn.api.ExecuteDecisionBuilder;
+import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionBatchCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionSingleResultCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionWithAuditTrailCmd;
@@ -31,6 +34,11 @@ public class DmnRuleServiceImpl extends ServiceImpl implements DmnRuleService {
     public ExecuteDecisionBuilder createExecuteDecisionBuilder() {
         return new ExecuteDecisionBuilderImpl(this);
     }
+
+    @Override
+    public ExecuteDecisionBatchBuilder createExecuteDecisionBatchBuilder() {
+        return new ExecuteDecisionBatchBuilderImpl(this);
+    }
     
     @Override
     @Deprecated
@@ -115,4 +123,17 @@ public class DmnRuleServiceImpl extends ServiceImpl implements DmnRuleService {
     public DecisionExecutionAuditContainer executeDecisionWithAuditTrail(ExecuteDecisionBuilderImpl executeDecisionBuilder) {
         return commandExecutor.execute(new ExecuteDecisionWithAuditTrailCmd(executeDecisionBuilder));
     }
-}
\ No newline at end of file
+
+    public List<List<Map<String, Object>>> executeDecisionBatch(ExecuteDecisionBatchBuilderImpl executeDecisionBatchBuilder) {
+        List<DecisionExecutionAuditContainer> executionResults = executeDecisionBatchWithAuditTrail(executeDecisionBatchBuilder);
+        List<List<Map<String, Object>>> decisionResults = new ArrayList<>(executionResults.size());
+        for (DecisionExecutionAuditContainer executionResult : executionResults) {
+            decisionResults.add(executionResult.getDecisionResult());
+        }
+        return decisionResults;
+    }
+
+    public List<DecisionExecutionAuditContainer> executeDecisionBatchWithAuditTrail(ExecuteDecisionBatchBuilderImpl executeDecisionBatchBuilder) {
+        return commandExecutor.execute(new ExecuteDecisionBatchCmd(executeDecisionBatchBuilder));
+    }
+}
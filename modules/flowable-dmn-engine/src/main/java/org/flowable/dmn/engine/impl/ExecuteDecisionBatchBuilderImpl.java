@@ -0,0 +1,136 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.ExecuteDecisionBatchBuilder;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+
+public class ExecuteDecisionBatchBuilderImpl implements ExecuteDecisionBatchBuilder {
+
+    protected DmnRuleServiceImpl ruleService;
+
+    protected String decisionKey;
+    protected String parentDeploymentId;
+    protected String tenantId;
+    protected List<Map<String, Object>> variablesList = new ArrayList<>();
+    protected int parallelism = 1;
+    protected int historySampleRate = 1;
+
+    public ExecuteDecisionBatchBuilderImpl(DmnRuleServiceImpl ruleService) {
+        this.ruleService = ruleService;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder decisionKey(String decisionKey) {
+        this.decisionKey = decisionKey;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder parentDeploymentId(String parentDeploymentId) {
+        this.parentDeploymentId = parentDeploymentId;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder tenantId(String tenantId) {
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder addVariables(Map<String, Object> variables) {
+        // the input variables are pre-processed during the execution, so every execution gets its own copy
+        Map<String, Object> executionVariables = new HashMap<>();
+        if (variables != null) {
+            executionVariables.putAll(variables);
+        }
+        variablesList.add(executionVariables);
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder variables(Iterable<Map<String, Object>> variablesIterable) {
+        if (variablesIterable != null) {
+            for (Map<String, Object> variables : variablesIterable) {
+                addVariables(variables);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new FlowableIllegalArgumentException("parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder historySampleRate(int historySampleRate) {
+        if (historySampleRate < 1) {
+            throw new FlowableIllegalArgumentException("historySampleRate must be at least 1");
+        }
+        this.historySampleRate = historySampleRate;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder disableHistory() {
+        this.historySampleRate = 0;
+        return this;
+    }
+
+    @Override
+    public List<List<Map<String, Object>>> execute() {
+        return ruleService.executeDecisionBatch(this);
+    }
+
+    @Override
+    public List<DecisionExecutionAuditContainer> executeWithAuditTrail() {
+        return ruleService.executeDecisionBatchWithAuditTrail(this);
+    }
+
+    public String getDecisionKey() {
+        return decisionKey;
+    }
+
+    public String getParentDeploymentId() {
+        return parentDeploymentId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public List<Map<String, Object>> getVariablesList() {
+        return variablesList;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getHistorySampleRate() {
+        return historySampleRate;
+    }
+
+}
@@ -14,6 +14,8 @@ package org.flowable.dmn.engine.impl;
 
 import java.util.Map;
 
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+
 public class ExecuteDecisionInfo {
 
     protected String decisionKey;
@@ -25,59 +27,98 @@ public class ExecuteDecisionInfo {
     protected String activityId;
     protected Map<String, Object> variables;
     protected String tenantId;
-    
+    protected boolean skipHistory;
+    protected CompiledDecisionTable compiledDecisionTable;
+
     public String getDecisionKey() {
         return decisionKey;
     }
+
     public void setDecisionKey(String decisionKey) {
         this.decisionKey = decisionKey;
     }
+
     public String getDecisionDefinitionId() {
         return decisionDefinitionId;
     }
+
     public void setDecisionDefinitionId(String decisionDefinitionId) {
         this.decisionDefinitionId = decisionDefinitionId;
     }
+
     public String getDeploymentId() {
         return deploymentId;
     }
+
     public void setDeploymentId(String deploymentId) {
         this.deploymentId = deploymentId;
     }
+
     public String getParentDeploymentId() {
         return parentDeploymentId;
     }
+
     public void setParentDeploymentId(String parentDeploymentId) {
         this.parentDeploymentId = parentDeploymentId;
     }
+
     public String getInstanceId() {
         return instanceId;
     }
+
     public void setInstanceId(String instanceId) {
         this.instanceId = instanceId;
     }
+
     public String getExecutionId() {
         return executionId;
     }
+
     public void setExecutionId(String executionId) {
         this.executionId = executionId;
     }
+
     public String getActivityId() {
         return activityId;
     }
+
     public void setActivityId(String activityId) {
         this.activityId = activityId;
     }
+
     public Map<String, Object> getVariables() {
         return variables;
     }
+
     public void setVariables(Map<String, Object> variables) {
         this.variables = variables;
     }
+
     public String getTenantId() {
         return tenantId;
     }
+
     public void setTenantId(String tenantId) {
         this.tenantId = tenantId;
     }
+
+    public boolean isSkipHistory() {
+        return skipHistory;
+    }
+
+    public void setSkipHistory(boolean skipHistory) {
+        this.skipHistory = skipHistory;
+    }
+
+    /**
+     * The compiled decision table of the deployed decision, or null when the decision table needs to be compiled for this execution.
+     */
+    public CompiledDecisionTable getCompiledDecisionTable() {
+        return compiledDecisionTable;
+    }
+
+    public void setCompiledDecisionTable(CompiledDecisionTable compiledDecisionTable) {
+        this.compiledDecisionTable = compiledDecisionTable;
+    }
+
 }
@@ -20,6 +20,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.el.CandidateRules;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
 import org.flowable.dmn.engine.impl.el.ELExecutionContextBuilder;
 import org.flowable.dmn.engine.impl.el.ELExpressionExecutor;
@@ -40,6 +42,7 @@ import org.flowable.dmn.model.LiteralExpression;
 import org.flowable.dmn.model.RuleInputClauseContainer;
 import org.flowable.dmn.model.RuleOutputClauseContainer;
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.delegate.Expression;
 import org.flowable.engine.common.impl.el.ExpressionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,7 +75,82 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
      */
     @Override
     public DecisionExecutionAuditContainer execute(Decision decision, ExecuteDecisionInfo executeDecisionInfo) {
+        DecisionTable currentDecisionTable = getDecisionTable(decision);
 
+        // create execution context and audit trail
+        ELExecutionContext executionContext = ELExecutionContextBuilder.build(decision, executeDecisionInfo.getVariables());
+
+        try {
+            executeDecisionTable(currentDecisionTable, executeDecisionInfo.getCompiledDecisionTable(), executionContext);
+
+        } finally {
+            // end audit trail
+            executionContext.getAuditContainer().stopAudit();
+
+            if (!executeDecisionInfo.isSkipHistory()) {
+                DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
+                if (dmnEngineConfiguration.isHistoryEnabled()) {
+                    recordDecisionExecution(executeDecisionInfo, executionContext.getAuditContainer());
+                }
+            }
+        }
+
+        return executionContext.getAuditContainer();
+    }
+
+    /**
+     * Evaluates the given decision table without recording a historic decision execution.
+     * Doesn't use the database or the command context, so decisions can be evaluated concurrently, as is done for batch executions.
+     *
+     * @param decision              the DMN decision
+     * @param compiledDecisionTable the compiled decision table of the deployed decision, or null to compile it for this evaluation
+     * @param variables             the input variables
+     * @param strictMode            whether hit policy violations fail the decision, see {@link DmnEngineConfiguration#isStrictMode()}
+     * @return the audit trail containing the decision result
+     */
+    public DecisionExecutionAuditContainer evaluate(Decision decision, CompiledDecisionTable compiledDecisionTable, Map<String, Object> variables, boolean strictMode) {
+        DecisionTable currentDecisionTable = getDecisionTable(decision);
+
+        ELExecutionContext executionContext = ELExecutionContextBuilder.build(decision, variables, strictMode);
+        try {
+            executeDecisionTable(currentDecisionTable, compiledDecisionTable, executionContext);
+        } finally {
+            executionContext.getAuditContainer().stopAudit();
+        }
+
+        return executionContext.getAuditContainer();
+    }
+
+    /**
+     * Inserts the historic decision execution for the given audit trail.
+     */
+    public void recordDecisionExecution(ExecuteDecisionInfo executeDecisionInfo, DecisionExecutionAuditContainer auditContainer) {
+        HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = CommandContextUtil.getHistoricDecisionExecutionEntityManager();
+        HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
+        decisionExecutionEntity.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
+        decisionExecutionEntity.setDeploymentId(executeDecisionInfo.getDeploymentId());
+        decisionExecutionEntity.setStartTime(auditContainer.getStartTime());
+        decisionExecutionEntity.setEndTime(auditContainer.getEndTime());
+        decisionExecutionEntity.setInstanceId(executeDecisionInfo.getInstanceId());
+        decisionExecutionEntity.setExecutionId(executeDecisionInfo.getExecutionId());
+        decisionExecutionEntity.setActivityId(executeDecisionInfo.getActivityId());
+        decisionExecutionEntity.setTenantId(executeDecisionInfo.getTenantId());
+
+        Boolean failed = auditContainer.isFailed();
+        if (failed != null) {
+            decisionExecutionEntity.setFailed(failed.booleanValue());
+        }
+
+        try {
+            decisionExecutionEntity.setExecutionJson(objectMapper.writeValueAsString(auditContainer));
+        } catch (Exception e) {
+            throw new FlowableException("Error writing execution json", e);
+        }
+
+        historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
+    }
+
+    protected DecisionTable getDecisionTable(Decision decision) {
         if (decision == null) {
             throw new IllegalArgumentException("no decision provided");
         }
@@ -81,58 +159,24 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             throw new IllegalArgumentException("no decision table present in decision");
         }
 
-        DecisionTable currentDecisionTable = (DecisionTable) decision.getExpression();
-
-        // create execution context and audit trail
-        ELExecutionContext executionContext = ELExecutionContextBuilder.build(decision, executeDecisionInfo.getVariables());
+        return (DecisionTable) decision.getExpression();
+    }
 
+    protected void executeDecisionTable(DecisionTable decisionTable, CompiledDecisionTable compiledDecisionTable, ELExecutionContext executionContext) {
         try {
-            sanityCheckDecisionTable(currentDecisionTable);
+            sanityCheckDecisionTable(decisionTable);
 
             // evaluate decision table
-            evaluateDecisionTable(currentDecisionTable, executionContext);
+            evaluateDecisionTable(decisionTable, compiledDecisionTable, executionContext);
 
         } catch (FlowableException fe) {
             LOGGER.error("decision table execution sanity check failed", fe);
             executionContext.getAuditContainer().setFailed();
             executionContext.getAuditContainer().setExceptionMessage(getExceptionMessage(fe));
-
-        } finally {
-            // end audit trail
-            executionContext.getAuditContainer().stopAudit();
-
-            DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
-            if (dmnEngineConfiguration.isHistoryEnabled()) {
-                HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = dmnEngineConfiguration.getHistoricDecisionExecutionEntityManager();
-                HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
-                decisionExecutionEntity.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
-                decisionExecutionEntity.setDeploymentId(executeDecisionInfo.getDeploymentId());
-                decisionExecutionEntity.setStartTime(executionContext.getAuditContainer().getStartTime());
-                decisionExecutionEntity.setEndTime(executionContext.getAuditContainer().getEndTime());
-                decisionExecutionEntity.setInstanceId(executeDecisionInfo.getInstanceId());
-                decisionExecutionEntity.setExecutionId(executeDecisionInfo.getExecutionId());
-                decisionExecutionEntity.setActivityId(executeDecisionInfo.getActivityId());
-                decisionExecutionEntity.setTenantId(executeDecisionInfo.getTenantId());
-
-                Boolean failed = executionContext.getAuditContainer().isFailed();
-                if (failed != null) {
-                    decisionExecutionEntity.setFailed(failed.booleanValue());
-                }
-
-                try {
-                    decisionExecutionEntity.setExecutionJson(objectMapper.writeValueAsString(executionContext.getAuditContainer()));
-                } catch (Exception e) {
-                    throw new FlowableException("Error writing execution json", e);
-                }
-
-                historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
-            }
         }
-
-        return executionContext.getAuditContainer();
     }
 
-    protected void evaluateDecisionTable(DecisionTable decisionTable, ELExecutionContext executionContext) {
+    protected void evaluateDecisionTable(DecisionTable decisionTable, CompiledDecisionTable compiledDecisionTable, ELExecutionContext executionContext) {
         LOGGER.debug("Start table evaluation: {}", decisionTable.getId());
 
 
@@ -144,12 +188,28 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             throw new FlowableException("no execution context available");
         }
 
+        // The decision tables of deployed decisions are compiled at deployment and kept in the decision cache
+        if (compiledDecisionTable == null) {
+            compiledDecisionTable = new CompiledDecisionTable(decisionTable, expressionManager);
+        }
+        executionContext.setCompiledDecisionTable(compiledDecisionTable);
+
         try {
+            // only the rules that can match the input variables need to be evaluated
+            CandidateRules candidateRules = compiledDecisionTable.getCandidateRules(executionContext.getStackVariables());
+
             // evaluate rule conditions
             Map<Integer, List<RuleOutputClauseContainer>> validRuleOutputEntries = new HashMap<>();
 
-            for (DecisionRule rule : decisionTable.getRules()) {
-                boolean ruleResult = executeRule(rule, executionContext);
+            List<DecisionRule> rules = decisionTable.getRules();
+            for (int rulePosition = 0; rulePosition < rules.size(); rulePosition++) {
+                DecisionRule rule = rules.get(rulePosition);
+                boolean ruleResult;
+                if (candidateRules == null || candidateRules.isCandidate(rulePosition) || !canSkipRule(rule, rulePosition, candidateRules)) {
+                    ruleResult = executeRule(rule, executionContext);
+                } else {
+                    ruleResult = skipRule(rule, rulePosition, candidateRules, executionContext);
+                }
 
                 if (ruleResult) {
                     // evaluate decision table hit policy validity
@@ -252,10 +312,80 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return conditionResult;
     }
 
+    /**
+     * A rule that can't match is only skipped when the input entries before the one that doesn't match are empty or decided by an index,
+     * so that skipping it can't hide an error that evaluating an earlier input entry would have raised.
+     */
+    protected boolean canSkipRule(DecisionRule rule, int rulePosition, CandidateRules candidateRules) {
+        for (RuleInputClauseContainer conditionContainer : rule.getInputEntries()) {
+            String inputEntryText = conditionContainer.getInputEntry().getText();
+            if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
+                continue;
+            }
+
+            Boolean indexedResult = candidateRules.getIndexedResult(rulePosition, conditionContainer.getInputClause());
+            if (indexedResult == null) {
+                return false;
+            } else if (!indexedResult) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the same audit entries as {@link #executeRule(DecisionRule, ELExecutionContext)} for a rule that can't match,
+     * taking the results of the input entries from the input column indexes instead of evaluating them.
+     */
+    protected boolean skipRule(DecisionRule rule, int rulePosition, CandidateRules candidateRules, ELExecutionContext executionContext) {
+        LOGGER.debug("Skipping rule {}, input entries can't match", rule.getRuleNumber());
+
+        // add audit entry
+        executionContext.getAuditContainer().addRuleEntry(rule);
+
+        for (RuleInputClauseContainer conditionContainer : rule.getInputEntries()) {
+            String inputEntryText = conditionContainer.getInputEntry().getText();
+            boolean conditionResult = StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)
+                    || candidateRules.getIndexedResult(rulePosition, conditionContainer.getInputClause());
+
+            // add audit entry
+            executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), conditionContainer.getInputEntry().getId(), conditionResult);
+
+            if (!conditionResult) {
+                break;
+            }
+
+            // mark rule valid
+            executionContext.getAuditContainer().markRuleValid(rule.getRuleNumber());
+        }
+
+        // mark rule end
+        executionContext.getAuditContainer().markRuleEnd(rule.getRuleNumber());
+        return false;
+    }
+
     protected Boolean executeInputExpressionEvaluation(RuleInputClauseContainer ruleContainer, ELExecutionContext executionContext) {
+        CompiledDecisionTable compiledDecisionTable = executionContext.getCompiledDecisionTable();
+        if (compiledDecisionTable != null) {
+            Expression inputEntryExpression = compiledDecisionTable.getInputEntryExpression(ruleContainer.getInputEntry());
+            if (inputEntryExpression != null) {
+                return ELExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), inputEntryExpression, executionContext);
+            }
+        }
         return ELExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), expressionManager, executionContext);
     }
 
+    protected Object executeOutputExpressionEvaluation(RuleOutputClauseContainer ruleClauseContainer, ELExecutionContext executionContext) {
+        CompiledDecisionTable compiledDecisionTable = executionContext.getCompiledDecisionTable();
+        if (compiledDecisionTable != null) {
+            Expression outputEntryExpression = compiledDecisionTable.getOutputEntryExpression(ruleClauseContainer.getOutputEntry());
+            if (outputEntryExpression != null) {
+                return ELExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), ruleClauseContainer.getOutputEntry(), outputEntryExpression, executionContext);
+            }
+        }
+        return ELExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), ruleClauseContainer.getOutputEntry(), expressionManager, executionContext);
+    }
+
     protected void executeOutputEntryAction(int ruleNumber, List<RuleOutputClauseContainer> ruleOutputContainers, HitPolicy hitPolicy, ELExecutionContext executionContext) {
         LOGGER.debug("Start conclusion processing");
 
@@ -277,7 +407,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         if (StringUtils.isNotEmpty(outputEntryExpression.getText())) {
             Object executionVariable = null;
             try {
-                Object resultValue = ELExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), outputEntryExpression, expressionManager, executionContext);
+                Object resultValue = executeOutputExpressionEvaluation(ruleClauseContainer, executionContext);
                 executionVariable = ExecutionVariableFactory.getExecutionVariable(outputVariableType, resultValue);
 
                 // create result
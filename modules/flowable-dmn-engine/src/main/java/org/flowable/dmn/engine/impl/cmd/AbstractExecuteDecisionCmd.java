@@ -96,6 +96,7 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable {
 
         DecisionTableCacheEntry decisionTableCacheEntry = deploymentManager.resolveDecisionTable(decisionTable);
         Decision decision = decisionTableCacheEntry.getDecision();
+        executeDecisionInfo.setCompiledDecisionTable(decisionTableCacheEntry.getCompiledDecisionTable());
 
         return decision;
     }
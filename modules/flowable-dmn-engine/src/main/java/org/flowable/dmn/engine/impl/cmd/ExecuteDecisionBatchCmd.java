@@ -0,0 +1,169 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.ExecuteDecisionBatchBuilderImpl;
+import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
+import org.flowable.dmn.engine.impl.RuleEngineExecutorImpl;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
+import org.flowable.dmn.model.Decision;
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+
+/**
+ * Executes one decision for a batch of input variables. The decision is resolved once for the whole batch.
+ *
+ * When a parallelism higher than 1 is requested, the input variables are split in contiguous ranges that are evaluated
+ * by the decision batch executor service of the engine, see {@link DmnEngineConfiguration#getDecisionBatchExecutorService()}.
+ * The historic decision executions are always recorded on the thread executing the command afterwards, as the database session
+ * isn't thread safe.
+ */
+public class ExecuteDecisionBatchCmd extends AbstractExecuteDecisionCmd implements Command<List<DecisionExecutionAuditContainer>> {
+
+    private static final long serialVersionUID = 1L;
+
+    protected List<Map<String, Object>> variablesList;
+    protected int parallelism;
+    protected int historySampleRate;
+
+    public ExecuteDecisionBatchCmd(ExecuteDecisionBatchBuilderImpl decisionBatchBuilder) {
+        super(decisionBatchBuilder.getDecisionKey(), null);
+        executeDecisionInfo.setParentDeploymentId(decisionBatchBuilder.getParentDeploymentId());
+        executeDecisionInfo.setTenantId(decisionBatchBuilder.getTenantId());
+        this.variablesList = decisionBatchBuilder.getVariablesList();
+        this.parallelism = decisionBatchBuilder.getParallelism();
+        this.historySampleRate = decisionBatchBuilder.getHistorySampleRate();
+    }
+
+    @Override
+    public List<DecisionExecutionAuditContainer> execute(CommandContext commandContext) {
+        if (getDecisionKey() == null) {
+            throw new FlowableIllegalArgumentException("decisionKey is null");
+        }
+
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration(commandContext);
+        DmnDecisionTable decisionTable = resolveDecisionTable(dmnEngineConfiguration.getDeploymentManager());
+        Decision decision = resolveDecision(dmnEngineConfiguration.getDeploymentManager(), decisionTable);
+
+        RuleEngineExecutor ruleEngineExecutor = dmnEngineConfiguration.getRuleEngineExecutor();
+        if (parallelism > 1 && variablesList.size() > 1 && ruleEngineExecutor instanceof RuleEngineExecutorImpl
+                && dmnEngineConfiguration.getDecisionBatchExecutorService() != null) {
+            return executeInParallel(dmnEngineConfiguration, (RuleEngineExecutorImpl) ruleEngineExecutor, decision);
+        }
+
+        List<DecisionExecutionAuditContainer> executionResults = new ArrayList<>(variablesList.size());
+        for (int i = 0; i < variablesList.size(); i++) {
+            ExecuteDecisionInfo batchItemDecisionInfo = createExecuteDecisionInfo(variablesList.get(i));
+            batchItemDecisionInfo.setSkipHistory(!isHistoryRecorded(i));
+            executionResults.add(ruleEngineExecutor.execute(decision, batchItemDecisionInfo));
+        }
+        return executionResults;
+    }
+
+    protected List<DecisionExecutionAuditContainer> executeInParallel(DmnEngineConfiguration dmnEngineConfiguration,
+            final RuleEngineExecutorImpl ruleEngineExecutor, final Decision decision) {
+
+        int threadCount = Math.min(parallelism, variablesList.size());
+        int rangeSize = (variablesList.size() + threadCount - 1) / threadCount;
+        final boolean strictMode = dmnEngineConfiguration.isStrictMode();
+        final CompiledDecisionTable compiledDecisionTable = executeDecisionInfo.getCompiledDecisionTable();
+        final DecisionExecutionAuditContainer[] executionResults = new DecisionExecutionAuditContainer[variablesList.size()];
+
+        // The workers only get immutable data: they don't use the command context, which isn't thread safe
+        ExecutorService executorService = dmnEngineConfiguration.getDecisionBatchExecutorService();
+        List<Future<?>> futures = new ArrayList<>(threadCount);
+        try {
+            for (int rangeStart = 0; rangeStart < variablesList.size(); rangeStart += rangeSize) {
+                final int fromIndex = rangeStart;
+                final int toIndex = Math.min(variablesList.size(), rangeStart + rangeSize);
+                futures.add(executorService.submit(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        for (int i = fromIndex; i < toIndex; i++) {
+                            executionResults[i] = ruleEngineExecutor.evaluate(decision, compiledDecisionTable, variablesList.get(i), strictMode);
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                waitForCompletion(future);
+            }
+
+        } finally {
+            // stop the remaining ranges when one of them failed
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+        }
+
+        if (dmnEngineConfiguration.isHistoryEnabled()) {
+            for (int i = 0; i < executionResults.length; i++) {
+                if (isHistoryRecorded(i)) {
+                    ruleEngineExecutor.recordDecisionExecution(createExecuteDecisionInfo(variablesList.get(i)), executionResults[i]);
+                }
+            }
+        }
+
+        return Arrays.asList(executionResults);
+    }
+
+    protected void waitForCompletion(Future<?> future) {
+        try {
+            future.get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while executing decision batch", e);
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new FlowableException("Error executing decision batch", e.getCause());
+        }
+    }
+
+    protected ExecuteDecisionInfo createExecuteDecisionInfo(Map<String, Object> variables) {
+        ExecuteDecisionInfo batchItemDecisionInfo = new ExecuteDecisionInfo();
+        batchItemDecisionInfo.setDecisionKey(executeDecisionInfo.getDecisionKey());
+        batchItemDecisionInfo.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
+        batchItemDecisionInfo.setDeploymentId(executeDecisionInfo.getDeploymentId());
+        batchItemDecisionInfo.setParentDeploymentId(executeDecisionInfo.getParentDeploymentId());
+        batchItemDecisionInfo.setTenantId(executeDecisionInfo.getTenantId());
+        batchItemDecisionInfo.setVariables(variables);
+        batchItemDecisionInfo.setCompiledDecisionTable(executeDecisionInfo.getCompiledDecisionTable());
+        return batchItemDecisionInfo;
+    }
+
+    protected boolean isHistoryRecorded(int index) {
+        return historySampleRate > 0 && index % historySampleRate == 0;
+    }
+
+}
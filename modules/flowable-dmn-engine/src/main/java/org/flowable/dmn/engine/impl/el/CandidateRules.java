@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.flowable.dmn.model.InputClause;
+
+/**
+ * Rules of a {@link CompiledDecisionTable} that can match the input variables of one execution.
+ * <p>
+ * For the input columns that were looked up in their {@link InputColumnIndex}, the result of the indexed input entries is known
+ * without evaluating them, which allows a rule that can't match to be audited as if it was evaluated.
+ */
+public class CandidateRules {
+
+    protected BitSet candidateRules;
+    protected final Map<InputClause, InputColumnIndex> inputColumnIndexes = new IdentityHashMap<>();
+    protected final Map<InputClause, BitSet> columnCandidateRules = new IdentityHashMap<>();
+
+    protected void addColumnCandidateRules(InputColumnIndex inputColumnIndex, BitSet rules) {
+        inputColumnIndexes.put(inputColumnIndex.getInputClause(), inputColumnIndex);
+        columnCandidateRules.put(inputColumnIndex.getInputClause(), rules);
+
+        if (candidateRules == null) {
+            candidateRules = (BitSet) rules.clone();
+        } else {
+            candidateRules.and(rules);
+        }
+    }
+
+    protected boolean isEmpty() {
+        return candidateRules == null;
+    }
+
+    /**
+     * Returns whether the rule at the given position can match the input variables.
+     */
+    public boolean isCandidate(int rulePosition) {
+        return candidateRules.get(rulePosition);
+    }
+
+    /**
+     * Returns the result of the input entry of the rule at the given position for the given input column,
+     * or null when the input entry needs to be evaluated.
+     */
+    public Boolean getIndexedResult(int rulePosition, InputClause inputClause) {
+        BitSet rules = columnCandidateRules.get(inputClause);
+        if (rules == null || !inputColumnIndexes.get(inputClause).isIndexed(rulePosition)) {
+            return null;
+        }
+        return rules.get(rulePosition);
+    }
+
+}
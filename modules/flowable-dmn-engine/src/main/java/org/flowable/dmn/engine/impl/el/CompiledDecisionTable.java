@@ -0,0 +1,134 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.LiteralExpression;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
+import org.flowable.dmn.model.UnaryTests;
+import org.flowable.engine.common.api.delegate.Expression;
+import org.flowable.engine.common.impl.el.ExpressionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executable form of a {@link DecisionTable}, created once when the decision table is deployed.
+ * <p>
+ * The input and output entries are pre-parsed into expressions, and an {@link InputColumnIndex} is kept for every input column
+ * that allows it, so that only the rules that can match the input variables need to be evaluated.
+ * Entries that fail to compile are left out; they are parsed again when the rule is executed, so that the error ends up in the audit trail.
+ */
+public class CompiledDecisionTable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledDecisionTable.class);
+
+    protected final DecisionTable decisionTable;
+    protected final Map<UnaryTests, Expression> inputEntryExpressions = new IdentityHashMap<>();
+    protected final Map<LiteralExpression, Expression> outputEntryExpressions = new IdentityHashMap<>();
+    protected final List<InputColumnIndex> inputColumnIndexes = new ArrayList<>();
+
+    public CompiledDecisionTable(DecisionTable decisionTable, ExpressionManager expressionManager) {
+        this.decisionTable = decisionTable;
+
+        for (DecisionRule rule : decisionTable.getRules()) {
+            for (RuleInputClauseContainer inputEntry : rule.getInputEntries()) {
+                compileInputEntry(inputEntry, expressionManager);
+            }
+            for (RuleOutputClauseContainer outputEntry : rule.getOutputEntries()) {
+                compileOutputEntry(outputEntry, expressionManager);
+            }
+        }
+
+        for (InputClause inputClause : decisionTable.getInputs()) {
+            InputColumnIndex inputColumnIndex = InputColumnIndex.create(inputClause, decisionTable.getRules());
+            if (inputColumnIndex != null) {
+                inputColumnIndexes.add(inputColumnIndex);
+            }
+        }
+    }
+
+    protected void compileInputEntry(RuleInputClauseContainer inputEntry, ExpressionManager expressionManager) {
+        InputClause inputClause = inputEntry.getInputClause();
+        if (inputEntry.getInputEntry() == null || inputClause == null || inputClause.getInputExpression() == null) {
+            return;
+        }
+
+        String inputEntryText = inputEntry.getInputEntry().getText();
+        if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
+            return;
+        }
+
+        try {
+            String parsedExpression = ELConditionExpressionPreParser.parse(inputEntryText, 
+                    inputClause.getInputExpression().getText(), inputClause.getInputExpression().getTypeRef());
+            inputEntryExpressions.put(inputEntry.getInputEntry(), expressionManager.createExpression(parsedExpression));
+        } catch (RuntimeException e) {
+            LOGGER.debug("Input entry {} could not be compiled", inputEntry.getInputEntry().getId(), e);
+        }
+    }
+
+    protected void compileOutputEntry(RuleOutputClauseContainer outputEntry, ExpressionManager expressionManager) {
+        LiteralExpression outputEntryExpression = outputEntry.getOutputEntry();
+        if (outputEntryExpression == null || StringUtils.isEmpty(outputEntryExpression.getText())) {
+            return;
+        }
+
+        try {
+            String parsedExpression = ELOutputExpressionPreParser.parse(outputEntryExpression.getText());
+            outputEntryExpressions.put(outputEntryExpression, expressionManager.createExpression(parsedExpression));
+        } catch (RuntimeException e) {
+            LOGGER.debug("Output entry {} could not be compiled", outputEntryExpression.getId(), e);
+        }
+    }
+
+    /**
+     * Returns the rules that can match the given input variables, or null when all rules need to be evaluated.
+     */
+    public CandidateRules getCandidateRules(Map<String, Object> variables) {
+        if (inputColumnIndexes.isEmpty() || variables == null) {
+            return null;
+        }
+
+        CandidateRules candidateRules = new CandidateRules();
+        for (InputColumnIndex inputColumnIndex : inputColumnIndexes) {
+            BitSet columnCandidateRules = inputColumnIndex.getCandidateRules(variables);
+            if (columnCandidateRules != null) {
+                candidateRules.addColumnCandidateRules(inputColumnIndex, columnCandidateRules);
+            }
+        }
+        return candidateRules.isEmpty() ? null : candidateRules;
+    }
+
+    public Expression getInputEntryExpression(UnaryTests inputEntry) {
+        return inputEntryExpressions.get(inputEntry);
+    }
+
+    public Expression getOutputEntryExpression(LiteralExpression outputEntry) {
+        return outputEntryExpressions.get(outputEntry);
+    }
+
+    public DecisionTable getDecisionTable() {
+        return decisionTable;
+    }
+
+}
@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditUtil;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.InputClause;
@@ -34,11 +35,19 @@ public class ELExecutionContextBuilder {
     private static final Logger LOGGER = LoggerFactory.getLogger(ELExecutionContextBuilder.class);
 
     public static ELExecutionContext build(Decision decision, Map<String, Object> inputVariables) {
+        return build(decision, inputVariables, CommandContextUtil.getDmnEngineConfiguration().isStrictMode());
+    }
+
+    /**
+     * Doesn't need a command context, so it can be used on other threads than the one executing the command.
+     */
+    public static ELExecutionContext build(Decision decision, Map<String, Object> inputVariables, boolean strictMode) {
 
         ELExecutionContext executionContext = new ELExecutionContext();
+        executionContext.setStrictMode(strictMode);
 
         // initialize audit trail
-        executionContext.setAuditContainer(DecisionExecutionAuditUtil.initializeRuleExecutionAudit(decision, inputVariables));
+        executionContext.setAuditContainer(DecisionExecutionAuditUtil.initializeRuleExecutionAudit(decision, inputVariables, strictMode));
 
         DecisionTable decisionTable = (DecisionTable) decision.getExpression();
 
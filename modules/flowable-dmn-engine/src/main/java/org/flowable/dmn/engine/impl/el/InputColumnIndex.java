@@ -0,0 +1,330 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+
+/**
+ * Index of the input entries of one input column of a decision table.
+ * Given the value of the input, it returns the rules of which the input entry can be satisfied, without evaluating any expression.
+ * <p>
+ * Equality tests on string and number literals are kept in a hash index, comparisons with number literals
+ * ({@code <}, {@code <=}, {@code >} and {@code >=}) in arrays sorted by the literal.
+ * Rules with any other input entry for the column are always returned, as are all rules when the value can't be looked up
+ * (e.g. when its type would make the EL comparison coerce it).
+ */
+public class InputColumnIndex {
+
+    protected static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+    protected static final Pattern STRING_LITERAL = Pattern.compile("\"[^\"\\\\]*\"");
+    protected static final Pattern NUMBER_LITERAL = Pattern.compile("-?\\d+(\\.\\d+)?");
+
+    // larger values can't be converted to a double without losing precision
+    protected static final long MAX_EXACT_LONG = 1L << 53;
+
+    protected final InputClause inputClause;
+    protected final String inputVariable;
+    protected final boolean numberColumn;
+    protected final BitSet unindexedRules = new BitSet();
+    protected final Map<Object, BitSet> equalityIndex = new HashMap<>();
+    protected final RangeIndex lessThanIndex;
+    protected final RangeIndex lessThanOrEqualIndex;
+    protected final RangeIndex greaterThanIndex;
+    protected final RangeIndex greaterThanOrEqualIndex;
+
+    protected InputColumnIndex(InputClause inputClause, List<DecisionRule> rules) {
+        this.inputClause = inputClause;
+        this.inputVariable = inputClause.getInputExpression().getText();
+        this.numberColumn = isNumberType(inputClause.getInputExpression().getTypeRef());
+
+        List<RangeEntry> lessThan = new ArrayList<>();
+        List<RangeEntry> lessThanOrEqual = new ArrayList<>();
+        List<RangeEntry> greaterThan = new ArrayList<>();
+        List<RangeEntry> greaterThanOrEqual = new ArrayList<>();
+
+        for (int rulePosition = 0; rulePosition < rules.size(); rulePosition++) {
+            String inputEntryText = getInputEntryText(rules.get(rulePosition), inputClause);
+            if (!isIndexable(inputEntryText)) {
+                unindexedRules.set(rulePosition);
+                continue;
+            }
+
+            String text = inputEntryText.trim();
+            String operator = "==";
+            if (numberColumn) {
+                for (String candidateOperator : new String[] { ">=", "<=", "==", ">", "<" }) {
+                    if (text.startsWith(candidateOperator)) {
+                        operator = candidateOperator;
+                        text = text.substring(candidateOperator.length()).trim();
+                        break;
+                    }
+                }
+            } else if (text.startsWith("==")) {
+                text = text.substring(2).trim();
+            }
+
+            Object key = numberColumn ? parseNumberLiteral(text) : parseStringLiteral(text);
+            if (key == null) {
+                unindexedRules.set(rulePosition);
+
+            } else if ("==".equals(operator)) {
+                BitSet equalRules = equalityIndex.get(key);
+                if (equalRules == null) {
+                    equalRules = new BitSet();
+                    equalityIndex.put(key, equalRules);
+                }
+                equalRules.set(rulePosition);
+
+            } else {
+                RangeEntry rangeEntry = new RangeEntry((Double) key, rulePosition);
+                if ("<".equals(operator)) {
+                    lessThan.add(rangeEntry);
+                } else if ("<=".equals(operator)) {
+                    lessThanOrEqual.add(rangeEntry);
+                } else if (">".equals(operator)) {
+                    greaterThan.add(rangeEntry);
+                } else {
+                    greaterThanOrEqual.add(rangeEntry);
+                }
+            }
+        }
+
+        this.lessThanIndex = new RangeIndex(lessThan);
+        this.lessThanOrEqualIndex = new RangeIndex(lessThanOrEqual);
+        this.greaterThanIndex = new RangeIndex(greaterThan);
+        this.greaterThanOrEqualIndex = new RangeIndex(greaterThanOrEqual);
+    }
+
+    /**
+     * Creates the index for the given input column, or returns null when the input expression isn't a plain variable
+     * of type string, number or double, or when none of the input entries can be indexed.
+     */
+    public static InputColumnIndex create(InputClause inputClause, List<DecisionRule> rules) {
+        if (inputClause.getInputExpression() == null || inputClause.getInputExpression().getText() == null
+                || !IDENTIFIER.matcher(inputClause.getInputExpression().getText()).matches()) {
+            return null;
+        }
+
+        String typeRef = inputClause.getInputExpression().getTypeRef();
+        if (!"string".equals(typeRef) && !isNumberType(typeRef)) {
+            return null;
+        }
+
+        InputColumnIndex inputColumnIndex = new InputColumnIndex(inputClause, rules);
+        if (inputColumnIndex.unindexedRules.cardinality() == rules.size()) {
+            return null;
+        }
+        return inputColumnIndex;
+    }
+
+    /**
+     * Returns the positions of the rules of which the input entry for this column can be satisfied by the value
+     * of the input variable, or null when all rules need to be evaluated.
+     */
+    public BitSet getCandidateRules(Map<String, Object> variables) {
+        Object key = getLookupKey(variables.get(inputVariable));
+        if (key == null) {
+            return null;
+        }
+
+        BitSet candidateRules = (BitSet) unindexedRules.clone();
+        BitSet equalRules = equalityIndex.get(key);
+        if (equalRules != null) {
+            candidateRules.or(equalRules);
+        }
+
+        if (numberColumn) {
+            double value = (Double) key;
+            lessThanIndex.addRulesWithBoundAbove(value, false, candidateRules);
+            lessThanOrEqualIndex.addRulesWithBoundAbove(value, true, candidateRules);
+            greaterThanIndex.addRulesWithBoundBelow(value, false, candidateRules);
+            greaterThanOrEqualIndex.addRulesWithBoundBelow(value, true, candidateRules);
+        }
+
+        return candidateRules;
+    }
+
+    /**
+     * Returns whether the input entry of the rule at the given position is decided by this index, rather than by evaluating it.
+     */
+    public boolean isIndexed(int rulePosition) {
+        return !unindexedRules.get(rulePosition);
+    }
+
+    public InputClause getInputClause() {
+        return inputClause;
+    }
+
+    protected static boolean isNumberType(String typeRef) {
+        return "number".equals(typeRef) || "double".equals(typeRef);
+    }
+
+    protected Object getLookupKey(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (!numberColumn) {
+            return value instanceof String ? value : null;
+        }
+
+        if (value instanceof Double || value instanceof Float) {
+            return normalize(((Number) value).doubleValue());
+
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            long longValue = ((Number) value).longValue();
+            if (Math.abs(longValue) > MAX_EXACT_LONG) {
+                return null;
+            }
+            return normalize(longValue);
+        }
+
+        return null;
+    }
+
+    protected boolean isIndexable(String inputEntryText) {
+        if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
+            return false; // matches any value
+        }
+        // Functions and full expressions are handled by the expression language
+        return !inputEntryText.contains("fn_") && !inputEntryText.startsWith("#{") && !inputEntryText.startsWith("${");
+    }
+
+    protected Object parseStringLiteral(String text) {
+        if (STRING_LITERAL.matcher(text).matches()) {
+            return text.substring(1, text.length() - 1);
+        }
+        return null;
+    }
+
+    protected Object parseNumberLiteral(String text) {
+        if (!NUMBER_LITERAL.matcher(text).matches()) {
+            return null;
+        }
+
+        if (text.indexOf('.') == -1) {
+            try {
+                long longValue = Long.parseLong(text);
+                if (Math.abs(longValue) > MAX_EXACT_LONG) {
+                    return null;
+                }
+                return normalize(longValue);
+
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return normalize(Double.parseDouble(text));
+    }
+
+    protected Double normalize(double value) {
+        return value == 0.0 ? 0.0 : value; // -0.0 equals 0.0 in the expression language
+    }
+
+    protected String getInputEntryText(DecisionRule rule, InputClause inputClause) {
+        for (RuleInputClauseContainer inputEntry : rule.getInputEntries()) {
+            if (inputEntry.getInputClause() == inputClause && inputEntry.getInputEntry() != null) {
+                return inputEntry.getInputEntry().getText();
+            }
+        }
+        return null;
+    }
+
+    protected static class RangeEntry {
+
+        protected final double bound;
+        protected final int rulePosition;
+
+        public RangeEntry(double bound, int rulePosition) {
+            this.bound = bound;
+            this.rulePosition = rulePosition;
+        }
+
+    }
+
+    /**
+     * Bounds of one comparison operator, sorted ascending, with the position of the rule they belong to.
+     */
+    protected static class RangeIndex {
+
+        protected final double[] bounds;
+        protected final int[] rulePositions;
+
+        public RangeIndex(List<RangeEntry> rangeEntries) {
+            Collections.sort(rangeEntries, new Comparator<RangeEntry>() {
+
+                @Override
+                public int compare(RangeEntry entry1, RangeEntry entry2) {
+                    return Double.compare(entry1.bound, entry2.bound);
+                }
+            });
+
+            bounds = new double[rangeEntries.size()];
+            rulePositions = new int[rangeEntries.size()];
+            for (int i = 0; i < rangeEntries.size(); i++) {
+                bounds[i] = rangeEntries.get(i).bound;
+                rulePositions[i] = rangeEntries.get(i).rulePosition;
+            }
+        }
+
+        /**
+         * Adds the rules with a bound greater than (or equal to, when inclusive) the value.
+         */
+        public void addRulesWithBoundAbove(double value, boolean inclusive, BitSet candidateRules) {
+            for (int i = firstIndexAbove(value, inclusive); i < bounds.length; i++) {
+                candidateRules.set(rulePositions[i]);
+            }
+        }
+
+        /**
+         * Adds the rules with a bound smaller than (or equal to, when inclusive) the value.
+         */
+        public void addRulesWithBoundBelow(double value, boolean inclusive, BitSet candidateRules) {
+            int end = firstIndexAbove(value, !inclusive);
+            for (int i = 0; i < end; i++) {
+                candidateRules.set(rulePositions[i]);
+            }
+        }
+
+        /**
+         * Returns the index of the first bound greater than (or equal to, when inclusive) the value.
+         */
+        protected int firstIndexAbove(double value, boolean inclusive) {
+            int low = 0;
+            int high = bounds.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (inclusive ? bounds[middle] >= value : bounds[middle] > value) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+
+    }
+
+}
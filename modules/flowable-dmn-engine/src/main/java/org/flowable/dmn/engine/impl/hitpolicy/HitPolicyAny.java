@@ -17,7 +17,6 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
-import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.HitPolicy;
 import org.flowable.engine.common.api.FlowableException;
 
@@ -33,7 +32,7 @@ public class HitPolicyAny extends AbstractHitPolicy implements ComposeDecisionRe
 
     @Override
     public void composeDecisionResults(final ELExecutionContext executionContext) {
-        if (CommandContextUtil.getDmnEngineConfiguration().isStrictMode()) {
+        if (executionContext.isStrictMode()) {
 
             for (Map.Entry<Integer, Map<String, Object>> ruleResults : executionContext.getRuleResults().entrySet()) {
 
@@ -20,7 +20,6 @@ import java.util.Map;
 
 import org.apache.commons.lang3.builder.CompareToBuilder;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
-import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.HitPolicy;
 import org.flowable.engine.common.api.FlowableException;
 
@@ -61,7 +60,7 @@ public class HitPolicyPriority extends AbstractHitPolicy implements ComposeDecis
                     return compareToBuilder.toComparison();
                     
                 } else {
-                    if (CommandContextUtil.getDmnEngineConfiguration().isStrictMode()) {
+                    if (executionContext.isStrictMode()) {
                         throw new FlowableException(String.format("HitPolicy: %s; no output values present", getHitPolicyName()));
                     }
                     
@@ -20,7 +20,6 @@ import java.util.Map;
 
 import org.flowable.dmn.api.RuleExecutionAuditContainer;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
-import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.HitPolicy;
 import org.flowable.engine.common.api.FlowableException;
 
@@ -41,7 +40,7 @@ public class HitPolicyUnique extends AbstractHitPolicy implements EvaluateRuleVa
             if (entry.getKey().equals(ruleNumber) == false && entry.getValue().isValid()) {
                 String hitPolicyViolatedMessage = String.format("HitPolicy UNIQUE violated: rule %d is valid but rule %d was already valid", ruleNumber, entry.getKey());
 
-                if (CommandContextUtil.getDmnEngineConfiguration().isStrictMode()) {
+                if (executionContext.isStrictMode()) {
                     executionContext.getAuditContainer().getRuleExecutions().get(ruleNumber).setExceptionMessage(hitPolicyViolatedMessage);
                     throw new FlowableException("HitPolicy UNIQUE violated");
                 }
@@ -54,7 +53,7 @@ public class HitPolicyUnique extends AbstractHitPolicy implements EvaluateRuleVa
         List<Map<String, Object>> ruleResults = new ArrayList<>(executionContext.getRuleResults().values());
         List<Map<String, Object>> decisionResult = null;
 
-        if (CommandContextUtil.getDmnEngineConfiguration().isStrictMode() == false) {
+        if (executionContext.isStrictMode() == false) {
             Map<String, Object> lastResult = new HashMap<>();
 
             for (Map<String, Object> ruleResult : ruleResults) {
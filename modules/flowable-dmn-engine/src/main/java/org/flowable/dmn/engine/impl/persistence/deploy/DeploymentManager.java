@@ -14,6 +14,7 @@ package org.flowable.dmn.engine.impl.persistence.deploy;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.flowable.dmn.api.DmnDecisionTable;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
@@ -27,6 +28,7 @@ import org.flowable.dmn.model.DmnDefinition;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentResolutionLocks;
 
 /**
  * @author Tijs Rademakers
@@ -38,6 +40,7 @@ public class DeploymentManager {
     protected DeploymentCache<DecisionTableCacheEntry> decisionCache;
 
     protected List<Deployer> deployers;
+    protected DeploymentResolutionLocks resolutionLocks = new DeploymentResolutionLocks();
     protected DecisionTableEntityManager decisionTableEntityManager;
     protected DmnDeploymentEntityManager deploymentEntityManager;
 
@@ -133,6 +136,8 @@ public class DeploymentManager {
 
     /**
      * Resolving the decision will fetch the DMN, parse it and store the {@link DmnDefinition} in memory.
+     * 
+     * When several threads resolve decisions of the same deployment at the same time, only the first one parses the deployment.
      */
     public DecisionTableCacheEntry resolveDecisionTable(DmnDecisionTable decision) {
         String decisionId = decision.getId();
@@ -141,16 +146,25 @@ public class DeploymentManager {
         DecisionTableCacheEntry cachedDecision = decisionCache.get(decisionId);
 
         if (cachedDecision == null) {
-            DmnDeploymentEntity deployment = engineConfig.getDeploymentEntityManager().findById(deploymentId);
-            List<DmnResourceEntity> resources = engineConfig.getResourceEntityManager().findResourcesByDeploymentId(deploymentId);
-            for (DmnResourceEntity resource : resources) {
-                deployment.addResource(resource);
+            ReentrantLock lock = resolutionLocks.lock(deploymentId);
+            try {
+                // Another thread could have parsed the deployment while waiting for the lock
+                cachedDecision = decisionCache.get(decisionId);
+                if (cachedDecision == null) {
+                    DmnDeploymentEntity deployment = engineConfig.getDeploymentEntityManager().findById(deploymentId);
+                    List<DmnResourceEntity> resources = engineConfig.getResourceEntityManager().findResourcesByDeploymentId(deploymentId);
+                    for (DmnResourceEntity resource : resources) {
+                        deployment.addResource(resource);
+                    }
+
+                    deployment.setNew(false);
+                    deploy(deployment, null);
+                    cachedDecision = decisionCache.get(decisionId);
+                }
+            } finally {
+                resolutionLocks.unlock(deploymentId, lock);
             }
 
-            deployment.setNew(false);
-            deploy(deployment, null);
-            cachedDecision = decisionCache.get(decisionId);
-
             if (cachedDecision == null) {
                 throw new FlowableException("deployment '" + deploymentId + "' didn't put decision '" + decisionId + "' in the cache");
             }
@@ -184,6 +198,14 @@ public class DeploymentManager {
         this.deployers = deployers;
     }
 
+    public DeploymentResolutionLocks getResolutionLocks() {
+        return resolutionLocks;
+    }
+
+    public void setResolutionLocks(DeploymentResolutionLocks resolutionLocks) {
+        this.resolutionLocks = resolutionLocks;
+    }
+
     public DeploymentCache<DecisionTableCacheEntry> getDecisionCache() {
         return decisionCache;
     }
@@ -0,0 +1,155 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.DmnEngineImpl;
+import org.flowable.dmn.engine.impl.cfg.StandaloneDmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
+import org.flowable.dmn.engine.impl.persistence.deploy.Deployer;
+import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentManager;
+import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
+import org.flowable.dmn.engine.test.AbstractFlowableDmnTest;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
+import org.junit.Test;
+
+public class DeploymentResolutionTest extends AbstractFlowableDmnTest {
+
+    @Test
+    public void testConcurrentCacheMissesParseDeploymentOnce() throws Exception {
+        String deploymentId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/dmn/engine/test/deployment/multiple_decisions.dmn")
+                .deploy()
+                .getId();
+        final List<DmnDecisionTable> decisionTables = repositoryService.createDecisionTableQuery().deploymentId(deploymentId).list();
+        assertEquals(2, decisionTables.size());
+        dmnEngineConfiguration.getDecisionCache().clear();
+
+        DeploymentManager deploymentManager = dmnEngineConfiguration.getDeploymentManager();
+        List<Deployer> originalDeployers = deploymentManager.getDeployers();
+        CountingDeployer countingDeployer = new CountingDeployer();
+        List<Deployer> deployers = new ArrayList<>();
+        deployers.add(countingDeployer);
+        deployers.addAll(originalDeployers);
+        deploymentManager.setDeployers(deployers);
+
+        try {
+            final CountDownLatch startLatch = new CountDownLatch(1);
+            final List<Throwable> failures = Collections.synchronizedList(new ArrayList<Throwable>());
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                final String decisionTableId = decisionTables.get(i % 2).getId();
+                Thread thread = new Thread(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        try {
+                            startLatch.await();
+                            repositoryService.getDecisionTable(decisionTableId);
+                        } catch (Throwable t) {
+                            failures.add(t);
+                        }
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+
+            startLatch.countDown();
+            for (Thread thread : threads) {
+                thread.join(10000L);
+            }
+
+            assertTrue(failures.isEmpty());
+            assertEquals(1, countingDeployer.count.get());
+            assertTrue(dmnEngineConfiguration.getDecisionCache().contains(decisionTables.get(0).getId()));
+            assertTrue(dmnEngineConfiguration.getDecisionCache().contains(decisionTables.get(1).getId()));
+            assertEquals(0, deploymentManager.getResolutionLocks().size());
+
+        } finally {
+            deploymentManager.setDeployers(originalDeployers);
+            repositoryService.deleteDeployment(deploymentId);
+        }
+    }
+
+    @Test
+    public void testEngineBootWarmsUpMostRecentDeployments() throws Exception {
+        String[] resources = { "org/flowable/dmn/engine/test/deployment/simple.dmn", "org/flowable/dmn/engine/test/deployment/numbers_1.dmn",
+                "org/flowable/dmn/engine/test/deployment/risk_rating_spec_example.dmn" };
+        List<String> deploymentIds = new ArrayList<>();
+        List<String> decisionTableIds = new ArrayList<>();
+        Date now = new Date();
+        for (int i = 0; i < resources.length; i++) {
+            dmnEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + (i + 1) * 60000L));
+            String deploymentId = repositoryService.createDeployment().addClasspathResource(resources[i]).deploy().getId();
+            deploymentIds.add(deploymentId);
+            decisionTableIds.add(repositoryService.createDecisionTableQuery().deploymentId(deploymentId).singleResult().getId());
+        }
+        dmnEngineConfiguration.getClock().reset();
+
+        DmnEngineConfiguration warmUpEngineConfiguration = new StandaloneDmnEngineConfiguration()
+                .setEngineName("cacheWarmUpEngine")
+                .setDecisionCacheLimit(2)
+                .setEnableDecisionCacheWarmUp(true);
+        warmUpEngineConfiguration.setDataSource(dmnEngineConfiguration.getDataSource());
+        DmnEngineImpl warmUpEngine = (DmnEngineImpl) warmUpEngineConfiguration.buildDmnEngine();
+
+        try {
+            assertTrue(warmUpEngine.getDecisionCacheWarmUp().awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(2, warmUpEngine.getDecisionCacheWarmUp().getResolvedCount());
+
+            // Only the two most recent deployments fit in the cache
+            DeploymentCache<DecisionTableCacheEntry> decisionCache = warmUpEngineConfiguration.getDecisionCache();
+            assertFalse(decisionCache.contains(decisionTableIds.get(0)));
+            assertTrue(decisionCache.contains(decisionTableIds.get(1)));
+            assertTrue(decisionCache.contains(decisionTableIds.get(2)));
+
+        } finally {
+            warmUpEngine.close();
+            for (String deploymentId : deploymentIds) {
+                repositoryService.deleteDeployment(deploymentId);
+            }
+        }
+    }
+
+    protected static class CountingDeployer implements Deployer {
+
+        protected AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void deploy(DmnDeploymentEntity deployment, Map<String, Object> deploymentSettings) {
+            count.incrementAndGet();
+            try {
+                // Give the other threads the time to miss the cache as well
+                Thread.sleep(200L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,166 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.api.ExpressionExecution;
+import org.flowable.dmn.api.RuleExecutionAuditContainer;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
+import org.flowable.dmn.engine.test.DmnDeployment;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class CompiledDecisionTableTest {
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule();
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/CompiledDecisionTableTest.dmn")
+    public void testDecisionTableCompiledAtDeployment() {
+        DmnEngine dmnEngine = flowableDmnRule.getDmnEngine();
+        DmnDecisionTable decisionTable = dmnEngine.getDmnRepositoryService().createDecisionTableQuery().decisionTableKey("decision1").singleResult();
+        DecisionTableCacheEntry cacheEntry = dmnEngine.getDmnEngineConfiguration().getDeploymentManager().getDecisionCache().get(decisionTable.getId());
+        assertNotNull(cacheEntry.getCompiledDecisionTable());
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/CompiledDecisionTableTest.dmn")
+    public void testIndexedInputColumns() {
+        assertOutputs(executeDecision(50, "A"), "R1", "R6");
+        assertOutputs(executeDecision(50, "B"), "R3", "R6");
+        assertOutputs(executeDecision(99, "A"), "R1", "R6");
+        assertOutputs(executeDecision(100, "A"), "R2", "R6");
+        assertOutputs(executeDecision(2000, "A"), "R2", "R4", "R6");
+        assertOutputs(executeDecision(2000, "B"), "R2", "R6");
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/CompiledDecisionTableTest.dmn")
+    public void testNumberTypesOfInput() {
+        assertOutputs(executeDecision(50L, "B"), "R3", "R6");
+        assertOutputs(executeDecision(50.0, "B"), "R3", "R6");
+        assertOutputs(executeDecision(50.5, "B"), "R6");
+        assertOutputs(executeDecision(49.5f, "Cx"), "R5", "R6");
+        assertOutputs(executeDecision(1000.0, "A"), "R2", "R6");
+        assertOutputs(executeDecision(1000.1, "A"), "R2", "R4", "R6");
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/CompiledDecisionTableTest.dmn")
+    public void testUnindexedInputEntry() {
+        assertOutputs(executeDecision(10, "Cx"), "R5", "R6");
+        assertOutputs(executeDecision(10, "A"), "R1", "R6");
+        assertOutputs(executeDecision(60, "Cx"), "R6");
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/CompiledDecisionTableTest.dmn")
+    public void testSkippedRulesInAuditTrail() {
+        DmnRuleService dmnRuleService = flowableDmnRule.getDmnEngine().getDmnRuleService();
+        DecisionExecutionAuditContainer auditContainer = dmnRuleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("amount", 2000)
+                .variable("category", "A")
+                .executeWithAuditTrail();
+
+        assertFalse(auditContainer.isFailed());
+        assertEquals(6, auditContainer.getRuleExecutions().size());
+        assertFalse(auditContainer.getRuleExecutions().get(1).isValid());
+        assertTrue(auditContainer.getRuleExecutions().get(2).isValid());
+        assertFalse(auditContainer.getRuleExecutions().get(3).isValid());
+        assertTrue(auditContainer.getRuleExecutions().get(4).isValid());
+
+        // skipped rules have the result of the input entries up to the one that doesn't match
+        assertConditionResults(auditContainer.getRuleExecutions().get(1), "inputEntry1_1", false);
+        assertConditionResults(auditContainer.getRuleExecutions().get(3), "inputEntry3_1", false);
+        assertConditionResults(auditContainer.getRuleExecutions().get(5), "inputEntry5_1", false);
+
+        auditContainer = dmnRuleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("amount", 50)
+                .variable("category", "B")
+                .executeWithAuditTrail();
+
+        assertFalse(auditContainer.isFailed());
+        assertConditionResults(auditContainer.getRuleExecutions().get(1), "inputEntry1_1", true, "inputEntry1_2", false);
+        assertConditionResults(auditContainer.getRuleExecutions().get(2), "inputEntry2_1", false);
+        assertConditionResults(auditContainer.getRuleExecutions().get(3), "inputEntry3_1", true, "inputEntry3_2", true);
+        assertConditionResults(auditContainer.getRuleExecutions().get(4), "inputEntry4_1", false);
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/CompiledDecisionTableTest.failingInputEntryBeforeIndexedColumn.dmn")
+    public void testRuleNotSkippedWhenEarlierInputEntryIsEvaluated() {
+        DmnRuleService dmnRuleService = flowableDmnRule.getDmnEngine().getDmnRuleService();
+        DecisionExecutionAuditContainer auditContainer = dmnRuleService.createExecuteDecisionBuilder()
+                .decisionKey("decision2")
+                .variable("amount", 2000)
+                .variable("category", "Cx")
+                .executeWithAuditTrail();
+
+        assertFalse(auditContainer.isFailed());
+        assertConditionResults(auditContainer.getRuleExecutions().get(1), "inputEntry1_1", true, "inputEntry1_2", false);
+        assertConditionResults(auditContainer.getRuleExecutions().get(2), "inputEntry2_1", true, "inputEntry2_2", true);
+
+        // the amount can't match the first rule, but its category entry still fails on the missing variable
+        auditContainer = dmnRuleService.createExecuteDecisionBuilder()
+                .decisionKey("decision2")
+                .variable("amount", 2000)
+                .executeWithAuditTrail();
+
+        assertTrue(auditContainer.isFailed());
+        assertNotNull(auditContainer.getRuleExecutions().get(1).getConditionResults().get(0).getException());
+    }
+
+    protected List<Map<String, Object>> executeDecision(Object amount, String category) {
+        DmnRuleService dmnRuleService = flowableDmnRule.getDmnEngine().getDmnRuleService();
+        return dmnRuleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("amount", amount)
+                .variable("category", category)
+                .execute();
+    }
+
+    protected void assertConditionResults(RuleExecutionAuditContainer ruleExecution, Object... expectedIdsAndResults) {
+        List<Object> conditionResults = new ArrayList<>();
+        for (ExpressionExecution conditionResult : ruleExecution.getConditionResults()) {
+            conditionResults.add(conditionResult.getId());
+            conditionResults.add(conditionResult.getResult());
+        }
+        assertEquals(Arrays.asList(expectedIdsAndResults), conditionResults);
+    }
+
+    protected void assertOutputs(List<Map<String, Object>> result, String... expectedOutputs) {
+        List<Object> outputs = new ArrayList<>();
+        for (Map<String, Object> ruleResult : result) {
+            outputs.add(ruleResult.get("outputVariable1"));
+        }
+        assertEquals(Arrays.asList((Object[]) expectedOutputs), outputs);
+    }
+
+}
@@ -0,0 +1,181 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnHistoryService;
+import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.api.ExecuteDecisionBatchBuilder;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.test.DmnDeployment;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ExecuteDecisionBatchTest {
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule();
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/CompiledDecisionTableTest.dmn")
+    public void testBatchResultsInInputOrder() {
+        List<Map<String, Object>> variablesList = createVariablesList(20);
+
+        List<List<Map<String, Object>>> sequentialResults = createBatchBuilder().variables(variablesList).execute();
+        List<List<Map<String, Object>>> parallelResults = createBatchBuilder().variables(variablesList).parallelism(4).execute();
+
+        assertEquals(20, sequentialResults.size());
+        assertEquals(sequentialResults, parallelResults);
+        for (int i = 0; i < variablesList.size(); i++) {
+            List<Map<String, Object>> expectedResult = flowableDmnRule.getDmnEngine().getDmnRuleService().createExecuteDecisionBuilder()
+                    .decisionKey("decision1")
+                    .variables(variablesList.get(i))
+                    .execute();
+            assertEquals(expectedResult, parallelResults.get(i));
+        }
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/CompiledDecisionTableTest.dmn")
+    public void testBatchWithAuditTrail() {
+        List<DecisionExecutionAuditContainer> auditContainers = createBatchBuilder()
+                .variables(createVariablesList(5))
+                .parallelism(2)
+                .executeWithAuditTrail();
+
+        assertEquals(5, auditContainers.size());
+        for (DecisionExecutionAuditContainer auditContainer : auditContainers) {
+            assertEquals("decision1", auditContainer.getDecisionKey());
+            assertTrue(auditContainer.getDecisionResult().size() > 0);
+        }
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/CompiledDecisionTableTest.dmn")
+    public void testBatchHistory() {
+        DmnHistoryService historyService = flowableDmnRule.getDmnEngine().getDmnHistoryService();
+        long historyCount = historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count();
+
+        createBatchBuilder().variables(createVariablesList(10)).execute();
+        assertEquals(historyCount + 10, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+
+        createBatchBuilder().variables(createVariablesList(10)).disableHistory().execute();
+        assertEquals(historyCount + 10, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+
+        createBatchBuilder().variables(createVariablesList(10)).historySampleRate(4).execute();
+        assertEquals(historyCount + 13, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+
+        createBatchBuilder().variables(createVariablesList(10)).historySampleRate(4).parallelism(3).execute();
+        assertEquals(historyCount + 16, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/CompiledDecisionTableTest.dmn")
+    public void testParallelBatchUsesEngineExecutorService() {
+        DmnEngineConfiguration dmnEngineConfiguration = flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+        ExecutorService originalExecutorService = dmnEngineConfiguration.getDecisionBatchExecutorService();
+        final AtomicInteger submittedRanges = new AtomicInteger();
+        final Set<String> threadNames = Collections.synchronizedSet(new HashSet<String>());
+        ExecutorService countingExecutorService = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>()) {
+
+            @Override
+            public void execute(final Runnable command) {
+                submittedRanges.incrementAndGet();
+                super.execute(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        threadNames.add(Thread.currentThread().getName());
+                        command.run();
+                    }
+                });
+            }
+        };
+
+        dmnEngineConfiguration.setDecisionBatchExecutorService(countingExecutorService);
+        try {
+            assertEquals(10, createBatchBuilder().variables(createVariablesList(10)).parallelism(3).execute().size());
+            assertEquals(3, submittedRanges.get());
+            assertFalse(threadNames.contains(Thread.currentThread().getName()));
+
+            // The executor service is owned by the engine and not shut down after a batch
+            assertFalse(countingExecutorService.isShutdown());
+
+        } finally {
+            dmnEngineConfiguration.setDecisionBatchExecutorService(originalExecutorService);
+            countingExecutorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/HitPolicyUniqueTest.uniqueHitPolicyViolated.dmn")
+    public void testParallelBatchUsesStrictMode() {
+        List<Map<String, Object>> variablesList = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            variablesList.add(Collections.<String, Object>singletonMap("inputVariable1", 9));
+        }
+
+        for (DecisionExecutionAuditContainer auditContainer : createBatchBuilder().variables(variablesList).parallelism(2).executeWithAuditTrail()) {
+            assertTrue(auditContainer.isFailed());
+            assertEquals(0, auditContainer.getDecisionResult().size());
+        }
+
+        DmnEngineConfiguration dmnEngineConfiguration = flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+        dmnEngineConfiguration.setStrictMode(false);
+        try {
+            for (DecisionExecutionAuditContainer auditContainer : createBatchBuilder().variables(variablesList).parallelism(2).executeWithAuditTrail()) {
+                assertFalse(auditContainer.isFailed());
+                assertEquals(1, auditContainer.getDecisionResult().size());
+            }
+
+        } finally {
+            dmnEngineConfiguration.setStrictMode(true);
+        }
+    }
+
+    protected ExecuteDecisionBatchBuilder createBatchBuilder() {
+        DmnRuleService dmnRuleService = flowableDmnRule.getDmnEngine().getDmnRuleService();
+        return dmnRuleService.createExecuteDecisionBatchBuilder().decisionKey("decision1");
+    }
+
+    protected List<Map<String, Object>> createVariablesList(int size) {
+        String[] categories = { "A", "B", "Cx" };
+        List<Map<String, Object>> variablesList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("amount", i * 150);
+            variables.put("category", categories[i % categories.length]);
+            variablesList.add(variables);
+        }
+        return variablesList;
+    }
+
+}
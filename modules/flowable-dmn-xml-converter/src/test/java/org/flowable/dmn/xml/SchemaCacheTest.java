@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.validation.Schema;
+
+import org.flowable.dmn.xml.converter.DmnXMLConverter;
+import org.flowable.dmn.model.DmnDefinition;
+import org.flowable.engine.common.api.io.InputStreamProvider;
+import org.junit.Test;
+import org.xml.sax.SAXException;
+
+public class SchemaCacheTest {
+
+    @Test
+    public void schemaIsCompiledOncePerClassloader() throws Exception {
+        ClassLoader classloader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        AtomicInteger schemaCount = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            DmnDefinition dmnDefinition = createConverter(classloader, schemaCount).convertToDmnModel(createProvider(), true, true);
+            assertNotNull(dmnDefinition.getDecisions().get(0));
+        }
+        assertEquals(1, schemaCount.get());
+
+        createConverter(new URLClassLoader(new URL[0], getClass().getClassLoader()), schemaCount).convertToDmnModel(createProvider(), true, true);
+        assertEquals(2, schemaCount.get());
+    }
+
+    @Test
+    public void schemaIsCachedPerConverterClass() throws Exception {
+        ClassLoader classloader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        AtomicInteger schemaCount = new AtomicInteger();
+        createConverter(classloader, schemaCount).convertToDmnModel(createProvider(), true, true);
+        assertEquals(1, schemaCount.get());
+
+        final AtomicInteger extensionSchemaCount = new AtomicInteger();
+        DmnXMLConverter extensionConverter = new DmnXMLConverter() {
+
+            @Override
+            protected Schema createSchema() throws SAXException {
+                extensionSchemaCount.incrementAndGet();
+                return super.createSchema();
+            }
+        };
+        extensionConverter.setClassloader(classloader);
+        for (int i = 0; i < 2; i++) {
+            extensionConverter.convertToDmnModel(createProvider(), true, true);
+        }
+        assertEquals(1, extensionSchemaCount.get());
+        assertEquals(1, schemaCount.get());
+    }
+
+    protected DmnXMLConverter createConverter(ClassLoader classloader, final AtomicInteger schemaCount) {
+        DmnXMLConverter converter = new DmnXMLConverter() {
+
+            @Override
+            protected Schema createSchema() throws SAXException {
+                schemaCount.incrementAndGet();
+                return super.createSchema();
+            }
+        };
+        converter.setClassloader(classloader);
+        return converter;
+    }
+
+    protected InputStreamProvider createProvider() {
+        return new InputStreamProvider() {
+
+            @Override
+            public InputStream getInputStream() {
+                return SchemaCacheTest.class.getClassLoader().getResourceAsStream("multiple_decisions.dmn");
+            }
+        };
+    }
+
+}
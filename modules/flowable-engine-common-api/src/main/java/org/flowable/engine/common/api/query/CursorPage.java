@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.api.query;
+
+import java.util.List;
+
+/**
+ * Page of query results returned by {@link ScrollableQuery#listPageAfter(QueryCursor, int)}.
+ */
+public class CursorPage<U> {
+
+    protected List<U> results;
+    protected QueryCursor nextCursor;
+
+    public CursorPage(List<U> results, QueryCursor nextCursor) {
+        this.results = results;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<U> getResults() {
+        return results;
+    }
+
+    /**
+     * @return the cursor to pass to {@link ScrollableQuery#listPageAfter(QueryCursor, int)} to get the next page, or null when this is the last page.
+     */
+    public QueryCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+}
@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.api.query;
+
+import java.io.Serializable;
+
+/**
+ * Position in the results of an ordered query, used to continue the query right after the last result of the previous page.
+ * 
+ * A cursor consists of the value of the property the query is ordered on and the id of the last returned entity, which is used to order
+ * entities with the same value.
+ * 
+ * @see ScrollableQuery#listPageAfter(QueryCursor, int)
+ */
+public class QueryCursor implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Object sortValue;
+    protected String id;
+
+    public QueryCursor(Object sortValue, String id) {
+        this.sortValue = sortValue;
+        this.id = id;
+    }
+
+    public Object getSortValue() {
+        return sortValue;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCursor[sortValue=" + sortValue + ", id=" + id + "]";
+    }
+
+}
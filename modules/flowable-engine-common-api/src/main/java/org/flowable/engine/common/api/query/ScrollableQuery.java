@@ -0,0 +1,42 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.common.api.query;
+
+/**
+ * A query of which the results can also be read page by page after a cursor, or streamed, instead of being collected in one list.
+ */
+public interface ScrollableQuery<U extends Object> {
+
+    /**
+     * Executes the query and returns at most maxResults entities that come after the given cursor, together with the cursor for the next page.
+     * Pass null as cursor to get the first page.
+     *
+     * In contrast to {@link Query#listPage(int, int)}, the database seeks to the position of the cursor instead of skipping all preceding rows,
+     * so the cost of getting a page doesn't grow with its depth. The query can be ordered on at most one property. Entities with a null value
+     * for that property come after all other entities, whether the order is ascending or descending.
+     *
+     * @throws org.flowable.engine.common.api.FlowableIllegalArgumentException when the ordering of the query doesn't support cursor paging.
+     */
+    CursorPage<U> listPageAfter(QueryCursor cursor, int maxResults);
+
+    /**
+     * Executes the query and passes the resulting entities one by one to the given handler, while they are read from the database.
+     *
+     * The entities are not collected in a list nor kept in the entity cache of the command, so exporting a result set that doesn't fit
+     * in memory is possible. They should only be read, changes to them are not persisted. The JDBC fetch size that is used can be
+     * configured on the engine configuration.
+     */
+    void stream(QueryResultHandler<? super U> resultHandler);
+
+}
@@ -106,6 +106,12 @@ public abstract class AbstractEngineConfiguration {
     protected String jdbcPingQuery;
     protected int jdbcPingConnectionNotUsedFor;
     protected int jdbcDefaultTransactionIsolationLevel;
+
+    /**
+     * The JDBC fetch size of queries that stream their results, see {@link org.flowable.engine.common.api.query.Query#stream}.
+     * With MySQL, results are only streamed with a fetch size of {@link Integer#MIN_VALUE}.
+     */
+    protected int jdbcStreamFetchSize = 1000;
     protected DataSource dataSource;
     protected DbSchemaManager commonDbSchemaManager;
     protected DbSchemaManager dbSchemaManager;
@@ -153,6 +159,20 @@ public abstract class AbstractEngineConfiguration {
     protected int maxNrOfStatementsInBulkInsert = 100;
 
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 70; // currently Execution has most params (28). 2000 / 28 = 71.
+    
+    /**
+     * When enabled, the updates and deletes of a flush are grouped per entity class and statement and executed as JDBC batches,
+     * instead of doing one database round trip per entity. The update count of every row is still verified for optimistic locking,
+     * which requires a JDBC driver that returns the update counts of batched statements.
+     * <p>
+     * By default: false
+     */
+    protected boolean isBatchedFlushEnabled;
+    
+    /**
+     * The maximum number of statements that are sent to the database in one JDBC batch when {@link #isBatchedFlushEnabled} is true.
+     */
+    protected int maxNrOfStatementsInBatchedFlush = 100;
 
     protected Set<Class<?>> customMybatisMappers;
     protected Set<String> customMybatisXMLMappers;
@@ -529,6 +549,8 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setBatchedFlushEnabled(isBatchedFlushEnabled);
+        dbSqlSessionFactory.setMaxNrOfStatementsInBatchedFlush(maxNrOfStatementsInBatchedFlush);
         
         initDbSqlSessionFactoryEntitySettings();
         
@@ -583,6 +605,7 @@ public abstract class AbstractEngineConfiguration {
                 if (databaseType != null) {
                     properties.load(getResourceAsStream(pathToEngineDbProperties()));
                 }
+                properties.put("streamFetchSize", String.valueOf(jdbcStreamFetchSize));
 
                 Configuration configuration = initMybatisConfiguration(environment, reader, properties);
                 sqlSessionFactory = new DefaultSqlSessionFactory(configuration);
@@ -838,6 +861,15 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public int getJdbcStreamFetchSize() {
+        return jdbcStreamFetchSize;
+    }
+
+    public AbstractEngineConfiguration setJdbcStreamFetchSize(int jdbcStreamFetchSize) {
+        this.jdbcStreamFetchSize = jdbcStreamFetchSize;
+        return this;
+    }
+
     public String getJdbcPingQuery() {
         return jdbcPingQuery;
     }
@@ -1054,6 +1086,24 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isBatchedFlushEnabled() {
+        return isBatchedFlushEnabled;
+    }
+
+    public AbstractEngineConfiguration setBatchedFlushEnabled(boolean isBatchedFlushEnabled) {
+        this.isBatchedFlushEnabled = isBatchedFlushEnabled;
+        return this;
+    }
+
+    public int getMaxNrOfStatementsInBatchedFlush() {
+        return maxNrOfStatementsInBatchedFlush;
+    }
+
+    public AbstractEngineConfiguration setMaxNrOfStatementsInBatchedFlush(int maxNrOfStatementsInBatchedFlush) {
+        this.maxNrOfStatementsInBatchedFlush = maxNrOfStatementsInBatchedFlush;
+        return this;
+    }
+
     public Set<Class<?>> getCustomMybatisMappers() {
         return customMybatisMappers;
     }
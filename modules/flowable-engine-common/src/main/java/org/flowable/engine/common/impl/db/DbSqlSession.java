@@ -14,6 +14,8 @@
 package org.flowable.engine.common.impl.db;
 
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -24,9 +26,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.common.api.query.QueryResultHandler;
 import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.common.impl.interceptor.Session;
 import org.flowable.engine.common.impl.persistence.cache.CachedEntity;
@@ -57,6 +67,9 @@ public class DbSqlSession implements Session {
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<>();
     protected List<Entity> updatedObjects = new ArrayList<>();
     
+    // Statements executed through the batch executor don't mark the regular sqlSession as dirty
+    protected boolean batchedStatementsFlushed;
+    
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
         this.entityCache = entityCache;
@@ -207,6 +220,23 @@ public class DbSqlSession implements Session {
         }
     }
 
+    /**
+     * Passes the results of the statement one by one to the result handler. The results are not kept in the entity cache,
+     * which makes this only suitable for read-only iteration over result sets that are too large to be loaded in one list.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void selectWithResultHandler(String statement, ListQueryParameterObject parameter, final QueryResultHandler resultHandler) {
+        parameter.setDatabaseType(dbSqlSessionFactory.getDatabaseType());
+        statement = dbSqlSessionFactory.mapStatement(statement);
+        sqlSession.select(statement, parameter, new ResultHandler() {
+
+            @Override
+            public void handleResult(ResultContext resultContext) {
+                resultHandler.handleResult(resultContext.getResultObject());
+            }
+        });
+    }
+
     public Object selectOne(String statement, Object parameter) {
         statement = dbSqlSessionFactory.mapStatement(statement);
         Object result = sqlSession.selectOne(statement, parameter);
@@ -486,30 +516,69 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
-        for (Entity updatedObject : updatedObjects) {
-            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
-            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
-
-            if (updateStatement == null) {
-                throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+        // Every update is checked for optimistic locking, so batching is only possible when the driver returns the update counts
+        if (dbSqlSessionFactory.isBatchedFlushEnabled() && updatedObjects.size() > 1 && dbSqlSessionFactory.isBatchUpdateCountsSupported(sqlSession.getConnection())) {
+            flushBatchedUpdates();
+            
+        } else {
+            for (Entity updatedObject : updatedObjects) {
+                String updateStatement = getMappedUpdateStatement(updatedObject);
+                
+                LOGGER.debug("updating: {}", updatedObject);
+                
+                int updatedRecords = sqlSession.update(updateStatement, updatedObject);
+                if (updatedRecords == 0) {
+                    throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+                }
+                
+                // See https://activiti.atlassian.net/browse/ACT-1290
+                if (updatedObject instanceof HasRevision) {
+                    ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+                }
+                
             }
+        }
+        updatedObjects.clear();
+    }
+    
+    protected String getMappedUpdateStatement(Entity updatedObject) {
+        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
 
-            LOGGER.debug("updating: {}", updatedObject);
-            
-            int updatedRecords = sqlSession.update(updateStatement, updatedObject);
-            if (updatedRecords == 0) {
-                throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+        if (updateStatement == null) {
+            throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+        }
+        return updateStatement;
+    }
+    
+    /**
+     * Groups the updated objects per update statement (and thus per entity class) and executes each group as a JDBC batch.
+     * The update count of every row is verified afterwards, so the optimistic locking semantics are the same as for regular updates.
+     */
+    protected void flushBatchedUpdates() {
+        Map<String, List<Entity>> updatedObjectsPerStatement = new LinkedHashMap<>();
+        for (Entity updatedObject : updatedObjects) {
+            String updateStatement = getMappedUpdateStatement(updatedObject);
+            if (!updatedObjectsPerStatement.containsKey(updateStatement)) {
+                updatedObjectsPerStatement.put(updateStatement, new ArrayList<Entity>());
             }
+            updatedObjectsPerStatement.get(updateStatement).add(updatedObject);
+        }
+        
+        for (String updateStatement : updatedObjectsPerStatement.keySet()) {
+            List<Entity> entities = updatedObjectsPerStatement.get(updateStatement);
+            LOGGER.debug("updating {} entities in batch with statement {}", entities.size(), updateStatement);
+            
+            executeBatch(updateStatement, entities, true);
             
-            // See https://activiti.atlassian.net/browse/ACT-1290
-            if (updatedObject instanceof HasRevision) {
-                ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+            for (Entity updatedObject : entities) {
+                if (updatedObject instanceof HasRevision) {
+                    ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+                }
             }
-
         }
-        updatedObjects.clear();
     }
-
+    
     protected void flushDeletes() {
 
         if (deletedObjects.size() == 0 && bulkDeleteOperations.size() == 0) {
@@ -546,12 +615,17 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        if (dbSqlSessionFactory.isBatchedFlushEnabled() && entitiesToDelete.size() > 1) {
+            flushBatchedDeleteEntities(entityClass, entitiesToDelete);
+            return;
+        }
+        
+        flushUnbatchedDeleteEntities(entitiesToDelete);
+    }
+    
+    protected void flushUnbatchedDeleteEntities(Collection<Entity> entitiesToDelete) {
         for (Entity entity : entitiesToDelete) {
-            String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
-            deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
-            if (deleteStatement == null) {
-                throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
-            }
+            String deleteStatement = getMappedDeleteStatement(entity);
 
             // It only makes sense to check for optimistic locking exceptions
             // for objects that actually have a revision
@@ -566,17 +640,113 @@ public class DbSqlSession implements Session {
         }
     }
     
+    protected String getMappedDeleteStatement(Entity entity) {
+        String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+        deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+        if (deleteStatement == null) {
+            throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+        }
+        return deleteStatement;
+    }
+    
+    protected void flushBatchedDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        // The entities are grouped per class already, but the delete statement is determined by the
+        // actual class of the entity, which could be a subclass of the passed entity class
+        Map<String, List<Entity>> entitiesPerStatement = new LinkedHashMap<>();
+        for (Entity entity : entitiesToDelete) {
+            String deleteStatement = getMappedDeleteStatement(entity);
+            if (!entitiesPerStatement.containsKey(deleteStatement)) {
+                entitiesPerStatement.put(deleteStatement, new ArrayList<Entity>());
+            }
+            entitiesPerStatement.get(deleteStatement).add(entity);
+        }
+        
+        for (String deleteStatement : entitiesPerStatement.keySet()) {
+            List<Entity> entities = entitiesPerStatement.get(deleteStatement);
+            
+            // It only makes sense to check for optimistic locking exceptions
+            // for objects that actually have a revision
+            boolean hasRevision = entities.get(0) instanceof HasRevision;
+            if (hasRevision && !dbSqlSessionFactory.isBatchUpdateCountsSupported(sqlSession.getConnection())) {
+                flushUnbatchedDeleteEntities(entities);
+                
+            } else {
+                LOGGER.debug("deleting {} entities in batch with statement {}", entities.size(), deleteStatement);
+                executeBatch(deleteStatement, entities, hasRevision);
+            }
+        }
+    }
+    
+    /**
+     * Executes the given statement for all passed entities using a JDBC batch on the connection of the current {@link SqlSession}.
+     * Batches are flushed every {@link DbSqlSessionFactory#getMaxNrOfStatementsInBatchedFlush()} entities.
+     * 
+     * When checkUpdateCounts is true, every entity for which no row was affected results in a {@link FlowableOptimisticLockingException}.
+     * Drivers known to return {@link Statement#SUCCESS_NO_INFO} instead of the update count never get here with versioned entities,
+     * see {@link DbSqlSessionFactory#isBatchUpdateCountsSupported(java.sql.Connection)}. Should another driver still do so, the check
+     * is undecided: the transaction is rolled back through a {@link FlowableOptimisticLockingException} and versioned statements are
+     * no longer batched afterwards.
+     */
+    protected void executeBatch(String statement, List<Entity> entities, boolean checkUpdateCounts) {
+        MappedStatement mappedStatement = sqlSession.getConfiguration().getMappedStatement(statement);
+        
+        // The transaction wraps the connection of the regular sqlSession, and closing it must not close that connection
+        Executor batchExecutor = sqlSession.getConfiguration().newExecutor(new ManagedTransaction(sqlSession.getConnection(), false), ExecutorType.BATCH);
+        batchedStatementsFlushed = true;
+        try {
+            int maxNrOfStatementsInBatch = dbSqlSessionFactory.getMaxNrOfStatementsInBatchedFlush();
+            int index = 0;
+            for (Entity entity : entities) {
+                batchExecutor.update(mappedStatement, entity);
+                index++;
+                
+                if (index % maxNrOfStatementsInBatch == 0 || index == entities.size()) {
+                    List<BatchResult> batchResults = batchExecutor.flushStatements();
+                    if (checkUpdateCounts) {
+                        verifyBatchResults(batchResults);
+                    }
+                }
+            }
+            
+        } catch (SQLException e) {
+            throw new FlowableException("Could not execute batched statement " + statement, e);
+            
+        } finally {
+            batchExecutor.close(false);
+            
+            // The regular sqlSession doesn't know about the batched statements, so make sure it doesn't return stale results
+            sqlSession.clearCache();
+        }
+    }
+    
+    protected void verifyBatchResults(List<BatchResult> batchResults) {
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                    LOGGER.warn("JDBC driver unexpectedly doesn't return update counts for batched statements, versioned updates and deletes will no longer be batched");
+                    dbSqlSessionFactory.setBatchUpdateCountsSupported(false);
+                    throw new FlowableOptimisticLockingException("Could not verify the revision of " + parameterObjects.get(i) + " in a batched statement");
+                    
+                } else if (updateCounts[i] == 0) {
+                    throw new FlowableOptimisticLockingException(parameterObjects.get(i) + " was updated by another transaction concurrently");
+                }
+            }
+        }
+    }
+    
     @Override
     public void close() {
         sqlSession.close();
     }
 
     public void commit() {
-        sqlSession.commit();
+        sqlSession.commit(batchedStatementsFlushed);
     }
 
     public void rollback() {
-        sqlSession.rollback();
+        sqlSession.rollback(batchedStatementsFlushed);
     }
     
     public <T> T getCustomMapper(Class<T> type) {
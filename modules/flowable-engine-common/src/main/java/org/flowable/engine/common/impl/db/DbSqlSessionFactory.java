@@ -13,6 +13,8 @@
 
 package org.flowable.engine.common.impl.db;
 
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -23,6 +25,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.ibatis.session.SqlSessionFactory;
+import org.flowable.engine.common.AbstractEngineConfiguration;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.cfg.IdGenerator;
 import org.flowable.engine.common.impl.context.Context;
@@ -31,6 +34,8 @@ import org.flowable.engine.common.impl.interceptor.Session;
 import org.flowable.engine.common.impl.interceptor.SessionFactory;
 import org.flowable.engine.common.impl.persistence.cache.EntityCache;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Tom Baeyens
@@ -38,6 +43,8 @@ import org.flowable.engine.common.impl.persistence.entity.Entity;
  */
 public class DbSqlSessionFactory implements SessionFactory {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger(DbSqlSessionFactory.class);
+    
     protected Map<String, Map<String, String>> databaseSpecificStatements = new HashMap<>();
     
     protected String databaseType;
@@ -64,6 +71,16 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
     
     protected int maxNrOfStatementsInBulkInsert = 100;
+    
+    protected boolean isBatchedFlushEnabled;
+    protected int maxNrOfStatementsInBatchedFlush = 100;
+    
+    /**
+     * Whether the JDBC driver returns the update counts of batched statements instead of {@link java.sql.Statement#SUCCESS_NO_INFO}.
+     * Without real update counts the optimistic locking check can't be done, so versioned updates and deletes are flushed unbatched.
+     * When not set explicitly, this is determined from the {@link DatabaseMetaData} before the first batched flush.
+     */
+    protected volatile Boolean isBatchUpdateCountsSupported;
 
     @Override
     public Class<?> getSessionType() {
@@ -196,6 +213,62 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
     
+    public boolean isBatchedFlushEnabled() {
+        return isBatchedFlushEnabled;
+    }
+
+    public void setBatchedFlushEnabled(boolean isBatchedFlushEnabled) {
+        this.isBatchedFlushEnabled = isBatchedFlushEnabled;
+    }
+
+    public int getMaxNrOfStatementsInBatchedFlush() {
+        return maxNrOfStatementsInBatchedFlush;
+    }
+
+    public void setMaxNrOfStatementsInBatchedFlush(int maxNrOfStatementsInBatchedFlush) {
+        this.maxNrOfStatementsInBatchedFlush = maxNrOfStatementsInBatchedFlush;
+    }
+    
+    public boolean isBatchUpdateCountsSupported(Connection connection) {
+        Boolean batchUpdateCountsSupported = isBatchUpdateCountsSupported;
+        if (batchUpdateCountsSupported == null) {
+            batchUpdateCountsSupported = determineBatchUpdateCountsSupported(connection);
+            isBatchUpdateCountsSupported = batchUpdateCountsSupported;
+        }
+        return batchUpdateCountsSupported;
+    }
+    
+    protected boolean determineBatchUpdateCountsSupported(Connection connection) {
+        try {
+            DatabaseMetaData databaseMetaData = connection.getMetaData();
+            if (!databaseMetaData.supportsBatchUpdates()) {
+                LOGGER.info("JDBC driver doesn't support batch updates, versioned updates and deletes will not be batched");
+                return false;
+            }
+            
+            // Oracle drivers before 12c return SUCCESS_NO_INFO for every statement of a prepared statement batch
+            if (AbstractEngineConfiguration.DATABASE_TYPE_ORACLE.equals(databaseType) && databaseMetaData.getDriverMajorVersion() < 12) {
+                LOGGER.info("JDBC driver version {} doesn't return update counts for batched statements, versioned updates and deletes will not be batched",
+                        databaseMetaData.getDriverVersion());
+                return false;
+            }
+            
+            return true;
+            
+        } catch (SQLException e) {
+            LOGGER.warn("Could not determine whether the JDBC driver returns update counts for batched statements, versioned updates and deletes will not be batched", e);
+            return false;
+        }
+    }
+
+    public Boolean getBatchUpdateCountsSupported() {
+        return isBatchUpdateCountsSupported;
+    }
+
+    public void setBatchUpdateCountsSupported(Boolean isBatchUpdateCountsSupported) {
+        this.isBatchUpdateCountsSupported = isBatchUpdateCountsSupported;
+    }
+    
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
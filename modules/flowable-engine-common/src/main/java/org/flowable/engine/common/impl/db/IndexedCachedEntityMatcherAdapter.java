@@ -0,0 +1,39 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.db;
+
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+
+/**
+ * {@link CachedEntityMatcherAdapter} for an {@link IndexedCachedEntityMatcher}. By default, the query parameter is the index value.
+ */
+public abstract class IndexedCachedEntityMatcherAdapter<EntityImpl extends Entity> extends CachedEntityMatcherAdapter<EntityImpl> implements IndexedCachedEntityMatcher<EntityImpl> {
+
+    protected EntityCacheIndex<? super EntityImpl> index;
+
+    public IndexedCachedEntityMatcherAdapter(EntityCacheIndex<? super EntityImpl> index) {
+        this.index = index;
+    }
+
+    @Override
+    public EntityCacheIndex<? super EntityImpl> getIndex() {
+        return index;
+    }
+
+    @Override
+    public Object getIndexKey(Object param) {
+        return param;
+    }
+
+}
@@ -14,7 +14,9 @@
 package org.flowable.engine.common.impl.db;
 
 import org.flowable.engine.common.AbstractEngineConfiguration;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.query.Query.NullHandlingOnOrder;
+import org.flowable.engine.common.api.query.QueryCursor;
 import org.flowable.engine.common.api.query.QueryProperty;
 
 /**
@@ -24,12 +26,14 @@ import org.flowable.engine.common.api.query.QueryProperty;
 public class ListQueryParameterObject {
     
     public static enum ResultType {
-        LIST, LIST_PAGE, SINGLE_RESULT, COUNT
+        LIST, LIST_PAGE, LIST_PAGE_AFTER, STREAM, SINGLE_RESULT, COUNT
     }
     
     public static final String SORTORDER_ASC = "asc";
     public static final String SORTORDER_DESC = "desc";
 
+    protected static final String ID_COLUMN = "RES.ID_";
+
     protected int firstResult = -1;
     protected int maxResults = -1;
     protected Object parameter;
@@ -39,6 +43,9 @@ public class ListQueryParameterObject {
     protected NullHandlingOnOrder nullHandlingOnOrder;
     protected ResultType resultType;
     protected String databaseType;
+    protected QueryCursor cursor;
+    protected String firstOrderColumn;
+    protected String firstSortOrder;
     
     public ListQueryParameterObject() {
         
@@ -54,6 +61,8 @@ public class ListQueryParameterObject {
 
         if (orderByColumns == null) {
             orderByColumns = "";
+            firstOrderColumn = column;
+            firstSortOrder = sortOrder;
         } else {
             orderByColumns = orderByColumns + ", ";
         }
@@ -167,11 +176,98 @@ public class ListQueryParameterObject {
 
     public String getOrderByColumns() {
         if (orderByColumns != null) {
+            if (resultType == ResultType.LIST_PAGE_AFTER && !ID_COLUMN.equals(firstOrderColumn)) {
+                // Entities with the same value of the order column are ordered on their id, which is what the cursor seeks on
+                return getNullsLastOrderByClause(firstOrderColumn, firstSortOrder) + ", " + ID_COLUMN + " " + firstSortOrder;
+            }
             return orderByColumns;
         } else {
-            return "RES.ID_ asc";
+            return ID_COLUMN + " asc";
         }
     }
+
+    /**
+     * Orders on the given column with null values after all other values, in both directions, so that the seek predicate of a cursor
+     * doesn't depend on how the database orders null values by default.
+     */
+    protected String getNullsLastOrderByClause(String column, String sortOrder) {
+        if (AbstractEngineConfiguration.DATABASE_TYPE_H2.equals(databaseType)
+                || AbstractEngineConfiguration.DATABASE_TYPE_HSQL.equals(databaseType)
+                || AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES.equals(databaseType)
+                || AbstractEngineConfiguration.DATABASE_TYPE_ORACLE.equals(databaseType)) {
+            return column + " " + sortOrder + " NULLS LAST";
+        } else if (AbstractEngineConfiguration.DATABASE_TYPE_MYSQL.equals(databaseType)) {
+            return "isnull(" + column + ") asc, " + column + " " + sortOrder;
+        } else if (AbstractEngineConfiguration.DATABASE_TYPE_DB2.equals(databaseType) || AbstractEngineConfiguration.DATABASE_TYPE_MSSQL.equals(databaseType)) {
+            // Cursor pages are always fetched with limitBetween, which orders in the row_number() window where expressions are allowed
+            return "case when " + column + " is null then 1 else 0 end, " + column + " " + sortOrder;
+        } else {
+            return column + " " + sortOrder;
+        }
+    }
+
+    /**
+     * Prepares fetching the page of maxResults results after the given cursor. One result more than requested is fetched, to know whether
+     * there is a next page.
+     *
+     * @param cursorResultMap
+     *            the id of the MyBatis result map the results are mapped with, or null when the query doesn't support cursor paging.
+     */
+    protected void initializeListPageAfter(QueryCursor cursor, int maxResults, String cursorResultMap) {
+        if (maxResults < 1) {
+            throw new FlowableIllegalArgumentException("maxResults should be at least 1");
+        }
+        if (cursorResultMap == null) {
+            throw new FlowableIllegalArgumentException("Cursor paging is not supported by " + getClass().getName());
+        }
+        if (!isCursorPagingPossible()) {
+            throw new FlowableIllegalArgumentException("Cursor paging is only possible when ordering on one property without null handling");
+        }
+        this.cursor = cursor;
+        this.firstResult = 0;
+        this.maxResults = maxResults + 1;
+        this.resultType = ResultType.LIST_PAGE_AFTER;
+    }
+
+    /**
+     * Cursor paging is possible when the results are ordered on only one column of the queried entity, without specific handling of null values,
+     * as null values are always ordered last while paging by cursor.
+     * Columns of the queried entity are either prefixed with the RES alias or not prefixed at all.
+     */
+    public boolean isCursorPagingPossible() {
+        return orderByColumns == null
+                || ((firstOrderColumn.startsWith("RES.") || firstOrderColumn.indexOf('.') < 0) && orderByColumns.equals(firstOrderColumn + " " + firstSortOrder));
+    }
+
+    /**
+     * @return the cursor after which the results start, only set while a page after a cursor is fetched.
+     */
+    public QueryCursor getCursor() {
+        return resultType == ResultType.LIST_PAGE_AFTER ? cursor : null;
+    }
+
+    public void setCursor(QueryCursor cursor) {
+        this.cursor = cursor;
+    }
+
+    public String getCursorColumn() {
+        return orderByColumns != null ? firstOrderColumn : ID_COLUMN;
+    }
+
+    public String getCursorOperator() {
+        return orderByColumns != null && SORTORDER_DESC.equals(firstSortOrder) ? "<" : ">";
+    }
+
+    /**
+     * @return the value of the order column at the cursor, which is null when the cursor is positioned among the entities without a value.
+     */
+    public Object getCursorSortValue() {
+        return cursor != null ? cursor.getSortValue() : null;
+    }
+
+    public String getCursorId() {
+        return cursor != null ? cursor.getId() : null;
+    }
     
     public void setDatabaseType(String databaseType) {
         this.databaseType = databaseType;
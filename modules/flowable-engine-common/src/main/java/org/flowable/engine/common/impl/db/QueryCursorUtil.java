@@ -0,0 +1,70 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.db;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.CursorPage;
+import org.flowable.engine.common.api.query.QueryCursor;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+
+/**
+ * Creates the cursor that points after a query result. The value of the order column is read from the result through the properties
+ * of the MyBatis result map the result was mapped with, so that the column names used for ordering can be resolved to entity properties.
+ */
+public class QueryCursorUtil {
+
+    protected static final String ID_COLUMN = "ID_";
+
+    /**
+     * Creates the page from the results of a query that was initialized to fetch the page after a cursor, which fetches one result more
+     * than the page size when there is a next page.
+     */
+    public static <U> CursorPage<U> createCursorPage(ListQueryParameterObject query, List<U> results, String resultMapId, CommandContext commandContext) {
+        int pageSize = query.getMaxResults() - 1;
+        QueryCursor nextCursor = null;
+        if (results.size() > pageSize) {
+            results = new ArrayList<>(results.subList(0, pageSize));
+            nextCursor = createCursor(query, resultMapId, results.get(pageSize - 1), commandContext);
+        }
+        return new CursorPage<>(results, nextCursor);
+    }
+
+    public static QueryCursor createCursor(ListQueryParameterObject query, String resultMapId, Object result, CommandContext commandContext) {
+        Configuration configuration = commandContext.getSession(DbSqlSession.class).getSqlSession().getConfiguration();
+        ResultMap resultMap = configuration.getResultMap(resultMapId);
+        MetaObject metaObject = configuration.newMetaObject(result);
+
+        String cursorColumn = query.getCursorColumn();
+        String column = cursorColumn.substring(cursorColumn.indexOf('.') + 1);
+        // A null value is kept in the cursor, the seek predicate then continues among the entities without a value, which are ordered last
+        Object sortValue = getPropertyValue(resultMap, metaObject, column);
+        return new QueryCursor(sortValue, (String) getPropertyValue(resultMap, metaObject, ID_COLUMN));
+    }
+
+    protected static Object getPropertyValue(ResultMap resultMap, MetaObject metaObject, String column) {
+        for (ResultMapping resultMapping : resultMap.getResultMappings()) {
+            if (column.equalsIgnoreCase(resultMapping.getColumn())) {
+                return metaObject.getValue(resultMapping.getProperty());
+            }
+        }
+        throw new FlowableIllegalArgumentException("Column " + column + " is not mapped by result map " + resultMap.getId() + " and can't be used for cursor paging");
+    }
+
+}
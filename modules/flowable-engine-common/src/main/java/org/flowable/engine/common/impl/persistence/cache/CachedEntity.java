@@ -14,6 +14,7 @@ package org.flowable.engine.common.impl.persistence.cache;
 
 import java.util.HashMap;
 
+import org.flowable.engine.common.impl.persistence.entity.ChangeTrackingEntity;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 
 /**
@@ -32,11 +33,22 @@ public class CachedEntity {
      */
     protected Object originalPersistentState;
 
+    /**
+     * True if the {@link Entity} is a {@link ChangeTrackingEntity} of which the state was stored, in which case no 'persistence state' is kept
+     * and the entity itself tells whether it has been updated.
+     */
+    protected boolean changeTracked;
+
     public CachedEntity(Entity entity, boolean storeState) {
         this.entity = entity;
         if (storeState) {
-            this.originalPersistentState = entity.getPersistentState();
-            entity.setOriginalPersistentState(originalPersistentState);
+            if (entity instanceof ChangeTrackingEntity) {
+                ((ChangeTrackingEntity) entity).trackChanges();
+                this.changeTracked = true;
+            } else {
+                this.originalPersistentState = entity.getPersistentState();
+                entity.setOriginalPersistentState(originalPersistentState);
+            }
         } else if (entity.getOriginalPersistentState() == null){
             entity.setOriginalPersistentState(new HashMap<>(1));
         }
@@ -59,6 +71,9 @@ public class CachedEntity {
     }
 
     public boolean hasChanged() {
+        if (changeTracked) {
+            return ((ChangeTrackingEntity) entity).isChanged();
+        }
         return entity.getPersistentState() != null && !entity.getPersistentState().equals(originalPersistentState);
     }
 
@@ -59,6 +59,20 @@ public interface EntityCache extends Session {
      */
     <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass);
 
+    /**
+     * Returns the cached {@link Entity} instances of the given type for which the given {@link EntityCacheIndex} has the given value. Returns an empty list if no such instances exist.
+     * 
+     * The index is built the first time it's used in this cache and kept up to date afterwards, so only the matching instances are visited instead of all the cached instances of the type.
+     */
+    <T> List<T> findInCache(Class<T> entityClass, EntityCacheIndex<? super T> index, Object indexKey);
+
+    /**
+     * Returns the {@link CachedEntity} instances of the given type for which the given {@link EntityCacheIndex} has the given value. Returns an empty collection if no such instances exist.
+     * 
+     * @see #findInCache(Class, EntityCacheIndex, Object)
+     */
+    <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, EntityCacheIndex<? super T> index, Object indexKey);
+
     /**
      * Removes the {@link Entity} of the given type with the given id from the cache.
      */
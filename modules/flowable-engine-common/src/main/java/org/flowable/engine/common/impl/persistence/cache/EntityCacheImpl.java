@@ -16,6 +16,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -27,6 +29,7 @@ import org.flowable.engine.common.impl.persistence.entity.Entity;
 public class EntityCacheImpl implements EntityCache {
 
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<>();
+    protected Map<Class<?>, Map<EntityCacheIndex<?>, IndexedCachedEntities>> cachedObjectIndexes = new HashMap<>();
 
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
@@ -37,6 +40,14 @@ public class EntityCacheImpl implements EntityCache {
         }
         CachedEntity cachedObject = new CachedEntity(entity, storeState);
         classCache.put(entity.getId(), cachedObject);
+
+        Map<EntityCacheIndex<?>, IndexedCachedEntities> classIndexes = cachedObjectIndexes.get(entity.getClass());
+        if (classIndexes != null) {
+            for (IndexedCachedEntities indexedCachedEntities : classIndexes.values()) {
+                indexedCachedEntities.add(cachedObject);
+            }
+        }
+
         return cachedObject;
     }
 
@@ -62,9 +73,14 @@ public class EntityCacheImpl implements EntityCache {
     }
 
     protected Map<String, CachedEntity> findClassCacheByCheckingSubclasses(Class<?> entityClass) {
+        Class<?> cachedSubclass = findCachedSubclass(entityClass);
+        return cachedSubclass != null ? cachedObjects.get(cachedSubclass) : null;
+    }
+
+    protected Class<?> findCachedSubclass(Class<?> entityClass) {
         for (Class<?> clazz : cachedObjects.keySet()) {
             if (entityClass.isAssignableFrom(clazz)) {
-                return cachedObjects.get(clazz);
+                return clazz;
             }
         }
         return null;
@@ -77,6 +93,13 @@ public class EntityCacheImpl implements EntityCache {
             return;
         }
         classCache.remove(entityId);
+
+        Map<EntityCacheIndex<?>, IndexedCachedEntities> classIndexes = cachedObjectIndexes.get(entityClass);
+        if (classIndexes != null) {
+            for (IndexedCachedEntities indexedCachedEntities : classIndexes.values()) {
+                indexedCachedEntities.remove(entityId);
+            }
+        }
     }
 
     @Override
@@ -108,6 +131,48 @@ public class EntityCacheImpl implements EntityCache {
         return Collections.emptyList();
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> findInCache(Class<T> entityClass, EntityCacheIndex<? super T> index, Object indexKey) {
+        Collection<CachedEntity> indexedObjects = findInCacheAsCachedObjects(entityClass, index, indexKey);
+        List<T> entities = new ArrayList<>(indexedObjects.size());
+        for (CachedEntity cachedObject : indexedObjects) {
+            entities.add((T) cachedObject.getEntity());
+        }
+        return entities;
+    }
+
+    @Override
+    public <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, EntityCacheIndex<? super T> index, Object indexKey) {
+        Class<?> cachedEntityClass = entityClass;
+        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
+
+        if (classCache == null) {
+            cachedEntityClass = findCachedSubclass(entityClass);
+            if (cachedEntityClass == null) {
+                return Collections.emptyList();
+            }
+            classCache = cachedObjects.get(cachedEntityClass);
+        }
+
+        Map<EntityCacheIndex<?>, IndexedCachedEntities> classIndexes = cachedObjectIndexes.get(cachedEntityClass);
+        if (classIndexes == null) {
+            classIndexes = new HashMap<>();
+            cachedObjectIndexes.put(cachedEntityClass, classIndexes);
+        }
+
+        IndexedCachedEntities indexedCachedEntities = classIndexes.get(index);
+        if (indexedCachedEntities == null) {
+            indexedCachedEntities = new IndexedCachedEntities(index);
+            for (CachedEntity cachedObject : classCache.values()) {
+                indexedCachedEntities.add(cachedObject);
+            }
+            classIndexes.put(index, indexedCachedEntities);
+        }
+
+        return indexedCachedEntities.get(indexKey);
+    }
+
     @Override
     public Map<Class<?>, Map<String, CachedEntity>> getAllCachedEntities() {
         return cachedObjects;
@@ -122,4 +187,69 @@ public class EntityCacheImpl implements EntityCache {
     public void flush() {
 
     }
+
+    /**
+     * The cached entities of one type grouped by the value of an {@link EntityCacheIndex}. Entities for which the index value is still null
+     * are kept apart and indexed at a later lookup, as some values (e.g. the process instance id of a process instance) are only set after inserting the entity.
+     */
+    protected static class IndexedCachedEntities {
+
+        protected EntityCacheIndex<Object> index;
+        protected Map<Object, Map<String, CachedEntity>> cachedEntitiesByKey = new HashMap<>();
+        protected Map<String, Object> keysByEntityId = new HashMap<>();
+        protected Map<String, CachedEntity> unindexedCachedEntities = new LinkedHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        public IndexedCachedEntities(EntityCacheIndex<?> index) {
+            this.index = (EntityCacheIndex<Object>) index;
+        }
+
+        public void add(CachedEntity cachedEntity) {
+            String entityId = cachedEntity.getEntity().getId();
+            remove(entityId);
+            unindexedCachedEntities.put(entityId, cachedEntity);
+        }
+
+        public void remove(String entityId) {
+            unindexedCachedEntities.remove(entityId);
+
+            Object key = keysByEntityId.remove(entityId);
+            if (key != null) {
+                Map<String, CachedEntity> keyCachedEntities = cachedEntitiesByKey.get(key);
+                keyCachedEntities.remove(entityId);
+                if (keyCachedEntities.isEmpty()) {
+                    cachedEntitiesByKey.remove(key);
+                }
+            }
+        }
+
+        public Collection<CachedEntity> get(Object key) {
+            indexPendingEntities();
+            Map<String, CachedEntity> keyCachedEntities = cachedEntitiesByKey.get(key);
+            if (keyCachedEntities == null) {
+                return Collections.emptyList();
+            }
+            return keyCachedEntities.values();
+        }
+
+        protected void indexPendingEntities() {
+            Iterator<CachedEntity> unindexedIterator = unindexedCachedEntities.values().iterator();
+            while (unindexedIterator.hasNext()) {
+                CachedEntity cachedEntity = unindexedIterator.next();
+                Object key = index.getIndexKey(cachedEntity.getEntity());
+                if (key != null) {
+                    Map<String, CachedEntity> keyCachedEntities = cachedEntitiesByKey.get(key);
+                    if (keyCachedEntities == null) {
+                        keyCachedEntities = new LinkedHashMap<>();
+                        cachedEntitiesByKey.put(key, keyCachedEntities);
+                    }
+                    String entityId = cachedEntity.getEntity().getId();
+                    keyCachedEntities.put(entityId, cachedEntity);
+                    keysByEntityId.put(entityId, key);
+                    unindexedIterator.remove();
+                }
+            }
+        }
+
+    }
 }
@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.cache;
+
+/**
+ * A secondary index of the {@link EntityCache}, grouping the cached entities of one type by a value of the entity, for example the id of the
+ * execution they belong to. Looking up entities through an index only visits the entities with the given value, instead of all cached entities of the type.
+ * 
+ * The value of an entity is determined when the entity is put in the cache, or at the first lookup after that when the value was still null.
+ * An index should therefore only be defined on a value that doesn't change once it's set, like the process instance id of an execution (and not its parent id).
+ * Entities returned through an index should still be checked against the actual condition.
+ * 
+ * The cache identifies indexes by instance, so an index is typically defined once as a constant.
+ */
+public interface EntityCacheIndex<T> {
+
+    /**
+     * Returns the value the given entity is indexed on, or null if the entity can't be found through this index (yet).
+     */
+    Object getIndexKey(T entity);
+
+}
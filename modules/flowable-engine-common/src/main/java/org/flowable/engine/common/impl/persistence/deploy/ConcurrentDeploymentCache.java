@@ -0,0 +1,325 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DeploymentCache} implementation that doesn't take a global lock on reads.
+ *
+ * Objects are kept in a {@link ConcurrentHashMap}. When a limit is set, eviction uses the CLOCK (second chance) policy: a read only sets the
+ * referenced flag of the cached entry, and when the total weight of the cache exceeds the limit, entries are visited in insertion order
+ * and the first entry that wasn't referenced since the previous visit is evicted. Only adding objects to a full cache takes a lock.
+ * Removed or replaced entries are only flagged as removed, they are skipped (and dropped) when the clock reaches them.
+ *
+ * By default every object has a weight of 1, meaning the limit is the maximum number of cached objects. A {@link DeploymentCacheWeigher}
+ * can be passed to make the limit relative to the size of the cached objects instead.
+ *
+ * The number of hits, misses and evictions is counted and exposed through the getters of this class.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    protected ConcurrentMap<String, CacheEntry<T>> cache = new ConcurrentHashMap<>();
+    protected Queue<CacheEntry<T>> clock = new ConcurrentLinkedQueue<>();
+    protected ReentrantLock evictionLock = new ReentrantLock();
+
+    protected long limit;
+    protected DeploymentCacheWeigher<T> weigher;
+    protected AtomicLong totalWeight = new AtomicLong();
+
+    /** The number of entries in the clock that were removed from the cache, see {@link #purgeRemovedEntries()} */
+    protected AtomicInteger removedEntryCount = new AtomicInteger();
+
+    protected StripedCounter hitCount = new StripedCounter();
+    protected StripedCounter missCount = new StripedCounter();
+    protected AtomicLong evictionCount = new AtomicLong();
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        this(-1);
+    }
+
+    /**
+     * Cache which has a hard limit: no more elements will be cached than the limit.
+     */
+    public ConcurrentDeploymentCache(long limit) {
+        this(limit, null);
+    }
+
+    /**
+     * Cache which has a hard limit on the total weight of the cached objects, as calculated by the passed weigher.
+     */
+    public ConcurrentDeploymentCache(long limit, DeploymentCacheWeigher<T> weigher) {
+        this.limit = limit;
+        this.weigher = weigher;
+    }
+
+    @Override
+    public T get(String id) {
+        CacheEntry<T> entry = cache.get(id);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        if (!entry.referenced) { // avoid writing the shared flag when not needed
+            entry.referenced = true;
+        }
+        return entry.value;
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    @Override
+    public void add(String id, T object) {
+        CacheEntry<T> entry = new CacheEntry<>(id, object, weigh(id, object));
+        CacheEntry<T> previousEntry = cache.put(id, entry);
+        totalWeight.addAndGet(entry.weight);
+
+        if (previousEntry != null) {
+            totalWeight.addAndGet(-previousEntry.weight);
+        }
+
+        if (isLimited()) {
+            if (previousEntry != null) {
+                markRemoved(previousEntry);
+            }
+
+            // The added object is about to be used by the caller, so it only joins the clock after making room for it
+            if (totalWeight.get() > limit) {
+                evict();
+            }
+            clock.offer(entry);
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        CacheEntry<T> entry = cache.remove(id);
+        if (entry != null) {
+            totalWeight.addAndGet(-entry.weight);
+            if (isLimited()) {
+                markRemoved(entry);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            for (String id : new ArrayList<>(cache.keySet())) {
+                remove(id);
+            }
+            clock.clear();
+            removedEntryCount.set(0);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns a view of the cached objects. Unlike {@link #get(String)}, iterating it isn't counted as a hit and doesn't mark the objects
+     * as referenced.
+     */
+    public Iterable<T> values() {
+        return new Iterable<T>() {
+
+            @Override
+            public Iterator<T> iterator() {
+                final Iterator<CacheEntry<T>> entryIterator = cache.values().iterator();
+                return new Iterator<T>() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return entryIterator.hasNext();
+                    }
+
+                    @Override
+                    public T next() {
+                        return entryIterator.next().value;
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+    }
+
+    protected boolean isLimited() {
+        return limit > 0;
+    }
+
+    protected int weigh(String id, T object) {
+        if (weigher == null) {
+            return 1;
+        }
+        return Math.max(1, weigher.weigh(id, object));
+    }
+
+    protected void markRemoved(CacheEntry<T> entry) {
+        entry.removed = true;
+
+        // Without evictions the removed entries would stay in the clock forever, e.g. when the same objects are replaced over and over
+        if (removedEntryCount.incrementAndGet() > Math.max(cache.size(), 16)) {
+            purgeRemovedEntries();
+        }
+    }
+
+    protected void purgeRemovedEntries() {
+        if (!evictionLock.tryLock()) {
+            return; // the thread holding the lock is going through the clock already
+        }
+        try {
+            Iterator<CacheEntry<T>> clockIterator = clock.iterator();
+            while (clockIterator.hasNext()) {
+                if (clockIterator.next().removed) {
+                    clockIterator.remove();
+                    removedEntryCount.decrementAndGet();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    protected void evict() {
+        evictionLock.lock();
+        try {
+            CacheEntry<T> entry = null;
+            while (totalWeight.get() > limit && (entry = clock.poll()) != null) {
+                if (entry.removed) {
+                    removedEntryCount.decrementAndGet();
+                    continue; // the object was removed or replaced, possibly concurrently
+                }
+
+                if (entry.referenced) {
+                    // Second chance: clear the flag and move the entry to the back of the clock
+                    entry.referenced = false;
+                    clock.offer(entry);
+
+                } else if (cache.remove(entry.id, entry)) {
+                    totalWeight.addAndGet(-entry.weight);
+                    evictionCount.incrementAndGet();
+                    LOGGER.trace("Cache limit is reached, {} will be evicted", entry.id);
+
+                } else {
+                    // Replaced concurrently: the entry is (or will be) counted as removed, but it has left the clock already
+                    removedEntryCount.decrementAndGet();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public long getTotalWeight() {
+        return totalWeight.get();
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+
+    // For testing purposes only
+    public Collection<T> getAll() {
+        List<T> values = new ArrayList<>(cache.size());
+        for (CacheEntry<T> entry : cache.values()) {
+            values.add(entry.value);
+        }
+        return values;
+    }
+
+    // For testing purposes only
+    public int size() {
+        return cache.size();
+    }
+
+    protected static class CacheEntry<T> {
+
+        protected final String id;
+        protected final T value;
+        protected final int weight;
+        protected volatile boolean referenced;
+        protected volatile boolean removed;
+
+        public CacheEntry(String id, T value, int weight) {
+            this.id = id;
+            this.value = value;
+            this.weight = weight;
+        }
+
+    }
+
+    /**
+     * Counter that spreads the increments of different threads over different cache lines,
+     * so that counting hits and misses doesn't become a contention point itself.
+     */
+    protected static class StripedCounter {
+
+        protected static final int STRIPES = 16;
+        protected static final int PADDING = 8; // 8 longs = 64 bytes, the size of a typical cache line
+
+        protected final AtomicLongArray counts = new AtomicLongArray(STRIPES * PADDING);
+
+        public void increment() {
+            int stripe = (int) (Thread.currentThread().getId() % STRIPES);
+            counts.incrementAndGet(stripe * PADDING);
+        }
+
+        public long sum() {
+            long sum = 0;
+            for (int i = 0; i < STRIPES; i++) {
+                sum += counts.get(i * PADDING);
+            }
+            return sum;
+        }
+
+    }
+
+}
@@ -0,0 +1,165 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fills the deployment cache of an engine in the background when the engine boots, so the first requests that need a definition don't have
+ * to wait for its deployment to be parsed.
+ *
+ * Each command resolves the definitions of one deployment in its own transaction. The commands are executed in parallel on a bounded pool of
+ * daemon threads, which is shut down when all commands are done. A command that fails is logged and doesn't stop the others: the definition
+ * is then resolved on first use, as without warm-up.
+ */
+public class DeploymentCacheWarmUp {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeploymentCacheWarmUp.class);
+
+    protected String name;
+    protected CommandExecutor commandExecutor;
+    protected int poolSize;
+    protected ThreadPoolExecutor executorService;
+
+    protected AtomicInteger resolvedCount = new AtomicInteger();
+    protected AtomicInteger failedCount = new AtomicInteger();
+
+    /**
+     * @param name used in the names of the threads and in the log messages, for example 'bpmn'
+     * @param poolSize the maximum number of deployments that are resolved at the same time
+     */
+    public DeploymentCacheWarmUp(String name, CommandExecutor commandExecutor, int poolSize) {
+        this.name = name;
+        this.commandExecutor = commandExecutor;
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Selects the definitions to resolve to warm up a cache with the given limit. Resolving one definition puts all definitions of its deployment
+     * in the cache, so at most one definition is selected per deployment. The most recent deployments go first, until the latest definition versions
+     * of the selected deployments fill the cache limit.
+     *
+     * @param deploymentIdByLatestDefinitionId the deployment id of the latest version of every definition, keyed by the definition id
+     * @param deploymentIds the ids of all deployments, the most recent first
+     * @param cacheLimit the limit of the cache, or a value of 0 or less for an unlimited cache
+     * @return the ids of the definitions to resolve
+     */
+    public static List<String> selectDefinitionIds(Map<String, String> deploymentIdByLatestDefinitionId, List<String> deploymentIds, int cacheLimit) {
+        Map<String, String> definitionIdByDeploymentId = new HashMap<>();
+        Map<String, Integer> definitionCountByDeploymentId = new HashMap<>();
+        for (Map.Entry<String, String> entry : deploymentIdByLatestDefinitionId.entrySet()) {
+            Integer count = definitionCountByDeploymentId.get(entry.getValue());
+            definitionCountByDeploymentId.put(entry.getValue(), count != null ? count + 1 : 1);
+            definitionIdByDeploymentId.put(entry.getValue(), entry.getKey());
+        }
+
+        int definitionCount = 0;
+        List<String> definitionIds = new ArrayList<>();
+        for (String deploymentId : deploymentIds) {
+            if (cacheLimit > 0 && definitionCount >= cacheLimit) {
+                break;
+            }
+            String definitionId = definitionIdByDeploymentId.get(deploymentId);
+            if (definitionId != null) {
+                definitionIds.add(definitionId);
+                definitionCount += definitionCountByDeploymentId.get(deploymentId);
+            }
+        }
+        return definitionIds;
+    }
+
+    /**
+     * Starts executing the given commands and returns immediately.
+     */
+    public void start(Collection<? extends Command<?>> resolveCommands) {
+        if (resolveCommands.isEmpty()) {
+            return;
+        }
+
+        LOGGER.info("Warming up the {} deployment cache with {} deployment(s)", name, resolveCommands.size());
+
+        int threadCount = Math.max(1, Math.min(poolSize, resolveCommands.size()));
+        executorService = new ThreadPoolExecutor(threadCount, threadCount, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+
+            protected AtomicInteger threadNumber = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "flowable-" + name + "-cache-warm-up-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        for (final Command<?> resolveCommand : resolveCommands) {
+            executorService.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        commandExecutor.execute(resolveCommand);
+                        resolvedCount.incrementAndGet();
+                    } catch (Exception e) {
+                        failedCount.incrementAndGet();
+                        LOGGER.warn("Could not warm up the {} deployment cache", name, e);
+                    }
+                }
+            });
+        }
+
+        // Already submitted commands are still executed, the threads stop when they are done
+        executorService.shutdown();
+    }
+
+    /**
+     * Waits until all commands are executed, or the given timeout elapses.
+     *
+     * @return true when all commands were executed
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executorService == null || executorService.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Stops the warm-up, for example because the engine is closed before it was done.
+     */
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    public int getResolvedCount() {
+        return resolvedCount.get();
+    }
+
+    public int getFailedCount() {
+        return failedCount.get();
+    }
+
+}
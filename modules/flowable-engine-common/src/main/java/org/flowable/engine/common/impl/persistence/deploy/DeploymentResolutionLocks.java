@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.deploy;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per deployment locks that make sure a deployment which isn't in the deployment cache is only parsed once when several threads need it
+ * at the same time: the first thread parses the deployment, the other threads wait for it and then find the parsed definitions in the cache.
+ *
+ * Locks are reentrant, as resolving a deployment can need other definitions of the same deployment, and are removed when no thread holds
+ * or waits for them anymore.
+ */
+public class DeploymentResolutionLocks {
+
+    protected ConcurrentMap<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * Blocks until the lock of the given deployment is acquired. The returned lock must be passed to {@link #unlock(String, ReentrantLock)}.
+     */
+    public ReentrantLock lock(String deploymentId) {
+        while (true) {
+            ReentrantLock lock = locks.get(deploymentId);
+            if (lock == null) {
+                ReentrantLock newLock = new ReentrantLock();
+                lock = locks.putIfAbsent(deploymentId, newLock);
+                if (lock == null) {
+                    lock = newLock;
+                }
+            }
+
+            lock.lock();
+            if (locks.get(deploymentId) == lock) {
+                return lock;
+            }
+
+            // The lock was removed by the previous owner before it could be acquired
+            lock.unlock();
+        }
+    }
+
+    public void unlock(String deploymentId, ReentrantLock lock) {
+        if (lock.getHoldCount() == 1 && !lock.hasQueuedThreads()) {
+            locks.remove(deploymentId, lock);
+        }
+        lock.unlock();
+    }
+
+    public int size() {
+        return locks.size();
+    }
+
+}
@@ -0,0 +1,838 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.deploy;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.FlowableVersions;
+
+/**
+ * Compact binary snapshot of a parsed definition model, like a BpmnModel or a CmmnModel. The deployers can store it as an extra resource
+ * of a deployment, and read it on a cache miss instead of converting the XML of the deployment again.
+ *
+ * A snapshot starts with a magic number, the format version and the version of the engine that wrote it, followed by a string table, the
+ * class descriptors and the objects of the model. Every string is written once and referenced by its index afterwards. A class descriptor holds the name of a class and a
+ * fingerprint of the names and types of its fields. Fields that still have the value of a new instance aren't written. Objects that are
+ * referenced more than once, like the source and target of a sequence flow, are written once as well, so shared references and cycles
+ * are kept.
+ *
+ * The model is written and read without recursion, so deeply nested models and long chains of elements don't overflow the stack:
+ * all objects are instantiated first, and their fields are filled afterwards.
+ *
+ * {@link #decode(byte[], Class)} fails with a {@link FlowableException} when the format version isn't supported, when the snapshot was
+ * written by another engine version, whose XML converter could have created a different model, when a class descriptor doesn't match the
+ * class anymore or when the snapshot is corrupt. The caller then falls back to the XML. Only classes in the allowed
+ * packages, enums in those packages and the common collection classes are instantiated when reading a snapshot.
+ */
+public class ModelSnapshotCodec {
+
+    /**
+     * Appended to the name of the XML resource to get the name of the resource that holds its snapshot.
+     */
+    public static final String RESOURCE_SUFFIX = ".snapshot";
+
+    protected static final int MAGIC = 0x464C4D53;
+    protected static final int FORMAT_VERSION = 1;
+
+    protected static final int KIND_OBJECT = 0;
+    protected static final int KIND_COLLECTION = 1;
+    protected static final int KIND_MAP = 2;
+    protected static final int KIND_ARRAY = 3;
+    protected static final int KIND_ENUM = 4;
+
+    protected static final int TAG_NULL = 0;
+    protected static final int TAG_REFERENCE = 1;
+    protected static final int TAG_STRING = 2;
+    protected static final int TAG_TRUE = 3;
+    protected static final int TAG_FALSE = 4;
+    protected static final int TAG_INT = 5;
+    protected static final int TAG_LONG = 6;
+    protected static final int TAG_DOUBLE = 7;
+    protected static final int TAG_FLOAT = 8;
+    protected static final int TAG_SHORT = 9;
+    protected static final int TAG_BYTE = 10;
+    protected static final int TAG_CHAR = 11;
+    protected static final int TAG_ENUM = 12;
+    protected static final int TAG_DATE = 13;
+
+    protected static final Set<Class<?>> COLLECTION_CLASSES = new HashSet<Class<?>>(Arrays.<Class<?>> asList(
+            ArrayList.class, LinkedList.class, HashSet.class, LinkedHashSet.class, HashMap.class, LinkedHashMap.class));
+
+    protected List<String> allowedPackages;
+    protected String version = getDefaultVersion();
+    protected ConcurrentMap<Class<?>, List<Field>> fieldsByClass = new ConcurrentHashMap<>();
+    protected ConcurrentMap<Class<?>, Long> fingerprints = new ConcurrentHashMap<>();
+    protected ConcurrentMap<Class<?>, Object> prototypes = new ConcurrentHashMap<>();
+
+    /**
+     * @param allowedPackages the packages of the model classes, for example 'org.flowable.bpmn.model'
+     */
+    public ModelSnapshotCodec(String... allowedPackages) {
+        this.allowedPackages = Arrays.asList(allowedPackages);
+    }
+
+    /**
+     * Returns the name of the resource that holds the snapshot of the model of the given resource.
+     */
+    public static String getResourceName(String modelResourceName) {
+        return modelResourceName + RESOURCE_SUFFIX;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    /**
+     * The engine version, followed by the implementation version of the engine jar when it is known, so snapshot builds of the same
+     * engine version don't read each other's snapshots either.
+     */
+    protected static String getDefaultVersion() {
+        String implementationVersion = ModelSnapshotCodec.class.getPackage() != null ? ModelSnapshotCodec.class.getPackage().getImplementationVersion() : null;
+        return implementationVersion != null ? FlowableVersions.CURRENT_VERSION + '/' + implementationVersion : FlowableVersions.CURRENT_VERSION;
+    }
+
+    public byte[] encode(Object model) {
+        try {
+            return new SnapshotWriter().write(model);
+        } catch (FlowableException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new FlowableException("Could not create a snapshot of model " + model, e);
+        }
+    }
+
+    public <T> T decode(byte[] bytes, Class<T> modelClass) {
+        SnapshotReader reader = new SnapshotReader(bytes, modelClass.getClassLoader());
+        Object model;
+        try {
+            model = reader.read();
+        } catch (FlowableException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new FlowableException("Invalid model snapshot", e);
+        }
+
+        if (!modelClass.isInstance(model)) {
+            throw new FlowableException("Invalid model snapshot: expected a " + modelClass.getName() + " but was " + model);
+        }
+        return modelClass.cast(model);
+    }
+
+    /**
+     * Returns the fields that are written for instances of the given class: all non static and non transient fields, starting with those
+     * of the topmost superclass.
+     */
+    protected List<Field> getFields(Class<?> clazz) {
+        List<Field> fields = fieldsByClass.get(clazz);
+        if (fields == null) {
+            List<Class<?>> hierarchy = new ArrayList<>();
+            for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+                hierarchy.add(0, current);
+            }
+
+            fields = new ArrayList<>();
+            for (Class<?> current : hierarchy) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()) && !field.isSynthetic()) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            fieldsByClass.putIfAbsent(clazz, fields);
+        }
+        return fields;
+    }
+
+    /**
+     * Returns a hash of the names and types of the fields of the given class, which changes when a field is added, removed, renamed or
+     * gets another type.
+     */
+    protected long getFieldsFingerprint(Class<?> clazz) {
+        Long fingerprint = fingerprints.get(clazz);
+        if (fingerprint == null) {
+            StringBuilder fieldsDescription = new StringBuilder();
+            for (Field field : getFields(clazz)) {
+                fieldsDescription.append(field.getName()).append(' ').append(field.getType().getName()).append(';');
+            }
+
+            // 64 bit FNV-1a
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < fieldsDescription.length(); i++) {
+                hash ^= fieldsDescription.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            fingerprint = hash;
+            fingerprints.putIfAbsent(clazz, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Returns a new instance of the given class, which holds the values that don't have to be written.
+     */
+    protected Object getPrototype(Class<?> clazz) throws ReflectiveOperationException {
+        Object prototype = prototypes.get(clazz);
+        if (prototype == null) {
+            prototype = getNoArgConstructor(clazz).newInstance();
+            prototypes.putIfAbsent(clazz, prototype);
+        }
+        return prototype;
+    }
+
+    protected boolean isAllowedPackage(Class<?> clazz) {
+        String className = clazz.getName();
+        for (String allowedPackage : allowedPackages) {
+            if (className.startsWith(allowedPackage + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected int getKind(Class<?> clazz) {
+        if (clazz.isArray()) {
+            Class<?> componentType = clazz.getComponentType();
+            if (componentType.isPrimitive() || componentType == String.class || getKind(componentType) == KIND_OBJECT) {
+                return KIND_ARRAY;
+            }
+            throw new FlowableException("Unsupported array type in model snapshot: " + clazz.getName());
+        }
+        if (COLLECTION_CLASSES.contains(clazz)) {
+            return Map.class.isAssignableFrom(clazz) ? KIND_MAP : KIND_COLLECTION;
+        }
+        if (isAllowedPackage(clazz)) {
+            if (clazz.isEnum()) {
+                return KIND_ENUM;
+            }
+            if (!Collection.class.isAssignableFrom(clazz) && !Map.class.isAssignableFrom(clazz) && !clazz.isInterface()
+                    && !Modifier.isAbstract(clazz.getModifiers())) {
+                return KIND_OBJECT;
+            }
+        }
+        throw new FlowableException("Unsupported type in model snapshot: " + clazz.getName());
+    }
+
+    protected static boolean isInlineValue(Object value) {
+        return value == null || value instanceof String || value instanceof Boolean || value instanceof Number || value instanceof Character
+                || value instanceof Enum || value instanceof Date;
+    }
+
+    protected class SnapshotWriter {
+
+        protected ByteWriter body = new ByteWriter();
+        protected Map<String, Integer> strings = new LinkedHashMap<>();
+        protected Map<Class<?>, Integer> classes = new LinkedHashMap<>();
+        protected Map<Object, Integer> referenceCounts = new IdentityHashMap<>();
+        protected Map<Object, Integer> handles = new IdentityHashMap<>();
+        protected List<Object> objects = new ArrayList<>();
+
+        public byte[] write(Object model) throws ReflectiveOperationException {
+            if (isInlineValue(model)) {
+                throw new FlowableException("Unsupported model type: " + model);
+            }
+
+            // Count the references to every object first, so an empty collection is only left out when nothing else references it
+            ArrayDeque<Object> queue = new ArrayDeque<>();
+            referenceCounts.put(model, 1);
+            queue.add(model);
+            while (!queue.isEmpty()) {
+                for (Object child : getChildren(queue.poll(), false)) {
+                    if (!isInlineValue(child)) {
+                        Integer referenceCount = referenceCounts.get(child);
+                        referenceCounts.put(child, referenceCount != null ? referenceCount + 1 : 1);
+                        if (referenceCount == null) {
+                            queue.add(child);
+                        }
+                    }
+                }
+            }
+
+            // Collect the objects that are written, breadth first
+            addObject(model, queue);
+            while (!queue.isEmpty()) {
+                for (Object child : getChildren(queue.poll(), true)) {
+                    if (!isInlineValue(child) && !handles.containsKey(child)) {
+                        addObject(child, queue);
+                    }
+                }
+            }
+
+            // Object table: the class of every object, and the length of the arrays
+            body.writeVarInt(objects.size());
+            for (Object object : objects) {
+                body.writeVarInt(getClassIndex(object.getClass()));
+                if (object.getClass().isArray()) {
+                    body.writeVarInt(Array.getLength(object));
+                }
+            }
+
+            // The content of every object
+            for (Object object : objects) {
+                Class<?> clazz = object.getClass();
+                if (clazz.isArray()) {
+                    int length = Array.getLength(object);
+                    for (int i = 0; i < length; i++) {
+                        writeValue(Array.get(object, i));
+                    }
+
+                } else if (object instanceof Collection) {
+                    Collection<?> collection = (Collection<?>) object;
+                    body.writeVarInt(collection.size());
+                    for (Object element : collection) {
+                        writeValue(element);
+                    }
+
+                } else if (object instanceof Map) {
+                    Map<?, ?> map = (Map<?, ?>) object;
+                    body.writeVarInt(map.size());
+                    for (Map.Entry<?, ?> entry : map.entrySet()) {
+                        writeValue(entry.getKey());
+                        writeValue(entry.getValue());
+                    }
+
+                } else {
+                    // A bit per field tells whether its value is written, or the value of a new instance is kept
+                    List<Field> fields = getFields(clazz);
+                    Object prototype = getPrototype(clazz);
+                    byte[] writtenFields = new byte[(fields.size() + 7) / 8];
+                    List<Object> values = new ArrayList<>(fields.size());
+                    for (int i = 0; i < fields.size(); i++) {
+                        Object value = fields.get(i).get(object);
+                        if (!isDefaultValue(prototype, fields.get(i), value)) {
+                            writtenFields[i / 8] |= 1 << (i % 8);
+                            values.add(value);
+                        }
+                    }
+                    body.writeBytes(writtenFields);
+                    for (Object value : values) {
+                        writeValue(value);
+                    }
+                }
+            }
+
+            // The class descriptors add the class names to the string table, which is written first
+            ByteWriter descriptors = new ByteWriter();
+            descriptors.writeVarInt(classes.size());
+            for (Class<?> clazz : classes.keySet()) {
+                writeClassDescriptor(descriptors, clazz);
+            }
+
+            ByteWriter snapshot = new ByteWriter();
+            snapshot.writeInt(MAGIC);
+            snapshot.write(FORMAT_VERSION);
+            snapshot.writeString(version);
+            snapshot.writeVarInt(strings.size());
+            for (String string : strings.keySet()) {
+                snapshot.writeString(string);
+            }
+            snapshot.writeBytes(descriptors.toByteArray());
+            snapshot.writeBytes(body.toByteArray());
+            return snapshot.toByteArray();
+        }
+
+        protected void addObject(Object object, ArrayDeque<Object> queue) {
+            Class<?> clazz = object.getClass();
+            if (getKind(clazz) == KIND_OBJECT) {
+                getNoArgConstructor(clazz);
+            }
+            handles.put(object, objects.size());
+            objects.add(object);
+            queue.add(object);
+        }
+
+        protected Collection<?> getChildren(Object object, boolean skipDefaultValues) throws ReflectiveOperationException {
+            Class<?> clazz = object.getClass();
+            if (clazz.isArray()) {
+                if (clazz.getComponentType().isPrimitive()) {
+                    return new ArrayList<>();
+                }
+                return Arrays.asList((Object[]) object);
+
+            } else if (object instanceof Collection) {
+                return (Collection<?>) object;
+
+            } else if (object instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) object;
+                List<Object> children = new ArrayList<>(map.size() * 2);
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    children.add(entry.getKey());
+                    children.add(entry.getValue());
+                }
+                return children;
+
+            } else {
+                List<Field> fields = getFields(clazz);
+                Object prototype = skipDefaultValues ? getPrototype(clazz) : null;
+                List<Object> children = new ArrayList<>(fields.size());
+                for (Field field : fields) {
+                    Object value = field.get(object);
+                    if (!skipDefaultValues || !isDefaultValue(prototype, field, value)) {
+                        children.add(value);
+                    }
+                }
+                return children;
+            }
+        }
+
+        /**
+         * A value is left out when a new instance has the same value, or an empty collection of the same type that nothing else references.
+         */
+        protected boolean isDefaultValue(Object prototype, Field field, Object value) throws IllegalAccessException {
+            Object defaultValue = field.get(prototype);
+            if (value == null || isInlineValue(value)) {
+                return value == null ? defaultValue == null : value.equals(defaultValue);
+            }
+            if (value == defaultValue) {
+                return true;
+            }
+            if (defaultValue == null || value.getClass() != defaultValue.getClass() || referenceCounts.get(value) != 1) {
+                return false;
+            }
+            if (value instanceof Collection) {
+                return ((Collection<?>) value).isEmpty() && ((Collection<?>) defaultValue).isEmpty();
+            }
+            if (value instanceof Map) {
+                return ((Map<?, ?>) value).isEmpty() && ((Map<?, ?>) defaultValue).isEmpty();
+            }
+            return false;
+        }
+
+        protected void writeValue(Object value) {
+            if (value == null) {
+                body.write(TAG_NULL);
+            } else if (value instanceof String) {
+                body.write(TAG_STRING);
+                body.writeVarInt(getStringIndex((String) value));
+            } else if (value instanceof Boolean) {
+                body.write((Boolean) value ? TAG_TRUE : TAG_FALSE);
+            } else if (value instanceof Integer) {
+                body.write(TAG_INT);
+                body.writeVarLong(zigZag((Integer) value));
+            } else if (value instanceof Long) {
+                body.write(TAG_LONG);
+                body.writeVarLong(zigZag((Long) value));
+            } else if (value instanceof Double) {
+                body.write(TAG_DOUBLE);
+                body.writeLong(Double.doubleToLongBits((Double) value));
+            } else if (value instanceof Float) {
+                body.write(TAG_FLOAT);
+                body.writeInt(Float.floatToIntBits((Float) value));
+            } else if (value instanceof Short) {
+                body.write(TAG_SHORT);
+                body.writeVarLong(zigZag((Short) value));
+            } else if (value instanceof Byte) {
+                body.write(TAG_BYTE);
+                body.write((Byte) value);
+            } else if (value instanceof Character) {
+                body.write(TAG_CHAR);
+                body.writeVarInt((Character) value);
+            } else if (value instanceof Enum) {
+                Enum<?> enumValue = (Enum<?>) value;
+                body.write(TAG_ENUM);
+                body.writeVarInt(getClassIndex(enumValue.getDeclaringClass()));
+                body.writeVarInt(getStringIndex(enumValue.name()));
+            } else if (value instanceof Date) {
+                if (value.getClass() != Date.class) {
+                    throw new FlowableException("Unsupported date type in model snapshot: " + value.getClass().getName());
+                }
+                body.write(TAG_DATE);
+                body.writeVarLong(zigZag(((Date) value).getTime()));
+            } else if (value instanceof Number) {
+                throw new FlowableException("Unsupported number type in model snapshot: " + value.getClass().getName());
+            } else {
+                body.write(TAG_REFERENCE);
+                body.writeVarInt(handles.get(value));
+            }
+        }
+
+        protected void writeClassDescriptor(ByteWriter writer, Class<?> clazz) {
+            int kind = getKind(clazz);
+            writer.write(kind);
+            writer.writeVarInt(getStringIndex(clazz.getName()));
+            if (kind == KIND_OBJECT) {
+                writer.writeVarInt(getFields(clazz).size());
+                writer.writeLong(getFieldsFingerprint(clazz));
+            }
+        }
+
+        protected int getStringIndex(String string) {
+            Integer index = strings.get(string);
+            if (index == null) {
+                index = strings.size();
+                strings.put(string, index);
+            }
+            return index;
+        }
+
+        protected int getClassIndex(Class<?> clazz) {
+            Integer index = classes.get(clazz);
+            if (index == null) {
+                index = classes.size();
+                classes.put(clazz, index);
+            }
+            return index;
+        }
+    }
+
+    protected class SnapshotReader {
+
+        protected ByteReader reader;
+        protected ClassLoader classLoader;
+        protected String[] strings;
+        protected Class<?>[] classes;
+        protected Object[] objects;
+
+        public SnapshotReader(byte[] bytes, ClassLoader classLoader) {
+            this.reader = new ByteReader(bytes);
+            this.classLoader = classLoader;
+        }
+
+        public Object read() throws ReflectiveOperationException {
+            if (reader.remaining() < 5 || reader.readInt() != MAGIC) {
+                throw new FlowableException("Invalid model snapshot: unknown format");
+            }
+            int formatVersion = reader.read();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new FlowableException("Unsupported model snapshot format version " + formatVersion);
+            }
+            String snapshotVersion = reader.readString();
+            if (!version.equals(snapshotVersion)) {
+                throw new FlowableException("Model snapshot was written by engine version " + snapshotVersion + ", the current version is " + version);
+            }
+
+            strings = new String[readCount()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = reader.readString();
+            }
+
+            classes = new Class<?>[readCount()];
+            for (int i = 0; i < classes.length; i++) {
+                classes[i] = readClassDescriptor();
+            }
+
+            // Instantiate all objects first, so the fields can reference objects that come later
+            objects = new Object[readCount()];
+            if (objects.length == 0) {
+                throw new FlowableException("Invalid model snapshot: no model");
+            }
+            for (int i = 0; i < objects.length; i++) {
+                Class<?> clazz = readClass();
+                if (clazz.isArray()) {
+                    objects[i] = Array.newInstance(clazz.getComponentType(), readCount());
+                } else if (clazz.isEnum()) {
+                    throw new FlowableException("Invalid model snapshot: enum " + clazz.getName() + " used as object");
+                } else {
+                    objects[i] = getNoArgConstructor(clazz).newInstance();
+                }
+            }
+
+            // Collections and maps are filled when all objects are complete, inner collections first
+            List<Integer> containers = new ArrayList<>();
+            List<Integer> containerSizes = new ArrayList<>();
+            List<Object[]> containerElements = new ArrayList<>();
+            for (int i = 0; i < objects.length; i++) {
+                Object object = objects[i];
+                Class<?> clazz = object.getClass();
+                if (clazz.isArray()) {
+                    int length = Array.getLength(object);
+                    for (int j = 0; j < length; j++) {
+                        Array.set(object, j, readValue());
+                    }
+
+                } else if (object instanceof Collection || object instanceof Map) {
+                    int size = readCount();
+                    int valueCount = object instanceof Map ? size * 2 : size;
+                    Object[] elements = new Object[valueCount];
+                    for (int j = 0; j < valueCount; j++) {
+                        elements[j] = readValue();
+                    }
+                    containers.add(i);
+                    containerSizes.add(size);
+                    containerElements.add(elements);
+
+                } else {
+                    List<Field> fields = getFields(clazz);
+                    byte[] writtenFields = reader.readBytes((fields.size() + 7) / 8);
+                    for (int j = 0; j < fields.size(); j++) {
+                        if ((writtenFields[j / 8] & (1 << (j % 8))) != 0) {
+                            fields.get(j).set(object, readValue());
+                        }
+                    }
+                }
+            }
+
+            if (reader.remaining() != 0) {
+                throw new FlowableException("Invalid model snapshot: unexpected data after the model");
+            }
+
+            for (int i = containers.size() - 1; i >= 0; i--) {
+                Object container = objects[containers.get(i)];
+                Object[] elements = containerElements.get(i);
+                if (container instanceof Map) {
+                    @SuppressWarnings("unchecked")
+                    Map<Object, Object> map = (Map<Object, Object>) container;
+                    for (int j = 0; j < elements.length; j += 2) {
+                        map.put(elements[j], elements[j + 1]);
+                    }
+                } else {
+                    @SuppressWarnings("unchecked")
+                    Collection<Object> collection = (Collection<Object>) container;
+                    collection.addAll(Arrays.asList(elements));
+                }
+            }
+
+            return objects[0];
+        }
+
+        protected Class<?> readClassDescriptor() throws ClassNotFoundException {
+            int kind = reader.read();
+            String className = readString();
+            Class<?> clazz = Class.forName(className, false, classLoader);
+            if (getKind(clazz) != kind) {
+                throw new FlowableException("Model snapshot doesn't match " + className);
+            }
+
+            if (kind == KIND_OBJECT) {
+                int fieldCount = reader.readVarInt();
+                long fieldsFingerprint = reader.readLong();
+                if (fieldCount != getFields(clazz).size() || fieldsFingerprint != getFieldsFingerprint(clazz)) {
+                    throw new FlowableException("Model snapshot doesn't match the fields of " + className);
+                }
+            }
+            return clazz;
+        }
+
+        protected Object readValue() {
+            int tag = reader.read();
+            switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_REFERENCE:
+                return objects[readIndex(objects.length)];
+            case TAG_STRING:
+                return readString();
+            case TAG_TRUE:
+                return Boolean.TRUE;
+            case TAG_FALSE:
+                return Boolean.FALSE;
+            case TAG_INT:
+                return (int) unZigZag(reader.readVarLong());
+            case TAG_LONG:
+                return unZigZag(reader.readVarLong());
+            case TAG_DOUBLE:
+                return Double.longBitsToDouble(reader.readLong());
+            case TAG_FLOAT:
+                return Float.intBitsToFloat(reader.readInt());
+            case TAG_SHORT:
+                return (short) unZigZag(reader.readVarLong());
+            case TAG_BYTE:
+                return (byte) reader.read();
+            case TAG_CHAR:
+                return (char) reader.readVarInt();
+            case TAG_ENUM:
+                return readEnum();
+            case TAG_DATE:
+                return new Date(unZigZag(reader.readVarLong()));
+            default:
+                throw new FlowableException("Invalid model snapshot: unknown value tag " + tag);
+            }
+        }
+
+        protected Object readEnum() {
+            Class<?> clazz = readClass();
+            String name = readString();
+            for (Object constant : clazz.getEnumConstants()) {
+                if (((Enum<?>) constant).name().equals(name)) {
+                    return constant;
+                }
+            }
+            throw new FlowableException("Model snapshot doesn't match " + clazz.getName() + ": no constant " + name);
+        }
+
+        protected Class<?> readClass() {
+            return classes[readIndex(classes.length)];
+        }
+
+        protected String readString() {
+            return strings[readIndex(strings.length)];
+        }
+
+        protected int readIndex(int size) {
+            int index = reader.readVarInt();
+            if (index < 0 || index >= size) {
+                throw new FlowableException("Invalid model snapshot: index out of range");
+            }
+            return index;
+        }
+
+        protected int readCount() {
+            int count = reader.readVarInt();
+            // Every element takes at least one byte, which protects against huge allocations on corrupt data
+            if (count < 0 || count > reader.remaining()) {
+                throw new FlowableException("Invalid model snapshot: count out of range");
+            }
+            return count;
+        }
+    }
+
+    protected Constructor<?> getNoArgConstructor(Class<?> clazz) {
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (NoSuchMethodException e) {
+            throw new FlowableException("Unsupported type in model snapshot, no constructor without arguments: " + clazz.getName());
+        }
+    }
+
+    protected static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    protected static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    protected static class ByteWriter extends ByteArrayOutputStream {
+
+        public void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        public void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        public void writeInt(int value) {
+            write(value >>> 24);
+            write(value >>> 16);
+            write(value >>> 8);
+            write(value);
+        }
+
+        public void writeLong(long value) {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+
+        public void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            write(bytes, 0, bytes.length);
+        }
+
+        public void writeBytes(byte[] bytes) {
+            write(bytes, 0, bytes.length);
+        }
+    }
+
+    protected static class ByteReader {
+
+        protected byte[] bytes;
+        protected int position;
+
+        public ByteReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        public int remaining() {
+            return bytes.length - position;
+        }
+
+        public int read() {
+            if (position >= bytes.length) {
+                throw new FlowableException("Invalid model snapshot: unexpected end of data");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        public int readVarInt() {
+            long value = readVarLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new FlowableException("Invalid model snapshot: value out of range");
+            }
+            return (int) value;
+        }
+
+        public long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = read();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new FlowableException("Invalid model snapshot: malformed number");
+        }
+
+        public int readInt() {
+            return (read() << 24) | (read() << 16) | (read() << 8) | read();
+        }
+
+        public long readLong() {
+            return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+        }
+
+        public byte[] readBytes(int length) {
+            if (length > remaining()) {
+                throw new FlowableException("Invalid model snapshot: unexpected end of data");
+            }
+            byte[] value = Arrays.copyOfRange(bytes, position, position + length);
+            position += length;
+            return value;
+        }
+
+        public String readString() {
+            int length = readVarInt();
+            if (length > remaining()) {
+                throw new FlowableException("Invalid model snapshot: unexpected end of data");
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+
+}
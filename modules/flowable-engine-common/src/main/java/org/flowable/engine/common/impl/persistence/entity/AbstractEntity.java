@@ -27,6 +27,8 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     protected boolean isInserted;
     protected boolean isUpdated;
     protected boolean isDeleted;
+    protected boolean isChangeTracked;
+    protected boolean isChanged;
     
     protected Object originalPersistentState;
 
@@ -85,8 +87,62 @@ public abstract class AbstractEntity implements Entity, HasRevision {
         this.isDeleted = isDeleted;
     }
 
+    /**
+     * Starts tracking the changes to the persistent state of this entity. Only called for entities implementing {@link ChangeTrackingEntity}.
+     */
+    public void trackChanges() {
+        this.isChangeTracked = true;
+        this.isChanged = false;
+        this.originalPersistentState = null;
+    }
+
+    /**
+     * Returns true if the persistent state of this entity was marked as changed. Only maintained by entities implementing {@link ChangeTrackingEntity}.
+     */
+    public boolean isChanged() {
+        return isChanged;
+    }
+
+    /**
+     * Marks this entity as changed. Needs to be called before the persistent state is changed: when changes are tracked, the persistent state
+     * at the first change is kept as the original persistent state, which is used by the update statement.
+     */
+    protected void markChanged() {
+        if (!isChanged) {
+            isChanged = true;
+            if (isChangeTracked) {
+                originalPersistentState = getPersistentState();
+            }
+        }
+    }
+
+    /**
+     * Marks this entity as changed if the new value of a field that is part of the persistent state differs from the current value.
+     */
+    protected void markChanged(Object currentValue, Object newValue) {
+        if (currentValue == null ? newValue != null : !currentValue.equals(newValue)) {
+            markChanged();
+        }
+    }
+
+    protected void markChanged(boolean currentValue, boolean newValue) {
+        if (currentValue != newValue) {
+            markChanged();
+        }
+    }
+
+    protected void markChanged(int currentValue, int newValue) {
+        if (currentValue != newValue) {
+            markChanged();
+        }
+    }
+
     @Override
     public Object getOriginalPersistentState() {
+        if (originalPersistentState == null && isChangeTracked && !isChanged) {
+            // nothing changed yet, so the current persistent state is the original one
+            return getPersistentState();
+        }
         return originalPersistentState;
     }
 
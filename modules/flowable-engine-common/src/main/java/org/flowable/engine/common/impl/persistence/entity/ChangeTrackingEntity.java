@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.entity;
+
+import org.flowable.engine.common.impl.persistence.cache.CachedEntity;
+
+/**
+ * An {@link Entity} that keeps track of changes to its persistent state itself: every change to a value that is part of the {@link #getPersistentState()}
+ * marks the entity as changed. This way, a {@link CachedEntity} can tell whether the entity needs to be updated without taking a snapshot of the persistent state
+ * when the entity is loaded and comparing it with the persistent state at flush time. The original persistent state is only taken at the first change.
+ * 
+ * Entities that don't implement this interface are compared using their persistent state. A subclass of a change tracking entity that adds values to the
+ * persistent state must mark the entity as changed when those values change as well.
+ */
+public interface ChangeTrackingEntity extends Entity {
+
+    /**
+     * Starts tracking the changes of this entity, called when the entity is loaded.
+     */
+    void trackChanges();
+
+    /**
+     * Returns true if the persistent state of this entity changed since the last call to {@link #trackChanges()}.
+     */
+    boolean isChanged();
+
+}
@@ -433,6 +433,12 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
         return this;
     }
 
+    @Override
+    public ProcessEngineConfiguration setJdbcStreamFetchSize(int jdbcStreamFetchSize) {
+        this.jdbcStreamFetchSize = jdbcStreamFetchSize;
+        return this;
+    }
+
     public boolean isAsyncExecutorActivate() {
         return asyncExecutorActivate;
     }
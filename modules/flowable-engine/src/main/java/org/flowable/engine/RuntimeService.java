@@ -35,6 +35,7 @@ import org.flowable.engine.runtime.NativeProcessInstanceQuery;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
+import org.flowable.engine.runtime.SignalBroadcast;
 import org.flowable.engine.task.Event;
 import org.flowable.form.model.FormModel;
 import org.flowable.identitylink.service.IdentityLink;
@@ -1049,6 +1050,40 @@ public interface RuntimeService {
      */
     void signalEventReceivedAsyncWithTenantId(String signalName, String tenantId);
 
+    /**
+     * Broadcasts the signal event of name 'signalName' to all executions waiting on the signal, in the background. Unlike {@link #signalEventReceivedAsync(String)},
+     * this method doesn't load the subscriptions to the signal: an async job pages through them and hands them in batches to delivery jobs, that each deliver
+     * the signal to a batch of subscriptions in their own transaction. Only subscriptions that exist when the broadcast is started receive the signal.
+     * <p/>
+     * The batch size is configured with {@link org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl#setSignalBroadcastBatchSize(int)}.
+     * 
+     * @param signalName
+     *            the name of the signal event
+     * @return the id of the broadcast, to follow its progress with {@link #getSignalBroadcast(String)}
+     */
+    String broadcastSignalEventAsync(String signalName);
+
+    /**
+     * Similar to {@link #broadcastSignalEventAsync(String)}, but within the context of one tenant.
+     */
+    String broadcastSignalEventAsyncWithTenantId(String signalName, String tenantId);
+
+    /**
+     * Returns the progress of a signal broadcast started with {@link #broadcastSignalEventAsync(String)}, or null when there is no broadcast with the given id.
+     * A broadcast is kept once it has completed, until it is deleted with {@link #deleteSignalBroadcast(String)}.
+     */
+    SignalBroadcast getSignalBroadcast(String broadcastId);
+
+    /**
+     * Deletes a completed signal broadcast, together with its failed delivery jobs.
+     * 
+     * @throws FlowableObjectNotFoundException
+     *             when there is no broadcast with the given id
+     * @throws FlowableException
+     *             when the broadcast has not completed yet
+     */
+    void deleteSignalBroadcast(String broadcastId);
+
     /**
      * Notifies the process engine that a signal event of name 'signalName' has been received. This method delivers the signal to all executions waiting on the signal.
      * <p/>
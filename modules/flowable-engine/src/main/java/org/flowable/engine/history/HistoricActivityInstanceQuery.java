@@ -14,6 +14,7 @@
 package org.flowable.engine.history;
 
 import org.flowable.engine.common.api.query.Query;
+import org.flowable.engine.common.api.query.ScrollableQuery;
 
 /**
  * Programmatic querying for {@link HistoricActivityInstance}s.
@@ -21,7 +22,7 @@ import org.flowable.engine.common.api.query.Query;
  * @author Tom Baeyens
  * @author Joram Barrez
  */
-public interface HistoricActivityInstanceQuery extends Query<HistoricActivityInstanceQuery, HistoricActivityInstance> {
+public interface HistoricActivityInstanceQuery extends Query<HistoricActivityInstanceQuery, HistoricActivityInstance>, ScrollableQuery<HistoricActivityInstance> {
 
     /**
      * Only select historic activity instances with the given id (primary key within history tables).
@@ -20,6 +20,7 @@ import java.util.Set;
 
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.common.api.query.Query;
+import org.flowable.engine.common.api.query.ScrollableQuery;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
 
 /**
@@ -30,7 +31,7 @@ import org.flowable.engine.runtime.ProcessInstanceQuery;
  * @author Tijs Rademakers
  * @author Falko Menge
  */
-public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInstanceQuery, HistoricProcessInstance> {
+public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInstanceQuery, HistoricProcessInstance>, ScrollableQuery<HistoricProcessInstance> {
 
     /**
      * Only select historic process instances with the given process instance. {@link ProcessInstance) ids and {@link HistoricProcessInstance} ids match.
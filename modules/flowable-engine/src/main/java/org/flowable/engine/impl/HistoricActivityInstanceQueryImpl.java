@@ -16,6 +16,7 @@ package org.flowable.engine.impl;
 import java.util.List;
 
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.QueryResultHandler;
 import org.flowable.engine.common.impl.AbstractQuery;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.interceptor.CommandExecutor;
@@ -68,6 +69,17 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
         return CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).findHistoricActivityInstancesByQueryCriteria(this);
     }
 
+    @Override
+    public void executeStream(CommandContext commandContext, QueryResultHandler<? super HistoricActivityInstance> resultHandler) {
+        checkQueryOk();
+        CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).findHistoricActivityInstancesByQueryCriteria(this, resultHandler);
+    }
+
+    @Override
+    protected String getCursorResultMap() {
+        return "historicActivityInstanceResultMap";
+    }
+
     @Override
     public HistoricActivityInstanceQueryImpl processInstanceId(String processInstanceId) {
         this.processInstanceId = processInstanceId;
@@ -21,6 +21,7 @@ import java.util.Set;
 import org.flowable.engine.DynamicBpmnConstants;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.QueryResultHandler;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.interceptor.CommandExecutor;
 import org.flowable.engine.history.HistoricProcessInstance;
@@ -669,6 +670,33 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return results;
     }
 
+    @Override
+    public void executeStream(final CommandContext commandContext, final QueryResultHandler<? super HistoricProcessInstance> resultHandler) {
+        checkQueryOk();
+        ensureVariablesInitialized();
+        if (includeProcessVariables) {
+            throw new FlowableIllegalArgumentException("Streaming results is not supported when process variables are included");
+        }
+
+        QueryResultHandler<? super HistoricProcessInstance> handler = resultHandler;
+        if (CommandContextUtil.getProcessEngineConfiguration(commandContext).getPerformanceSettings().isEnableLocalization()) {
+            handler = new QueryResultHandler<HistoricProcessInstance>() {
+
+                @Override
+                public void handleResult(HistoricProcessInstance processInstance) {
+                    localize(processInstance, commandContext);
+                    resultHandler.handleResult(processInstance);
+                }
+            };
+        }
+        CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).findHistoricProcessInstancesByQueryCriteria(this, handler);
+    }
+
+    @Override
+    protected String getCursorResultMap() {
+        return includeProcessVariables ? null : "historicProcessInstanceResultMap";
+    }
+
     protected void localize(HistoricProcessInstance processInstance, CommandContext commandContext) {
         HistoricProcessInstanceEntity processInstanceEntity = (HistoricProcessInstanceEntity) processInstance;
         processInstanceEntity.setLocalizedName(null);
@@ -12,6 +12,9 @@
  */
 package org.flowable.engine.impl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.DynamicBpmnService;
@@ -26,10 +29,15 @@ import org.flowable.engine.RuntimeService;
 import org.flowable.engine.TaskService;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.impl.cfg.TransactionContextFactory;
+import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandExecutor;
 import org.flowable.engine.common.impl.interceptor.SessionFactory;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheWarmUp;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.GetDeploymentProcessDefinitionCmd;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +64,7 @@ public class ProcessEngineImpl implements ProcessEngine {
     protected Map<Class<?>, SessionFactory> sessionFactories;
     protected TransactionContextFactory transactionContextFactory;
     protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected DeploymentCacheWarmUp processDefinitionCacheWarmUp;
 
     public ProcessEngineImpl(ProcessEngineConfigurationImpl processEngineConfiguration) {
         this.processEngineConfiguration = processEngineConfiguration;
@@ -98,6 +107,30 @@ public class ProcessEngineImpl implements ProcessEngine {
         if (asyncHistoryExecutor != null && asyncHistoryExecutor.isAutoActivate()) {
             asyncHistoryExecutor.start();
         }
+
+        if (processEngineConfiguration.isEnableProcessDefinitionCacheWarmUp()) {
+            startProcessDefinitionCacheWarmUp();
+        }
+    }
+
+    protected void startProcessDefinitionCacheWarmUp() {
+        Map<String, String> deploymentIdByProcessDefinitionId = new HashMap<>();
+        for (ProcessDefinition processDefinition : repositoryService.createProcessDefinitionQuery().latestVersion().list()) {
+            deploymentIdByProcessDefinitionId.put(processDefinition.getId(), processDefinition.getDeploymentId());
+        }
+        List<String> deploymentIds = new ArrayList<>();
+        for (Deployment deployment : repositoryService.createDeploymentQuery().orderByDeploymenTime().desc().orderByDeploymentId().desc().list()) {
+            deploymentIds.add(deployment.getId());
+        }
+
+        List<Command<?>> resolveCommands = new ArrayList<>();
+        for (String processDefinitionId : DeploymentCacheWarmUp.selectDefinitionIds(deploymentIdByProcessDefinitionId, deploymentIds,
+                processEngineConfiguration.getProcessDefinitionCacheLimit())) {
+            resolveCommands.add(new GetDeploymentProcessDefinitionCmd(processDefinitionId));
+        }
+
+        processDefinitionCacheWarmUp = new DeploymentCacheWarmUp("bpmn", commandExecutor, processEngineConfiguration.getProcessDefinitionCacheWarmUpPoolSize());
+        processDefinitionCacheWarmUp.start(resolveCommands);
     }
 
     @Override
@@ -109,6 +142,13 @@ public class ProcessEngineImpl implements ProcessEngine {
         if (asyncHistoryExecutor != null && asyncHistoryExecutor.isActive()) {
             asyncHistoryExecutor.shutdown();
         }
+        if (processDefinitionCacheWarmUp != null) {
+            processDefinitionCacheWarmUp.shutdown();
+            processDefinitionCacheWarmUp = null;
+        }
+        if (processEngineConfiguration.getScriptingEngines() != null) {
+            processEngineConfiguration.getScriptingEngines().clearCompiledScriptCaches();
+        }
 
         Runnable closeRunnable = processEngineConfiguration.getProcessEngineCloseRunnable();
         if (closeRunnable != null) {
@@ -174,4 +214,8 @@ public class ProcessEngineImpl implements ProcessEngine {
     public ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
         return processEngineConfiguration;
     }
+
+    public DeploymentCacheWarmUp getProcessDefinitionCacheWarmUp() {
+        return processDefinitionCacheWarmUp;
+    }
 }
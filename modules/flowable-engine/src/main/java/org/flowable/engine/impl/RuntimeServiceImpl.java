@@ -30,11 +30,13 @@ import org.flowable.engine.impl.cmd.ActivateProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.AddEventListenerCommand;
 import org.flowable.engine.impl.cmd.AddIdentityLinkForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.AddMultiInstanceExecutionCmd;
+import org.flowable.engine.impl.cmd.BroadcastSignalEventCmd;
 import org.flowable.engine.impl.cmd.ChangeActivityStateCmd;
 import org.flowable.engine.impl.cmd.CompleteAdhocSubProcessCmd;
 import org.flowable.engine.impl.cmd.DeleteIdentityLinkForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.DeleteMultiInstanceExecutionCmd;
 import org.flowable.engine.impl.cmd.DeleteProcessInstanceCmd;
+import org.flowable.engine.impl.cmd.DeleteSignalBroadcastCmd;
 import org.flowable.engine.impl.cmd.DispatchEventCommand;
 import org.flowable.engine.impl.cmd.ExecuteActivityForAdhocSubProcessCmd;
 import org.flowable.engine.impl.cmd.FindActiveActivityIdsCmd;
@@ -49,6 +51,7 @@ import org.flowable.engine.impl.cmd.GetExecutionVariablesCmd;
 import org.flowable.engine.impl.cmd.GetExecutionsVariablesCmd;
 import org.flowable.engine.impl.cmd.GetIdentityLinksForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.GetProcessInstanceEventsCmd;
+import org.flowable.engine.impl.cmd.GetSignalBroadcastCmd;
 import org.flowable.engine.impl.cmd.GetStartFormCmd;
 import org.flowable.engine.impl.cmd.GetStartFormModelCmd;
 import org.flowable.engine.impl.cmd.HasExecutionVariableCmd;
@@ -76,6 +79,7 @@ import org.flowable.engine.runtime.NativeProcessInstanceQuery;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
+import org.flowable.engine.runtime.SignalBroadcast;
 import org.flowable.engine.task.Event;
 import org.flowable.form.model.FormModel;
 import org.flowable.identitylink.service.IdentityLink;
@@ -539,6 +543,26 @@ public class RuntimeServiceImpl extends ServiceImpl implements RuntimeService {
         commandExecutor.execute(new SignalEventReceivedCmd(signalName, null, true, tenantId));
     }
 
+    @Override
+    public String broadcastSignalEventAsync(String signalName) {
+        return commandExecutor.execute(new BroadcastSignalEventCmd(signalName, null, true));
+    }
+
+    @Override
+    public String broadcastSignalEventAsyncWithTenantId(String signalName, String tenantId) {
+        return commandExecutor.execute(new BroadcastSignalEventCmd(signalName, tenantId, true));
+    }
+
+    @Override
+    public SignalBroadcast getSignalBroadcast(String broadcastId) {
+        return commandExecutor.execute(new GetSignalBroadcastCmd(broadcastId));
+    }
+
+    @Override
+    public void deleteSignalBroadcast(String broadcastId) {
+        commandExecutor.execute(new DeleteSignalBroadcastCmd(broadcastId));
+    }
+
     @Override
     public void signalEventReceived(String signalName, Map<String, Object> processVariables) {
         commandExecutor.execute(new SignalEventReceivedCmd(signalName, null, processVariables, null));
@@ -26,6 +26,7 @@ import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.common.api.delegate.Expression;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.cmd.BroadcastSignalEventCmd;
 import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntityManager;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.SignalEventSubscriptionEntity;
@@ -72,6 +73,12 @@ public class IntermediateThrowSignalEventActivityBehavior extends AbstractBpmnAc
             eventSubscriptionName = expressionObject.getValue(execution).toString();
         }
 
+        if (!processInstanceScope && signalEventDefinition.isAsync() && CommandContextUtil.getProcessEngineConfiguration(commandContext).isEnableSignalBroadcastFanOut()) {
+            new BroadcastSignalEventCmd(eventSubscriptionName, execution.getTenantId()).execute(commandContext);
+            CommandContextUtil.getAgenda(commandContext).planTakeOutgoingSequenceFlowsOperation((ExecutionEntity) execution, true);
+            return;
+        }
+
         EventSubscriptionEntityManager eventSubscriptionEntityManager = CommandContextUtil.getEventSubscriptionEntityManager(commandContext);
         List<SignalEventSubscriptionEntity> subscriptionEntities = null;
         if (processInstanceScope) {
@@ -30,10 +30,14 @@ import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.helper.ScopeUtil;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceJoinJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
 
 /**
  * @author Joram Barrez
@@ -126,6 +130,11 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         }
 
         DelegateExecution miRootExecution = getMultiInstanceRootExecution(execution);
+        if (miRootExecution != null && ((ExecutionEntity) execution).getParent() != null && isAsyncJoin((ExecutionEntity) miRootExecution)) {
+            leaveWithAsyncJoin((ExecutionEntity) execution, (ExecutionEntity) miRootExecution, loopCounter, nrOfInstances);
+            return;
+        }
+
         if (miRootExecution != null) { // will be null in case of empty collection
             setLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
             setLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
@@ -150,30 +159,106 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
                     leavingExecution = executionEntity;
                 }
 
-                Activity activity = (Activity) execution.getCurrentFlowElement();
-                verifyCompensation(execution, leavingExecution, activity);
-                verifyCallActivity(leavingExecution, activity);
-                
-                if (isCompletionConditionSatisfied) {
-                    LinkedList<DelegateExecution> toVerify = new LinkedList<>(miRootExecution.getExecutions());
-                    while (!toVerify.isEmpty()) {
-                        DelegateExecution childExecution = toVerify.pop();
-                        if (((ExecutionEntity) childExecution).isInserted()) {
-                            childExecution.inactivate();
-                        }
-                        
-                        List<DelegateExecution> childExecutions = (List<DelegateExecution>) childExecution.getExecutions();
-                        if (childExecutions != null && !childExecutions.isEmpty()) {
-                            toVerify.addAll(childExecutions);
-                        }
-                    }
+                completeMultiInstance(execution, leavingExecution, miRootExecution, isCompletionConditionSatisfied);
+            }
+
+        } else {
+            super.leave(execution);
+        }
+    }
+
+    protected void completeMultiInstance(DelegateExecution execution, ExecutionEntity leavingExecution, DelegateExecution miRootExecution, boolean isCompletionConditionSatisfied) {
+        Activity activity = (Activity) execution.getCurrentFlowElement();
+        verifyCompensation(execution, leavingExecution, activity);
+        verifyCallActivity(leavingExecution, activity);
+        
+        if (isCompletionConditionSatisfied) {
+            LinkedList<DelegateExecution> toVerify = new LinkedList<>(miRootExecution.getExecutions());
+            while (!toVerify.isEmpty()) {
+                DelegateExecution childExecution = toVerify.pop();
+                if (((ExecutionEntity) childExecution).isInserted()) {
+                    childExecution.inactivate();
                 }
                 
-                super.leave(leavingExecution);
+                List<DelegateExecution> childExecutions = (List<DelegateExecution>) childExecution.getExecutions();
+                if (childExecutions != null && !childExecutions.isEmpty()) {
+                    toVerify.addAll(childExecutions);
+                }
             }
+        }
+        
+        super.leave(leavingExecution);
+    }
+
+    /**
+     * Whether the completion of an instance is joined asynchronously, see {@link ProcessEngineConfigurationImpl#isEnableParallelMultiInstanceAsyncJoin()}.
+     * Instances that complete in the transaction that created them use the loop variables as before.
+     */
+    protected boolean isAsyncJoin(ExecutionEntity miRootExecution) {
+        return CommandContextUtil.getProcessEngineConfiguration().isEnableParallelMultiInstanceAsyncJoin() && !miRootExecution.isInserted();
+    }
+
+    /**
+     * Completes one instance without writing to the multi-instance root execution or its parent scope: the execution of the instance is inactivated,
+     * so it isn't counted as an active instance anymore. When all other instances were completed by committed transactions,
+     * the multi-instance is left right away. Otherwise a {@link ParallelMultiInstanceJoinJobHandler} job is created for the multi-instance root execution,
+     * which updates the loop variables and checks whether the multi-instance can be left once this transaction has been committed.
+     */
+    protected void leaveWithAsyncJoin(ExecutionEntity execution, ExecutionEntity miRootExecution, int loopCounter, int nrOfInstances) {
+        // The execution of this instance is still active in the database, as the changes of this transaction aren't flushed yet
+        int nrOfCompletedInstances = nrOfInstances - (int) countActiveInstances(miRootExecution) + 1;
+        execution.inactivate();
+
+        logLoopDetails(execution, "instance completed", loopCounter, nrOfCompletedInstances, nrOfInstances - nrOfCompletedInstances, nrOfInstances);
+
+        if (nrOfCompletedInstances >= nrOfInstances) {
+            joinCompletedInstances(execution, miRootExecution, nrOfCompletedInstances, nrOfInstances);
 
         } else {
-            super.leave(execution);
+            JobService jobService = CommandContextUtil.getJobService();
+            JobEntity job = jobService.createJob();
+            job.setExecutionId(miRootExecution.getId());
+            job.setProcessInstanceId(miRootExecution.getProcessInstanceId());
+            job.setProcessDefinitionId(miRootExecution.getProcessDefinitionId());
+
+            // Inherit tenant id (if applicable)
+            if (miRootExecution.getTenantId() != null) {
+                job.setTenantId(miRootExecution.getTenantId());
+            }
+
+            // Exclusive, so the join jobs of one process instance are executed one after the other
+            jobService.createAsyncJob(job, true);
+            job.setJobHandlerType(ParallelMultiInstanceJoinJobHandler.TYPE);
+            jobService.scheduleAsyncJob(job);
+        }
+    }
+
+    /**
+     * Called by the {@link ParallelMultiInstanceJoinJobHandler} job created when an instance completed: sets the loop variables to the number of completed instances
+     * and leaves the multi-instance when all instances have completed or when the completion condition is satisfied.
+     */
+    public void joinCompletedInstances(ExecutionEntity miRootExecution) {
+        if (!miRootExecution.isMultiInstanceRoot() || miRootExecution.isEnded()) {
+            return;
+        }
+
+        int nrOfInstances = getLoopVariable(miRootExecution, NUMBER_OF_INSTANCES);
+        int nrOfCompletedInstances = nrOfInstances - (int) countActiveInstances(miRootExecution);
+        joinCompletedInstances(miRootExecution, miRootExecution, nrOfCompletedInstances, nrOfInstances);
+    }
+
+    protected long countActiveInstances(ExecutionEntity miRootExecution) {
+        return CommandContextUtil.getExecutionEntityManager().countActiveChildExecutionsByParentExecutionIdAndActivityId(miRootExecution.getId(), miRootExecution.getActivityId());
+    }
+
+    protected void joinCompletedInstances(ExecutionEntity execution, ExecutionEntity miRootExecution, int nrOfCompletedInstances, int nrOfInstances) {
+        setLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
+        setLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfInstances - nrOfCompletedInstances);
+
+        boolean isCompletionConditionSatisfied = completionConditionSatisfied(miRootExecution);
+        if (nrOfCompletedInstances >= nrOfInstances || isCompletionConditionSatisfied) {
+            lockFirstParentScope(execution);
+            completeMultiInstance(execution, miRootExecution, miRootExecution, isCompletionConditionSatisfied);
         }
     }
 
@@ -13,9 +13,11 @@
 package org.flowable.engine.impl.bpmn.deployer;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.constants.BpmnXMLConstants;
@@ -33,7 +35,9 @@ import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.impl.cfg.IdGenerator;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.deploy.ModelSnapshotCodec;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.deploy.Deployer;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
@@ -80,6 +84,7 @@ public class BpmnDeployer implements Deployer {
 
         createAndPersistNewDiagramsIfNeeded(parsedDeployment);
         setProcessDefinitionDiagramNames(parsedDeployment);
+        persistModelSnapshotsIfNeeded(parsedDeployment);
 
         if (deployment.isNew()) {
             Map<ProcessDefinitionEntity, ProcessDefinitionEntity> mapOfNewProcessDefinitionToPreviousVersion = getPreviousVersionsOfProcessDefinitions(parsedDeployment);
@@ -126,6 +131,42 @@ public class BpmnDeployer implements Deployer {
         }
     }
 
+    /**
+     * Stores the snapshots of the BPMN models that were created while parsing a new deployment as extra resources of the deployment, so
+     * they can be read instead of the BPMN XML when the process definitions are put in the cache again. No snapshot is stored for a BPMN
+     * resource when the deployment already holds a resource with the name of its snapshot.
+     */
+    protected void persistModelSnapshotsIfNeeded(ParsedDeployment parsedDeployment) {
+        final DeploymentEntity deploymentEntity = parsedDeployment.getDeployment();
+        if (!deploymentEntity.isNew()) {
+            return;
+        }
+
+        final ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        final ResourceEntityManager resourceEntityManager = processEngineConfiguration.getResourceEntityManager();
+
+        Set<String> bpmnResourceNames = new HashSet<>();
+        for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
+            BpmnParse bpmnParse = parsedDeployment.getBpmnParseForProcessDefinition(processDefinition);
+            String bpmnResourceName = parsedDeployment.getResourceForProcessDefinition(processDefinition).getName();
+            if (bpmnParse.getModelSnapshot() != null && bpmnResourceNames.add(bpmnResourceName)) {
+                String modelSnapshotResourceName = ModelSnapshotCodec.getResourceName(bpmnResourceName);
+                if (deploymentEntity.getResources().containsKey(modelSnapshotResourceName)) {
+                    LOGGER.warn("No model snapshot is stored for resource {}, the deployment already contains a resource named {}", bpmnResourceName, modelSnapshotResourceName);
+                    continue;
+                }
+
+                ResourceEntity resource = resourceEntityManager.create();
+                resource.setName(modelSnapshotResourceName);
+                resource.setBytes(bpmnParse.getModelSnapshot());
+                resource.setDeploymentId(deploymentEntity.getId());
+                resource.setGenerated(true);
+                resourceEntityManager.insert(resource, false);
+                deploymentEntity.addResource(resource);
+            }
+        }
+    }
+
     /**
      * Updates all the process definition entities to have the correct diagram resource name. Must be called after createAndPersistNewDiagramsAsNeeded to ensure that any newly-created diagrams already
      * have their resources attached to the deployment.
@@ -98,6 +98,7 @@ public class CachingAndArtifactsManager {
         }
 
         ProcessDefinitionInfoCacheObject definitionCacheObject = new ProcessDefinitionInfoCacheObject();
+        definitionCacheObject.setProcessDefinitionId(processDefinition.getId());
         if (definitionInfoEntity == null) {
             definitionCacheObject.setRevision(0);
         } else {
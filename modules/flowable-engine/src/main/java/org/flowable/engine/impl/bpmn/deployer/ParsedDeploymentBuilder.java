@@ -18,12 +18,15 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.impl.persistence.deploy.ModelSnapshotCodec;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.bpmn.parser.BpmnParser;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.DeploymentSettings;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ResourceEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -73,7 +76,11 @@ public class ParsedDeploymentBuilder {
                 .deployment(deployment)
                 .name(resourceName);
 
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        boolean enableModelSnapshots = processEngineConfiguration != null && processEngineConfiguration.isEnableModelSnapshots();
+
         if (deploymentSettings != null) {
+            bpmnParse.setCreateModelSnapshot(enableModelSnapshots);
 
             // Schema validation if needed
             if (deploymentSettings.containsKey(DeploymentSettings.IS_BPMN20_XSD_VALIDATION_ENABLED)) {
@@ -89,6 +96,14 @@ public class ParsedDeploymentBuilder {
             // On redeploy, we assume it is validated at the first deploy
             bpmnParse.setValidateSchema(false);
             bpmnParse.setValidateProcess(false);
+
+            // The model snapshot was created after the validation at the first deploy, a resource of the user with the same name is ignored
+            if (enableModelSnapshots) {
+                ResourceEntity modelSnapshotResource = deployment.getResources().get(ModelSnapshotCodec.getResourceName(resourceName));
+                if (modelSnapshotResource != null && modelSnapshotResource.isGenerated()) {
+                    bpmnParse.setModelSnapshot(modelSnapshotResource.getBytes());
+                }
+            }
         }
 
         try {
@@ -37,6 +37,7 @@ import org.flowable.bpmn.model.SubProcess;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.impl.event.FlowableEventSupport;
+import org.flowable.engine.common.impl.persistence.deploy.ModelSnapshotCodec;
 import org.flowable.engine.common.impl.util.io.InputStreamSource;
 import org.flowable.engine.common.impl.util.io.StreamSource;
 import org.flowable.engine.common.impl.util.io.StringStreamSource;
@@ -83,6 +84,13 @@ public class BpmnParse implements BpmnXMLConstants {
     protected StreamSource streamSource;
     protected String sourceSystemId;
 
+    /**
+     * Snapshot of the {@link BpmnModel}, see {@link ModelSnapshotCodec}. When set before parsing, the model is read from the snapshot
+     * instead of the XML. When {@link #createModelSnapshot} is true, it holds the snapshot of the parsed model afterwards.
+     */
+    protected byte[] modelSnapshot;
+    protected boolean createModelSnapshot;
+
     protected BpmnModel bpmnModel;
 
     protected String targetNamespace;
@@ -117,6 +125,8 @@ public class BpmnParse implements BpmnXMLConstants {
     protected ActivityBehaviorFactory activityBehaviorFactory;
     protected ListenerFactory listenerFactory;
 
+    protected ModelSnapshotCodec modelSnapshotCodec;
+
     /**
      * Constructor to be called by the {@link BpmnParser}.
      */
@@ -124,6 +134,7 @@ public class BpmnParse implements BpmnXMLConstants {
         this.activityBehaviorFactory = parser.getActivityBehaviorFactory();
         this.listenerFactory = parser.getListenerFactory();
         this.bpmnParserHandlers = parser.getBpmnParserHandlers();
+        this.modelSnapshotCodec = parser.getModelSnapshotCodec();
     }
 
     public BpmnParse deployment(DeploymentEntity deployment) {
@@ -135,54 +146,16 @@ public class BpmnParse implements BpmnXMLConstants {
         try {
 
             ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-            BpmnXMLConverter converter = new BpmnXMLConverter();
 
-            boolean enableSafeBpmnXml = false;
-            String encoding = null;
-            if (processEngineConfiguration != null) {
-                enableSafeBpmnXml = processEngineConfiguration.isEnableSafeBpmnXml();
-                encoding = processEngineConfiguration.getXmlEncoding();
+            if (modelSnapshot != null) {
+                bpmnModel = readModelSnapshot();
             }
 
-            if (encoding != null) {
-                bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml, encoding);
-            } else {
-                bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml);
-            }
+            if (bpmnModel == null) {
+                convertAndValidate(processEngineConfiguration);
 
-            // XSD validation goes first, then process/semantic validation
-            if (validateProcess) {
-                ProcessValidator processValidator = processEngineConfiguration.getProcessValidator();
-                if (processValidator == null) {
-                    LOGGER.warn("Process should be validated, but no process validator is configured on the process engine configuration!");
-                } else {
-                    List<ValidationError> validationErrors = processValidator.validate(bpmnModel);
-                    if (validationErrors != null && !validationErrors.isEmpty()) {
-
-                        StringBuilder warningBuilder = new StringBuilder();
-                        StringBuilder errorBuilder = new StringBuilder();
-
-                        for (ValidationError error : validationErrors) {
-                            if (error.isWarning()) {
-                                warningBuilder.append(error.toString());
-                                warningBuilder.append("\n");
-                            } else {
-                                errorBuilder.append(error.toString());
-                                errorBuilder.append("\n");
-                            }
-                        }
-
-                        // Throw exception if there is any error
-                        if (errorBuilder.length() > 0) {
-                            throw new FlowableException("Errors while parsing:\n" + errorBuilder);
-                        }
-
-                        // Write out warnings (if any)
-                        if (warningBuilder.length() > 0) {
-                            LOGGER.warn("Following warnings encountered during process validation: {}", warningBuilder.toString());
-                        }
-
-                    }
+                if (createModelSnapshot) {
+                    createModelSnapshot();
                 }
             }
 
@@ -210,6 +183,82 @@ public class BpmnParse implements BpmnXMLConstants {
         return this;
     }
 
+    protected void convertAndValidate(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        BpmnXMLConverter converter = new BpmnXMLConverter();
+
+        boolean enableSafeBpmnXml = false;
+        String encoding = null;
+        if (processEngineConfiguration != null) {
+            enableSafeBpmnXml = processEngineConfiguration.isEnableSafeBpmnXml();
+            encoding = processEngineConfiguration.getXmlEncoding();
+        }
+
+        if (encoding != null) {
+            bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml, encoding);
+        } else {
+            bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml);
+        }
+
+        // XSD validation goes first, then process/semantic validation
+        if (validateProcess) {
+            ProcessValidator processValidator = processEngineConfiguration.getProcessValidator();
+            if (processValidator == null) {
+                LOGGER.warn("Process should be validated, but no process validator is configured on the process engine configuration!");
+            } else {
+                List<ValidationError> validationErrors = processValidator.validate(bpmnModel);
+                if (validationErrors != null && !validationErrors.isEmpty()) {
+
+                    StringBuilder warningBuilder = new StringBuilder();
+                    StringBuilder errorBuilder = new StringBuilder();
+
+                    for (ValidationError error : validationErrors) {
+                        if (error.isWarning()) {
+                            warningBuilder.append(error.toString());
+                            warningBuilder.append("\n");
+                        } else {
+                            errorBuilder.append(error.toString());
+                            errorBuilder.append("\n");
+                        }
+                    }
+
+                    // Throw exception if there is any error
+                    if (errorBuilder.length() > 0) {
+                        throw new FlowableException("Errors while parsing:\n" + errorBuilder);
+                    }
+
+                    // Write out warnings (if any)
+                    if (warningBuilder.length() > 0) {
+                        LOGGER.warn("Following warnings encountered during process validation: {}", warningBuilder.toString());
+                    }
+
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the {@link BpmnModel} from the {@link #modelSnapshot}, or returns null when the snapshot can't be read, for example when it was
+     * written by another version of the format or of the model classes. The model is then converted from the XML again.
+     */
+    protected BpmnModel readModelSnapshot() {
+        try {
+            return modelSnapshotCodec.decode(modelSnapshot, BpmnModel.class);
+        } catch (FlowableException e) {
+            LOGGER.warn("Could not read the model snapshot of {}, parsing the XML instead: {}", name, e.getMessage());
+            modelSnapshot = null;
+            return null;
+        }
+    }
+
+    protected void createModelSnapshot() {
+        try {
+            modelSnapshot = modelSnapshotCodec.encode(bpmnModel);
+        } catch (FlowableException e) {
+            LOGGER.warn("Could not create a model snapshot of {}", name, e);
+            modelSnapshot = null;
+        }
+    }
+
     public BpmnParse name(String name) {
         this.name = name;
         return this;
@@ -434,6 +483,22 @@ public class BpmnParse implements BpmnXMLConstants {
         this.validateProcess = validateProcess;
     }
 
+    public byte[] getModelSnapshot() {
+        return modelSnapshot;
+    }
+
+    public void setModelSnapshot(byte[] modelSnapshot) {
+        this.modelSnapshot = modelSnapshot;
+    }
+
+    public boolean isCreateModelSnapshot() {
+        return createModelSnapshot;
+    }
+
+    public void setCreateModelSnapshot(boolean createModelSnapshot) {
+        this.createModelSnapshot = createModelSnapshot;
+    }
+
     public List<ProcessDefinitionEntity> getProcessDefinitions() {
         return processDefinitions;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.bpmn.parser;
 
+import org.flowable.engine.common.impl.persistence.deploy.ModelSnapshotCodec;
 import org.flowable.engine.impl.bpmn.parser.factory.ActivityBehaviorFactory;
 import org.flowable.engine.impl.bpmn.parser.factory.ListenerFactory;
 import org.flowable.engine.impl.cfg.BpmnParseFactory;
@@ -45,6 +46,7 @@ public class BpmnParser {
     protected ListenerFactory listenerFactory;
     protected BpmnParseFactory bpmnParseFactory;
     protected BpmnParseHandlers bpmnParserHandlers;
+    protected ModelSnapshotCodec modelSnapshotCodec = new ModelSnapshotCodec("org.flowable.bpmn.model");
 
     /**
      * Creates a new {@link BpmnParse} instance that can be used to parse only one BPMN 2.0 process definition.
@@ -84,4 +86,12 @@ public class BpmnParser {
     public void setBpmnParserHandlers(BpmnParseHandlers bpmnParserHandlers) {
         this.bpmnParserHandlers = bpmnParserHandlers;
     }
+
+    public ModelSnapshotCodec getModelSnapshotCodec() {
+        return modelSnapshotCodec;
+    }
+
+    public void setModelSnapshotCodec(ModelSnapshotCodec modelSnapshotCodec) {
+        this.modelSnapshotCodec = modelSnapshotCodec;
+    }
 }
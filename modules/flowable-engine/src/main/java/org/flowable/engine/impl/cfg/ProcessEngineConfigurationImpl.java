@@ -30,6 +30,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import javax.script.CompiledScript;
 import javax.xml.namespace.QName;
 
 import org.apache.ibatis.session.Configuration;
@@ -74,6 +75,7 @@ import org.flowable.engine.common.impl.interceptor.SessionFactory;
 import org.flowable.engine.common.impl.persistence.GenericManagerFactory;
 import org.flowable.engine.common.impl.persistence.cache.EntityCache;
 import org.flowable.engine.common.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.engine.common.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
@@ -153,6 +155,7 @@ import org.flowable.engine.impl.calendar.DurationBusinessCalendar;
 import org.flowable.engine.impl.calendar.MapBusinessCalendarManager;
 import org.flowable.engine.impl.cmd.RedeployV5ProcessDefinitionsCmd;
 import org.flowable.engine.impl.cmd.ValidateExecutionRelatedEntityCountCfgCmd;
+import org.flowable.engine.impl.cmd.ValidateHistoryCleanupJobCfgCmd;
 import org.flowable.engine.impl.cmd.ValidateTaskRelatedEntityCountCfgCmd;
 import org.flowable.engine.impl.cmd.ValidateV5EntitiesCmd;
 import org.flowable.engine.impl.db.DbIdGenerator;
@@ -179,11 +182,14 @@ import org.flowable.engine.impl.history.DefaultHistoryTaskManager;
 import org.flowable.engine.impl.history.DefaultHistoryVariableManager;
 import org.flowable.engine.impl.history.HistoryManager;
 import org.flowable.engine.impl.history.async.AsyncHistoryJobHandler;
+import org.flowable.engine.impl.history.async.AsyncHistoryJobPayloadCodecHandler;
 import org.flowable.engine.impl.history.async.AsyncHistoryJobZippedHandler;
 import org.flowable.engine.impl.history.async.AsyncHistoryListener;
 import org.flowable.engine.impl.history.async.AsyncHistoryManager;
+import org.flowable.engine.impl.history.async.AsyncHistoryPayloadCodec;
 import org.flowable.engine.impl.history.async.AsyncHistorySession;
 import org.flowable.engine.impl.history.async.AsyncHistorySessionFactory;
+import org.flowable.engine.impl.history.async.BinaryAsyncHistoryPayloadCodec;
 import org.flowable.engine.impl.history.async.DefaultAsyncHistoryJobProducer;
 import org.flowable.engine.impl.interceptor.BpmnOverrideContextInterceptor;
 import org.flowable.engine.impl.interceptor.CommandInvoker;
@@ -191,7 +197,12 @@ import org.flowable.engine.impl.interceptor.DelegateInterceptor;
 import org.flowable.engine.impl.interceptor.LoggingExecutionTreeCommandInvoker;
 import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
+import org.flowable.engine.impl.jobexecutor.HistoryCleanupBatchJobHandler;
+import org.flowable.engine.impl.jobexecutor.HistoryCleanupJobHandler;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceJoinJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastDeliveryJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
@@ -231,6 +242,8 @@ import org.flowable.engine.impl.persistence.entity.PropertyEntityManager;
 import org.flowable.engine.impl.persistence.entity.PropertyEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ResourceEntityManager;
 import org.flowable.engine.impl.persistence.entity.ResourceEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.SignalBroadcastEntityManager;
+import org.flowable.engine.impl.persistence.entity.SignalBroadcastEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.engine.impl.persistence.entity.TableDataManagerImpl;
 import org.flowable.engine.impl.persistence.entity.data.AttachmentDataManager;
@@ -248,6 +261,7 @@ import org.flowable.engine.impl.persistence.entity.data.ProcessDefinitionDataMan
 import org.flowable.engine.impl.persistence.entity.data.ProcessDefinitionInfoDataManager;
 import org.flowable.engine.impl.persistence.entity.data.PropertyDataManager;
 import org.flowable.engine.impl.persistence.entity.data.ResourceDataManager;
+import org.flowable.engine.impl.persistence.entity.data.SignalBroadcastDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisAttachmentDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisByteArrayDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisCommentDataManager;
@@ -263,6 +277,7 @@ import org.flowable.engine.impl.persistence.entity.data.impl.MybatisProcessDefin
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisProcessDefinitionInfoDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisPropertyDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisResourceDataManager;
+import org.flowable.engine.impl.persistence.entity.data.impl.MybatisSignalBroadcastDataManager;
 import org.flowable.engine.impl.scripting.BeansResolverFactory;
 import org.flowable.engine.impl.scripting.ResolverFactory;
 import org.flowable.engine.impl.scripting.ScriptBindingsFactory;
@@ -284,6 +299,8 @@ import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.asyncexecutor.JobNotificationChannel;
+import org.flowable.job.service.impl.asyncexecutor.PartitionedAsyncHistoryJobExecutor;
 import org.flowable.task.service.InternalTaskLocalizationManager;
 import org.flowable.task.service.InternalTaskVariableScopeResolver;
 import org.flowable.task.service.TaskServiceConfiguration;
@@ -366,6 +383,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected ProcessDefinitionInfoDataManager processDefinitionInfoDataManager;
     protected PropertyDataManager propertyDataManager;
     protected ResourceDataManager resourceDataManager;
+    protected SignalBroadcastDataManager signalBroadcastDataManager;
 
     // ENTITY MANAGERS ///////////////////////////////////////////////////////////
 
@@ -384,6 +402,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected ProcessDefinitionInfoEntityManager processDefinitionInfoEntityManager;
     protected PropertyEntityManager propertyEntityManager;
     protected ResourceEntityManager resourceEntityManager;
+    protected SignalBroadcastEntityManager signalBroadcastEntityManager;
     protected TableDataManager tableDataManager;
 
     // Candidate Manager
@@ -398,6 +417,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean isAsyncHistoryJsonGzipCompressionEnabled;
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected int asyncHistoryJsonGroupingThreshold = 10;
+
+    /**
+     * Encodes the historic data of async history jobs. By default (null), the historic data is stored as json, gzipped or not depending on
+     * {@link #isAsyncHistoryJsonGzipCompressionEnabled}. A {@link BinaryAsyncHistoryPayloadCodec} stores it in a more compact form, which
+     * is also cheaper to read back. Jobs created before the codec was changed are still processed.
+     */
+    protected AsyncHistoryPayloadCodec asyncHistoryPayloadCodec;
+
     protected AsyncHistoryListener asyncHistoryListener;
 
     // Job Manager
@@ -435,7 +462,27 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int processDefinitionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
+    /**
+     * When enabled, the latest version of every process definition is put in the process definition cache in the background when the engine boots,
+     * so the first process instances that are started after a restart don't have to wait for their deployment to be parsed.
+     * When the cache has a limit, only the process definitions of the most recent deployments are put in the cache.
+     */
+    protected boolean enableProcessDefinitionCacheWarmUp;
+
+    /**
+     * The maximum number of deployments that are parsed at the same time when warming up the process definition cache.
+     */
+    protected int processDefinitionCacheWarmUpPoolSize = 4;
+
+    /**
+     * When enabled, a binary snapshot of the parsed and validated BpmnModel is stored as an extra resource of every new deployment, and
+     * used instead of the BPMN XML when the process definitions of the deployment are put in the cache again.
+     * When the snapshot can't be read, for example after an upgrade that changed the model classes, the XML is parsed instead.
+     */
+    protected boolean enableModelSnapshots;
+
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
+    protected long processDefinitionInfoCacheStalenessWindowInMillis; // By default, the revision is verified in every command context
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
 
     protected int knowledgeBaseCacheLimit = -1;
@@ -543,6 +590,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorDefaultAsyncJobAcquireWaitTime = 10 * 1000;
 
+    /**
+     * The minimum time (in milliseconds) the async job acquisition thread will wait to execute the next acquirement query when a
+     * {@link #asyncExecutorJobNotificationChannel} is configured. After an acquirement query which found jobs, the thread waits this minimum time,
+     * which is doubled after every acquirement query which didn't find any jobs, up to {@link #asyncExecutorDefaultAsyncJobAcquireWaitTime}.
+     * Without a notification channel the thread always waits {@link #asyncExecutorDefaultAsyncJobAcquireWaitTime}. Default value = 100 milliseconds.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorMinAsyncJobAcquireWaitTime = 100;
+
+    /**
+     * Channel through which the async executors are notified of new jobs, which weren't handed directly to the async executor of this engine
+     * (for example because they were created on another node). The acquisition threads wake up when such a notification is received.
+     * <p>
+     * By default null, meaning the async executors only find these jobs by polling the database.
+     */
+    protected JobNotificationChannel asyncExecutorJobNotificationChannel;
+
     /**
      * The time (in milliseconds) the async job (both timer and async continuations) acquisition thread will wait when the queue is full to execute the next query. By default set to 0 (for backwards
      * compatibility)
@@ -605,6 +670,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorResetExpiredJobsPageSize = 3;
 
+    /**
+     * When enabled, the async executors lock the acquired async, timer and history jobs with one update statement per acquisition,
+     * instead of one optimistic-locking update per job. On PostgreSQL and Oracle, and on MySQL when {@link #asyncExecutorBulkJobAcquisitionMysqlSkipLocked}
+     * is set, the candidate jobs are selected with 'for update skip locked', so that concurrent executors never try to acquire the same jobs.
+     * On other databases, the update only locks the jobs that weren't acquired by another executor in the meantime.
+     * <p>
+     * By default false.
+     */
+    protected boolean asyncExecutorBulkJobAcquisitionEnabled;
+
+    /**
+     * Set this to true when bulk job acquisition is enabled on a MySQL server that supports 'for update skip locked', which is MySQL 8.0
+     * or MariaDB 10.6 and higher. Older versions reject the statement.
+     * <p>
+     * By default false.
+     */
+    protected boolean asyncExecutorBulkJobAcquisitionMysqlSkipLocked;
+
     /**
      * Experimental!
      * <p>
@@ -613,6 +696,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean asyncExecutorMessageQueueMode;
     protected boolean asyncHistoryExecutorMessageQueueMode;
 
+    /**
+     * Set this to true to partition the async history jobs by process instance: the jobs of different process instances are executed
+     * concurrently, those of one process instance in the order they were created and, when possible, several of them in one transaction.
+     * See {@link PartitionedAsyncHistoryJobExecutor}. Only used when no custom async history executor is set.
+     */
+    protected boolean asyncHistoryExecutorPartitionedMode;
+
     /**
      * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
      * <p>
@@ -620,6 +710,80 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected ExecuteAsyncRunnableFactory asyncExecutorExecuteAsyncRunnableFactory;
 
+    // HISTORY CLEANING ////////////////////////////////////////////////////////
+
+    /**
+     * When enabled, a repeating timer job is scheduled that removes the history of process instances that have ended more than
+     * {@link #cleanInstancesEndedAfterNumberOfDays} days ago. The timer job only collects the ids of those process instances, the actual
+     * deletion is done by async jobs that each handle one batch, so the batches are committed independently and can be executed in parallel by the async executor.
+     * <p>
+     * By default false.
+     */
+    protected boolean enableHistoryCleaning;
+
+    /**
+     * The cron expression of the history cleaning timer job. By default every day at 1 AM.
+     */
+    protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
+
+    /**
+     * The number of days after which the history of an ended process instance is removed. By default 365 days.
+     */
+    protected int cleanInstancesEndedAfterNumberOfDays = 365;
+
+    /**
+     * The number of process instances of which the history is removed by one batch job.
+     */
+    protected int historyCleaningBatchSize = 100;
+
+    /**
+     * The maximum number of batch jobs that are created by one run of the history cleaning job.
+     * When more process instances need to be removed, a new history cleaning job is created that continues where the previous one stopped.
+     */
+    protected int historyCleaningBatchesPerRun = 10;
+
+    /**
+     * Whether the asynchronous global signal broadcasts, sent with {@link RuntimeService#signalEventReceivedAsync(String)} or thrown by an async signal
+     * throw event, use the same paged fan-out as {@link RuntimeService#broadcastSignalEventAsync(String)}, instead of loading all subscriptions
+     * to the signal and creating a job for each of them in the transaction that sends the signal.
+     * <p>
+     * By default false.
+     */
+    protected boolean enableSignalBroadcastFanOut;
+
+    /**
+     * The number of subscriptions to which a signal broadcast is delivered by one delivery job.
+     */
+    protected int signalBroadcastBatchSize = 100;
+
+    /**
+     * The maximum number of delivery jobs that are created by one step of the fan-out of a signal broadcast.
+     * When more subscriptions are found, a new fan-out job is created that continues where the previous one stopped.
+     */
+    protected int signalBroadcastBatchesPerRun = 10;
+
+    /**
+     * Whether the instances of a parallel multi-instance that complete in another transaction than the one that created them are joined asynchronously.
+     * <p>
+     * By default, every completed instance updates the nrOfCompletedInstances and nrOfActiveInstances variables of the multi-instance root execution
+     * and forces an update of its parent scope execution. When many instances complete concurrently, for example asynchronous activities over a large collection,
+     * these rows cause optimistic locking exceptions on nearly every completion. When enabled, a completed instance only ends its own execution.
+     * The number of completed instances is derived from the active instance executions of the multi-instance root execution, by the last instance itself
+     * when all other instances have completed, or otherwise by an exclusive job which updates the loop variables and evaluates the completion condition.
+     * <p>
+     * This weakens the semantics of the loop variables and the completion condition:
+     * <ul>
+     * <li>nrOfCompletedInstances and nrOfActiveInstances are only updated by a join job, after the transaction of the completed instance, or by the last instance.
+     * Expressions, listeners and delegates of the instances read the values set by the last executed join job.</li>
+     * <li>The completion condition is only evaluated by the join job. Instances that complete before it is executed are completed normally,
+     * even when the condition was already satisfied, and the remaining instances are stopped by the first join job that finds the condition satisfied.</li>
+     * </ul>
+     * Instances that complete in the transaction that created them, for example synchronous service tasks, are joined as before.
+     * <p>
+     * By default false.
+     */
+    protected boolean enableParallelMultiInstanceAsyncJoin;
+
     // JUEL functions ///////////////////////////////////////////////////////////
     protected List<FlowableFunctionDelegate> flowableFunctionDelegates;
     protected List<FlowableFunctionDelegate> customFlowableFunctionDelegates;
@@ -668,11 +832,32 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
 
+    /**
+     * This flag determines whether variables of the type 'json' and 'longJson' will be tracked. When true, changes made to the json node of
+     * the variable in a JavaDelegate are reflected in the database, like for variables of the type 'serializable'.
+     * By default false, meaning a changed json node is only stored when the variable is set again.
+     */
+    protected boolean jsonVariableTypeTrackObjects;
+
     protected ExpressionManager expressionManager;
     protected List<String> customScriptingEngineClasses;
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
 
+    /**
+     * Whether scripts of script tasks and script listeners are compiled once and reused, for the script engines that support it.
+     * The compiled scripts are kept in a cache with a limited size, keyed by language and script text.
+     */
+    protected boolean cacheCompiledScripts = true;
+    protected int compiledScriptCacheLimit = 1000;
+    
+    /**
+     * The compiled scripts of script engines that don't allow multi-threaded access are kept per thread, as they are bound to
+     * the engine that compiled them. This limits the number of compiled scripts kept for every thread.
+     */
+    protected int threadCompiledScriptCacheLimit = 50;
+    protected DeploymentCache<CompiledScript> compiledScriptCache;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     protected int executionQueryLimit = 20000;
@@ -1001,6 +1186,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (resourceDataManager == null) {
             resourceDataManager = new MybatisResourceDataManager(this);
         }
+        if (signalBroadcastDataManager == null) {
+            signalBroadcastDataManager = new MybatisSignalBroadcastDataManager(this);
+        }
     }
 
     // Entity managers //////////////////////////////////////////////////////////
@@ -1051,6 +1239,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (resourceEntityManager == null) {
             resourceEntityManager = new ResourceEntityManagerImpl(this, resourceDataManager);
         }
+        if (signalBroadcastEntityManager == null) {
+            signalBroadcastEntityManager = new SignalBroadcastEntityManagerImpl(this, signalBroadcastDataManager);
+        }
         if (tableDataManager == null) {
             tableDataManager = new TableDataManagerImpl(this);
         }
@@ -1141,6 +1332,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         DefaultAsyncHistoryJobProducer asyncHistoryJobProducer = new DefaultAsyncHistoryJobProducer();
         //asyncHistoryJobProducer.setJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
         //asyncHistoryJobProducer.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+        asyncHistoryJobProducer.setPayloadCodec(asyncHistoryPayloadCodec);
         asyncHistoryListener = asyncHistoryJobProducer;
     }
 
@@ -1302,6 +1494,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.jobServiceConfiguration.setAsyncRunnableExecutionExceptionHandler(this.asyncRunnableExecutionExceptionHandler);
         this.jobServiceConfiguration.setAsyncExecutorNumberOfRetries(this.asyncExecutorNumberOfRetries);
         this.jobServiceConfiguration.setAsyncExecutorResetExpiredJobsMaxTimeout(this.asyncExecutorResetExpiredJobsMaxTimeout);
+        this.jobServiceConfiguration.setAsyncExecutorBulkJobAcquisitionEnabled(this.asyncExecutorBulkJobAcquisitionEnabled);
+        this.jobServiceConfiguration.setAsyncExecutorBulkJobAcquisitionMysqlSkipLocked(this.asyncExecutorBulkJobAcquisitionMysqlSkipLocked);
+        this.jobServiceConfiguration.setJobNotificationChannel(this.asyncExecutorJobNotificationChannel);
 
         if (this.jobManager != null) {
             this.jobServiceConfiguration.setJobManager(this.jobManager);
@@ -1352,6 +1547,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             } else {
                 processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
             }
+            processDefinitionInfoCache.setStalenessWindowInMillis(processDefinitionInfoCacheStalenessWindowInMillis);
         }
     }
 
@@ -1611,6 +1807,21 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         ProcessEventJobHandler processEventJobHandler = new ProcessEventJobHandler();
         jobHandlers.put(processEventJobHandler.getType(), processEventJobHandler);
 
+        HistoryCleanupJobHandler historyCleanupJobHandler = new HistoryCleanupJobHandler();
+        jobHandlers.put(historyCleanupJobHandler.getType(), historyCleanupJobHandler);
+
+        HistoryCleanupBatchJobHandler historyCleanupBatchJobHandler = new HistoryCleanupBatchJobHandler();
+        jobHandlers.put(historyCleanupBatchJobHandler.getType(), historyCleanupBatchJobHandler);
+
+        SignalBroadcastJobHandler signalBroadcastJobHandler = new SignalBroadcastJobHandler();
+        jobHandlers.put(signalBroadcastJobHandler.getType(), signalBroadcastJobHandler);
+
+        SignalBroadcastDeliveryJobHandler signalBroadcastDeliveryJobHandler = new SignalBroadcastDeliveryJobHandler();
+        jobHandlers.put(signalBroadcastDeliveryJobHandler.getType(), signalBroadcastDeliveryJobHandler);
+
+        ParallelMultiInstanceJoinJobHandler parallelMultiInstanceJoinJobHandler = new ParallelMultiInstanceJoinJobHandler();
+        jobHandlers.put(parallelMultiInstanceJoinJobHandler.getType(), parallelMultiInstanceJoinJobHandler);
+
         // if we have custom job handlers, register them
         if (getCustomJobHandlers() != null) {
             for (JobHandler customJobHandler : getCustomJobHandlers()) {
@@ -1619,6 +1830,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    protected void addAsyncHistoryPayloadCodecHandler(AsyncHistoryPayloadCodec payloadCodec) {
+        AsyncHistoryJobPayloadCodecHandler payloadCodecHandler = new AsyncHistoryJobPayloadCodecHandler(payloadCodec);
+        payloadCodecHandler.initDefaultTransformers();
+        historyJobHandlers.put(payloadCodecHandler.getType(), payloadCodecHandler);
+    }
+
     protected void initHistoryJobHandlers() {
         if (isAsyncHistoryEnabled) {
             historyJobHandlers = new HashMap<>();
@@ -1633,6 +1850,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             asyncHistoryJobZippedHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             historyJobHandlers.put(asyncHistoryJobZippedHandler.getType(), asyncHistoryJobZippedHandler);
 
+            // Binary payloads are always handled, so that queued jobs can be processed after switching back to json
+            addAsyncHistoryPayloadCodecHandler(new BinaryAsyncHistoryPayloadCodec());
+            if (asyncHistoryPayloadCodec != null) {
+                addAsyncHistoryPayloadCodecHandler(asyncHistoryPayloadCodec);
+            }
+
             if (getCustomHistoryJobHandlers() != null) {
                 for (HistoryJobHandler customJobHandler : getCustomHistoryJobHandlers()) {
                     historyJobHandlers.put(customJobHandler.getType(), customJobHandler);
@@ -1668,6 +1891,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             // Acquisition wait time
             defaultAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(asyncExecutorDefaultTimerJobAcquireWaitTime);
             defaultAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(asyncExecutorDefaultAsyncJobAcquireWaitTime);
+            defaultAsyncExecutor.setMinAsyncJobAcquireWaitTimeInMillis(asyncExecutorMinAsyncJobAcquireWaitTime);
 
             // Queue full wait time
             defaultAsyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
@@ -1696,7 +1920,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initAsyncHistoryExecutor() {
         if (asyncHistoryExecutor == null) {
-            DefaultAsyncJobExecutor defaultAsyncHistoryExecutor = new DefaultAsyncHistoryJobExecutor();
+            DefaultAsyncJobExecutor defaultAsyncHistoryExecutor = asyncHistoryExecutorPartitionedMode
+                    ? new PartitionedAsyncHistoryJobExecutor() : new DefaultAsyncHistoryJobExecutor();
 
             // Message queue mode
             defaultAsyncHistoryExecutor.setMessageQueueMode(asyncHistoryExecutorMessageQueueMode);
@@ -1714,6 +1939,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
             // Acquisition wait time
             defaultAsyncHistoryExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(asyncExecutorDefaultAsyncJobAcquireWaitTime);
+            defaultAsyncHistoryExecutor.setMinAsyncJobAcquireWaitTimeInMillis(asyncExecutorMinAsyncJobAcquireWaitTime);
 
             // Queue full wait time
             defaultAsyncHistoryExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
@@ -1805,8 +2031,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             variableTypes.addType(new JodaDateTimeType());
             variableTypes.addType(new DoubleType());
             variableTypes.addType(new UUIDType());
-            variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper));
-            variableTypes.addType(new LongJsonType(getMaxLengthString() + 1, objectMapper));
+            variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
+            variableTypes.addType(new LongJsonType(getMaxLengthString() + 1, objectMapper, jsonVariableTypeTrackObjects));
             variableTypes.addType(new ByteArrayType());
             variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
             variableTypes.addType(new CustomObjectType("item", ItemInstance.class));
@@ -1859,6 +2085,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(this, resolverFactories));
         }
+        if (cacheCompiledScripts && scriptingEngines.getCompiledScriptCache() == null) {
+            if (compiledScriptCache == null) {
+                compiledScriptCache = new ConcurrentDeploymentCache<>(compiledScriptCacheLimit);
+            }
+            scriptingEngines.setCompiledScriptCache(compiledScriptCache);
+            scriptingEngines.setThreadCompiledScriptCacheLimit(threadCompiledScriptCacheLimit);
+        }
     }
 
     public void initExpressionManager() {
@@ -2041,6 +2274,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (performanceSettings.isValidateTaskRelationshipCountConfigOnBoot()) {
             commandExecutor.execute(new ValidateTaskRelatedEntityCountCfgCmd());
         }
+
+        if (usingRelationalDatabase && enableHistoryCleaning) {
+            commandExecutor.execute(new ValidateHistoryCleanupJobCfgCmd());
+        }
     }
 
     public Runnable getProcessEngineCloseRunnable() {
@@ -2401,6 +2638,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isCacheCompiledScripts() {
+        return cacheCompiledScripts;
+    }
+
+    public ProcessEngineConfigurationImpl setCacheCompiledScripts(boolean cacheCompiledScripts) {
+        this.cacheCompiledScripts = cacheCompiledScripts;
+        return this;
+    }
+
+    public int getCompiledScriptCacheLimit() {
+        return compiledScriptCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheLimit(int compiledScriptCacheLimit) {
+        this.compiledScriptCacheLimit = compiledScriptCacheLimit;
+        return this;
+    }
+
+    public int getThreadCompiledScriptCacheLimit() {
+        return threadCompiledScriptCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setThreadCompiledScriptCacheLimit(int threadCompiledScriptCacheLimit) {
+        this.threadCompiledScriptCacheLimit = threadCompiledScriptCacheLimit;
+        return this;
+    }
+
+    public DeploymentCache<CompiledScript> getCompiledScriptCache() {
+        return compiledScriptCache;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCache(DeploymentCache<CompiledScript> compiledScriptCache) {
+        this.compiledScriptCache = compiledScriptCache;
+        return this;
+    }
+
     public VariableTypes getVariableTypes() {
         return variableTypes;
     }
@@ -2463,6 +2736,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    public boolean isJsonVariableTypeTrackObjects() {
+        return jsonVariableTypeTrackObjects;
+    }
+
+    public ProcessEngineConfigurationImpl setJsonVariableTypeTrackObjects(boolean jsonVariableTypeTrackObjects) {
+        this.jsonVariableTypeTrackObjects = jsonVariableTypeTrackObjects;
+        return this;
+    }
+
     public ExpressionManager getExpressionManager() {
         return expressionManager;
     }
@@ -2815,6 +3097,47 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableProcessDefinitionCacheWarmUp() {
+        return enableProcessDefinitionCacheWarmUp;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableProcessDefinitionCacheWarmUp(boolean enableProcessDefinitionCacheWarmUp) {
+        this.enableProcessDefinitionCacheWarmUp = enableProcessDefinitionCacheWarmUp;
+        return this;
+    }
+
+    public int getProcessDefinitionCacheWarmUpPoolSize() {
+        return processDefinitionCacheWarmUpPoolSize;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWarmUpPoolSize(int processDefinitionCacheWarmUpPoolSize) {
+        this.processDefinitionCacheWarmUpPoolSize = processDefinitionCacheWarmUpPoolSize;
+        return this;
+    }
+
+    public boolean isEnableModelSnapshots() {
+        return enableModelSnapshots;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableModelSnapshots(boolean enableModelSnapshots) {
+        this.enableModelSnapshots = enableModelSnapshots;
+        return this;
+    }
+
+    public long getProcessDefinitionInfoCacheStalenessWindowInMillis() {
+        return processDefinitionInfoCacheStalenessWindowInMillis;
+    }
+
+    /**
+     * Sets the time during which a cached process definition info is used without verifying its revision against the database.
+     * Changes done through the {@link org.flowable.engine.DynamicBpmnService} on this engine invalidate the cached info immediately,
+     * changes done on other engines become visible once the window has passed.
+     */
+    public ProcessEngineConfigurationImpl setProcessDefinitionInfoCacheStalenessWindowInMillis(long processDefinitionInfoCacheStalenessWindowInMillis) {
+        this.processDefinitionInfoCacheStalenessWindowInMillis = processDefinitionInfoCacheStalenessWindowInMillis;
+        return this;
+    }
+
     public int getKnowledgeBaseCacheLimit() {
         return knowledgeBaseCacheLimit;
     }
@@ -3116,6 +3439,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public SignalBroadcastDataManager getSignalBroadcastDataManager() {
+        return signalBroadcastDataManager;
+    }
+
+    public ProcessEngineConfigurationImpl setSignalBroadcastDataManager(SignalBroadcastDataManager signalBroadcastDataManager) {
+        this.signalBroadcastDataManager = signalBroadcastDataManager;
+        return this;
+    }
+
     public boolean isEnableConfiguratorServiceLoader() {
         return enableConfiguratorServiceLoader;
     }
@@ -3255,6 +3587,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public SignalBroadcastEntityManager getSignalBroadcastEntityManager() {
+        return signalBroadcastEntityManager;
+    }
+
+    public ProcessEngineConfigurationImpl setSignalBroadcastEntityManager(SignalBroadcastEntityManager signalBroadcastEntityManager) {
+        this.signalBroadcastEntityManager = signalBroadcastEntityManager;
+        return this;
+    }
+
     public TableDataManager getTableDataManager() {
         return tableDataManager;
     }
@@ -3327,6 +3668,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.asyncHistoryJsonGroupingThreshold = asyncHistoryJsonGroupingThreshold;
     }
 
+    public AsyncHistoryPayloadCodec getAsyncHistoryPayloadCodec() {
+        return asyncHistoryPayloadCodec;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryPayloadCodec(AsyncHistoryPayloadCodec asyncHistoryPayloadCodec) {
+        this.asyncHistoryPayloadCodec = asyncHistoryPayloadCodec;
+        return this;
+    }
+
     public AsyncHistoryListener getAsyncHistoryListener() {
         return asyncHistoryListener;
     }
@@ -3628,6 +3978,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getAsyncExecutorMinAsyncJobAcquireWaitTime() {
+        return asyncExecutorMinAsyncJobAcquireWaitTime;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMinAsyncJobAcquireWaitTime(int asyncExecutorMinAsyncJobAcquireWaitTime) {
+        this.asyncExecutorMinAsyncJobAcquireWaitTime = asyncExecutorMinAsyncJobAcquireWaitTime;
+        return this;
+    }
+
+    public JobNotificationChannel getAsyncExecutorJobNotificationChannel() {
+        return asyncExecutorJobNotificationChannel;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorJobNotificationChannel(JobNotificationChannel asyncExecutorJobNotificationChannel) {
+        this.asyncExecutorJobNotificationChannel = asyncExecutorJobNotificationChannel;
+        return this;
+    }
+
     public int getAsyncExecutorDefaultAsyncJobAcquireWaitTime() {
         return asyncExecutorDefaultAsyncJobAcquireWaitTime;
     }
@@ -3709,6 +4077,105 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorBulkJobAcquisitionEnabled() {
+        return asyncExecutorBulkJobAcquisitionEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorBulkJobAcquisitionEnabled(boolean asyncExecutorBulkJobAcquisitionEnabled) {
+        this.asyncExecutorBulkJobAcquisitionEnabled = asyncExecutorBulkJobAcquisitionEnabled;
+        return this;
+    }
+
+    public boolean isAsyncExecutorBulkJobAcquisitionMysqlSkipLocked() {
+        return asyncExecutorBulkJobAcquisitionMysqlSkipLocked;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorBulkJobAcquisitionMysqlSkipLocked(boolean asyncExecutorBulkJobAcquisitionMysqlSkipLocked) {
+        this.asyncExecutorBulkJobAcquisitionMysqlSkipLocked = asyncExecutorBulkJobAcquisitionMysqlSkipLocked;
+        return this;
+    }
+
+    public boolean isEnableHistoryCleaning() {
+        return enableHistoryCleaning;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableHistoryCleaning(boolean enableHistoryCleaning) {
+        this.enableHistoryCleaning = enableHistoryCleaning;
+        return this;
+    }
+
+    public String getHistoryCleaningTimeCycleConfig() {
+        return historyCleaningTimeCycleConfig;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleaningTimeCycleConfig(String historyCleaningTimeCycleConfig) {
+        this.historyCleaningTimeCycleConfig = historyCleaningTimeCycleConfig;
+        return this;
+    }
+
+    public int getCleanInstancesEndedAfterNumberOfDays() {
+        return cleanInstancesEndedAfterNumberOfDays;
+    }
+
+    public ProcessEngineConfigurationImpl setCleanInstancesEndedAfterNumberOfDays(int cleanInstancesEndedAfterNumberOfDays) {
+        this.cleanInstancesEndedAfterNumberOfDays = cleanInstancesEndedAfterNumberOfDays;
+        return this;
+    }
+
+    public int getHistoryCleaningBatchSize() {
+        return historyCleaningBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleaningBatchSize(int historyCleaningBatchSize) {
+        this.historyCleaningBatchSize = historyCleaningBatchSize;
+        return this;
+    }
+
+    public int getHistoryCleaningBatchesPerRun() {
+        return historyCleaningBatchesPerRun;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleaningBatchesPerRun(int historyCleaningBatchesPerRun) {
+        this.historyCleaningBatchesPerRun = historyCleaningBatchesPerRun;
+        return this;
+    }
+
+    public boolean isEnableSignalBroadcastFanOut() {
+        return enableSignalBroadcastFanOut;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableSignalBroadcastFanOut(boolean enableSignalBroadcastFanOut) {
+        this.enableSignalBroadcastFanOut = enableSignalBroadcastFanOut;
+        return this;
+    }
+
+    public int getSignalBroadcastBatchSize() {
+        return signalBroadcastBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setSignalBroadcastBatchSize(int signalBroadcastBatchSize) {
+        this.signalBroadcastBatchSize = signalBroadcastBatchSize;
+        return this;
+    }
+
+    public int getSignalBroadcastBatchesPerRun() {
+        return signalBroadcastBatchesPerRun;
+    }
+
+    public ProcessEngineConfigurationImpl setSignalBroadcastBatchesPerRun(int signalBroadcastBatchesPerRun) {
+        this.signalBroadcastBatchesPerRun = signalBroadcastBatchesPerRun;
+        return this;
+    }
+
+    public boolean isEnableParallelMultiInstanceAsyncJoin() {
+        return enableParallelMultiInstanceAsyncJoin;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableParallelMultiInstanceAsyncJoin(boolean enableParallelMultiInstanceAsyncJoin) {
+        this.enableParallelMultiInstanceAsyncJoin = enableParallelMultiInstanceAsyncJoin;
+        return this;
+    }
+
     public boolean isAsyncExecutorIsMessageQueueMode() {
         return asyncExecutorMessageQueueMode;
     }
@@ -3726,4 +4193,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.asyncHistoryExecutorMessageQueueMode = asyncHistoryExecutorMessageQueueMode;
         return this;
     }
+
+    public boolean isAsyncHistoryExecutorPartitionedMode() {
+        return asyncHistoryExecutorPartitionedMode;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorPartitionedMode(boolean asyncHistoryExecutorPartitionedMode) {
+        this.asyncHistoryExecutorPartitionedMode = asyncHistoryExecutorPartitionedMode;
+        return this;
+    }
 }
@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.Date;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastJobHandler;
+import org.flowable.engine.impl.persistence.entity.SignalBroadcastEntity;
+import org.flowable.engine.impl.persistence.entity.SignalBroadcastEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.json.JSONObject;
+
+/**
+ * Starts the asynchronous broadcast of a signal to all global subscriptions, by creating the first {@link SignalBroadcastJobHandler} fan-out job.
+ * Returns the id of the broadcast.
+ * <p>
+ * When the progress is tracked, a {@link SignalBroadcastEntity} is stored with the id of the broadcast, that is kept until the broadcast is deleted.
+ * Broadcasts started by async signal events don't track their progress, as nobody would delete them.
+ */
+public class BroadcastSignalEventCmd implements Command<String>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String signalName;
+    protected String tenantId;
+    protected boolean trackProgress;
+
+    public BroadcastSignalEventCmd(String signalName, String tenantId) {
+        this(signalName, tenantId, false);
+    }
+
+    public BroadcastSignalEventCmd(String signalName, String tenantId, boolean trackProgress) {
+        this.signalName = signalName;
+        this.tenantId = tenantId;
+        this.trackProgress = trackProgress;
+    }
+
+    @Override
+    public String execute(CommandContext commandContext) {
+        if (signalName == null) {
+            throw new FlowableIllegalArgumentException("signalName is null");
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        String broadcastId = processEngineConfiguration.getIdGenerator().getNextId();
+        String broadcastTenantId = tenantId != null && !tenantId.isEmpty() ? tenantId : null;
+        Date createTime = processEngineConfiguration.getClock().getCurrentTime();
+
+        if (trackProgress) {
+            SignalBroadcastEntityManager signalBroadcastEntityManager = CommandContextUtil.getSignalBroadcastEntityManager(commandContext);
+            SignalBroadcastEntity signalBroadcast = signalBroadcastEntityManager.create();
+            signalBroadcast.setId(broadcastId);
+            signalBroadcast.setSignalName(signalName);
+            signalBroadcast.setTenantId(broadcastTenantId);
+            signalBroadcast.setCreateTime(createTime);
+            signalBroadcastEntityManager.insert(signalBroadcast);
+        }
+
+        JSONObject cfgJson = SignalBroadcastJobHandler.createConfiguration(signalName, broadcastTenantId, createTime);
+        SignalBroadcastJobHandler.createAsyncJob(SignalBroadcastJobHandler.TYPE, broadcastId, cfgJson, broadcastTenantId, commandContext);
+        return broadcastId;
+    }
+
+}
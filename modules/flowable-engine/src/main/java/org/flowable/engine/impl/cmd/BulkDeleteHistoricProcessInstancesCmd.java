@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.util.CommandContextUtil;
+
+/**
+ * Deletes the history of the given ended process instances, including their activities, tasks, variables, details, identity links, comments and attachments.
+ * <p>
+ * In contrast to {@link DeleteHistoricProcessInstanceCmd}, the entities are not fetched first: every table is cleaned with one set-based statement,
+ * which is executed when the command context is flushed. No entity events are dispatched for the deleted entities.
+ */
+public class BulkDeleteHistoricProcessInstancesCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Collection<String> processInstanceIds;
+
+    public BulkDeleteHistoricProcessInstancesCmd(Collection<String> processInstanceIds) {
+        this.processInstanceIds = processInstanceIds;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (processInstanceIds == null) {
+            throw new FlowableIllegalArgumentException("processInstanceIds is null");
+        }
+
+        if (processInstanceIds.isEmpty() || !CommandContextUtil.getHistoryManager(commandContext).isHistoryEnabled()) {
+            return null;
+        }
+
+        CommandContextUtil.getHistoricDetailEntityManager(commandContext).bulkDeleteHistoricDetailsByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricVariableService().bulkDeleteHistoricVariableInstancesByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).bulkDeleteHistoricActivityInstancesByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricIdentityLinkService().bulkDeleteHistoricIdentityLinksByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricTaskService().bulkDeleteHistoricTaskInstancesByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getCommentEntityManager(commandContext).bulkDeleteCommentsByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getAttachmentEntityManager(commandContext).bulkDeleteAttachmentsByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).bulkDeleteHistoricProcessInstancesByIds(processInstanceIds);
+
+        return null;
+    }
+
+}
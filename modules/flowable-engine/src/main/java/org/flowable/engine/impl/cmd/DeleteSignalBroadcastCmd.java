@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastDeliveryJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastJobHandler;
+import org.flowable.engine.impl.persistence.entity.SignalBroadcastEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.SignalBroadcast;
+import org.flowable.job.service.Job;
+import org.flowable.job.service.impl.DeadLetterJobQueryImpl;
+import org.flowable.job.service.impl.cmd.DeleteDeadLetterJobCmd;
+
+/**
+ * Deletes a completed signal broadcast, together with its failed delivery jobs which are the only jobs left of such a broadcast.
+ */
+public class DeleteSignalBroadcastCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String broadcastId;
+
+    public DeleteSignalBroadcastCmd(String broadcastId) {
+        this.broadcastId = broadcastId;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (broadcastId == null) {
+            throw new FlowableIllegalArgumentException("broadcastId is null");
+        }
+
+        SignalBroadcast signalBroadcast = new GetSignalBroadcastCmd(broadcastId).execute(commandContext);
+        if (signalBroadcast == null) {
+            throw new FlowableObjectNotFoundException("No signal broadcast found with id '" + broadcastId + "'", SignalBroadcast.class);
+        }
+        if (!signalBroadcast.isCompleted()) {
+            throw new FlowableException("Signal broadcast " + broadcastId + " has not completed yet");
+        }
+
+        for (Job deadLetterJob : new DeadLetterJobQueryImpl(commandContext).handlerType(SignalBroadcastDeliveryJobHandler.TYPE)
+                .handlerConfigurationLike(SignalBroadcastJobHandler.getConfigurationLike(broadcastId)).list()) {
+            new DeleteDeadLetterJobCmd(deadLetterJob.getId()).execute(commandContext);
+        }
+
+        SignalBroadcastEntityManager signalBroadcastEntityManager = CommandContextUtil.getSignalBroadcastEntityManager(commandContext);
+        signalBroadcastEntityManager.delete(signalBroadcastEntityManager.findById(broadcastId));
+        return null;
+    }
+
+}
@@ -55,8 +55,9 @@ public class GetProcessDefinitionInfoCmd implements Command<ObjectNode>, Seriali
         }
 
         ProcessDefinitionInfoCacheObject definitionInfoCacheObject = deploymentManager.getProcessDefinitionInfoCache().get(processDefinitionId);
-        if (definitionInfoCacheObject != null) {
-            resultNode = definitionInfoCacheObject.getInfoNode();
+        if (definitionInfoCacheObject != null && definitionInfoCacheObject.getInfoNode() != null) {
+            // The cached node is shared, the caller gets a copy it can change and save
+            resultNode = definitionInfoCacheObject.getInfoNode().deepCopy();
         }
 
         return resultNode;
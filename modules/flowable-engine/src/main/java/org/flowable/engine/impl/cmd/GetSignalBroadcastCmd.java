@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastDeliveryJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastJobHandler;
+import org.flowable.engine.impl.persistence.entity.SignalBroadcastEntity;
+import org.flowable.engine.impl.runtime.SignalBroadcastImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.SignalBroadcast;
+import org.flowable.job.service.impl.DeadLetterJobQueryImpl;
+import org.flowable.job.service.impl.JobQueryImpl;
+import org.flowable.job.service.impl.TimerJobQueryImpl;
+
+/**
+ * Returns the progress of a signal broadcast: the fan-out state stored by the {@link SignalBroadcastJobHandler} steps, combined with the number of
+ * delivery jobs of the broadcast that are still pending or failed. Returns null when there is no broadcast with the given id.
+ */
+public class GetSignalBroadcastCmd implements Command<SignalBroadcast>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String broadcastId;
+
+    public GetSignalBroadcastCmd(String broadcastId) {
+        this.broadcastId = broadcastId;
+    }
+
+    @Override
+    public SignalBroadcast execute(CommandContext commandContext) {
+        if (broadcastId == null) {
+            throw new FlowableIllegalArgumentException("broadcastId is null");
+        }
+
+        SignalBroadcastEntity signalBroadcastEntity = CommandContextUtil.getSignalBroadcastEntityManager(commandContext).findById(broadcastId);
+        if (signalBroadcastEntity == null) {
+            return null;
+        }
+
+        String configurationLike = SignalBroadcastJobHandler.getConfigurationLike(broadcastId);
+        SignalBroadcastImpl signalBroadcast = new SignalBroadcastImpl(broadcastId, signalBroadcastEntity.getSignalName(), signalBroadcastEntity.getTenantId());
+        signalBroadcast.setFanOutCompleted(signalBroadcastEntity.isFanOutCompleted());
+        signalBroadcast.setScheduledSubscriptionCount(signalBroadcastEntity.getScheduledCount());
+        signalBroadcast.setPendingDeliveryJobCount(new JobQueryImpl(commandContext).handlerType(SignalBroadcastDeliveryJobHandler.TYPE)
+                .handlerConfigurationLike(configurationLike).count()
+                + new TimerJobQueryImpl(commandContext).handlerType(SignalBroadcastDeliveryJobHandler.TYPE).handlerConfigurationLike(configurationLike).count());
+        signalBroadcast.setFailedDeliveryJobCount(new DeadLetterJobQueryImpl(commandContext).handlerType(SignalBroadcastDeliveryJobHandler.TYPE)
+                .handlerConfigurationLike(configurationLike).count());
+        return signalBroadcast;
+    }
+
+}
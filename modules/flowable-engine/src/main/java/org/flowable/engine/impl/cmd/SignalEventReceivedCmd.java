@@ -67,6 +67,11 @@ public class SignalEventReceivedCmd implements Command<Void> {
     @Override
     public Void execute(CommandContext commandContext) {
 
+        if (executionId == null && async && CommandContextUtil.getProcessEngineConfiguration(commandContext).isEnableSignalBroadcastFanOut()) {
+            new BroadcastSignalEventCmd(eventName, tenantId).execute(commandContext);
+            return null;
+        }
+
         List<SignalEventSubscriptionEntity> signalEvents = null;
 
         EventSubscriptionEntityManager eventSubscriptionEntityManager = CommandContextUtil.getEventSubscriptionEntityManager(commandContext);
@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.List;
+
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.HistoryCleanupJobHandler;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.Job;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.TimerJobQueryImpl;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Makes sure the repeating history cleaning timer job matches the configuration of the engine:
+ * it is created when history cleaning is enabled, rescheduled when its cycle has changed and removed when history cleaning is disabled.
+ */
+public class ValidateHistoryCleanupJobCfgCmd implements Command<Void> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ValidateHistoryCleanupJobCfgCmd.class);
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+
+        boolean timerJobFound = false;
+        List<Job> timerJobs = new TimerJobQueryImpl(commandContext).handlerType(HistoryCleanupJobHandler.TYPE).list();
+        for (Job timerJob : timerJobs) {
+            TimerJobEntity timerJobEntity = (TimerJobEntity) timerJob;
+            if (processEngineConfiguration.isEnableHistoryCleaning() && !timerJobFound
+                    && processEngineConfiguration.getHistoryCleaningTimeCycleConfig().equals(timerJobEntity.getRepeat())) {
+                timerJobFound = true;
+            } else {
+                timerJobService.deleteTimerJob(timerJobEntity);
+            }
+        }
+
+        if (processEngineConfiguration.isEnableHistoryCleaning() && !timerJobFound) {
+            TimerJobEntity timerJob = timerJobService.createTimerJob();
+            timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+            timerJob.setRevision(1);
+            timerJob.setRetries(processEngineConfiguration.getAsyncExecutorNumberOfRetries());
+            timerJob.setJobHandlerType(HistoryCleanupJobHandler.TYPE);
+            timerJob.setRepeat(processEngineConfiguration.getHistoryCleaningTimeCycleConfig());
+            timerJob.setDuedate(processEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME)
+                    .resolveDuedate(processEngineConfiguration.getHistoryCleaningTimeCycleConfig()));
+            timerJobService.scheduleTimerJob(timerJob);
+
+            LOGGER.info("Scheduled history cleaning job with cycle {}", processEngineConfiguration.getHistoryCleaningTimeCycleConfig());
+        }
+
+        return null;
+    }
+
+}
@@ -38,6 +38,7 @@ import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityImpl;
 import org.flowable.engine.impl.persistence.entity.PropertyEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ResourceEntityImpl;
+import org.flowable.engine.impl.persistence.entity.SignalBroadcastEntityImpl;
 import org.flowable.engine.impl.persistence.entity.SignalEventSubscriptionEntityImpl;
 import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntityImpl;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntityImpl;
@@ -84,6 +85,9 @@ public class EntityDependencyOrder {
         /* No FK */
         DELETE_ORDER.add(EventLogEntryEntityImpl.class);
 
+        /* No FK */
+        DELETE_ORDER.add(SignalBroadcastEntityImpl.class);
+
         /*
          * FK to Deployment FK to ByteArray
          */
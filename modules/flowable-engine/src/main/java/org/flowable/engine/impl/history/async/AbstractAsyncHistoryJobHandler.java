@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.history.async;
 
+import java.io.IOException;
+
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -33,8 +35,8 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
             try {
 
                 byte[] bytes = getJobBytes(job);
-                JsonNode historyNode = objectMapper.readTree(bytes);
-                if (isAsyncHistoryJsonGroupingEnabled() && historyNode.isArray()) {
+                JsonNode historyNode = readHistoryNode(objectMapper, bytes);
+                if (isGroupedHistoryNode(historyNode)) {
                     ArrayNode arrayNode = (ArrayNode) historyNode;
                     for (JsonNode jsonNode : arrayNode) {
                         processHistoryJson(commandContext, job, jsonNode);
@@ -58,6 +60,14 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         return job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes();
     }
 
+    protected JsonNode readHistoryNode(ObjectMapper objectMapper, byte[] bytes) throws IOException {
+        return objectMapper.readTree(bytes);
+    }
+
+    protected boolean isGroupedHistoryNode(JsonNode historyNode) {
+        return isAsyncHistoryJsonGroupingEnabled() && historyNode.isArray();
+    }
+
     protected abstract void processHistoryJson(CommandContext commandContext, HistoryJobEntity job, JsonNode historyNode);
 
     public boolean isAsyncHistoryJsonGroupingEnabled() {
@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Processes the history jobs of which the historic data was encoded with an {@link AsyncHistoryPayloadCodec}.
+ */
+public class AsyncHistoryJobPayloadCodecHandler extends AsyncHistoryJobHandler {
+
+    protected AsyncHistoryPayloadCodec payloadCodec;
+
+    public AsyncHistoryJobPayloadCodecHandler(AsyncHistoryPayloadCodec payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
+
+    @Override
+    public String getType() {
+        return payloadCodec.getJobHandlerType();
+    }
+
+    @Override
+    protected JsonNode readHistoryNode(ObjectMapper objectMapper, byte[] bytes) {
+        return objectMapper.createArrayNode().addAll(payloadCodec.decode(bytes));
+    }
+
+    @Override
+    protected boolean isGroupedHistoryNode(JsonNode historyNode) {
+        // A payload always holds a list of nodes, independent of the grouping setting
+        return true;
+    }
+
+    public AsyncHistoryPayloadCodec getPayloadCodec() {
+        return payloadCodec;
+    }
+
+}
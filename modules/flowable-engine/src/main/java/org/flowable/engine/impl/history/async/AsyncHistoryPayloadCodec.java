@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Converts the historic data of an async history job to the bytes stored with the job, and back.
+ *
+ * Jobs created with a codec get the job handler type of that codec, so they are always processed by a handler that can decode them,
+ * independently of the jobs created with json payloads.
+ */
+public interface AsyncHistoryPayloadCodec {
+
+    /**
+     * The type of the history job handler that processes the jobs with payloads of this codec. It should start with 'async-history',
+     * so that jobs that can't be applied yet are retried later, like the json history jobs.
+     */
+    String getJobHandlerType();
+
+    byte[] encode(List<ObjectNode> historyObjectNodes);
+
+    List<ObjectNode> decode(byte[] bytes);
+
+}
@@ -0,0 +1,389 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.util.IoUtil;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Compact binary encoding of the historic data of async history jobs.
+ *
+ * The historic data consists of objects with a type and string fields. Field names and string values are written once per payload and
+ * referenced by their index afterwards, which removes the repeated type names, field names and ids of the json representation.
+ * Strings that are the canonical form of a number are written as variable length numbers, and are decoded to exactly the same string.
+ * The encoded payload is deflated when it is larger than the compression threshold.
+ *
+ * The fields listed in {@link #getDateFields()} hold dates: they are written as the number of milliseconds since the epoch, and are decoded
+ * to number nodes instead of formatted strings, so that {@link org.flowable.engine.impl.history.async.json.transformer.AbstractHistoryJsonTransformer}
+ * reads them without parsing a date string. Custom transformers should read dates with its getDateFromJson method as well.
+ *
+ * Other json values, like arrays or numbers, are written as json text, so any object node can be encoded.
+ */
+public class BinaryAsyncHistoryPayloadCodec implements AsyncHistoryPayloadCodec {
+
+    public static final String JOB_TYPE = "async-history-binary";
+
+    protected static final int FORMAT_VERSION = 1;
+    protected static final int FLAG_DEFLATED = 1;
+
+    protected static final int TAG_NULL = 0;
+    protected static final int TAG_STRING = 1;
+    protected static final int TAG_LONG = 2;
+    protected static final int TAG_DATE = 3;
+    protected static final int TAG_OBJECT = 4;
+    protected static final int TAG_JSON = 5;
+
+    protected boolean compressionEnabled = true;
+    protected int compressionThreshold = 512;
+    protected int compressionLevel = Deflater.BEST_SPEED;
+
+    protected Set<String> dateFields = new HashSet<>(Arrays.asList(HistoryJsonConstants.START_TIME, HistoryJsonConstants.END_TIME,
+            HistoryJsonConstants.CREATE_TIME, HistoryJsonConstants.CLAIM_TIME, HistoryJsonConstants.LAST_UPDATED_TIME, HistoryJsonConstants.DUE_DATE,
+            HistoryJsonConstants.TIMESTAMP));
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public String getJobHandlerType() {
+        return JOB_TYPE;
+    }
+
+    @Override
+    public byte[] encode(List<ObjectNode> historyObjectNodes) {
+        PayloadWriter writer = new PayloadWriter();
+        writer.writeVarLong(historyObjectNodes.size());
+        for (ObjectNode historyObjectNode : historyObjectNodes) {
+            writeValue(writer, null, historyObjectNode);
+        }
+
+        byte[] body = writer.toByteArray();
+        int flags = 0;
+        if (compressionEnabled && body.length >= compressionThreshold) {
+            body = compress(body);
+            flags |= FLAG_DEFLATED;
+        }
+
+        byte[] bytes = new byte[body.length + 2];
+        bytes[0] = FORMAT_VERSION;
+        bytes[1] = (byte) flags;
+        System.arraycopy(body, 0, bytes, 2, body.length);
+        return bytes;
+    }
+
+    @Override
+    public List<ObjectNode> decode(byte[] bytes) {
+        if (bytes.length < 2 || bytes[0] != FORMAT_VERSION) {
+            throw new FlowableException("Unsupported async history payload format");
+        }
+
+        byte[] body = new byte[bytes.length - 2];
+        System.arraycopy(bytes, 2, body, 0, body.length);
+        if ((bytes[1] & FLAG_DEFLATED) != 0) {
+            body = decompress(body);
+        }
+
+        PayloadReader reader = new PayloadReader(body);
+        int nodeCount = (int) reader.readVarLong();
+        List<ObjectNode> historyObjectNodes = new ArrayList<>(nodeCount);
+        for (int i = 0; i < nodeCount; i++) {
+            JsonNode node = readValue(reader);
+            if (!node.isObject()) {
+                throw new FlowableException("Invalid async history payload: expected an object but was " + node.getNodeType());
+            }
+            historyObjectNodes.add((ObjectNode) node);
+        }
+        return historyObjectNodes;
+    }
+
+    protected void writeValue(PayloadWriter writer, String fieldName, JsonNode node) {
+        if (node == null || node.isNull()) {
+            writer.write(TAG_NULL);
+
+        } else if (node.isTextual()) {
+            String value = node.textValue();
+            Date date = fieldName != null && dateFields.contains(fieldName) ? AsyncHistoryDateUtil.parseDate(value) : null;
+            if (date != null) {
+                writer.write(TAG_DATE);
+                writer.writeVarLong(zigZag(date.getTime()));
+
+            } else if (isCanonicalLong(value)) {
+                writer.write(TAG_LONG);
+                writer.writeVarLong(zigZag(Long.parseLong(value)));
+
+            } else {
+                writer.write(TAG_STRING);
+                writer.writeInternedString(value);
+            }
+
+        } else if (node.isObject()) {
+            writer.write(TAG_OBJECT);
+            writer.writeVarLong(node.size());
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                writer.writeInternedString(field.getKey());
+                writeValue(writer, field.getKey(), field.getValue());
+            }
+
+        } else {
+            writer.write(TAG_JSON);
+            writer.writeString(node.toString());
+        }
+    }
+
+    protected JsonNode readValue(PayloadReader reader) {
+        JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+        int tag = reader.read();
+        switch (tag) {
+            case TAG_NULL:
+                return nodeFactory.nullNode();
+            case TAG_STRING:
+                return nodeFactory.textNode(reader.readInternedString());
+            case TAG_LONG:
+                return nodeFactory.textNode(Long.toString(unZigZag(reader.readVarLong())));
+            case TAG_DATE:
+                return nodeFactory.numberNode(unZigZag(reader.readVarLong()));
+            case TAG_OBJECT:
+                ObjectNode objectNode = nodeFactory.objectNode();
+                int fieldCount = (int) reader.readVarLong();
+                for (int i = 0; i < fieldCount; i++) {
+                    String fieldName = reader.readInternedString();
+                    objectNode.set(fieldName, readValue(reader));
+                }
+                return objectNode;
+            case TAG_JSON:
+                try {
+                    return objectMapper.readTree(reader.readString());
+                } catch (IOException e) {
+                    throw new FlowableException("Invalid json value in async history payload", e);
+                }
+            default:
+                throw new FlowableException("Invalid async history payload: unknown value tag " + tag);
+        }
+    }
+
+    /**
+     * Only strings that are exactly the result of {@link Long#toString(long)} are encoded as numbers, so that they decode to the same
+     * string: no leading zeros, no plus sign and not '-0'.
+     */
+    protected boolean isCanonicalLong(String value) {
+        int length = value.length();
+        int start = length > 0 && value.charAt(0) == '-' ? 1 : 0;
+        int digits = length - start;
+        if (digits == 0 || digits > 18) { // 18 digits never overflow a long
+            return false;
+        }
+        if (value.charAt(start) == '0' && (digits > 1 || start == 1)) {
+            return false;
+        }
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    protected static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    protected byte[] compress(byte[] bytes) {
+        Deflater deflater = new Deflater(compressionLevel);
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream(bytes.length / 2)) {
+            try (DeflaterOutputStream dos = new DeflaterOutputStream(baos, deflater)) {
+                dos.write(bytes);
+            }
+            return baos.toByteArray();
+        } catch (IOException e) {
+            throw new FlowableException("Error while compressing async history payload", e);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    protected byte[] decompress(byte[] bytes) {
+        try (InflaterInputStream iis = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return IoUtil.readInputStream(iis, "async-history-payload");
+        } catch (IOException e) {
+            throw new FlowableException("Error while decompressing async history payload", e);
+        }
+    }
+
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * Payloads smaller than this number of bytes are not compressed, as deflating them hardly reduces their size.
+     */
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public Set<String> getDateFields() {
+        return dateFields;
+    }
+
+    /**
+     * The names of the fields of the historic data that hold dates formatted by {@link AsyncHistoryDateUtil}. Values of these fields that
+     * can't be parsed as a date are written as strings.
+     */
+    public void setDateFields(Set<String> dateFields) {
+        this.dateFields = dateFields;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * The {@link Deflater} compression level, {@link Deflater#BEST_SPEED} by default.
+     */
+    public void setCompressionLevel(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    protected static class PayloadWriter {
+
+        protected ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        protected Map<String, Integer> strings = new HashMap<>();
+
+        public void write(int b) {
+            out.write(b);
+        }
+
+        public void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        public void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        /**
+         * Writes 0 followed by the string the first time a string is written, and its index + 1 afterwards.
+         */
+        public void writeInternedString(String value) {
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeVarLong(index + 1);
+            } else {
+                strings.put(value, strings.size());
+                writeVarLong(0);
+                writeString(value);
+            }
+        }
+
+        public byte[] toByteArray() {
+            return out.toByteArray();
+        }
+
+    }
+
+    protected static class PayloadReader {
+
+        protected byte[] bytes;
+        protected int position;
+        protected List<String> strings = new ArrayList<>();
+
+        public PayloadReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        public int read() {
+            if (position >= bytes.length) {
+                throw new FlowableException("Invalid async history payload: unexpected end of data");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        public long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = read();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new FlowableException("Invalid async history payload: malformed number");
+        }
+
+        public String readString() {
+            int length = (int) readVarLong();
+            if (length < 0 || length > bytes.length - position) {
+                throw new FlowableException("Invalid async history payload: unexpected end of data");
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        public String readInternedString() {
+            int index = (int) readVarLong();
+            if (index == 0) {
+                String value = readString();
+                strings.add(value);
+                return value;
+            }
+            if (index > strings.size()) {
+                throw new FlowableException("Invalid async history payload: unknown string reference " + index);
+            }
+            return strings.get(index - 1);
+        }
+
+    }
+
+}
@@ -14,6 +14,7 @@ package org.flowable.engine.impl.history.async;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.zip.GZIPOutputStream;
 
@@ -23,6 +24,7 @@ import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.service.HistoryJobService;
+import org.flowable.job.service.impl.asyncexecutor.PartitionedAsyncHistoryJobExecutor;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -35,6 +37,7 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
     protected boolean isJsonGzipCompressionEnabled;
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected int asyncHistoryJsonGroupingThreshold;
+    protected AsyncHistoryPayloadCodec payloadCodec;
     
     @Override
     public void historyDataGenerated(List<ObjectNode> historyObjectNodes) {
@@ -43,9 +46,13 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
 
     protected void createJobsWithHistoricalData(List<ObjectNode> historyObjectNodes, CommandContext commandContext) {
         AsyncHistorySession asyncHistorySession = commandContext.getSession(AsyncHistorySession.class);
-        if (isAsyncHistoryJsonGroupingEnabled && historyObjectNodes.size() >= asyncHistoryJsonGroupingThreshold) {
+        String partitionKey = getPartitionKey(historyObjectNodes);
+        if (payloadCodec != null) {
+            createJobsWithEncodedHistoricalData(historyObjectNodes, commandContext, asyncHistorySession, partitionKey);
+
+        } else if (isAsyncHistoryJsonGroupingEnabled && historyObjectNodes.size() >= asyncHistoryJsonGroupingThreshold) {
             String jobType = isJsonGzipCompressionEnabled ? AsyncHistoryJobZippedHandler.JOB_TYPE : AsyncHistoryJobHandler.JOB_TYPE;
-            HistoryJobEntity jobEntity = createAndInsertJobEntity(commandContext, asyncHistorySession, jobType);
+            HistoryJobEntity jobEntity = createAndInsertJobEntity(commandContext, asyncHistorySession, jobType, partitionKey);
             ArrayNode arrayNode = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper().createArrayNode();
             for (ObjectNode historyJsonNode : historyObjectNodes) {
                 arrayNode.add(historyJsonNode);
@@ -54,18 +61,67 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
             
         } else {
             for (ObjectNode historyJsonNode : historyObjectNodes) {
-                HistoryJobEntity jobEntity = createAndInsertJobEntity(commandContext, asyncHistorySession, AsyncHistoryJobHandler.JOB_TYPE);
+                HistoryJobEntity jobEntity = createAndInsertJobEntity(commandContext, asyncHistorySession, AsyncHistoryJobHandler.JOB_TYPE,
+                        getPartitionKey(historyJsonNode, partitionKey));
                 addJsonToJob(commandContext, jobEntity, historyJsonNode, false);
             }
             
         }
     }
     
+    protected void createJobsWithEncodedHistoricalData(List<ObjectNode> historyObjectNodes, CommandContext commandContext,
+            AsyncHistorySession asyncHistorySession, String partitionKey) {
+
+        if (isAsyncHistoryJsonGroupingEnabled && historyObjectNodes.size() >= asyncHistoryJsonGroupingThreshold) {
+            HistoryJobEntity jobEntity = createAndInsertJobEntity(commandContext, asyncHistorySession, payloadCodec.getJobHandlerType(), partitionKey);
+            jobEntity.setAdvancedJobHandlerConfigurationBytes(payloadCodec.encode(historyObjectNodes));
+
+        } else {
+            for (ObjectNode historyJsonNode : historyObjectNodes) {
+                HistoryJobEntity jobEntity = createAndInsertJobEntity(commandContext, asyncHistorySession, payloadCodec.getJobHandlerType(),
+                        getPartitionKey(historyJsonNode, partitionKey));
+                jobEntity.setAdvancedJobHandlerConfigurationBytes(payloadCodec.encode(Collections.singletonList(historyJsonNode)));
+            }
+        }
+    }
+
+    /**
+     * The partition key of the jobs is stored as their job handler configuration, which the history job handlers don't use otherwise.
+     * It's the id of the process instance the historic data belongs to, so that the {@link PartitionedAsyncHistoryJobExecutor} can
+     * execute the jobs of a process instance in order. The historic data of a transaction usually belongs to one process instance:
+     * when it doesn't, for example with call activities, the jobs are partitioned by the first process instance.
+     */
+    protected String getPartitionKey(List<ObjectNode> historyObjectNodes) {
+        for (ObjectNode historyObjectNode : historyObjectNodes) {
+            String partitionKey = getPartitionKey(historyObjectNode, null);
+            if (partitionKey != null) {
+                return partitionKey;
+            }
+        }
+        return null;
+    }
+
+    protected String getPartitionKey(ObjectNode historyObjectNode, String defaultPartitionKey) {
+        JsonNode dataNode = historyObjectNode.get(HistoryJsonConstants.DATA);
+        if (dataNode != null) {
+            JsonNode processInstanceIdNode = dataNode.get(HistoryJsonConstants.PROCESS_INSTANCE_ID);
+            if (processInstanceIdNode != null && processInstanceIdNode.isTextual()) {
+                return processInstanceIdNode.asText();
+            }
+        }
+        return defaultPartitionKey;
+    }
+
     protected HistoryJobEntity createAndInsertJobEntity(CommandContext commandContext, AsyncHistorySession asyncHistorySession, String jobType) {
+        return createAndInsertJobEntity(commandContext, asyncHistorySession, jobType, null);
+    }
+
+    protected HistoryJobEntity createAndInsertJobEntity(CommandContext commandContext, AsyncHistorySession asyncHistorySession, String jobType, String partitionKey) {
         ProcessEngineConfiguration processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
         HistoryJobService historyJobService = CommandContextUtil.getHistoryJobService(commandContext);
         HistoryJobEntity currentJobEntity = historyJobService.createHistoryJob();
         currentJobEntity.setJobHandlerType(jobType);
+        currentJobEntity.setJobHandlerConfiguration(partitionKey);
         currentJobEntity.setRetries(CommandContextUtil.getProcessEngineConfiguration(commandContext).getAsyncHistoryExecutorNumberOfRetries());
         currentJobEntity.setTenantId(asyncHistorySession.getTenantId());
         currentJobEntity.setCreateTime(processEngineConfiguration.getClock().getCurrentTime());
@@ -119,5 +175,16 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
     public void setAsyncHistoryJsonGroupingThreshold(int asyncHistoryJsonGroupingThreshold) {
         this.asyncHistoryJsonGroupingThreshold = asyncHistoryJsonGroupingThreshold;
     }
+
+    public AsyncHistoryPayloadCodec getPayloadCodec() {
+        return payloadCodec;
+    }
+
+    /**
+     * When set, the historic data is encoded with the given codec instead of being written as (gzipped) json.
+     */
+    public void setPayloadCodec(AsyncHistoryPayloadCodec payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
     
 }
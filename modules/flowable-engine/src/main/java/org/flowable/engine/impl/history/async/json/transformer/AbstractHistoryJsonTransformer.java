@@ -24,6 +24,7 @@ import org.flowable.engine.impl.history.async.HistoryJsonConstants;
 import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public abstract class AbstractHistoryJsonTransformer implements HistoryJsonTransformer {
@@ -36,6 +37,11 @@ public abstract class AbstractHistoryJsonTransformer implements HistoryJsonTrans
     }
 
     protected Date getDateFromJson(ObjectNode objectNode, String fieldName) {
+        JsonNode node = objectNode.get(fieldName);
+        if (node != null && node.isNumber()) {
+            // Dates decoded by the BinaryAsyncHistoryPayloadCodec
+            return new Date(node.longValue());
+        }
         String s = getStringFromJson(objectNode, fieldName);
         return AsyncHistoryDateUtil.parseDate(s);
     }
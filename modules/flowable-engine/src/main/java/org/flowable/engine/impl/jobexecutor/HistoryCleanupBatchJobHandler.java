@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cmd.BulkDeleteHistoricProcessInstancesCmd;
+import org.flowable.engine.impl.util.json.JSONArray;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+
+/**
+ * Removes the history of one batch of ended process instances, of which the ids are stored as a json array in the configuration of the job.
+ * See {@link HistoryCleanupJobHandler}.
+ */
+public class HistoryCleanupBatchJobHandler implements JobHandler {
+
+    public static final String TYPE = "history-cleanup-batch";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, Object execution, CommandContext commandContext) {
+        JSONArray cfgJson = new JSONArray(configuration);
+        List<String> processInstanceIds = new ArrayList<>(cfgJson.length());
+        for (int i = 0; i < cfgJson.length(); i++) {
+            processInstanceIds.add(cfgJson.getString(i));
+        }
+
+        new BulkDeleteHistoricProcessInstancesCmd(processInstanceIds).execute(commandContext);
+    }
+
+}
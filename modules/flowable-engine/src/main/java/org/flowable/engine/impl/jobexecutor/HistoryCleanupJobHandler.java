@@ -0,0 +1,136 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.engine.common.api.query.CursorPage;
+import org.flowable.engine.common.api.query.QueryCursor;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.json.JSONArray;
+import org.flowable.engine.impl.util.json.JSONObject;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects the ids of the process instances that have ended longer ago than the configured number of days, and creates a
+ * {@link HistoryCleanupBatchJobHandler} async job for every batch of them.
+ * <p>
+ * One execution creates at most {@link ProcessEngineConfigurationImpl#getHistoryCleaningBatchesPerRun()} batch jobs. When more process
+ * instances are found, a new async history cleanup job is created that continues after the last process instance of this run,
+ * using the same end date, so that a large backlog never ends up in one long running transaction.
+ * <p>
+ * Nothing is done when history cleaning has been disabled since the timer job was created.
+ */
+public class HistoryCleanupJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HistoryCleanupJobHandler.class);
+
+    public static final String TYPE = "history-cleanup";
+
+    protected static final String PROPERTY_ENDED_BEFORE = "endedBefore";
+    protected static final String PROPERTY_CURSOR_END_TIME = "cursorEndTime";
+    protected static final String PROPERTY_CURSOR_ID = "cursorId";
+
+    /**
+     * The maximum length of a job handler configuration, as stored in the database.
+     */
+    protected static final int MAX_CONFIGURATION_LENGTH = 4000;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, Object execution, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (!processEngineConfiguration.isEnableHistoryCleaning()) {
+            // Left over from a time history cleaning was enabled
+            LOGGER.debug("History cleaning is disabled, ignoring job {}", job.getId());
+            return;
+        }
+
+        Date endedBefore;
+        QueryCursor cursor = null;
+        if (StringUtils.isNotEmpty(configuration)) {
+            JSONObject cfgJson = new JSONObject(configuration);
+            endedBefore = new Date(cfgJson.getLong(PROPERTY_ENDED_BEFORE));
+            if (cfgJson.has(PROPERTY_CURSOR_ID)) {
+                cursor = new QueryCursor(new Date(cfgJson.getLong(PROPERTY_CURSOR_END_TIME)), cfgJson.getString(PROPERTY_CURSOR_ID));
+            }
+
+        } else {
+            Calendar calendar = processEngineConfiguration.getClock().getCurrentCalendar();
+            calendar.add(Calendar.DAY_OF_YEAR, -processEngineConfiguration.getCleanInstancesEndedAfterNumberOfDays());
+            endedBefore = calendar.getTime();
+        }
+
+        int batchSize = processEngineConfiguration.getHistoryCleaningBatchSize();
+        CursorPage<HistoricProcessInstance> page = new HistoricProcessInstanceQueryImpl(commandContext)
+                .finishedBefore(endedBefore)
+                .orderByProcessInstanceEndTime()
+                .asc()
+                .listPageAfter(cursor, batchSize * processEngineConfiguration.getHistoryCleaningBatchesPerRun());
+
+        List<String> processInstanceIds = new ArrayList<>(batchSize);
+        int configurationLength = 2;
+        for (HistoricProcessInstance historicProcessInstance : page.getResults()) {
+            int idLength = historicProcessInstance.getId().length() + 3;
+            if (processInstanceIds.size() == batchSize || configurationLength + idLength > MAX_CONFIGURATION_LENGTH) {
+                createBatchJob(processInstanceIds, commandContext);
+                processInstanceIds = new ArrayList<>(batchSize);
+                configurationLength = 2;
+            }
+            processInstanceIds.add(historicProcessInstance.getId());
+            configurationLength += idLength;
+        }
+
+        if (!processInstanceIds.isEmpty()) {
+            createBatchJob(processInstanceIds, commandContext);
+        }
+
+        if (page.hasNext()) {
+            JSONObject cfgJson = new JSONObject();
+            cfgJson.put(PROPERTY_ENDED_BEFORE, endedBefore.getTime());
+            cfgJson.put(PROPERTY_CURSOR_END_TIME, ((Date) page.getNextCursor().getSortValue()).getTime());
+            cfgJson.put(PROPERTY_CURSOR_ID, page.getNextCursor().getId());
+            createAsyncJob(TYPE, cfgJson.toString(), commandContext);
+        }
+    }
+
+    protected void createBatchJob(List<String> processInstanceIds, CommandContext commandContext) {
+        createAsyncJob(HistoryCleanupBatchJobHandler.TYPE, new JSONArray(processInstanceIds).toString(), commandContext);
+    }
+
+    protected void createAsyncJob(String jobHandlerType, String jobHandlerConfiguration, CommandContext commandContext) {
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        JobEntity job = jobService.createJob();
+        jobService.createAsyncJob(job, false);
+        job.setJobHandlerType(jobHandlerType);
+        job.setJobHandlerConfiguration(jobHandlerConfiguration);
+        jobService.scheduleAsyncJob(job);
+    }
+
+}
@@ -0,0 +1,49 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+
+/**
+ * Checks whether a parallel multi-instance can be left, after one of its instances has completed in another transaction.
+ * The job is created for the multi-instance root execution, see {@link ParallelMultiInstanceBehavior#joinCompletedInstances(ExecutionEntity)}.
+ */
+public class ParallelMultiInstanceJoinJobHandler implements JobHandler {
+
+    public static final String TYPE = "parallel-multi-instance-join";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, Object execution, CommandContext commandContext) {
+        ExecutionEntity executionEntity = (ExecutionEntity) execution;
+        if (executionEntity == null || executionEntity.isEnded()) {
+            return;
+        }
+
+        FlowElement flowElement = executionEntity.getCurrentFlowElement();
+        if (flowElement instanceof Activity && ((Activity) flowElement).getBehavior() instanceof ParallelMultiInstanceBehavior) {
+            ((ParallelMultiInstanceBehavior) ((Activity) flowElement).getBehavior()).joinCompletedInstances(executionEntity);
+        }
+    }
+
+}
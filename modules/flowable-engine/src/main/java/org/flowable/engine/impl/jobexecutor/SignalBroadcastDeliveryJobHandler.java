@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
+import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntityManager;
+import org.flowable.engine.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.impl.util.json.JSONObject;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers a broadcasted signal to one batch of subscriptions, created by the {@link SignalBroadcastJobHandler} fan-out.
+ * The batch is stored as a range of subscription ids, subscriptions that were removed since the fan-out are skipped.
+ * <p>
+ * The batch is delivered in the transaction of the job. When that fails, the retry of the job doesn't deliver the batch again but hands
+ * every subscription of the batch to its own delivery job, so one failing subscription is retried and ends up as dead letter job on its own.
+ */
+public class SignalBroadcastDeliveryJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SignalBroadcastDeliveryJobHandler.class);
+
+    public static final String TYPE = "signal-broadcast-delivery";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, Object execution, CommandContext commandContext) {
+        String broadcastId = SignalBroadcastJobHandler.getBroadcastId(configuration);
+        JSONObject cfgJson = SignalBroadcastJobHandler.getConfigurationJson(configuration);
+        String signalName = cfgJson.getString(SignalBroadcastJobHandler.PROPERTY_SIGNAL_NAME);
+        String tenantId = cfgJson.optString(SignalBroadcastJobHandler.PROPERTY_TENANT_ID, null);
+        Date createdBefore = new Date(cfgJson.getLong(SignalBroadcastJobHandler.PROPERTY_CREATED_BEFORE));
+        String cursorId = cfgJson.optString(SignalBroadcastJobHandler.PROPERTY_CURSOR_ID, null);
+
+        EventSubscriptionEntityManager eventSubscriptionEntityManager = CommandContextUtil.getEventSubscriptionEntityManager(commandContext);
+        List<SignalEventSubscriptionEntity> signalEvents = eventSubscriptionEntityManager.findSignalEventSubscriptionsByEventNameAndIdRange(signalName,
+                tenantId, createdBefore, cursorId, cfgJson.getString(SignalBroadcastJobHandler.PROPERTY_LAST_ID));
+
+        // The exception of the failed attempt is kept on the job when it is retried
+        if (job.getExceptionMessage() != null && signalEvents.size() > 1) {
+            for (SignalEventSubscriptionEntity signalEventSubscriptionEntity : signalEvents) {
+                JSONObject subscriptionCfgJson = SignalBroadcastJobHandler.createConfiguration(signalName, tenantId, createdBefore);
+                subscriptionCfgJson.put(SignalBroadcastJobHandler.PROPERTY_CURSOR_ID, cursorId);
+                subscriptionCfgJson.put(SignalBroadcastJobHandler.PROPERTY_LAST_ID, signalEventSubscriptionEntity.getId());
+                SignalBroadcastJobHandler.createAsyncJob(TYPE, broadcastId, subscriptionCfgJson, tenantId, commandContext);
+
+                cursorId = signalEventSubscriptionEntity.getId();
+            }
+            LOGGER.debug("Delivery of signal {} failed for a batch of {} subscriptions, the subscriptions are handed to separate delivery jobs",
+                    signalName, signalEvents.size());
+
+            return;
+        }
+
+        for (SignalEventSubscriptionEntity signalEventSubscriptionEntity : signalEvents) {
+            if (Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, signalEventSubscriptionEntity.getProcessDefinitionId())) {
+                Flowable5CompatibilityHandler compatibilityHandler = Flowable5Util.getFlowable5CompatibilityHandler();
+                compatibilityHandler.signalEventReceived(signalEventSubscriptionEntity, null, false);
+
+            } else {
+                CommandContextUtil.getProcessEngineConfiguration(commandContext).getEventDispatcher().dispatchEvent(
+                        FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNALED, signalEventSubscriptionEntity.getActivityId(), signalName,
+                                null, signalEventSubscriptionEntity.getExecutionId(), signalEventSubscriptionEntity.getProcessInstanceId(),
+                                signalEventSubscriptionEntity.getProcessDefinitionId()));
+
+                eventSubscriptionEntityManager.eventReceived(signalEventSubscriptionEntity, null, false);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.SignalBroadcastEntity;
+import org.flowable.engine.impl.persistence.entity.SignalBroadcastEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.json.JSONObject;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * One step of the fan-out of a signal broadcast: pages through the global subscriptions to the signal, ordered by id and starting after the
+ * last subscription of the previous step, and creates a {@link SignalBroadcastDeliveryJobHandler} async job for every batch of them.
+ * Only the subscriptions that were created before the broadcast are taken into account.
+ * <p>
+ * One execution creates at most {@link ProcessEngineConfigurationImpl#getSignalBroadcastBatchesPerRun()} delivery jobs. When more subscriptions
+ * are found, a new fan-out job is created that continues after the last subscription of this run.
+ * <p>
+ * The delivery jobs and the next fan-out job are created in the transaction of the step. When a node crashes during the fan-out, the step is
+ * executed again once the lock of its job has expired, so no subscription is skipped or handed to two delivery jobs.
+ * <p>
+ * The handler configuration of the fan-out and delivery jobs starts with the id of the broadcast, followed by {@link #CONFIGURATION_SEPARATOR}
+ * and the JSON configuration, so the delivery jobs of one broadcast can be counted with a prefix match on the configuration column.
+ * When the broadcast tracks its progress, every step adds the number of subscriptions it handed to delivery jobs to the {@link SignalBroadcastEntity}
+ * of the broadcast, and the last step marks its fan-out as completed. Only one fan-out job of a broadcast exists at a time, so the steps don't
+ * update the entity concurrently.
+ */
+public class SignalBroadcastJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SignalBroadcastJobHandler.class);
+
+    public static final String TYPE = "signal-broadcast";
+
+    public static final char CONFIGURATION_SEPARATOR = ':';
+
+    public static final String PROPERTY_SIGNAL_NAME = "signalName";
+    public static final String PROPERTY_TENANT_ID = "tenantId";
+    public static final String PROPERTY_CREATED_BEFORE = "createdBefore";
+    public static final String PROPERTY_CURSOR_ID = "cursorId";
+    public static final String PROPERTY_LAST_ID = "lastId";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, Object execution, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        String broadcastId = getBroadcastId(configuration);
+        JSONObject cfgJson = getConfigurationJson(configuration);
+        String signalName = cfgJson.getString(PROPERTY_SIGNAL_NAME);
+        String tenantId = cfgJson.optString(PROPERTY_TENANT_ID, null);
+        Date createdBefore = new Date(cfgJson.getLong(PROPERTY_CREATED_BEFORE));
+        String cursorId = cfgJson.optString(PROPERTY_CURSOR_ID, null);
+
+        int batchSize = processEngineConfiguration.getSignalBroadcastBatchSize();
+        int maxResults = batchSize * processEngineConfiguration.getSignalBroadcastBatchesPerRun();
+        List<String> subscriptionIds = CommandContextUtil.getEventSubscriptionEntityManager(commandContext)
+                .findSignalEventSubscriptionIdsByEventName(signalName, tenantId, createdBefore, cursorId, maxResults);
+
+        for (int i = 0; i < subscriptionIds.size(); i += batchSize) {
+            String lastId = subscriptionIds.get(Math.min(i + batchSize, subscriptionIds.size()) - 1);
+
+            JSONObject deliveryCfgJson = createConfiguration(signalName, tenantId, createdBefore);
+            deliveryCfgJson.put(PROPERTY_CURSOR_ID, cursorId);
+            deliveryCfgJson.put(PROPERTY_LAST_ID, lastId);
+            createAsyncJob(SignalBroadcastDeliveryJobHandler.TYPE, broadcastId, deliveryCfgJson, tenantId, commandContext);
+
+            cursorId = lastId;
+        }
+
+        boolean fanOutCompleted = subscriptionIds.size() < maxResults;
+        if (!fanOutCompleted) {
+            JSONObject nextCfgJson = createConfiguration(signalName, tenantId, createdBefore);
+            nextCfgJson.put(PROPERTY_CURSOR_ID, cursorId);
+            createAsyncJob(TYPE, broadcastId, nextCfgJson, tenantId, commandContext);
+
+        } else {
+            LOGGER.debug("Fan-out of signal broadcast {} of signal {} completed", broadcastId, signalName);
+        }
+
+        SignalBroadcastEntityManager signalBroadcastEntityManager = CommandContextUtil.getSignalBroadcastEntityManager(commandContext);
+        SignalBroadcastEntity signalBroadcast = signalBroadcastEntityManager.findById(broadcastId);
+        if (signalBroadcast != null) {
+            signalBroadcastEntityManager.addScheduledSubscriptions(signalBroadcast, subscriptionIds.size(), fanOutCompleted);
+        }
+    }
+
+    public static JSONObject createConfiguration(String signalName, String tenantId, Date createdBefore) {
+        JSONObject cfgJson = new JSONObject();
+        cfgJson.put(PROPERTY_SIGNAL_NAME, signalName);
+        cfgJson.put(PROPERTY_TENANT_ID, tenantId);
+        cfgJson.put(PROPERTY_CREATED_BEFORE, createdBefore.getTime());
+        return cfgJson;
+    }
+
+    public static void createAsyncJob(String jobHandlerType, String broadcastId, JSONObject cfgJson, String tenantId, CommandContext commandContext) {
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        JobEntity job = jobService.createJob();
+        jobService.createAsyncJob(job, false);
+        job.setJobHandlerType(jobHandlerType);
+        job.setJobHandlerConfiguration(broadcastId + CONFIGURATION_SEPARATOR + cfgJson.toString());
+        if (tenantId != null) {
+            job.setTenantId(tenantId);
+        }
+        jobService.scheduleAsyncJob(job);
+    }
+
+    /**
+     * The pattern matching the handler configuration of all fan-out and delivery jobs of the given broadcast.
+     */
+    public static String getConfigurationLike(String broadcastId) {
+        return broadcastId + CONFIGURATION_SEPARATOR + "%";
+    }
+
+    public static String getBroadcastId(String configuration) {
+        return configuration.substring(0, configuration.indexOf(CONFIGURATION_SEPARATOR));
+    }
+
+    public static JSONObject getConfigurationJson(String configuration) {
+        return new JSONObject(configuration.substring(configuration.indexOf(CONFIGURATION_SEPARATOR) + 1));
+    }
+
+}
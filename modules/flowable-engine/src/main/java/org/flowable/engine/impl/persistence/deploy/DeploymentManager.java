@@ -15,6 +15,7 @@ package org.flowable.engine.impl.persistence.deploy;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.engine.app.AppModel;
@@ -24,6 +25,7 @@ import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentResolutionLocks;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -47,6 +49,7 @@ public class DeploymentManager {
     protected DeploymentCache<Object> appResourceCache;
     protected DeploymentCache<Object> knowledgeBaseCache; // Needs to be object to avoid an import to Drools in this core class
     protected List<Deployer> deployers;
+    protected DeploymentResolutionLocks resolutionLocks = new DeploymentResolutionLocks();
 
     protected ProcessEngineConfigurationImpl processEngineConfiguration;
     protected ProcessDefinitionEntityManager processDefinitionEntityManager;
@@ -112,6 +115,8 @@ public class DeploymentManager {
 
     /**
      * Resolving the process definition will fetch the BPMN 2.0, parse it and store the {@link BpmnModel} in memory.
+     * 
+     * When several threads resolve process definitions of the same deployment at the same time, only the first one parses the deployment.
      */
     public ProcessDefinitionCacheEntry resolveProcessDefinition(ProcessDefinition processDefinition) {
         String processDefinitionId = processDefinition.getId();
@@ -124,10 +129,19 @@ public class DeploymentManager {
                 return Flowable5Util.getFlowable5CompatibilityHandler().resolveProcessDefinition(processDefinition);
             }
 
-            DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
-            deployment.setNew(false);
-            deploy(deployment, null);
-            cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
+            ReentrantLock lock = resolutionLocks.lock(deploymentId);
+            try {
+                // Another thread could have parsed the deployment while waiting for the lock
+                cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
+                if (cachedProcessDefinition == null) {
+                    DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
+                    deployment.setNew(false);
+                    deploy(deployment, null);
+                    cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
+                }
+            } finally {
+                resolutionLocks.unlock(deploymentId, lock);
+            }
 
             if (cachedProcessDefinition == null) {
                 throw new FlowableException("deployment '" + deploymentId + "' didn't put process definition '" + processDefinitionId + "' in the cache");
@@ -228,6 +242,14 @@ public class DeploymentManager {
         this.deployers = deployers;
     }
 
+    public DeploymentResolutionLocks getResolutionLocks() {
+        return resolutionLocks;
+    }
+
+    public void setResolutionLocks(DeploymentResolutionLocks resolutionLocks) {
+        this.resolutionLocks = resolutionLocks;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
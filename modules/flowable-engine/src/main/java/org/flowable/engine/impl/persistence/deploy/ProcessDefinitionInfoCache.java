@@ -12,21 +12,20 @@
  */
 package org.flowable.engine.impl.persistence.deploy;
 
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.interceptor.CommandExecutor;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -34,40 +33,33 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 /**
  * Default cache: keep everything in memory, unless a limit is set.
  * 
+ * The revision of a cached object is verified against the database at most once per command context. When a staleness window is set,
+ * a cached object that was verified less than the window ago is returned without verifying it again, and the first verification in a command
+ * context checks the revisions of the other cached objects that are due for verification in the same query, up to the revision check batch size.
+ *
+ * The returned objects and their info node are shared between threads and should not be changed.
+ * 
  * @author Tijs Rademakers
  */
 public class ProcessDefinitionInfoCache {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessDefinitionInfoCache.class);
+    protected static final String ATTRIBUTE_VERIFIED_PROCESS_DEFINITION_IDS = "processDefinitionInfoCache.verifiedProcessDefinitionIds";
 
-    protected Map<String, ProcessDefinitionInfoCacheObject> cache;
+    protected ConcurrentDeploymentCache<ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
+    protected long stalenessWindowInMillis;
+    protected int revisionCheckBatchSize = 100;
 
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
         this.commandExecutor = commandExecutor;
-        this.cache = Collections.synchronizedMap(new HashMap<String, ProcessDefinitionInfoCacheObject>());
+        this.cache = new ConcurrentDeploymentCache<>();
     }
 
     /** Cache which has a hard limit: no more elements will be cached than the limit. */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor, final int limit) {
         this.commandExecutor = commandExecutor;
-        this.cache = Collections.synchronizedMap(new LinkedHashMap<String, ProcessDefinitionInfoCacheObject>(limit + 1, 0.75f, true) {
-            // +1 is needed, because the entry is inserted first, before it is removed
-            // 0.75 is the default (see javadocs)
-            // true will keep the 'access-order', which is needed to have a real LRU cache
-            private static final long serialVersionUID = 1L;
-
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<String, ProcessDefinitionInfoCacheObject> eldest) {
-                boolean removeEldest = size() > limit;
-                if (removeEldest) {
-                    LOGGER.trace("Cache limit is reached, {} will be evicted", eldest.getKey());
-                }
-                return removeEldest;
-            }
-
-        });
+        this.cache = new ConcurrentDeploymentCache<>(limit);
     }
 
     public ProcessDefinitionInfoCacheObject get(final String processDefinitionId) {
@@ -90,13 +82,21 @@ public class ProcessDefinitionInfoCache {
     }
 
     public void add(String id, ProcessDefinitionInfoCacheObject obj) {
-        cache.put(id, obj);
+        cache.add(id, obj);
     }
 
     public void remove(String id) {
         cache.remove(id);
     }
 
+    /**
+     * Removes the cached object when the current command context is successfully closed, i.e. when the changes to the info are committed.
+     */
+    public void invalidate(String processDefinitionId, CommandContext commandContext) {
+        getVerifiedProcessDefinitionIds(commandContext).remove(processDefinitionId);
+        commandContext.addCloseListener(new ProcessDefinitionInfoCacheInvalidationListener(this, processDefinitionId));
+    }
+
     public void clear() {
         cache.clear();
     }
@@ -105,38 +105,133 @@ public class ProcessDefinitionInfoCache {
     public int size() {
         return cache.size();
     }
+    
+    public ConcurrentDeploymentCache<ProcessDefinitionInfoCacheObject> getCache() {
+        return cache;
+    }
+
+    public long getStalenessWindowInMillis() {
+        return stalenessWindowInMillis;
+    }
+
+    public void setStalenessWindowInMillis(long stalenessWindowInMillis) {
+        this.stalenessWindowInMillis = stalenessWindowInMillis;
+    }
 
     protected ProcessDefinitionInfoCacheObject retrieveProcessDefinitionInfoCacheObject(String processDefinitionId, CommandContext commandContext) {
+        long currentTime = CommandContextUtil.getProcessEngineConfiguration(commandContext).getClock().getCurrentTime().getTime();
+        Set<String> verifiedProcessDefinitionIds = getVerifiedProcessDefinitionIds(commandContext);
+
+        ProcessDefinitionInfoCacheObject cacheObject = cache.get(processDefinitionId);
+        if (cacheObject == null || (!verifiedProcessDefinitionIds.contains(processDefinitionId) && !isWithinStalenessWindow(cacheObject, currentTime))) {
+            cacheObject = verifyRevisions(processDefinitionId, cacheObject, verifiedProcessDefinitionIds, currentTime, commandContext);
+        }
+
+        return cacheObject;
+    }
+
+    /**
+     * Verifies the revision of the requested info. When a staleness window is set, the other cached infos that are due for verification are
+     * verified in the same query, and are then returned without query for the rest of the command context. Without a window, every cached info
+     * is due in every command context, so only the requested info is verified.
+     */
+    protected ProcessDefinitionInfoCacheObject verifyRevisions(String processDefinitionId, ProcessDefinitionInfoCacheObject cacheObject,
+            Set<String> verifiedProcessDefinitionIds, long currentTime, CommandContext commandContext) {
+
         ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
-        ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
+        if (stalenessWindowInMillis <= 0) {
+            ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
+            verifiedProcessDefinitionIds.add(processDefinitionId);
+            return updateCacheObject(processDefinitionId, cacheObject, infoEntity, currentTime, commandContext);
+        }
 
-        ProcessDefinitionInfoCacheObject cacheObject = null;
-        if (cache.containsKey(processDefinitionId)) {
-            cacheObject = cache.get(processDefinitionId);
-        } else {
-            cacheObject = new ProcessDefinitionInfoCacheObject();
-            cacheObject.setRevision(0);
-            cacheObject.setInfoNode(objectMapper.createObjectNode());
+        Map<String, ProcessDefinitionInfoCacheObject> cacheObjectsToVerify = new HashMap<>();
+        cacheObjectsToVerify.put(processDefinitionId, cacheObject);
+        for (ProcessDefinitionInfoCacheObject otherCacheObject : cache.values()) {
+            if (cacheObjectsToVerify.size() >= revisionCheckBatchSize) {
+                break;
+            }
+
+            String otherProcessDefinitionId = otherCacheObject.getProcessDefinitionId();
+            if (otherProcessDefinitionId != null && !cacheObjectsToVerify.containsKey(otherProcessDefinitionId)
+                    && !verifiedProcessDefinitionIds.contains(otherProcessDefinitionId) && !isWithinStalenessWindow(otherCacheObject, currentTime)) {
+                cacheObjectsToVerify.put(otherProcessDefinitionId, otherCacheObject);
+            }
+        }
+
+        Map<String, ProcessDefinitionInfoEntity> infoEntities = new HashMap<>();
+        for (ProcessDefinitionInfoEntity infoEntity : infoEntityManager.findProcessDefinitionInfosByProcessDefinitionIds(cacheObjectsToVerify.keySet())) {
+            infoEntities.put(infoEntity.getProcessDefinitionId(), infoEntity);
+        }
+
+        ProcessDefinitionInfoCacheObject result = null;
+        for (Map.Entry<String, ProcessDefinitionInfoCacheObject> entry : cacheObjectsToVerify.entrySet()) {
+            ProcessDefinitionInfoCacheObject verifiedCacheObject = updateCacheObject(entry.getKey(), entry.getValue(),
+                    infoEntities.get(entry.getKey()), currentTime, commandContext);
+            verifiedProcessDefinitionIds.add(entry.getKey());
+            if (entry.getKey().equals(processDefinitionId)) {
+                result = verifiedCacheObject;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Cached objects are never changed once they are in the cache, except for their verification time. When the revision changed,
+     * a new object is cached instead, so other threads never see a partially updated object.
+     */
+    protected ProcessDefinitionInfoCacheObject updateCacheObject(String processDefinitionId, ProcessDefinitionInfoCacheObject cacheObject,
+            ProcessDefinitionInfoEntity infoEntity, long currentTime, CommandContext commandContext) {
+
+        int revision = infoEntity != null ? infoEntity.getRevision() : 0;
+        if (cacheObject != null && cacheObject.getRevision() == revision) {
+            cacheObject.setLastVerifiedTime(currentTime);
+            return cacheObject;
         }
 
-        ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
-        if (infoEntity != null && infoEntity.getRevision() != cacheObject.getRevision()) {
-            cacheObject.setRevision(infoEntity.getRevision());
+        ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
+        ProcessDefinitionInfoCacheObject newCacheObject = new ProcessDefinitionInfoCacheObject();
+        newCacheObject.setProcessDefinitionId(processDefinitionId);
+        newCacheObject.setRevision(revision);
+        newCacheObject.setInfoNode(objectMapper.createObjectNode());
+        if (infoEntity != null) {
+            newCacheObject.setId(infoEntity.getId());
             if (infoEntity.getInfoJsonId() != null) {
-                byte[] infoBytes = infoEntityManager.findInfoJsonById(infoEntity.getInfoJsonId());
+                byte[] infoBytes = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext).findInfoJsonById(infoEntity.getInfoJsonId());
                 try {
-                    ObjectNode infoNode = (ObjectNode) objectMapper.readTree(infoBytes);
-                    cacheObject.setInfoNode(infoNode);
+                    newCacheObject.setInfoNode((ObjectNode) objectMapper.readTree(infoBytes));
                 } catch (Exception e) {
                     throw new FlowableException("Error reading json info node for process definition " + processDefinitionId, e);
                 }
             }
-        } else if (infoEntity == null) {
-            cacheObject.setRevision(0);
-            cacheObject.setInfoNode(objectMapper.createObjectNode());
         }
+        newCacheObject.setLastVerifiedTime(currentTime);
 
-        return cacheObject;
+        cache.add(processDefinitionId, newCacheObject);
+        return newCacheObject;
+    }
+
+    public int getRevisionCheckBatchSize() {
+        return revisionCheckBatchSize;
+    }
+
+    public void setRevisionCheckBatchSize(int revisionCheckBatchSize) {
+        this.revisionCheckBatchSize = revisionCheckBatchSize;
+    }
+
+    protected boolean isWithinStalenessWindow(ProcessDefinitionInfoCacheObject cacheObject, long currentTime) {
+        return stalenessWindowInMillis > 0 && currentTime - cacheObject.getLastVerifiedTime() < stalenessWindowInMillis;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Set<String> getVerifiedProcessDefinitionIds(CommandContext commandContext) {
+        Set<String> verifiedProcessDefinitionIds = (Set<String>) commandContext.getAttribute(ATTRIBUTE_VERIFIED_PROCESS_DEFINITION_IDS);
+        if (verifiedProcessDefinitionIds == null) {
+            verifiedProcessDefinitionIds = new HashSet<>();
+            commandContext.addAttribute(ATTRIBUTE_VERIFIED_PROCESS_DEFINITION_IDS, verifiedProcessDefinitionIds);
+        }
+        return verifiedProcessDefinitionIds;
     }
 
 }
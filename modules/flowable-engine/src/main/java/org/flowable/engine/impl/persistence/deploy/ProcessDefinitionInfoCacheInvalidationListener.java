@@ -0,0 +1,49 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.CommandContextCloseListener;
+
+/**
+ * Removes a process definition info from the {@link ProcessDefinitionInfoCache} once the changes to it are committed,
+ * so that the next read loads the new info instead of waiting for the staleness window to pass.
+ */
+public class ProcessDefinitionInfoCacheInvalidationListener implements CommandContextCloseListener {
+
+    protected ProcessDefinitionInfoCache processDefinitionInfoCache;
+    protected String processDefinitionId;
+
+    public ProcessDefinitionInfoCacheInvalidationListener(ProcessDefinitionInfoCache processDefinitionInfoCache, String processDefinitionId) {
+        this.processDefinitionInfoCache = processDefinitionInfoCache;
+        this.processDefinitionId = processDefinitionId;
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+        processDefinitionInfoCache.remove(processDefinitionId);
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+    }
+
+}
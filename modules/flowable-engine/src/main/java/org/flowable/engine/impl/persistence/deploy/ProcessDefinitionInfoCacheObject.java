@@ -20,8 +20,10 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 public class ProcessDefinitionInfoCacheObject {
 
     protected String id;
+    protected String processDefinitionId;
     protected int revision;
     protected ObjectNode infoNode;
+    protected volatile long lastVerifiedTime;
 
     public String getId() {
         return id;
@@ -31,6 +33,14 @@ public class ProcessDefinitionInfoCacheObject {
         this.id = id;
     }
 
+    public String getProcessDefinitionId() {
+        return processDefinitionId;
+    }
+
+    public void setProcessDefinitionId(String processDefinitionId) {
+        this.processDefinitionId = processDefinitionId;
+    }
+
     public int getRevision() {
         return revision;
     }
@@ -46,4 +56,12 @@ public class ProcessDefinitionInfoCacheObject {
     public void setInfoNode(ObjectNode infoNode) {
         this.infoNode = infoNode;
     }
+
+    public long getLastVerifiedTime() {
+        return lastVerifiedTime;
+    }
+
+    public void setLastVerifiedTime(long lastVerifiedTime) {
+        this.lastVerifiedTime = lastVerifiedTime;
+    }
 }
\ No newline at end of file
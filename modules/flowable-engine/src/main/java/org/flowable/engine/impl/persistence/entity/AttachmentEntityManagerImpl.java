@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.api.FlowableException;
@@ -91,6 +92,12 @@ public class AttachmentEntityManagerImpl extends AbstractEntityManager<Attachmen
         }
     }
 
+    @Override
+    public void bulkDeleteAttachmentsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        checkHistoryEnabled();
+        attachmentDataManager.bulkDeleteAttachmentsByProcessInstanceIds(processInstanceIds);
+    }
+
     protected void checkHistoryEnabled() {
         if (!getHistoryManager().isHistoryEnabled()) {
             throw new FlowableException("In order to use attachments, history should be enabled");
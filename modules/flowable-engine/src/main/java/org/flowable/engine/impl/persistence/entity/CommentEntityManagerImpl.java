@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.api.FlowableException;
@@ -133,6 +134,12 @@ public class CommentEntityManagerImpl extends AbstractEntityManager<CommentEntit
         commentDataManager.deleteCommentsByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public void bulkDeleteCommentsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        checkHistoryEnabled();
+        commentDataManager.bulkDeleteCommentsByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public List<Comment> findCommentsByProcessInstanceId(String processInstanceId) {
         checkHistoryEnabled();
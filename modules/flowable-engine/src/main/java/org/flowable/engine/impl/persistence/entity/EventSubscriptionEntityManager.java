@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.bpmn.model.Signal;
@@ -74,6 +75,18 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId);
 
+    /**
+     * Returns the ids of at most maxResults global signal subscriptions with the given event name that were created before the given date,
+     * ordered by id and starting after the given id (or at the first one when null).
+     */
+    List<String> findSignalEventSubscriptionIdsByEventName(String eventName, String tenantId, Date createdBefore, String afterId, int maxResults);
+
+    /**
+     * Returns the global signal subscriptions with the given event name that were created before the given date and of which the id is
+     * greater than afterId (when not null) and not greater than lastId, ordered by id.
+     */
+    List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventNameAndIdRange(String eventName, String tenantId, Date createdBefore, String afterId, String lastId);
+
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName);
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByNameAndExecution(String name, String executionId);
@@ -14,6 +14,7 @@
 package org.flowable.engine.impl.persistence.entity;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.bpmn.model.Signal;
@@ -195,6 +196,16 @@ public class EventSubscriptionEntityManagerImpl extends AbstractEntityManager<Ev
         return eventSubscriptionDataManager.findSignalEventSubscriptionsByEventName(eventName, tenantId);
     }
 
+    @Override
+    public List<String> findSignalEventSubscriptionIdsByEventName(String eventName, String tenantId, Date createdBefore, String afterId, int maxResults) {
+        return eventSubscriptionDataManager.findSignalEventSubscriptionIdsByEventName(eventName, tenantId, createdBefore, afterId, maxResults);
+    }
+
+    @Override
+    public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventNameAndIdRange(String eventName, String tenantId, Date createdBefore, String afterId, String lastId) {
+        return eventSubscriptionDataManager.findSignalEventSubscriptionsByEventNameAndIdRange(eventName, tenantId, createdBefore, afterId, lastId);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName) {
         return eventSubscriptionDataManager.findSignalEventSubscriptionsByProcessInstanceAndEventName(processInstanceId, eventName);
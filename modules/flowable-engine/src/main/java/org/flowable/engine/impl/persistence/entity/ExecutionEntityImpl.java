@@ -27,6 +27,7 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.db.SuspensionState;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.entity.ChangeTrackingEntity;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.CountingEntityUtil;
@@ -47,7 +48,7 @@ import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
  * @author Joram Barrez
  */
 
-public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionEntity, CountingExecutionEntity {
+public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionEntity, CountingExecutionEntity, ChangeTrackingEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -285,11 +286,9 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setCurrentFlowElement(FlowElement currentFlowElement) {
         this.currentFlowElement = currentFlowElement;
-        if (currentFlowElement != null) {
-            this.activityId = currentFlowElement.getId();
-        } else {
-            this.activityId = null;
-        }
+        String activityId = currentFlowElement != null ? currentFlowElement.getId() : null;
+        markChanged(this.activityId, activityId);
+        this.activityId = activityId;
     }
 
     @Override
@@ -334,6 +333,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setBusinessKey(String businessKey) {
+        markChanged(this.businessKey, businessKey);
         this.businessKey = businessKey;
     }
 
@@ -346,6 +346,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        markChanged(this.processDefinitionId, processDefinitionId);
         this.processDefinitionId = processDefinitionId;
     }
 
@@ -441,11 +442,9 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     public void setParent(ExecutionEntity parent) {
         this.parent = (ExecutionEntityImpl) parent;
 
-        if (parent != null) {
-            this.parentId = parent.getId();
-        } else {
-            this.parentId = null;
-        }
+        String parentId = parent != null ? parent.getId() : null;
+        markChanged(this.parentId, parentId);
+        this.parentId = parentId;
     }
 
     // super- and subprocess executions /////////////////////////////////////////
@@ -468,11 +467,9 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
             superExecution.setSubProcessInstance(null);
         }
 
-        if (superExecution != null) {
-            this.superExecutionId = ((ExecutionEntityImpl) superExecution).getId();
-        } else {
-            this.superExecutionId = null;
-        }
+        String superExecutionId = superExecution != null ? superExecution.getId() : null;
+        markChanged(this.superExecutionId, superExecutionId);
+        this.superExecutionId = superExecutionId;
     }
 
     protected void ensureSuperExecutionInitialized() {
@@ -514,11 +511,9 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     public void setRootProcessInstance(ExecutionEntity rootProcessInstance) {
         this.rootProcessInstance = (ExecutionEntityImpl) rootProcessInstance;
 
-        if (rootProcessInstance != null) {
-            this.rootProcessInstanceId = rootProcessInstance.getId();
-        } else {
-            this.rootProcessInstanceId = null;
-        }
+        String rootProcessInstanceId = rootProcessInstance != null ? rootProcessInstance.getId() : null;
+        markChanged(this.rootProcessInstanceId, rootProcessInstanceId);
+        this.rootProcessInstanceId = rootProcessInstanceId;
     }
 
     @Override
@@ -528,6 +523,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setRootProcessInstanceId(String rootProcessInstanceId) {
+        markChanged(this.rootProcessInstanceId, rootProcessInstanceId);
         this.rootProcessInstanceId = rootProcessInstanceId;
     }
 
@@ -540,11 +536,13 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setScope(boolean isScope) {
+        markChanged(this.isScope, isScope);
         this.isScope = isScope;
     }
 
     @Override
     public void forceUpdate() {
+        markChanged();
         this.forcedUpdate = true;
     }
 
@@ -872,6 +870,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setParentId(String parentId) {
+        markChanged(this.parentId, parentId);
         this.parentId = parentId;
     }
 
@@ -887,6 +886,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setConcurrent(boolean isConcurrent) {
+        markChanged(this.isConcurrent, isConcurrent);
         this.isConcurrent = isConcurrent;
     }
 
@@ -897,11 +897,13 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setActive(boolean isActive) {
+        markChanged(this.isActive, isActive);
         this.isActive = isActive;
     }
 
     @Override
     public void inactivate() {
+        markChanged(this.isActive, false);
         this.isActive = false;
     }
 
@@ -942,6 +944,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setSuspensionState(int suspensionState) {
+        markChanged(this.suspensionState, suspensionState);
         this.suspensionState = suspensionState;
     }
 
@@ -957,6 +960,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setEventScope(boolean isEventScope) {
+        markChanged(this.isEventScope, isEventScope);
         this.isEventScope = isEventScope;
     }
 
@@ -967,6 +971,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setMultiInstanceRoot(boolean isMultiInstanceRoot) {
+        markChanged(this.isMultiInstanceRoot, isMultiInstanceRoot);
         this.isMultiInstanceRoot = isMultiInstanceRoot;
     }
 
@@ -977,6 +982,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
+        markChanged(this.isCountEnabled, isCountEnabled);
         this.isCountEnabled = isCountEnabled;
     }
 
@@ -996,6 +1002,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setName(String name) {
+        markChanged(this.name, name);
         this.name = name;
     }
 
@@ -1050,6 +1057,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setLockTime(Date lockTime) {
+        markChanged(this.lockTime, lockTime);
         this.lockTime = lockTime;
     }
 
@@ -1088,6 +1096,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setStartActivityId(String startActivityId) {
+        markChanged(this.startActivityId, startActivityId);
         this.startActivityId = startActivityId;
     }
 
@@ -1098,6 +1107,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setStartUserId(String startUserId) {
+        markChanged(this.startUserId, startUserId);
         this.startUserId = startUserId;
     }
 
@@ -1108,6 +1118,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setStartTime(Date startTime) {
+        markChanged(this.startTime, startTime);
         this.startTime = startTime;
     }
 
@@ -1118,6 +1129,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setEventSubscriptionCount(int eventSubscriptionCount) {
+        markChanged(this.eventSubscriptionCount, eventSubscriptionCount);
         this.eventSubscriptionCount = eventSubscriptionCount;
     }
 
@@ -1128,6 +1140,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setTaskCount(int taskCount) {
+        markChanged(this.taskCount, taskCount);
         this.taskCount = taskCount;
     }
 
@@ -1138,6 +1151,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setJobCount(int jobCount) {
+        markChanged(this.jobCount, jobCount);
         this.jobCount = jobCount;
     }
 
@@ -1148,6 +1162,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setTimerJobCount(int timerJobCount) {
+        markChanged(this.timerJobCount, timerJobCount);
         this.timerJobCount = timerJobCount;
     }
 
@@ -1158,6 +1173,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setSuspendedJobCount(int suspendedJobCount) {
+        markChanged(this.suspendedJobCount, suspendedJobCount);
         this.suspendedJobCount = suspendedJobCount;
     }
 
@@ -1168,6 +1184,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setDeadLetterJobCount(int deadLetterJobCount) {
+        markChanged(this.deadLetterJobCount, deadLetterJobCount);
         this.deadLetterJobCount = deadLetterJobCount;
     }
 
@@ -1178,6 +1195,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setVariableCount(int variableCount) {
+        markChanged(this.variableCount, variableCount);
         this.variableCount = variableCount;
     }
 
@@ -1188,6 +1206,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
+        markChanged(this.identityLinkCount, identityLinkCount);
         this.identityLinkCount = identityLinkCount;
     }
     
@@ -1198,6 +1217,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setCallbackId(String callbackId) {
+        markChanged(this.callbackId, callbackId);
         this.callbackId = callbackId;
     }
 
@@ -1208,6 +1228,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setCallbackType(String callbackType) {
+        markChanged(this.callbackType, callbackType);
         this.callbackType = callbackType;
     }
 
@@ -62,6 +62,12 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     Collection<ExecutionEntity> findInactiveExecutionsByProcessInstanceId(String processInstanceId);
 
+    /**
+     * Counts the active child executions of the given execution that are in the given activity, in the database.
+     * Changes of the current transaction that weren't flushed yet are not taken into account.
+     */
+    long countActiveChildExecutionsByParentExecutionIdAndActivityId(String parentExecutionId, String activityId);
+
     Collection<ExecutionEntity> findInactiveExecutionsByActivityIdAndProcessInstanceId(String activityId, String processInstanceId);
 
     List<Execution> findExecutionsByNativeQuery(Map<String, Object> parameterMap);
@@ -198,6 +198,11 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         return executionDataManager.findInactiveExecutionsByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public long countActiveChildExecutionsByParentExecutionIdAndActivityId(String parentExecutionId, String activityId) {
+        return executionDataManager.countActiveChildExecutionsByParentExecutionIdAndActivityId(parentExecutionId, activityId);
+    }
+
     @Override
     public Collection<ExecutionEntity> findInactiveExecutionsByActivityIdAndProcessInstanceId(final String activityId, final String processInstanceId) {
         return executionDataManager.findInactiveExecutionsByActivityIdAndProcessInstanceId(activityId, processInstanceId);
@@ -13,9 +13,11 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.query.QueryResultHandler;
 import org.flowable.engine.common.impl.history.HistoryLevel;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.history.HistoricActivityInstance;
@@ -63,6 +65,11 @@ public class HistoricActivityInstanceEntityManagerImpl extends AbstractEntityMan
         }
     }
 
+    @Override
+    public void bulkDeleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicActivityInstanceDataManager.bulkDeleteHistoricActivityInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public long findHistoricActivityInstanceCountByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery) {
         return historicActivityInstanceDataManager.findHistoricActivityInstanceCountByQueryCriteria(historicActivityInstanceQuery);
@@ -73,6 +80,11 @@ public class HistoricActivityInstanceEntityManagerImpl extends AbstractEntityMan
         return historicActivityInstanceDataManager.findHistoricActivityInstancesByQueryCriteria(historicActivityInstanceQuery);
     }
 
+    @Override
+    public void findHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery, QueryResultHandler<? super HistoricActivityInstance> resultHandler) {
+        historicActivityInstanceDataManager.findHistoricActivityInstancesByQueryCriteria(historicActivityInstanceQuery, resultHandler);
+    }
+
     @Override
     public List<HistoricActivityInstance> findHistoricActivityInstancesByNativeQuery(Map<String, Object> parameterMap) {
         return historicActivityInstanceDataManager.findHistoricActivityInstancesByNativeQuery(parameterMap);
@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -139,6 +140,11 @@ public class HistoricDetailEntityManagerImpl extends AbstractEntityManager<Histo
         return historicDetailDataManager.findHistoricDetailCountByNativeQuery(parameterMap);
     }
 
+    @Override
+    public void bulkDeleteHistoricDetailsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicDetailDataManager.bulkDeleteHistoricDetailsByProcessInstanceIds(processInstanceIds);
+    }
+
     public HistoricDetailDataManager getHistoricDetailDataManager() {
         return historicDetailDataManager;
     }
@@ -13,10 +13,12 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.query.QueryResultHandler;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -63,6 +65,13 @@ public class HistoricProcessInstanceEntityManagerImpl extends AbstractEntityMana
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    public void findHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery, QueryResultHandler<? super HistoricProcessInstance> resultHandler) {
+        if (getHistoryManager().isHistoryEnabled()) {
+            historicProcessInstanceDataManager.findHistoricProcessInstancesByQueryCriteria(historicProcessInstanceQuery, resultHandler);
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
@@ -87,6 +96,11 @@ public class HistoricProcessInstanceEntityManagerImpl extends AbstractEntityMana
         return historicProcessInstanceDataManager.findHistoricProcessInstanceIdsByProcessDefinitionId(processDefinitionId);
     }
 
+    @Override
+    public void bulkDeleteHistoricProcessInstancesByIds(Collection<String> processInstanceIds) {
+        historicProcessInstanceDataManager.bulkDeleteHistoricProcessInstancesByIds(processInstanceIds);
+    }
+
     @Override
     public long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap) {
         return historicProcessInstanceDataManager.findHistoricProcessInstanceCountByNativeQuery(parameterMap);
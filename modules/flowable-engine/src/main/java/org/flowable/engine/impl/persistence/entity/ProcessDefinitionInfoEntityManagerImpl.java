@@ -13,6 +13,9 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.data.ProcessDefinitionInfoDataManager;
@@ -65,8 +68,10 @@ public class ProcessDefinitionInfoEntityManagerImpl extends
 
             if (processDefinitionInfo.getInfoJsonId() == null) {
                 processDefinitionInfo.setInfoJsonId(ref.getId());
-                updateProcessDefinitionInfo(processDefinitionInfo);
             }
+            
+            // Always update, so the revision changes and cached copies of the info can detect the new json
+            updateProcessDefinitionInfo(processDefinitionInfo);
         }
     }
 
@@ -83,6 +88,11 @@ public class ProcessDefinitionInfoEntityManagerImpl extends
         return processDefinitionInfoDataManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
     }
 
+    @Override
+    public List<ProcessDefinitionInfoEntity> findProcessDefinitionInfosByProcessDefinitionIds(Collection<String> processDefinitionIds) {
+        return processDefinitionInfoDataManager.findProcessDefinitionInfosByProcessDefinitionIds(processDefinitionIds);
+    }
+
     @Override
     public byte[] findInfoJsonById(String infoJsonId) {
         ByteArrayRef ref = new ByteArrayRef(infoJsonId);
@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.Date;
+
+import org.flowable.engine.common.impl.db.HasRevision;
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+
+/**
+ * The progress of a signal broadcast started with {@link org.flowable.engine.RuntimeService#broadcastSignalEventAsync(String)}.
+ * Only the fan-out job of the broadcast updates it, the delivery jobs are counted when the progress is requested.
+ */
+public interface SignalBroadcastEntity extends Entity, HasRevision {
+
+    String getSignalName();
+
+    void setSignalName(String signalName);
+
+    String getTenantId();
+
+    void setTenantId(String tenantId);
+
+    Date getCreateTime();
+
+    void setCreateTime(Date createTime);
+
+    long getScheduledCount();
+
+    void setScheduledCount(long scheduledCount);
+
+    boolean isFanOutCompleted();
+
+    void setFanOutCompleted(boolean fanOutCompleted);
+
+}
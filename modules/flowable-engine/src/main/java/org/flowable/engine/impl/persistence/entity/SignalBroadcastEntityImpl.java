@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
+
+public class SignalBroadcastEntityImpl extends AbstractEntity implements SignalBroadcastEntity, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String signalName;
+    protected String tenantId;
+    protected Date createTime;
+    protected long scheduledCount;
+    protected boolean fanOutCompleted;
+
+    public SignalBroadcastEntityImpl() {
+
+    }
+
+    @Override
+    public Object getPersistentState() {
+        Map<String, Object> persistentState = new HashMap<>();
+        persistentState.put("scheduledCount", this.scheduledCount);
+        persistentState.put("fanOutCompleted", this.fanOutCompleted);
+        return persistentState;
+    }
+
+    // getters and setters //////////////////////////////////////////////////////
+
+    @Override
+    public String getSignalName() {
+        return signalName;
+    }
+
+    @Override
+    public void setSignalName(String signalName) {
+        this.signalName = signalName;
+    }
+
+    @Override
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    @Override
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    @Override
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    @Override
+    public long getScheduledCount() {
+        return scheduledCount;
+    }
+
+    @Override
+    public void setScheduledCount(long scheduledCount) {
+        this.scheduledCount = scheduledCount;
+    }
+
+    @Override
+    public boolean isFanOutCompleted() {
+        return fanOutCompleted;
+    }
+
+    @Override
+    public void setFanOutCompleted(boolean fanOutCompleted) {
+        this.fanOutCompleted = fanOutCompleted;
+    }
+
+    @Override
+    public String toString() {
+        return "SignalBroadcastEntity[id=" + id + ", signalName=" + signalName + "]";
+    }
+
+}
@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.data.SignalBroadcastDataManager;
+
+public class SignalBroadcastEntityManagerImpl extends AbstractEntityManager<SignalBroadcastEntity> implements SignalBroadcastEntityManager {
+
+    protected SignalBroadcastDataManager signalBroadcastDataManager;
+
+    public SignalBroadcastEntityManagerImpl(ProcessEngineConfigurationImpl processEngineConfiguration, SignalBroadcastDataManager signalBroadcastDataManager) {
+        super(processEngineConfiguration);
+        this.signalBroadcastDataManager = signalBroadcastDataManager;
+    }
+
+    @Override
+    protected DataManager<SignalBroadcastEntity> getDataManager() {
+        return signalBroadcastDataManager;
+    }
+
+    @Override
+    public void addScheduledSubscriptions(SignalBroadcastEntity signalBroadcast, long scheduledCount, boolean fanOutCompleted) {
+        signalBroadcast.setScheduledCount(signalBroadcast.getScheduledCount() + scheduledCount);
+        if (fanOutCompleted) {
+            signalBroadcast.setFanOutCompleted(true);
+        }
+        update(signalBroadcast, false);
+    }
+
+    public SignalBroadcastDataManager getSignalBroadcastDataManager() {
+        return signalBroadcastDataManager;
+    }
+
+    public void setSignalBroadcastDataManager(SignalBroadcastDataManager signalBroadcastDataManager) {
+        this.signalBroadcastDataManager = signalBroadcastDataManager;
+    }
+
+}
@@ -90,6 +90,8 @@ public class TableDataManagerImpl extends AbstractManager implements TableDataMa
         entityToTableNameMap.put(MessageEventSubscriptionEntity.class, "ACT_RU_EVENT_SUBSCR");
         entityToTableNameMap.put(SignalEventSubscriptionEntity.class, "ACT_RU_EVENT_SUBSCR");
 
+        entityToTableNameMap.put(SignalBroadcastEntity.class, "ACT_RU_SIGNAL_BROADCAST");
+
         // repository
         entityToTableNameMap.put(DeploymentEntity.class, "ACT_RE_DEPLOYMENT");
         entityToTableNameMap.put(ProcessDefinitionEntity.class, "ACT_RE_PROCDEF");
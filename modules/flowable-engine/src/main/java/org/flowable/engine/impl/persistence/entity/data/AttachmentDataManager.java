@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -26,4 +27,9 @@ public interface AttachmentDataManager extends DataManager<AttachmentEntity> {
 
     List<AttachmentEntity> findAttachmentsByTaskId(String taskId);
 
+    /**
+     * Deletes the attachments of the given process instances, together with their content, with set-based statements.
+     */
+    void bulkDeleteAttachmentsByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
@@ -53,6 +53,8 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     Collection<ExecutionEntity> findInactiveExecutionsByProcessInstanceId(final String processInstanceId);
 
+    long countActiveChildExecutionsByParentExecutionIdAndActivityId(String parentExecutionId, String activityId);
+
     Collection<ExecutionEntity> findInactiveExecutionsByActivityIdAndProcessInstanceId(final String activityId, final String processInstanceId);
 
     List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
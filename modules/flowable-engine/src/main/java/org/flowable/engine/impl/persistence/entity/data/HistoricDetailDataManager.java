@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -46,4 +47,9 @@ public interface HistoricDetailDataManager extends DataManager<HistoricDetailEnt
 
     long findHistoricDetailCountByNativeQuery(Map<String, Object> parameterMap);
 
+    /**
+     * Deletes the historic details of the given process instances, together with the byte arrays of their values, with set-based statements.
+     */
+    void bulkDeleteHistoricDetailsByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -51,4 +52,10 @@ public class MybatisAttachmentDataManager extends AbstractProcessDataManager<Att
         return getDbSqlSession().selectList("selectAttachmentsByTaskId", taskId);
     }
 
+    @Override
+    public void bulkDeleteAttachmentsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteAttachmentContentByProcessInstanceIds", processInstanceIds, AttachmentEntityImpl.class);
+        getDbSqlSession().delete("bulkDeleteAttachmentsByProcessInstanceIds", processInstanceIds, AttachmentEntityImpl.class);
+    }
+
 }
@@ -13,12 +13,16 @@
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.bpmn.model.Signal;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.common.impl.db.CachedEntityMatcher;
+import org.flowable.engine.common.impl.db.ListQueryParameterObject;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
 import org.flowable.engine.impl.EventSubscriptionQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.CompensateEventSubscriptionEntity;
@@ -46,6 +50,14 @@ import org.flowable.engine.runtime.EventSubscription;
  */
 public class MybatisEventSubscriptionDataManager extends AbstractProcessDataManager<EventSubscriptionEntity> implements EventSubscriptionDataManager {
 
+    public static final EntityCacheIndex<EventSubscriptionEntity> EXECUTION_ID_INDEX = new EntityCacheIndex<EventSubscriptionEntity>() {
+
+        @Override
+        public Object getIndexKey(EventSubscriptionEntity entity) {
+            return entity.getExecutionId();
+        }
+    };
+
     private static List<Class<? extends EventSubscriptionEntity>> ENTITY_SUBCLASSES = new ArrayList<>();
 
     static {
@@ -141,6 +153,34 @@ public class MybatisEventSubscriptionDataManager extends AbstractProcessDataMana
         return toSignalEventSubscriptionEntityList(result);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findSignalEventSubscriptionIdsByEventName(String eventName, String tenantId, Date createdBefore, String afterId, int maxResults) {
+        Map<String, Object> params = createSignalEventSubscriptionRangeParameters(eventName, tenantId, createdBefore, afterId, null);
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectSignalEventSubscriptionIdsByEventName", new ListQueryParameterObject(params, 0, maxResults));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventNameAndIdRange(String eventName, String tenantId, Date createdBefore, String afterId, String lastId) {
+        Map<String, Object> params = createSignalEventSubscriptionRangeParameters(eventName, tenantId, createdBefore, afterId, lastId);
+        return toSignalEventSubscriptionEntityList(getDbSqlSession().selectList("selectSignalEventSubscriptionsByEventNameAndIdRange", params));
+    }
+
+    protected Map<String, Object> createSignalEventSubscriptionRangeParameters(String eventName, String tenantId, Date createdBefore, String afterId, String lastId) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("eventName", eventName);
+        if (tenantId != null && !tenantId.equals(ProcessEngineConfiguration.NO_TENANT_ID)) {
+            params.put("tenantId", tenantId);
+        }
+        // Process instance scoped signals must be thrown within the process itself, see SignalEventSubscriptionEntity#isGlobalScoped()
+        params.put("globalScopeConfiguration", "{\"scope\":\"" + Signal.SCOPE_GLOBAL + "\"}");
+        params.put("createdBefore", createdBefore);
+        params.put("afterId", afterId);
+        params.put("lastId", lastId);
+        return params;
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName) {
         final String query = "selectSignalEventSubscriptionsByProcessInstanceAndEventName";
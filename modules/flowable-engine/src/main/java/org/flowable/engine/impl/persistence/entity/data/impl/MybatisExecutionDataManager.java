@@ -22,6 +22,7 @@ import java.util.Map;
 import org.flowable.engine.common.api.FlowableOptimisticLockingException;
 import org.flowable.engine.common.impl.db.CachedEntityMatcher;
 import org.flowable.engine.common.impl.db.SingleCachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
 import org.flowable.engine.impl.ExecutionQueryImpl;
 import org.flowable.engine.impl.ProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.PerformanceSettings;
@@ -49,6 +50,22 @@ import org.flowable.engine.runtime.ProcessInstance;
  */
 public class MybatisExecutionDataManager extends AbstractProcessDataManager<ExecutionEntity> implements ExecutionDataManager {
 
+    public static final EntityCacheIndex<ExecutionEntity> PROCESS_INSTANCE_ID_INDEX = new EntityCacheIndex<ExecutionEntity>() {
+
+        @Override
+        public Object getIndexKey(ExecutionEntity entity) {
+            return entity.getProcessInstanceId();
+        }
+    };
+
+    public static final EntityCacheIndex<ExecutionEntity> ROOT_PROCESS_INSTANCE_ID_INDEX = new EntityCacheIndex<ExecutionEntity>() {
+
+        @Override
+        public Object getIndexKey(ExecutionEntity entity) {
+            return entity.getRootProcessInstanceId();
+        }
+    };
+
     protected PerformanceSettings performanceSettings;
 
     protected CachedEntityMatcher<ExecutionEntity> executionsByParentIdMatcher = new ExecutionsByParentExecutionIdEntityMatcher();
@@ -197,6 +214,15 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         }
     }
 
+    @Override
+    public long countActiveChildExecutionsByParentExecutionIdAndActivityId(String parentExecutionId, String activityId) {
+        HashMap<String, Object> params = new HashMap<>(3);
+        params.put("parentExecutionId", parentExecutionId);
+        params.put("activityId", activityId);
+        params.put("isActive", true);
+        return (Long) getDbSqlSession().selectOne("selectActiveChildExecutionCountByParentExecutionIdAndActivityId", params);
+    }
+
     @Override
     public Collection<ExecutionEntity> findInactiveExecutionsByActivityIdAndProcessInstanceId(final String activityId, final String processInstanceId) {
         HashMap<String, Object> params = new HashMap<>(3);
@@ -12,11 +12,14 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.query.QueryResultHandler;
 import org.flowable.engine.common.impl.db.CachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.impl.HistoricActivityInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -32,6 +35,14 @@ import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.Unfini
  */
 public class MybatisHistoricActivityInstanceDataManager extends AbstractProcessDataManager<HistoricActivityInstanceEntity> implements HistoricActivityInstanceDataManager {
 
+    public static final EntityCacheIndex<HistoricActivityInstanceEntity> EXECUTION_ID_INDEX = new EntityCacheIndex<HistoricActivityInstanceEntity>() {
+
+        @Override
+        public Object getIndexKey(HistoricActivityInstanceEntity entity) {
+            return entity.getExecutionId();
+        }
+    };
+
     protected CachedEntityMatcher<HistoricActivityInstanceEntity> unfinishedHistoricActivityInstanceMatcher = new UnfinishedHistoricActivityInstanceMatcher();
     protected CachedEntityMatcher<HistoricActivityInstanceEntity> historicActivityInstanceMatcher = new HistoricActivityInstanceMatcher();
 
@@ -77,6 +88,11 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractProcessD
         getDbSqlSession().delete("deleteHistoricActivityInstancesByProcessInstanceId", historicProcessInstanceId, HistoricActivityInstanceEntityImpl.class);
     }
 
+    @Override
+    public void bulkDeleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteHistoricActivityInstancesByProcessInstanceIds", processInstanceIds, HistoricActivityInstanceEntityImpl.class);
+    }
+
     @Override
     public long findHistoricActivityInstanceCountByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery) {
         return (Long) getDbSqlSession().selectOne("selectHistoricActivityInstanceCountByQueryCriteria", historicActivityInstanceQuery);
@@ -88,6 +104,11 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractProcessD
         return getDbSqlSession().selectList("selectHistoricActivityInstancesByQueryCriteria", historicActivityInstanceQuery);
     }
 
+    @Override
+    public void findHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery, QueryResultHandler<? super HistoricActivityInstance> resultHandler) {
+        getDbSqlSession().selectWithResultHandler("selectHistoricActivityInstancesStreamByQueryCriteria", historicActivityInstanceQuery, resultHandler);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricActivityInstance> findHistoricActivityInstancesByNativeQuery(Map<String, Object> parameterMap) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -98,4 +99,10 @@ public class MybatisHistoricDetailDataManager extends AbstractProcessDataManager
         return (Long) getDbSqlSession().selectOne("selectHistoricDetailCountByNativeQuery", parameterMap);
     }
 
+    @Override
+    public void bulkDeleteHistoricDetailsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteHistoricDetailByteArraysByProcessInstanceIds", processInstanceIds, HistoricDetailEntityImpl.class);
+        getDbSqlSession().delete("bulkDeleteHistoricDetailsByProcessInstanceIds", processInstanceIds, HistoricDetailEntityImpl.class);
+    }
+
 }
@@ -14,13 +14,18 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import java.util.Map;
 
-import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntity;
+import org.flowable.engine.impl.persistence.entity.data.impl.MybatisEventSubscriptionDataManager;
 
 /**
  * @author Joram Barrez
  */
-public class EventSubscriptionsByExecutionAndTypeMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> {
+public class EventSubscriptionsByExecutionAndTypeMatcher extends IndexedCachedEntityMatcherAdapter<EventSubscriptionEntity> {
+
+    public EventSubscriptionsByExecutionAndTypeMatcher() {
+        super(MybatisEventSubscriptionDataManager.EXECUTION_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(EventSubscriptionEntity eventSubscriptionEntity, Object parameter) {
@@ -32,4 +37,9 @@ public class EventSubscriptionsByExecutionAndTypeMatcher extends CachedEntityMat
                 && eventSubscriptionEntity.getExecutionId() != null && eventSubscriptionEntity.getExecutionId().equals(executionId);
     }
 
-}
\ No newline at end of file
+    @Override
+    public Object getIndexKey(Object parameter) {
+        return ((Map<?, ?>) parameter).get("executionId");
+    }
+
+}
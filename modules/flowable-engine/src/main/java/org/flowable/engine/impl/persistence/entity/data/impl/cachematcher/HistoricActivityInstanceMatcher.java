@@ -14,13 +14,18 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import java.util.Map;
 
-import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
+import org.flowable.engine.impl.persistence.entity.data.impl.MybatisHistoricActivityInstanceDataManager;
 
 /**
  * @author Joram Barrez
  */
-public class HistoricActivityInstanceMatcher extends CachedEntityMatcherAdapter<HistoricActivityInstanceEntity> {
+public class HistoricActivityInstanceMatcher extends IndexedCachedEntityMatcherAdapter<HistoricActivityInstanceEntity> {
+
+    public HistoricActivityInstanceMatcher() {
+        super(MybatisHistoricActivityInstanceDataManager.EXECUTION_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(HistoricActivityInstanceEntity entity, Object parameter) {
@@ -32,4 +37,9 @@ public class HistoricActivityInstanceMatcher extends CachedEntityMatcherAdapter<
                 && entity.getActivityId() != null && entity.getActivityId().equals(activityId);
     }
 
-}
\ No newline at end of file
+    @Override
+    public Object getIndexKey(Object parameter) {
+        return ((Map<?, ?>) parameter).get("executionId");
+    }
+
+}
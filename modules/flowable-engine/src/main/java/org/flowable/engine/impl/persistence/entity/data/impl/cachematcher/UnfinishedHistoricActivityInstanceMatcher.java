@@ -14,13 +14,18 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import java.util.Map;
 
-import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
+import org.flowable.engine.impl.persistence.entity.data.impl.MybatisHistoricActivityInstanceDataManager;
 
 /**
  * @author Joram Barrez
  */
-public class UnfinishedHistoricActivityInstanceMatcher extends CachedEntityMatcherAdapter<HistoricActivityInstanceEntity> {
+public class UnfinishedHistoricActivityInstanceMatcher extends IndexedCachedEntityMatcherAdapter<HistoricActivityInstanceEntity> {
+
+    public UnfinishedHistoricActivityInstanceMatcher() {
+        super(MybatisHistoricActivityInstanceDataManager.EXECUTION_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(HistoricActivityInstanceEntity entity, Object parameter) {
@@ -33,4 +38,9 @@ public class UnfinishedHistoricActivityInstanceMatcher extends CachedEntityMatch
                 && entity.getEndTime() == null;
     }
 
-}
\ No newline at end of file
+    @Override
+    public Object getIndexKey(Object parameter) {
+        return ((Map<?, ?>) parameter).get("executionId");
+    }
+
+}
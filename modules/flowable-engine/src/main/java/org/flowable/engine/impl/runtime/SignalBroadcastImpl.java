@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.runtime;
+
+import java.io.Serializable;
+
+import org.flowable.engine.runtime.SignalBroadcast;
+
+public class SignalBroadcastImpl implements SignalBroadcast, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String id;
+    protected String signalName;
+    protected String tenantId;
+    protected boolean fanOutCompleted;
+    protected long scheduledSubscriptionCount;
+    protected long pendingDeliveryJobCount;
+    protected long failedDeliveryJobCount;
+
+    public SignalBroadcastImpl(String id, String signalName, String tenantId) {
+        this.id = id;
+        this.signalName = signalName;
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String getSignalName() {
+        return signalName;
+    }
+
+    @Override
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    @Override
+    public boolean isFanOutCompleted() {
+        return fanOutCompleted;
+    }
+
+    public void setFanOutCompleted(boolean fanOutCompleted) {
+        this.fanOutCompleted = fanOutCompleted;
+    }
+
+    @Override
+    public long getScheduledSubscriptionCount() {
+        return scheduledSubscriptionCount;
+    }
+
+    public void setScheduledSubscriptionCount(long scheduledSubscriptionCount) {
+        this.scheduledSubscriptionCount = scheduledSubscriptionCount;
+    }
+
+    @Override
+    public long getPendingDeliveryJobCount() {
+        return pendingDeliveryJobCount;
+    }
+
+    public void setPendingDeliveryJobCount(long pendingDeliveryJobCount) {
+        this.pendingDeliveryJobCount = pendingDeliveryJobCount;
+    }
+
+    @Override
+    public long getFailedDeliveryJobCount() {
+        return failedDeliveryJobCount;
+    }
+
+    public void setFailedDeliveryJobCount(long failedDeliveryJobCount) {
+        this.failedDeliveryJobCount = failedDeliveryJobCount;
+    }
+
+    @Override
+    public boolean isCompleted() {
+        return fanOutCompleted && pendingDeliveryJobCount == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "SignalBroadcastImpl[id=" + id + ", signalName=" + signalName + ", fanOutCompleted=" + fanOutCompleted
+                + ", pendingDeliveryJobCount=" + pendingDeliveryJobCount + ", failedDeliveryJobCount=" + failedDeliveryJobCount + "]";
+    }
+
+}
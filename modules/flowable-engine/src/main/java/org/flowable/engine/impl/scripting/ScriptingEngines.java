@@ -12,11 +12,18 @@
  */
 package org.flowable.engine.impl.scripting;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -24,6 +31,8 @@ import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
 
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
 import org.flowable.variable.service.delegate.VariableScope;
 
 /**
@@ -42,6 +51,28 @@ public class ScriptingEngines {
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    /**
+     * Cache of compiled scripts, keyed by language and script text. Only used for script engines that
+     * implement {@link Compilable} and that allow multi-threaded access. No scripts are compiled when null.
+     */
+    protected DeploymentCache<CompiledScript> compiledScriptCache;
+
+    /**
+     * Compiled scripts of engines that don't allow multi-threaded access (e.g. Nashorn), which are bound to the engine
+     * that compiled them. These are kept per thread, so the limit is kept much smaller than the one of the shared cache.
+     * All thread caches are tracked weakly, so they can be cleared when the engine is closed.
+     */
+    protected int threadCompiledScriptCacheLimit = 50;
+    protected ThreadLocal<DeploymentCache<CompiledScript>> threadCompiledScriptCache = new ThreadLocal<>();
+    protected Set<DeploymentCache<CompiledScript>> threadCompiledScriptCaches = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<DeploymentCache<CompiledScript>, Boolean>()));
+
+    /**
+     * Languages of which the scripts are never compiled up front. JUEL resolves the variables when the expression is parsed,
+     * and the groovy engines already keep the script classes compiled for a script text themselves.
+     */
+    protected Set<String> uncompiledLanguages = new HashSet<>(Arrays.asList(DEFAULT_SCRIPTING_LANGUAGE, GROOVY_SCRIPTING_LANGUAGE, "groovy-static"));
+
     public ScriptingEngines(ScriptBindingsFactory scriptBindingsFactory) {
         this(new ScriptEngineManager());
         this.scriptBindingsFactory = scriptBindingsFactory;
@@ -82,14 +113,73 @@ public class ScriptingEngines {
     }
 
     protected Object evaluate(String script, String language, Bindings bindings) {
-        ScriptEngine scriptEngine = getEngineByName(language);
+        boolean compileScript = compiledScriptCache != null && !uncompiledLanguages.contains(language);
+        String cacheKey = language + ":" + script;
         try {
+            // A cached compiled script carries its own engine, so no engine needs to be looked up (or created) for it
+            CompiledScript compiledScript = compileScript ? getCachedCompiledScript(cacheKey) : null;
+            if (compiledScript != null) {
+                return compiledScript.eval(bindings);
+            }
+
+            ScriptEngine scriptEngine = getEngineByName(language);
+            if (compileScript && scriptEngine instanceof Compilable) {
+                compiledScript = ((Compilable) scriptEngine).compile(script);
+                cacheCompiledScript(cacheKey, compiledScript, scriptEngine);
+                return compiledScript.eval(bindings);
+            }
             return scriptEngine.eval(script, bindings);
+
         } catch (ScriptException e) {
             throw new FlowableException("problem evaluating script: " + e.getMessage(), e);
         }
     }
 
+    protected CompiledScript getCachedCompiledScript(String cacheKey) {
+        CompiledScript compiledScript = compiledScriptCache.get(cacheKey);
+        if (compiledScript == null) {
+            DeploymentCache<CompiledScript> threadCache = threadCompiledScriptCache.get();
+            if (threadCache != null) {
+                compiledScript = threadCache.get(cacheKey);
+            }
+        }
+        return compiledScript;
+    }
+
+    protected void cacheCompiledScript(String cacheKey, CompiledScript compiledScript, ScriptEngine scriptEngine) {
+        // Same rule as for caching the script engine itself: a non-null THREADING parameter indicates at least multi-threaded access
+        if (scriptEngine.getFactory() != null && scriptEngine.getFactory().getParameter("THREADING") != null) {
+            // concurrent compilations of the same script are harmless, the last one ends up in the cache
+            compiledScriptCache.add(cacheKey, compiledScript);
+
+        } else {
+            DeploymentCache<CompiledScript> threadCache = threadCompiledScriptCache.get();
+            if (threadCache == null) {
+                threadCache = new DefaultDeploymentCache<>(threadCompiledScriptCacheLimit);
+                threadCompiledScriptCache.set(threadCache);
+                threadCompiledScriptCaches.add(threadCache);
+            }
+            threadCache.add(cacheKey, compiledScript);
+        }
+    }
+
+    /**
+     * Removes all compiled scripts, including the ones kept for other threads, so the script engines they hold can be garbage collected.
+     * Called when the process engine is closed.
+     */
+    public void clearCompiledScriptCaches() {
+        if (compiledScriptCache != null) {
+            compiledScriptCache.clear();
+        }
+        synchronized (threadCompiledScriptCaches) {
+            for (DeploymentCache<CompiledScript> threadCache : threadCompiledScriptCaches) {
+                threadCache.clear();
+            }
+            threadCompiledScriptCaches.clear();
+        }
+        threadCompiledScriptCache.remove();
+    }
+
     protected ScriptEngine getEngineByName(String language) {
         ScriptEngine scriptEngine = null;
 
@@ -139,6 +229,37 @@ public class ScriptingEngines {
         return scriptBindingsFactory.createBindings(variableScope, storeScriptVariables);
     }
 
+    public DeploymentCache<CompiledScript> getCompiledScriptCache() {
+        return compiledScriptCache;
+    }
+
+    public void setCompiledScriptCache(DeploymentCache<CompiledScript> compiledScriptCache) {
+        this.compiledScriptCache = compiledScriptCache;
+    }
+
+    public int getThreadCompiledScriptCacheLimit() {
+        return threadCompiledScriptCacheLimit;
+    }
+
+    public void setThreadCompiledScriptCacheLimit(int threadCompiledScriptCacheLimit) {
+        this.threadCompiledScriptCacheLimit = threadCompiledScriptCacheLimit;
+    }
+
+    /**
+     * Returns the compiled scripts of the engines that don't allow multi-threaded access for the current thread, or null when there are none yet.
+     */
+    public DeploymentCache<CompiledScript> getThreadCompiledScriptCache() {
+        return threadCompiledScriptCache.get();
+    }
+
+    public Set<String> getUncompiledLanguages() {
+        return uncompiledLanguages;
+    }
+
+    public void setUncompiledLanguages(Set<String> uncompiledLanguages) {
+        this.uncompiledLanguages = uncompiledLanguages;
+    }
+
     public ScriptBindingsFactory getScriptBindingsFactory() {
         return scriptBindingsFactory;
     }
@@ -46,6 +46,7 @@ import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManage
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.persistence.entity.PropertyEntityManager;
 import org.flowable.engine.impl.persistence.entity.ResourceEntityManager;
+import org.flowable.engine.impl.persistence.entity.SignalBroadcastEntityManager;
 import org.flowable.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.form.api.FormEngineConfigurationApi;
 import org.flowable.form.api.FormManagementService;
@@ -453,6 +454,14 @@ public class CommandContextUtil {
         return getProcessEngineConfiguration(commandContext).getProcessDefinitionInfoEntityManager();
     }
     
+    public static SignalBroadcastEntityManager getSignalBroadcastEntityManager() {
+        return getSignalBroadcastEntityManager(getCommandContext());
+    }
+    
+    public static SignalBroadcastEntityManager getSignalBroadcastEntityManager(CommandContext commandContext) {
+        return getProcessEngineConfiguration(commandContext).getSignalBroadcastEntityManager();
+    }
+    
     public static ExecutionEntityManager getExecutionEntityManager() {
         return getExecutionEntityManager(getCommandContext());
     }
@@ -0,0 +1,64 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.runtime;
+
+/**
+ * The progress of a signal broadcast started with {@link org.flowable.engine.RuntimeService#broadcastSignalEventAsync(String)}.
+ * <p>
+ * A broadcast first hands the subscriptions to the signal, page by page, to delivery jobs (the fan-out). Every delivery job then delivers the
+ * signal to its subscriptions in its own transaction.
+ */
+public interface SignalBroadcast {
+
+    /**
+     * The unique id of the broadcast.
+     */
+    String getId();
+
+    /**
+     * The name of the broadcasted signal.
+     */
+    String getSignalName();
+
+    /**
+     * The tenant of the broadcast, or null when the signal was broadcasted to the subscriptions without tenant.
+     */
+    String getTenantId();
+
+    /**
+     * Whether all subscriptions to the signal have been handed to delivery jobs.
+     */
+    boolean isFanOutCompleted();
+
+    /**
+     * The number of subscriptions that have been handed to delivery jobs so far. Once the fan-out has completed, this is the total of the fan-out.
+     */
+    long getScheduledSubscriptionCount();
+
+    /**
+     * The number of delivery jobs that still need to be executed, including the ones that failed and will be retried.
+     */
+    long getPendingDeliveryJobCount();
+
+    /**
+     * The number of delivery jobs that have no retries left. The signal is not delivered to their subscriptions unless the jobs are moved back
+     * to the executable jobs, see {@link org.flowable.engine.ManagementService#moveDeadLetterJobToExecutableJob(String, int)}.
+     */
+    long getFailedDeliveryJobCount();
+
+    /**
+     * Whether the fan-out and all deliveries are done, apart from the failed delivery jobs.
+     */
+    boolean isCompleted();
+
+}
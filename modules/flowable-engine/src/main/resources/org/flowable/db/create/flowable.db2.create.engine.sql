@@ -259,6 +259,17 @@ create table ACT_PROCDEF_INFO (
     primary key (ID_)
 );
 
+create table ACT_RU_SIGNAL_BROADCAST (
+    ID_ varchar(64) not null,
+    REV_ integer,
+    SIGNAL_NAME_ varchar(255),
+    TENANT_ID_ varchar(255),
+    CREATE_TIME_ timestamp,
+    SCHEDULED_COUNT_ bigint,
+    FAN_OUT_COMPLETED_ smallint check(FAN_OUT_COMPLETED_ in (1,0)),
+    primary key (ID_)
+);
+
 create index ACT_IDX_EXEC_BUSKEY on ACT_RU_EXECUTION(BUSINESS_KEY_);
 create index ACT_IDC_EXEC_ROOT on ACT_RU_EXECUTION(ROOT_PROC_INST_ID_);
 create index ACT_IDX_TASK_CREATE on ACT_RU_TASK(CREATE_TIME_);
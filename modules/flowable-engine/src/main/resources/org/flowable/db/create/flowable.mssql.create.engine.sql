@@ -259,6 +259,17 @@ create table ACT_PROCDEF_INFO (
     primary key (ID_)
 );
 
+create table ACT_RU_SIGNAL_BROADCAST (
+    ID_ nvarchar(64) not null,
+    REV_ int,
+    SIGNAL_NAME_ nvarchar(255),
+    TENANT_ID_ nvarchar(255),
+    CREATE_TIME_ datetime,
+    SCHEDULED_COUNT_ numeric(19,0),
+    FAN_OUT_COMPLETED_ tinyint,
+    primary key (ID_)
+);
+
 create index ACT_IDX_EXEC_BUSKEY on ACT_RU_EXECUTION(BUSINESS_KEY_);
 create index ACT_IDX_EXEC_ROOT on ACT_RU_EXECUTION(ROOT_PROC_INST_ID_);
 create index ACT_IDX_TASK_CREATE on ACT_RU_TASK(CREATE_TIME_);
@@ -261,6 +261,17 @@ create table ACT_PROCDEF_INFO (
     primary key (ID_)
 );
 
+create table ACT_RU_SIGNAL_BROADCAST (
+    ID_ NVARCHAR2(64) not null,
+    REV_ integer,
+    SIGNAL_NAME_ NVARCHAR2(255),
+    TENANT_ID_ NVARCHAR2(255),
+    CREATE_TIME_ TIMESTAMP(6),
+    SCHEDULED_COUNT_ NUMBER(19),
+    FAN_OUT_COMPLETED_ NUMBER(1,0) CHECK (FAN_OUT_COMPLETED_ IN (1,0)),
+    primary key (ID_)
+);
+
 create index ACT_IDX_EXEC_BUSKEY on ACT_RU_EXECUTION(BUSINESS_KEY_);
 create index ACT_IDX_EXEC_ROOT on ACT_RU_EXECUTION(ROOT_PROC_INST_ID_);
 create index ACT_IDX_TASK_CREATE on ACT_RU_TASK(CREATE_TIME_);
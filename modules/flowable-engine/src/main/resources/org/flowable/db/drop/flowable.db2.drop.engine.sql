@@ -123,3 +123,4 @@ drop table ACT_RU_HISTORY_JOB;
 drop table ACT_RU_EVENT_SUBSCR;
 drop table ACT_EVT_LOG;
 drop table ACT_PROCDEF_INFO;
+drop table ACT_RU_SIGNAL_BROADCAST;
@@ -123,4 +123,5 @@ drop table if exists ACT_RU_DEADLETTER_JOB;
 drop table if exists ACT_RU_HISTORY_JOB;
 drop table if exists ACT_RU_EVENT_SUBSCR;
 drop table if exists ACT_EVT_LOG;
-drop table if exists ACT_PROCDEF_INFO;
\ No newline at end of file
+drop table if exists ACT_PROCDEF_INFO;
+drop table if exists ACT_RU_SIGNAL_BROADCAST;
\ No newline at end of file
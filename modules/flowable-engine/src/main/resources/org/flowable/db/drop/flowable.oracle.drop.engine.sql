@@ -163,4 +163,5 @@ drop table ACT_RU_EVENT_SUBSCR;
 
 drop sequence act_evt_log_seq;
 drop table ACT_EVT_LOG;
-drop table ACT_PROCDEF_INFO;
\ No newline at end of file
+drop table ACT_PROCDEF_INFO;
+drop table ACT_RU_SIGNAL_BROADCAST;
\ No newline at end of file
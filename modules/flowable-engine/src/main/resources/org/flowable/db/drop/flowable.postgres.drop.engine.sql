@@ -11,4 +11,5 @@ drop table if exists ACT_RU_TASK cascade;
 drop table if exists ACT_RU_IDENTITYLINK cascade;
 drop table if exists ACT_RU_EVENT_SUBSCR cascade;
 drop table if exists ACT_EVT_LOG cascade;
-drop table if exists ACT_PROCDEF_INFO cascade;
\ No newline at end of file
+drop table if exists ACT_PROCDEF_INFO cascade;
+drop table if exists ACT_RU_SIGNAL_BROADCAST cascade;
\ No newline at end of file
@@ -1,4 +1,15 @@
 alter table ACT_RU_EXECUTION add column CALLBACK_ID_ varchar(255);
 alter table ACT_RU_EXECUTION add column CALLBACK_TYPE_ varchar(255);
 
+create table ACT_RU_SIGNAL_BROADCAST (
+    ID_ varchar(64) not null,
+    REV_ integer,
+    SIGNAL_NAME_ varchar(255),
+    TENANT_ID_ varchar(255),
+    CREATE_TIME_ timestamp,
+    SCHEDULED_COUNT_ bigint,
+    FAN_OUT_COMPLETED_ smallint check(FAN_OUT_COMPLETED_ in (1,0)),
+    primary key (ID_)
+);
+
 update ACT_GE_PROPERTY set VALUE_ = '6.2.0.0' where NAME_ = 'schema.version';
\ No newline at end of file
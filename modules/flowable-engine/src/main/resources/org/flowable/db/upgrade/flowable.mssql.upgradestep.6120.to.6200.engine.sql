@@ -1,4 +1,15 @@
 alter table ACT_RU_EXECUTION add CALLBACK_ID_ nvarchar(255);
 alter table ACT_RU_EXECUTION add CALLBACK_TYPE_ nvarchar(255);
 
+create table ACT_RU_SIGNAL_BROADCAST (
+    ID_ nvarchar(64) not null,
+    REV_ int,
+    SIGNAL_NAME_ nvarchar(255),
+    TENANT_ID_ nvarchar(255),
+    CREATE_TIME_ datetime,
+    SCHEDULED_COUNT_ numeric(19,0),
+    FAN_OUT_COMPLETED_ tinyint,
+    primary key (ID_)
+);
+
 update ACT_GE_PROPERTY set VALUE_ = '6.2.0.0' where NAME_ = 'schema.version';
\ No newline at end of file
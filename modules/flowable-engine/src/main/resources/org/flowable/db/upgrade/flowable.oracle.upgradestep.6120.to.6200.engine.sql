@@ -1,4 +1,15 @@
 alter table ACT_RU_EXECUTION add CALLBACK_ID_ NVARCHAR2(255);
 alter table ACT_RU_EXECUTION add CALLBACK_TYPE_ NVARCHAR2(255);
 
+create table ACT_RU_SIGNAL_BROADCAST (
+    ID_ NVARCHAR2(64) not null,
+    REV_ integer,
+    SIGNAL_NAME_ NVARCHAR2(255),
+    TENANT_ID_ NVARCHAR2(255),
+    CREATE_TIME_ TIMESTAMP(6),
+    SCHEDULED_COUNT_ NUMBER(19),
+    FAN_OUT_COMPLETED_ NUMBER(1,0) CHECK (FAN_OUT_COMPLETED_ IN (1,0)),
+    primary key (ID_)
+);
+
 update ACT_GE_PROPERTY set VALUE_ = '6.2.0.0' where NAME_ = 'schema.version';
\ No newline at end of file
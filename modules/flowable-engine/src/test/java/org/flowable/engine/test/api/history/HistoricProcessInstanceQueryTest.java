@@ -12,10 +12,16 @@
  */
 package org.flowable.engine.test.api.history;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.CursorPage;
+import org.flowable.engine.common.api.query.QueryCursor;
+import org.flowable.engine.common.api.query.QueryResultHandler;
 import org.flowable.engine.common.impl.history.HistoryLevel;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricProcessInstanceQuery;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -93,5 +99,138 @@ public class HistoricProcessInstanceQueryTest extends PluggableFlowableTestCase
             assertEquals(1, historyService.createHistoricProcessInstanceQuery().deploymentId(deploymentId).count());
         }
     }
-    
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testQueryListPageAfter() {
+        // All process instances have the same start time, as the clock isn't moved
+        processEngineConfiguration.getClock().setCurrentTime(processEngineConfiguration.getClock().getCurrentTime());
+        try {
+            for (int i = 0; i < 5; i++) {
+                runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            }
+        } finally {
+            processEngineConfiguration.getClock().reset();
+        }
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            List<String> expectedIds = new ArrayList<>();
+            for (HistoricProcessInstance processInstance : historyService.createHistoricProcessInstanceQuery()
+                    .orderByProcessInstanceStartTime().asc().orderByProcessInstanceId().asc().list()) {
+                expectedIds.add(processInstance.getId());
+            }
+
+            List<String> pagedIds = new ArrayList<>();
+            QueryCursor cursor = null;
+            do {
+                CursorPage<HistoricProcessInstance> page = historyService.createHistoricProcessInstanceQuery()
+                        .orderByProcessInstanceStartTime().asc().listPageAfter(cursor, 2);
+                for (HistoricProcessInstance processInstance : page.getResults()) {
+                    pagedIds.add(processInstance.getId());
+                }
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+
+            assertEquals(5, pagedIds.size());
+            assertEquals(expectedIds, pagedIds);
+        }
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testQueryListPageAfterWithNullSortValues() {
+        // 2 of the 5 process instances end, the others don't have an end time and come last in both directions
+        for (int i = 0; i < 5; i++) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            if (i % 2 == 1) {
+                taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+            }
+        }
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            List<String> expectedIds = new ArrayList<>();
+            for (HistoricProcessInstance processInstance : historyService.createHistoricProcessInstanceQuery().finished()
+                    .orderByProcessInstanceEndTime().asc().orderByProcessInstanceId().asc().list()) {
+                expectedIds.add(processInstance.getId());
+            }
+            for (HistoricProcessInstance processInstance : historyService.createHistoricProcessInstanceQuery().unfinished()
+                    .orderByProcessInstanceId().asc().list()) {
+                expectedIds.add(processInstance.getId());
+            }
+            // The second page ends with an unfinished process instance, so the last page continues after a cursor without end time
+            assertEquals(expectedIds, listProcessInstanceIdsPagedByEndTime(true));
+
+            expectedIds.clear();
+            for (HistoricProcessInstance processInstance : historyService.createHistoricProcessInstanceQuery().finished()
+                    .orderByProcessInstanceEndTime().desc().orderByProcessInstanceId().desc().list()) {
+                expectedIds.add(processInstance.getId());
+            }
+            for (HistoricProcessInstance processInstance : historyService.createHistoricProcessInstanceQuery().unfinished()
+                    .orderByProcessInstanceId().desc().list()) {
+                expectedIds.add(processInstance.getId());
+            }
+            assertEquals(expectedIds, listProcessInstanceIdsPagedByEndTime(false));
+        }
+    }
+
+    protected List<String> listProcessInstanceIdsPagedByEndTime(boolean ascending) {
+        List<String> pagedIds = new ArrayList<>();
+        QueryCursor cursor = null;
+        do {
+            HistoricProcessInstanceQuery query = historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceEndTime();
+            CursorPage<HistoricProcessInstance> page = (ascending ? query.asc() : query.desc()).listPageAfter(cursor, 2);
+            for (HistoricProcessInstance processInstance : page.getResults()) {
+                pagedIds.add(processInstance.getId());
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return pagedIds;
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testQueryStream() {
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            final List<String> streamedIds = new ArrayList<>();
+            historyService.createHistoricProcessInstanceQuery().processDefinitionKey("oneTaskProcess").orderByProcessInstanceId().asc()
+                    .stream(new QueryResultHandler<HistoricProcessInstance>() {
+
+                        @Override
+                        public void handleResult(HistoricProcessInstance processInstance) {
+                            streamedIds.add(processInstance.getId());
+                        }
+                    });
+
+            List<String> expectedIds = new ArrayList<>();
+            for (HistoricProcessInstance processInstance : historyService.createHistoricProcessInstanceQuery()
+                    .processDefinitionKey("oneTaskProcess").orderByProcessInstanceId().asc().list()) {
+                expectedIds.add(processInstance.getId());
+            }
+            assertEquals(3, streamedIds.size());
+            assertEquals(expectedIds, streamedIds);
+
+            final List<Object> streamedInstances = new ArrayList<>();
+            QueryResultHandler<Object> handler = new QueryResultHandler<Object>() {
+
+                @Override
+                public void handleResult(Object result) {
+                    streamedInstances.add(result);
+                }
+            };
+            historyService.createHistoricActivityInstanceQuery().activityId("theTask").stream(handler);
+            assertEquals(3, streamedInstances.size());
+
+            streamedInstances.clear();
+            historyService.createHistoricTaskInstanceQuery().processDefinitionKey("oneTaskProcess").stream(handler);
+            assertEquals(3, streamedInstances.size());
+
+            try {
+                historyService.createHistoricProcessInstanceQuery().includeProcessVariables().stream(handler);
+                fail("Exception expected");
+            } catch (FlowableIllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
 }
@@ -0,0 +1,136 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.history;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.common.impl.history.HistoryLevel;
+import org.flowable.engine.impl.cmd.ValidateHistoryCleanupJobCfgCmd;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.service.Job;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+public class HistoryCleanupTest extends PluggableFlowableTestCase {
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.setEnableHistoryCleaning(false);
+        processEngineConfiguration.setHistoryCleaningBatchSize(100);
+        processEngineConfiguration.setHistoryCleaningBatchesPerRun(10);
+        processEngineConfiguration.setCleanInstancesEndedAfterNumberOfDays(365);
+        managementService.executeCommand(new ValidateHistoryCleanupJobCfgCmd());
+        processEngineConfiguration.getClock().reset();
+        super.tearDown();
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testCleanupEndedProcessInstances() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            return;
+        }
+
+        Calendar calendar = Calendar.getInstance();
+        calendar.add(Calendar.DAY_OF_YEAR, -40);
+        processEngineConfiguration.getClock().setCurrentTime(calendar.getTime());
+
+        List<String> oldProcessInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            oldProcessInstanceIds.add(startAndCompleteProcessInstance());
+        }
+
+        processEngineConfiguration.getClock().reset();
+        String recentProcessInstanceId = startAndCompleteProcessInstance();
+        ProcessInstance runningProcessInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        processEngineConfiguration.setEnableHistoryCleaning(true);
+        processEngineConfiguration.setCleanInstancesEndedAfterNumberOfDays(30);
+        processEngineConfiguration.setHistoryCleaningBatchSize(2);
+        processEngineConfiguration.setHistoryCleaningBatchesPerRun(2);
+        managementService.executeCommand(new ValidateHistoryCleanupJobCfgCmd());
+
+        Job timerJob = managementService.createTimerJobQuery().singleResult();
+        assertNotNull(timerJob);
+        assertEquals("0 0 1 * * ?", ((TimerJobEntity) timerJob).getRepeat());
+
+        // Validating again doesn't create a second timer job
+        managementService.executeCommand(new ValidateHistoryCleanupJobCfgCmd());
+        assertEquals(1, managementService.createTimerJobQuery().count());
+
+        managementService.moveTimerToExecutableJob(timerJob.getId());
+        managementService.executeJob(timerJob.getId());
+
+        // 2 batches of 2 instances and a job that continues with the remaining instance
+        assertEquals(3, managementService.createJobQuery().count());
+
+        // The repeating timer job is rescheduled
+        Job rescheduledTimerJob = managementService.createTimerJobQuery().singleResult();
+        assertNotNull(rescheduledTimerJob);
+        assertFalse(timerJob.getId().equals(rescheduledTimerJob.getId()));
+
+        executeAllJobs();
+
+        for (String processInstanceId : oldProcessInstanceIds) {
+            assertNull(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult());
+            assertEquals(0, historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).count());
+            assertEquals(0, historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceId).count());
+            assertEquals(0, historyService.createHistoricDetailQuery().processInstanceId(processInstanceId).count());
+            assertEquals(0, historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).count());
+            assertEquals(0, taskService.getProcessInstanceComments(processInstanceId).size());
+        }
+
+        assertNotNull(historyService.createHistoricProcessInstanceQuery().processInstanceId(recentProcessInstanceId).singleResult());
+        assertEquals(2, historyService.createHistoricVariableInstanceQuery().processInstanceId(recentProcessInstanceId).count());
+        assertEquals(1, taskService.getProcessInstanceComments(recentProcessInstanceId).size());
+        assertNotNull(historyService.createHistoricProcessInstanceQuery().processInstanceId(runningProcessInstance.getId()).singleResult());
+
+        // Disabling the history cleaning removes the timer job
+        processEngineConfiguration.setEnableHistoryCleaning(false);
+        managementService.executeCommand(new ValidateHistoryCleanupJobCfgCmd());
+        assertEquals(0, managementService.createTimerJobQuery().count());
+
+        historyService.deleteHistoricProcessInstance(recentProcessInstanceId);
+        runtimeService.deleteProcessInstance(runningProcessInstance.getId(), "test");
+        historyService.deleteHistoricProcessInstance(runningProcessInstance.getId());
+    }
+
+    protected String startAndCompleteProcessInstance() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        runtimeService.setVariable(processInstance.getId(), "stringVar", "test");
+        runtimeService.setVariable(processInstance.getId(), "bytesVar", "test".getBytes());
+
+        org.flowable.task.service.Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.addComment(task.getId(), processInstance.getId(), "comment");
+        taskService.addCandidateUser(task.getId(), "kermit");
+        taskService.createAttachment("text", task.getId(), null, "attachment", null, new ByteArrayInputStream("content".getBytes()));
+        taskService.complete(task.getId());
+        return processInstance.getId();
+    }
+
+    protected void executeAllJobs() {
+        List<Job> jobs = managementService.createJobQuery().list();
+        while (!jobs.isEmpty()) {
+            for (Job job : jobs) {
+                managementService.executeJob(job.getId());
+            }
+            jobs = managementService.createJobQuery().list();
+        }
+    }
+
+}
@@ -24,6 +24,8 @@ import java.util.Map;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.CursorPage;
+import org.flowable.engine.common.api.query.QueryCursor;
 import org.flowable.engine.common.impl.history.HistoryLevel;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
@@ -2209,6 +2211,96 @@ public class TaskQueryTest extends PluggableFlowableTestCase {
                                                         // tasks
     }
 
+    public void testQueryListPageAfter() {
+        // 6 of the tasks of kermit have the same create time, so the id is needed to continue after them
+        List<String> expectedTaskIds = new ArrayList<>();
+        for (org.flowable.task.service.Task task : taskService.createTaskQuery().taskCandidateUser("kermit").orderByTaskCreateTime().desc().orderByTaskId().desc().list()) {
+            expectedTaskIds.add(task.getId());
+        }
+
+        List<String> pagedTaskIds = new ArrayList<>();
+        QueryCursor cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<org.flowable.task.service.Task> page = taskService.createTaskQuery().taskCandidateUser("kermit").orderByTaskCreateTime().desc().listPageAfter(cursor, 4);
+            assertTrue(page.getResults().size() <= 4);
+            for (org.flowable.task.service.Task task : page.getResults()) {
+                pagedTaskIds.add(task.getId());
+            }
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(expectedTaskIds, pagedTaskIds);
+
+        // Without order, the tasks are paged by id
+        TaskQuery query = taskService.createTaskQuery();
+        CursorPage<org.flowable.task.service.Task> firstPage = query.listPageAfter(null, 10);
+        assertEquals(10, firstPage.getResults().size());
+        assertTrue(firstPage.hasNext());
+        CursorPage<org.flowable.task.service.Task> lastPage = query.listPageAfter(firstPage.getNextCursor(), 10);
+        assertEquals(2, lastPage.getResults().size());
+        assertFalse(lastPage.hasNext());
+        assertTrue(firstPage.getResults().get(9).getId().compareTo(lastPage.getResults().get(0).getId()) < 0);
+
+        // The cursor doesn't restrict other results of the same query
+        assertEquals(12, query.count());
+        assertEquals(12, query.listPage(0, 20).size());
+
+        try {
+            taskService.createTaskQuery().orderByTaskPriority().asc().orderByTaskName().asc().listPageAfter(null, 4);
+            fail("expected exception");
+        } catch (FlowableIllegalArgumentException e) {
+            // OK
+        }
+
+        try {
+            taskService.createTaskQuery().includeProcessVariables().listPageAfter(null, 4);
+            fail("expected exception");
+        } catch (FlowableIllegalArgumentException e) {
+            // OK
+        }
+    }
+
+    public void testQueryListPageAfterWithNullSortValues() {
+        // 3 tasks get a due date, the other 9 tasks don't have one and come last in both directions
+        List<org.flowable.task.service.Task> tasks = taskService.createTaskQuery().orderByTaskId().asc().list();
+        Calendar dueDate = Calendar.getInstance();
+        for (int i = 0; i < 3; i++) {
+            org.flowable.task.service.Task task = tasks.get(i * 4);
+            dueDate.add(Calendar.HOUR, 1);
+            task.setDueDate(dueDate.getTime());
+            taskService.saveTask(task);
+        }
+
+        List<String> expectedTaskIds = new ArrayList<>();
+        for (org.flowable.task.service.Task task : taskService.createTaskQuery().orderByDueDateNullsLast().asc().orderByTaskId().asc().list()) {
+            expectedTaskIds.add(task.getId());
+        }
+        assertEquals(expectedTaskIds, listTaskIdsPagedByDueDate(true));
+
+        expectedTaskIds.clear();
+        for (org.flowable.task.service.Task task : taskService.createTaskQuery().orderByDueDateNullsLast().desc().orderByTaskId().desc().list()) {
+            expectedTaskIds.add(task.getId());
+        }
+        assertEquals(expectedTaskIds, listTaskIdsPagedByDueDate(false));
+    }
+
+    protected List<String> listTaskIdsPagedByDueDate(boolean ascending) {
+        List<String> pagedTaskIds = new ArrayList<>();
+        QueryCursor cursor = null;
+        do {
+            TaskQuery query = taskService.createTaskQuery().orderByTaskDueDate();
+            CursorPage<org.flowable.task.service.Task> page = (ascending ? query.asc() : query.desc()).listPageAfter(cursor, 5);
+            for (org.flowable.task.service.Task task : page.getResults()) {
+                pagedTaskIds.add(task.getId());
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return pagedTaskIds;
+    }
+
     public void testQuerySorting() {
         assertEquals(12, taskService.createTaskQuery().orderByTaskId().asc().list().size());
         assertEquals(12, taskService.createTaskQuery().orderByTaskName().asc().list().size());
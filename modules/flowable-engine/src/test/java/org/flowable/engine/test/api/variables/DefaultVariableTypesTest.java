@@ -0,0 +1,74 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.engine.impl.test.AbstractTestCase;
+import org.flowable.variable.service.impl.types.BooleanType;
+import org.flowable.variable.service.impl.types.CustomObjectType;
+import org.flowable.variable.service.impl.types.DateType;
+import org.flowable.variable.service.impl.types.DefaultVariableTypes;
+import org.flowable.variable.service.impl.types.LongStringType;
+import org.flowable.variable.service.impl.types.NullType;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.StringType;
+import org.flowable.variable.service.impl.types.VariableType;
+
+public class DefaultVariableTypesTest extends AbstractTestCase {
+
+    public void testFindVariableType() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+
+        assertEquals("null", variableTypes.findVariableType(null).getTypeName());
+        assertEquals("boolean", variableTypes.findVariableType(true).getTypeName());
+        assertEquals("date", variableTypes.findVariableType(new Date()).getTypeName());
+        assertEquals("serializable", variableTypes.findVariableType(new ArrayList<String>()).getTypeName());
+
+        // The type of a string depends on its length, also once the types for strings are known
+        for (int i = 0; i < 2; i++) {
+            assertEquals("string", variableTypes.findVariableType("short").getTypeName());
+            assertEquals("longString", variableTypes.findVariableType(StringUtils.repeat("a", 11)).getTypeName());
+        }
+    }
+
+    public void testAddTypeAfterLookup() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+        assertEquals("serializable", variableTypes.findVariableType(new ArrayList<String>()).getTypeName());
+
+        VariableType listType = new CustomObjectType("list", ArrayList.class);
+        variableTypes.addType(listType, variableTypes.getTypeIndex(SerializableType.TYPE_NAME));
+        assertSame(listType, variableTypes.findVariableType(new ArrayList<String>()));
+        assertEquals(5, variableTypes.getTypeIndex(listType));
+        assertEquals(6, variableTypes.getTypeIndex(SerializableType.TYPE_NAME));
+
+        variableTypes.removeType(listType);
+        assertEquals("serializable", variableTypes.findVariableType(new ArrayList<String>()).getTypeName());
+        assertEquals(-1, variableTypes.getTypeIndex(listType));
+        assertEquals(5, variableTypes.getTypeIndex(SerializableType.TYPE_NAME));
+    }
+
+    protected DefaultVariableTypes createVariableTypes() {
+        DefaultVariableTypes variableTypes = new DefaultVariableTypes();
+        variableTypes.addType(new NullType());
+        variableTypes.addType(new StringType(10));
+        variableTypes.addType(new LongStringType(11));
+        variableTypes.addType(new BooleanType());
+        variableTypes.addType(new DateType());
+        variableTypes.addType(new SerializableType());
+        return variableTypes;
+    }
+
+}
@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class JsonVariableTrackingTest extends ResourceFlowableTestCase {
+
+    public JsonVariableTrackingTest() {
+        super("org/flowable/engine/test/api/variables/JsonVariableTrackingTest.flowable.cfg.xml");
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testUpdateJsonVariables() {
+        ObjectNode longJson = processEngineConfiguration.getObjectMapper().createObjectNode();
+        longJson.put("value", StringUtils.repeat("a", processEngineConfiguration.getMaxLengthString()));
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("json", processEngineConfiguration.getObjectMapper().createObjectNode().put("number", 1));
+        vars.put("longJson", longJson.put("number", 1));
+        final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", vars);
+
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+                ((ObjectNode) execution.getVariable("json")).put("number", 2);
+                ((ObjectNode) execution.getVariable("longJson")).put("number", 2);
+                return null;
+            }
+        });
+
+        assertEquals(2, ((JsonNode) runtimeService.getVariable(processInstance.getId(), "json")).get("number").asInt());
+        assertEquals(2, ((JsonNode) runtimeService.getVariable(processInstance.getId(), "longJson")).get("number").asInt());
+        assertEquals("longJson", runtimeService.getVariableInstance(processInstance.getId(), "longJson").getTypeName());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testJsonVariableChangedBeyondMaxLength() {
+        final String longValue = StringUtils.repeat("a", processEngineConfiguration.getMaxLengthString());
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("json", processEngineConfiguration.getObjectMapper().createObjectNode().put("number", 1));
+        final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", vars);
+        assertEquals("json", runtimeService.getVariableInstance(processInstance.getId(), "json").getTypeName());
+
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+                ((ObjectNode) execution.getVariable("json")).put("value", longValue);
+                return null;
+            }
+        });
+
+        JsonNode json = (JsonNode) runtimeService.getVariable(processInstance.getId(), "json");
+        assertEquals(1, json.get("number").asInt());
+        assertEquals(longValue, json.get("value").asText());
+        assertEquals("longJson", runtimeService.getVariableInstance(processInstance.getId(), "json").getTypeName());
+    }
+
+}
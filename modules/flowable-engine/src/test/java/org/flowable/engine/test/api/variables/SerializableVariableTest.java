@@ -16,11 +16,19 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * @author Joram Barrez
@@ -42,6 +50,47 @@ public class SerializableVariableTest extends PluggableFlowableTestCase {
         assertEquals(2, testSerializableVariable.getNumber());
     }
 
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testReadOnlySerializableVariable() {
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("myVar", new TestSerializableVariable(1));
+        final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", vars);
+
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+                TestSerializableVariable testSerializableVariable = (TestSerializableVariable) execution.getVariable("myVar");
+                ((VariableInstanceEntity) execution.getVariableInstance("myVar")).setReadOnly(true);
+                testSerializableVariable.setNumber(2);
+                return null;
+            }
+        });
+
+        TestSerializableVariable testSerializableVariable = (TestSerializableVariable) runtimeService.getVariable(processInstance.getId(), "myVar");
+        assertEquals(1, testSerializableVariable.getNumber());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testJsonVariablesNotTrackedByDefault() {
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("json", processEngineConfiguration.getObjectMapper().createObjectNode().put("number", 1));
+        final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", vars);
+
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+                ((ObjectNode) execution.getVariable("json")).put("number", 2);
+                return null;
+            }
+        });
+
+        assertEquals(1, ((JsonNode) runtimeService.getVariable(processInstance.getId(), "json")).get("number").asInt());
+    }
+
     public static class TestUpdateSerializableVariableDelegate implements JavaDelegate {
 
         @Override
@@ -0,0 +1,179 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.dynamic;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManagerImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.test.Deployment;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class ProcessDefinitionInfoCacheTest extends PluggableFlowableTestCase {
+
+    protected ProcessDefinitionInfoCache processDefinitionInfoCache;
+    protected long oldStalenessWindow;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        processDefinitionInfoCache = processEngineConfiguration.getDeploymentManager().getProcessDefinitionInfoCache();
+        oldStalenessWindow = processDefinitionInfoCache.getStalenessWindowInMillis();
+        processDefinitionInfoCache.setStalenessWindowInMillis(60000L);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processDefinitionInfoCache.setStalenessWindowInMillis(oldStalenessWindow);
+        processEngineConfiguration.getClock().reset();
+        super.tearDown();
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testLocalChangesAreVisibleImmediately() {
+        String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult().getId();
+        assertEquals(0, dynamicBpmnService.getProcessDefinitionInfo(processDefinitionId).size());
+
+        ObjectNode infoNode = dynamicBpmnService.changeUserTaskName("theTask", "Changed name");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+        assertEquals("Changed name", getUserTaskName(processDefinitionId));
+
+        infoNode = dynamicBpmnService.changeUserTaskName("theTask", "Changed again");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+        assertEquals("Changed again", getUserTaskName(processDefinitionId));
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testRemoteChangesAreVisibleAfterStalenessWindow() {
+        final String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult().getId();
+        ObjectNode infoNode = dynamicBpmnService.changeUserTaskName("theTask", "Changed name");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+        assertEquals("Changed name", getUserTaskName(processDefinitionId));
+
+        // Simulate a change done by another engine, which doesn't invalidate the cache of this engine
+        final ObjectNode remoteInfoNode = dynamicBpmnService.changeUserTaskName("theTask", "Remote name");
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
+                ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
+                try {
+                    infoEntityManager.updateInfoJson(infoEntity.getId(), processEngineConfiguration.getObjectMapper().writeValueAsBytes(remoteInfoNode));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+                return null;
+            }
+        });
+
+        // Within the staleness window, the cached info is used
+        assertEquals("Changed name", getUserTaskName(processDefinitionId));
+
+        // After the window, the new revision is detected
+        processEngineConfiguration.getClock().setCurrentTime(new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + 61000L));
+        assertEquals("Remote name", getUserTaskName(processDefinitionId));
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testReturnedInfoNodeIsACopy() {
+        String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult().getId();
+        ObjectNode infoNode = dynamicBpmnService.changeUserTaskName("theTask", "Changed name");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+
+        ObjectNode returnedInfoNode = dynamicBpmnService.getProcessDefinitionInfo(processDefinitionId);
+        dynamicBpmnService.changeUserTaskName("theTask", "Not saved", returnedInfoNode);
+        assertEquals("Changed name", getUserTaskName(processDefinitionId));
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml", "org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml" })
+    public void testRevisionsAreVerifiedInOneQueryPerCommandContext() {
+        final String oneTaskProcessDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult().getId();
+        final String twoTasksProcessDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("twoTasksProcess").singleResult().getId();
+
+        ProcessDefinitionInfoEntityManager originalInfoEntityManager = processEngineConfiguration.getProcessDefinitionInfoEntityManager();
+        final CountingProcessDefinitionInfoEntityManager countingInfoEntityManager = new CountingProcessDefinitionInfoEntityManager(processEngineConfiguration);
+        processEngineConfiguration.setProcessDefinitionInfoEntityManager(countingInfoEntityManager);
+        try {
+            // Both infos are due after the staleness window, so the first verification checks both
+            processEngineConfiguration.getClock().setCurrentTime(new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + 61000L));
+            getInfosInOneCommand(oneTaskProcessDefinitionId, twoTasksProcessDefinitionId);
+            assertEquals(1, countingInfoEntityManager.queryCount);
+
+            // Within the window, they aren't verified again
+            processDefinitionInfoCache.get(twoTasksProcessDefinitionId);
+            assertEquals(1, countingInfoEntityManager.queryCount);
+
+            // Without a window, each command context verifies only the infos it uses, once
+            processDefinitionInfoCache.setStalenessWindowInMillis(0L);
+            getInfosInOneCommand(oneTaskProcessDefinitionId, twoTasksProcessDefinitionId);
+            assertEquals(3, countingInfoEntityManager.queryCount);
+
+            processDefinitionInfoCache.get(twoTasksProcessDefinitionId);
+            assertEquals(4, countingInfoEntityManager.queryCount);
+
+        } finally {
+            processEngineConfiguration.setProcessDefinitionInfoEntityManager(originalInfoEntityManager);
+        }
+    }
+
+    protected void getInfosInOneCommand(final String oneTaskProcessDefinitionId, final String twoTasksProcessDefinitionId) {
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                processDefinitionInfoCache.get(oneTaskProcessDefinitionId);
+                processDefinitionInfoCache.get(twoTasksProcessDefinitionId);
+                processDefinitionInfoCache.get(oneTaskProcessDefinitionId);
+                return null;
+            }
+        });
+    }
+
+    protected String getUserTaskName(String processDefinitionId) {
+        ObjectNode infoNode = dynamicBpmnService.getProcessDefinitionInfo(processDefinitionId);
+        return dynamicBpmnService.getBpmnElementProperties("theTask", infoNode).get("userTaskName").asText();
+    }
+
+    protected static class CountingProcessDefinitionInfoEntityManager extends ProcessDefinitionInfoEntityManagerImpl {
+
+        protected int queryCount;
+
+        public CountingProcessDefinitionInfoEntityManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
+            super(processEngineConfiguration, processEngineConfiguration.getProcessDefinitionInfoDataManager());
+        }
+
+        @Override
+        public ProcessDefinitionInfoEntity findProcessDefinitionInfoByProcessDefinitionId(String processDefinitionId) {
+            queryCount++;
+            return super.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
+        }
+
+        @Override
+        public List<ProcessDefinitionInfoEntity> findProcessDefinitionInfosByProcessDefinitionIds(Collection<String> processDefinitionIds) {
+            queryCount++;
+            return super.findProcessDefinitionInfosByProcessDefinitionIds(processDefinitionIds);
+        }
+    }
+
+}
@@ -0,0 +1,333 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.event.signal;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.common.impl.util.CollectionUtil;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastDeliveryJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastJobHandler;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.SignalBroadcast;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.service.Job;
+
+public class SignalBroadcastTest extends PluggableFlowableTestCase {
+
+    protected int originalBatchSize;
+    protected int originalBatchesPerRun;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        originalBatchSize = processEngineConfiguration.getSignalBroadcastBatchSize();
+        originalBatchesPerRun = processEngineConfiguration.getSignalBroadcastBatchesPerRun();
+        processEngineConfiguration.setSignalBroadcastBatchSize(2);
+        processEngineConfiguration.setSignalBroadcastBatchesPerRun(2);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.setSignalBroadcastBatchSize(originalBatchSize);
+        processEngineConfiguration.setSignalBroadcastBatchesPerRun(originalBatchesPerRun);
+        processEngineConfiguration.setEnableSignalBroadcastFanOut(false);
+        processEngineConfiguration.getClock().reset();
+        super.tearDown();
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml")
+    public void testBroadcastSignal() {
+        Date now = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(now);
+        for (int i = 0; i < 7; i++) {
+            runtimeService.startProcessInstanceByKey("catchSignal");
+        }
+
+        String broadcastId = runtimeService.broadcastSignalEventAsync("alert");
+        assertEquals(7, runtimeService.createEventSubscriptionQuery().count());
+
+        SignalBroadcast signalBroadcast = runtimeService.getSignalBroadcast(broadcastId);
+        assertEquals("alert", signalBroadcast.getSignalName());
+        assertFalse(signalBroadcast.isFanOutCompleted());
+        assertEquals(0, signalBroadcast.getScheduledSubscriptionCount());
+        assertFalse(signalBroadcast.isCompleted());
+
+        // Subscriptions created after the broadcast don't receive the signal
+        processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 1000));
+        String lateProcessInstanceId = runtimeService.startProcessInstanceByKey("catchSignal").getId();
+
+        // The first step of the fan-out hands 2 batches of 2 subscriptions to delivery jobs
+        executeJobs(SignalBroadcastJobHandler.TYPE);
+        assertEquals(2, managementService.createJobQuery().handlerType(SignalBroadcastDeliveryJobHandler.TYPE).count());
+        signalBroadcast = runtimeService.getSignalBroadcast(broadcastId);
+        assertFalse(signalBroadcast.isFanOutCompleted());
+        assertEquals(4, signalBroadcast.getScheduledSubscriptionCount());
+        assertEquals(2, signalBroadcast.getPendingDeliveryJobCount());
+
+        // The second step hands the remaining 3 subscriptions to 2 delivery jobs and completes the fan-out
+        executeJobs(SignalBroadcastJobHandler.TYPE);
+        assertEquals(0, managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).count());
+        signalBroadcast = runtimeService.getSignalBroadcast(broadcastId);
+        assertTrue(signalBroadcast.isFanOutCompleted());
+        assertEquals(7, signalBroadcast.getScheduledSubscriptionCount());
+        assertEquals(4, signalBroadcast.getPendingDeliveryJobCount());
+        assertFalse(signalBroadcast.isCompleted());
+        assertEquals(8, runtimeService.createProcessInstanceQuery().count());
+
+        try {
+            runtimeService.deleteSignalBroadcast(broadcastId);
+            fail("Expected exception");
+        } catch (FlowableException e) {
+            assertTrue(e.getMessage().contains("has not completed yet"));
+        }
+
+        // Once the last delivery job has finished, the broadcast is completed and kept until it is deleted
+        executeJobs(SignalBroadcastDeliveryJobHandler.TYPE);
+        signalBroadcast = runtimeService.getSignalBroadcast(broadcastId);
+        assertTrue(signalBroadcast.isCompleted());
+        assertEquals(7, signalBroadcast.getScheduledSubscriptionCount());
+        assertEquals(0, signalBroadcast.getPendingDeliveryJobCount());
+        assertEquals(0, signalBroadcast.getFailedDeliveryJobCount());
+        assertEquals(1, runtimeService.createProcessInstanceQuery().count());
+        assertEquals(lateProcessInstanceId, runtimeService.createProcessInstanceQuery().singleResult().getId());
+
+        runtimeService.deleteSignalBroadcast(broadcastId);
+        assertNull(runtimeService.getSignalBroadcast(broadcastId));
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml")
+    public void testProgressOfConcurrentBroadcasts() {
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("catchSignal");
+        }
+
+        String firstBroadcastId = runtimeService.broadcastSignalEventAsync("alert");
+        String secondBroadcastId = runtimeService.broadcastSignalEventAsync("alert");
+        executeJobs(SignalBroadcastJobHandler.TYPE);
+
+        // The delivery jobs are counted per broadcast
+        assertEquals(4, managementService.createJobQuery().handlerType(SignalBroadcastDeliveryJobHandler.TYPE).count());
+        assertEquals(2, runtimeService.getSignalBroadcast(firstBroadcastId).getPendingDeliveryJobCount());
+        assertEquals(2, runtimeService.getSignalBroadcast(secondBroadcastId).getPendingDeliveryJobCount());
+
+        List<Job> jobs = managementService.createJobQuery().handlerType(SignalBroadcastDeliveryJobHandler.TYPE).list();
+        for (Job job : jobs) {
+            if (job.getJobHandlerConfiguration().startsWith(firstBroadcastId + SignalBroadcastJobHandler.CONFIGURATION_SEPARATOR)) {
+                managementService.executeJob(job.getId());
+            }
+        }
+        assertTrue(runtimeService.getSignalBroadcast(firstBroadcastId).isCompleted());
+        assertFalse(runtimeService.getSignalBroadcast(secondBroadcastId).isCompleted());
+
+        executeJobs(SignalBroadcastDeliveryJobHandler.TYPE);
+        assertTrue(runtimeService.getSignalBroadcast(secondBroadcastId).isCompleted());
+
+        runtimeService.deleteSignalBroadcast(firstBroadcastId);
+        runtimeService.deleteSignalBroadcast(secondBroadcastId);
+    }
+
+    public void testUnknownBroadcast() {
+        assertNull(runtimeService.getSignalBroadcast("unknown"));
+
+        try {
+            runtimeService.deleteSignalBroadcast("unknown");
+            fail("Expected exception");
+        } catch (FlowableObjectNotFoundException e) {
+            // expected
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml")
+    public void testBroadcastSignalSkipsRemovedSubscriptions() {
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("catchSignal");
+        }
+
+        String broadcastId = runtimeService.broadcastSignalEventAsync("alert");
+        executeJobs(SignalBroadcastJobHandler.TYPE);
+        assertEquals(2, runtimeService.getSignalBroadcast(broadcastId).getPendingDeliveryJobCount());
+
+        // The signal is delivered synchronously to all subscriptions before the delivery jobs are executed
+        runtimeService.signalEventReceived("alert");
+        assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+
+        executeJobs(SignalBroadcastDeliveryJobHandler.TYPE);
+        SignalBroadcast signalBroadcast = runtimeService.getSignalBroadcast(broadcastId);
+        assertTrue(signalBroadcast.isCompleted());
+        assertEquals(3, signalBroadcast.getScheduledSubscriptionCount());
+        runtimeService.deleteSignalBroadcast(broadcastId);
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml")
+    public void testFanOutCompletedAfterDeliveries() {
+        processEngineConfiguration.setSignalBroadcastBatchesPerRun(1);
+        for (int i = 0; i < 2; i++) {
+            runtimeService.startProcessInstanceByKey("catchSignal");
+        }
+
+        // The first step fills a whole run, so the fan-out only completes in a second step
+        String broadcastId = runtimeService.broadcastSignalEventAsync("alert");
+        executeJobs(SignalBroadcastJobHandler.TYPE);
+        executeJobs(SignalBroadcastDeliveryJobHandler.TYPE);
+        assertFalse(runtimeService.getSignalBroadcast(broadcastId).isFanOutCompleted());
+
+        // The step that completes the fan-out doesn't leave any job of the broadcast, but the broadcast reports its completion
+        executeJobs(SignalBroadcastJobHandler.TYPE);
+        assertEquals(0, managementService.createJobQuery().count());
+        SignalBroadcast signalBroadcast = runtimeService.getSignalBroadcast(broadcastId);
+        assertTrue(signalBroadcast.isFanOutCompleted());
+        assertTrue(signalBroadcast.isCompleted());
+        assertEquals(2, signalBroadcast.getScheduledSubscriptionCount());
+        runtimeService.deleteSignalBroadcast(broadcastId);
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/event/signal/SignalBroadcastTest.catchAlertSignalAndFail.bpmn20.xml" })
+    public void testFailingSubscriptionIsRetriedOnItsOwn() {
+        processEngineConfiguration.setSignalBroadcastBatchSize(4);
+        String failingProcessInstanceId = runtimeService.startProcessInstanceByKey("catchSignalAndFail", CollectionUtil.singletonMap("fail", true)).getId();
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("catchSignal");
+        }
+
+        String broadcastId = runtimeService.broadcastSignalEventAsync("alert");
+        executeJobs(SignalBroadcastJobHandler.TYPE);
+        assertEquals(1, runtimeService.getSignalBroadcast(broadcastId).getPendingDeliveryJobCount());
+
+        // The failure rolls back the delivery of the whole batch
+        executeJobs(SignalBroadcastDeliveryJobHandler.TYPE);
+        assertEquals(4, runtimeService.createProcessInstanceQuery().count());
+
+        // The retry hands every subscription of the batch to its own delivery job
+        retryFailedJobs();
+        assertEquals(4, runtimeService.getSignalBroadcast(broadcastId).getPendingDeliveryJobCount());
+        assertEquals(4, runtimeService.getSignalBroadcast(broadcastId).getScheduledSubscriptionCount());
+
+        // Only the failing subscription is retried until no retries are left
+        executeJobs(SignalBroadcastDeliveryJobHandler.TYPE);
+        while (managementService.createTimerJobQuery().handlerType(SignalBroadcastDeliveryJobHandler.TYPE).count() > 0) {
+            retryFailedJobs();
+        }
+        assertEquals(1, runtimeService.createProcessInstanceQuery().count());
+        assertEquals(failingProcessInstanceId, runtimeService.createProcessInstanceQuery().singleResult().getId());
+
+        // The failed delivery job keeps the broadcast
+        SignalBroadcast signalBroadcast = runtimeService.getSignalBroadcast(broadcastId);
+        assertTrue(signalBroadcast.isCompleted());
+        assertEquals(0, signalBroadcast.getPendingDeliveryJobCount());
+        assertEquals(1, signalBroadcast.getFailedDeliveryJobCount());
+
+        // Once the failed job succeeds after all, no failed delivery is left
+        runtimeService.setVariable(failingProcessInstanceId, "fail", false);
+        Job deadLetterJob = managementService.createDeadLetterJobQuery().handlerType(SignalBroadcastDeliveryJobHandler.TYPE).singleResult();
+        managementService.moveDeadLetterJobToExecutableJob(deadLetterJob.getId(), 1);
+        assertFalse(runtimeService.getSignalBroadcast(broadcastId).isCompleted());
+        executeJobs(SignalBroadcastDeliveryJobHandler.TYPE);
+        assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+        signalBroadcast = runtimeService.getSignalBroadcast(broadcastId);
+        assertTrue(signalBroadcast.isCompleted());
+        assertEquals(0, signalBroadcast.getFailedDeliveryJobCount());
+        runtimeService.deleteSignalBroadcast(broadcastId);
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/event/signal/SignalBroadcastTest.catchAlertSignalAndFail.bpmn20.xml")
+    public void testDeleteBroadcastWithFailedDelivery() {
+        String failingProcessInstanceId = runtimeService.startProcessInstanceByKey("catchSignalAndFail", CollectionUtil.singletonMap("fail", true)).getId();
+
+        String broadcastId = runtimeService.broadcastSignalEventAsync("alert");
+        executeJobs(SignalBroadcastJobHandler.TYPE);
+        executeJobs(SignalBroadcastDeliveryJobHandler.TYPE);
+        while (managementService.createTimerJobQuery().handlerType(SignalBroadcastDeliveryJobHandler.TYPE).count() > 0) {
+            retryFailedJobs();
+        }
+        assertEquals(1, runtimeService.getSignalBroadcast(broadcastId).getFailedDeliveryJobCount());
+
+        // Deleting the broadcast deletes its failed delivery job
+        runtimeService.deleteSignalBroadcast(broadcastId);
+        assertNull(runtimeService.getSignalBroadcast(broadcastId));
+        assertEquals(0, managementService.createDeadLetterJobQuery().count());
+        assertEquals(failingProcessInstanceId, runtimeService.createProcessInstanceQuery().singleResult().getId());
+        runtimeService.deleteProcessInstance(failingProcessInstanceId, "test");
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/event/signal/SignalBroadcastTest.catchScopedAlertSignal.bpmn20.xml" })
+    public void testProcessInstanceScopedSubscriptionsAreNotScheduled() {
+        runtimeService.startProcessInstanceByKey("catchSignal");
+        String scopedProcessInstanceId = runtimeService.startProcessInstanceByKey("catchScopedSignal").getId();
+
+        String broadcastId = runtimeService.broadcastSignalEventAsync("alert");
+        executeJobs(SignalBroadcastJobHandler.TYPE);
+        assertEquals(1, runtimeService.getSignalBroadcast(broadcastId).getScheduledSubscriptionCount());
+
+        executeJobs(SignalBroadcastDeliveryJobHandler.TYPE);
+        assertTrue(runtimeService.getSignalBroadcast(broadcastId).isCompleted());
+        runtimeService.deleteSignalBroadcast(broadcastId);
+        assertEquals(scopedProcessInstanceId, runtimeService.createProcessInstanceQuery().singleResult().getId());
+        runtimeService.deleteProcessInstance(scopedProcessInstanceId, "test");
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.throwAlertSignalAsynch.bpmn20.xml" })
+    public void testAsyncSignalsUseFanOutWhenEnabled() {
+        processEngineConfiguration.setEnableSignalBroadcastFanOut(true);
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("catchSignal");
+        }
+
+        runtimeService.signalEventReceivedAsync("alert");
+        assertEquals(1, managementService.createJobQuery().count());
+        assertEquals(1, managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).count());
+
+        executeJobs(SignalBroadcastJobHandler.TYPE);
+        executeJobs(SignalBroadcastDeliveryJobHandler.TYPE);
+        assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+
+        // Same for an async signal throw event with global scope
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("catchSignal");
+        }
+        runtimeService.startProcessInstanceByKey("throwSignal");
+        assertEquals(1, managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).count());
+
+        executeJobs(SignalBroadcastJobHandler.TYPE);
+        executeJobs(SignalBroadcastDeliveryJobHandler.TYPE);
+        assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+        assertEquals(0, managementService.createJobQuery().count());
+
+        // Broadcasts of async signals don't keep their progress
+        assertEquals(Long.valueOf(0), managementService.getTableCount().get(processEngineConfiguration.getDatabaseTablePrefix() + "ACT_RU_SIGNAL_BROADCAST"));
+    }
+
+    protected void executeJobs(String handlerType) {
+        List<Job> jobs = managementService.createJobQuery().handlerType(handlerType).list();
+        for (Job job : jobs) {
+            try {
+                managementService.executeJob(job.getId());
+            } catch (FlowableException e) {
+                // the job is retried later on
+            }
+        }
+    }
+
+    protected void retryFailedJobs() {
+        for (Job timerJob : managementService.createTimerJobQuery().handlerType(SignalBroadcastDeliveryJobHandler.TYPE).list()) {
+            managementService.moveTimerToExecutableJob(timerJob.getId());
+        }
+        executeJobs(SignalBroadcastDeliveryJobHandler.TYPE);
+    }
+
+}
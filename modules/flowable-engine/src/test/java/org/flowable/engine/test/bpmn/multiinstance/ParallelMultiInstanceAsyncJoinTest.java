@@ -0,0 +1,138 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.multiinstance;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceJoinJobHandler;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.service.Job;
+import org.flowable.task.service.Task;
+
+public class ParallelMultiInstanceAsyncJoinTest extends PluggableFlowableTestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        processEngineConfiguration.setEnableParallelMultiInstanceAsyncJoin(true);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.setEnableParallelMultiInstanceAsyncJoin(false);
+        super.tearDown();
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasks.bpmn20.xml")
+    public void testParallelUserTasks() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelUserTasks");
+        List<Task> tasks = taskService.createTaskQuery().orderByTaskName().asc().list();
+        assertEquals(3, tasks.size());
+        String miRootExecutionId = runtimeService.createExecutionQuery().executionId(tasks.get(0).getExecutionId()).singleResult().getParentId();
+
+        // The loop variables are updated by the join job
+        taskService.complete(tasks.get(0).getId());
+        assertEquals(0, runtimeService.getVariable(miRootExecutionId, "nrOfCompletedInstances"));
+        executeJoinJobs(1);
+        assertEquals(1, runtimeService.getVariable(miRootExecutionId, "nrOfCompletedInstances"));
+        assertEquals(2, runtimeService.getVariable(miRootExecutionId, "nrOfActiveInstances"));
+
+        taskService.complete(tasks.get(1).getId());
+        executeJoinJobs(1);
+        assertEquals(2, runtimeService.getVariable(miRootExecutionId, "nrOfCompletedInstances"));
+
+        // All other instances were completed, so the last one leaves the multi-instance itself
+        taskService.complete(tasks.get(2).getId());
+        assertEquals(0, managementService.createJobQuery().count());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasksCompletionCondition.bpmn20.xml")
+    public void testParallelUserTasksCompletionCondition() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelUserTasksCompletionCondition");
+        List<Task> tasks = taskService.createTaskQuery().list();
+        assertEquals(5, tasks.size());
+
+        // Two instances complete before any join job is executed
+        taskService.complete(tasks.get(0).getId());
+        taskService.complete(tasks.get(1).getId());
+        executeJoinJobs(2);
+        assertEquals(3, taskService.createTaskQuery().count());
+
+        taskService.complete(tasks.get(2).getId());
+        executeJoinJobs(1);
+        assertEquals(0, taskService.createTaskQuery().count());
+        assertEquals(0, managementService.createJobQuery().count());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasksCompletionCondition.bpmn20.xml")
+    public void testCompletionConditionEvaluatedByJoinJob() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelUserTasksCompletionCondition");
+        List<Task> tasks = taskService.createTaskQuery().list();
+        assertEquals(5, tasks.size());
+        String miRootExecutionId = runtimeService.createExecutionQuery().executionId(tasks.get(0).getExecutionId()).singleResult().getParentId();
+
+        // The completion condition is satisfied by three completed instances, but isn't evaluated before a join job is executed
+        taskService.complete(tasks.get(0).getId());
+        taskService.complete(tasks.get(1).getId());
+        taskService.complete(tasks.get(2).getId());
+        assertEquals(2, taskService.createTaskQuery().count());
+        assertEquals(0, runtimeService.getVariable(miRootExecutionId, "nrOfCompletedInstances"));
+        assertEquals(3, managementService.createJobQuery().handlerType(ParallelMultiInstanceJoinJobHandler.TYPE).count());
+
+        // The first join job stops the remaining instances, the other join jobs are deleted with the multi-instance root execution
+        Job job = managementService.createJobQuery().handlerType(ParallelMultiInstanceJoinJobHandler.TYPE).list().get(0);
+        managementService.executeJob(job.getId());
+        assertEquals(0, taskService.createTaskQuery().count());
+        assertEquals(0, managementService.createJobQuery().count());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelSubProcess.bpmn20.xml")
+    public void testParallelSubProcess() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelSubprocess");
+        List<Task> tasks = taskService.createTaskQuery().list();
+        assertEquals(4, tasks.size());
+
+        for (Task task : tasks) {
+            taskService.complete(task.getId());
+        }
+        executeJoinJobs(managementService.createJobQuery().handlerType(ParallelMultiInstanceJoinJobHandler.TYPE).count());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Deployment
+    public void testAsyncServiceTasks() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miAsyncServiceTasks", Collections.<String, Object>singletonMap("nrOfItems", 20));
+        assertEquals(20, managementService.createJobQuery().count());
+
+        waitForJobExecutorToProcessAllJobs(20000L, 200L);
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertEquals("afterMi", task.getTaskDefinitionKey());
+        assertEquals(1, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).onlyChildExecutions().count());
+    }
+
+    protected void executeJoinJobs(long expectedCount) {
+        List<Job> jobs = managementService.createJobQuery().handlerType(ParallelMultiInstanceJoinJobHandler.TYPE).list();
+        assertEquals(expectedCount, jobs.size());
+        for (Job job : jobs) {
+            managementService.executeJob(job.getId());
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cache;
+
+import java.util.Map;
+
+import org.flowable.engine.common.impl.persistence.cache.CachedEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.test.AbstractTestCase;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityImpl;
+
+public class ChangeTrackingEntityTest extends AbstractTestCase {
+
+    @SuppressWarnings("unchecked")
+    public void testExecutionChanges() {
+        ExecutionEntityImpl execution = new ExecutionEntityImpl();
+        execution.setId("1");
+        execution.setName("name");
+        execution.setActive(true);
+        CachedEntity cachedEntity = new CachedEntity(execution, true);
+        assertFalse(cachedEntity.hasChanged());
+
+        // Setting the same values doesn't change the entity
+        execution.setName("name");
+        execution.setActive(true);
+        execution.setParentId(null);
+        assertFalse(cachedEntity.hasChanged());
+
+        execution.inactivate();
+        assertTrue(cachedEntity.hasChanged());
+
+        // The persistent state before the first change is kept for the update
+        Map<String, Object> originalPersistentState = (Map<String, Object>) execution.getOriginalPersistentState();
+        assertEquals(Boolean.TRUE, originalPersistentState.get("isActive"));
+        assertEquals(Boolean.FALSE, ((Map<String, Object>) execution.getPersistentState()).get("isActive"));
+
+        // Storing the state again resets the change tracking
+        cachedEntity = new CachedEntity(execution, true);
+        assertFalse(cachedEntity.hasChanged());
+        execution.setTaskCount(1);
+        assertTrue(cachedEntity.hasChanged());
+
+        cachedEntity = new CachedEntity(execution, true);
+        execution.forceUpdate();
+        assertTrue(cachedEntity.hasChanged());
+    }
+
+    public void testVariableInstanceChanges() {
+        VariableInstanceEntityImpl variableInstance = new VariableInstanceEntityImpl();
+        variableInstance.setId("1");
+        variableInstance.setName("var");
+        variableInstance.setTextValue("value");
+        CachedEntity cachedEntity = new CachedEntity(variableInstance, true);
+        assertFalse(cachedEntity.hasChanged());
+
+        variableInstance.setTextValue("value");
+        variableInstance.setLongValue(null);
+        assertFalse(cachedEntity.hasChanged());
+
+        variableInstance.setTextValue("other value");
+        assertTrue(cachedEntity.hasChanged());
+    }
+
+}
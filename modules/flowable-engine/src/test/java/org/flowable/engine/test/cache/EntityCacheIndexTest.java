@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cache;
+
+import java.util.List;
+
+import org.flowable.engine.common.impl.persistence.cache.EntityCache;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.persistence.entity.data.impl.MybatisExecutionDataManager;
+import org.flowable.engine.impl.test.AbstractTestCase;
+
+public class EntityCacheIndexTest extends AbstractTestCase {
+
+    public void testFindThroughIndex() {
+        EntityCache entityCache = new EntityCacheImpl();
+        entityCache.put(createExecution("1", "processInstance1"), false);
+        entityCache.put(createExecution("2", "processInstance1"), false);
+        entityCache.put(createExecution("3", "processInstance2"), false);
+
+        assertEquals(2, findByProcessInstanceId(entityCache, "processInstance1").size());
+        assertEquals(1, findByProcessInstanceId(entityCache, "processInstance2").size());
+        assertEquals(0, findByProcessInstanceId(entityCache, "unknown").size());
+
+        // Entities put in or removed from the cache after the index was built
+        entityCache.put(createExecution("4", "processInstance2"), false);
+        entityCache.cacheRemove(ExecutionEntityImpl.class, "1");
+        assertEquals(1, findByProcessInstanceId(entityCache, "processInstance1").size());
+        assertEquals("2", findByProcessInstanceId(entityCache, "processInstance1").get(0).getId());
+        assertEquals(2, findByProcessInstanceId(entityCache, "processInstance2").size());
+
+        // Putting an entity again re-indexes it
+        entityCache.put(createExecution("4", "processInstance1"), false);
+        assertEquals(2, findByProcessInstanceId(entityCache, "processInstance1").size());
+        assertEquals(1, findByProcessInstanceId(entityCache, "processInstance2").size());
+    }
+
+    public void testValueSetAfterPut() {
+        EntityCache entityCache = new EntityCacheImpl();
+        entityCache.put(createExecution("1", "processInstance1"), false);
+        assertEquals(1, findByProcessInstanceId(entityCache, "processInstance1").size());
+
+        // Like a process instance, which gets its process instance id after being inserted
+        ExecutionEntity processInstance = createExecution("2", null);
+        entityCache.put(processInstance, false);
+        assertEquals(0, findByProcessInstanceId(entityCache, "2").size());
+
+        processInstance.setProcessInstanceId("2");
+        List<ExecutionEntity> executions = findByProcessInstanceId(entityCache, "2");
+        assertEquals(1, executions.size());
+        assertSame(processInstance, executions.get(0));
+    }
+
+    public void testFindByInterface() {
+        EntityCache entityCache = new EntityCacheImpl();
+        assertEquals(0, findByProcessInstanceId(entityCache, "processInstance1").size());
+
+        entityCache.put(createExecution("1", "processInstance1"), false);
+        assertEquals(1, entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, MybatisExecutionDataManager.PROCESS_INSTANCE_ID_INDEX, "processInstance1").size());
+        assertEquals(1, findByProcessInstanceId(entityCache, "processInstance1").size());
+    }
+
+    protected List<ExecutionEntity> findByProcessInstanceId(EntityCache entityCache, String processInstanceId) {
+        return entityCache.findInCache(ExecutionEntity.class, MybatisExecutionDataManager.PROCESS_INSTANCE_ID_INDEX, processInstanceId);
+    }
+
+    protected ExecutionEntity createExecution(String id, String processInstanceId) {
+        ExecutionEntityImpl execution = new ExecutionEntityImpl();
+        execution.setId(id);
+        execution.setProcessInstanceId(processInstanceId);
+        return execution;
+    }
+
+}
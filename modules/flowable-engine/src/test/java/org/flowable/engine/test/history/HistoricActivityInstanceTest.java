@@ -13,9 +13,12 @@
 
 package org.flowable.engine.test.history;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.CursorPage;
+import org.flowable.engine.common.api.query.QueryCursor;
 import org.flowable.engine.common.impl.history.HistoryLevel;
 import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.history.HistoricActivityInstance;
@@ -213,6 +216,36 @@ public class HistoricActivityInstanceTest extends PluggableFlowableTestCase {
         assertEquals(oldInstance.getId(), historicActivityInstance.getCalledProcessInstanceId());
     }
 
+    @Deployment(resources = "org/flowable/engine/test/history/oneTaskProcess.bpmn20.xml")
+    public void testHistoricActivityInstanceQueryListPageAfter() {
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            waitForHistoryJobExecutorToProcessAllJobs(5000, 100);
+
+            List<String> expectedIds = new ArrayList<>();
+            for (HistoricActivityInstance activityInstance : historyService.createHistoricActivityInstanceQuery()
+                    .orderByHistoricActivityInstanceStartTime().desc().orderByHistoricActivityInstanceId().desc().list()) {
+                expectedIds.add(activityInstance.getId());
+            }
+
+            List<String> pagedIds = new ArrayList<>();
+            QueryCursor cursor = null;
+            do {
+                CursorPage<HistoricActivityInstance> page = historyService.createHistoricActivityInstanceQuery()
+                        .orderByHistoricActivityInstanceStartTime().desc().listPageAfter(cursor, 4);
+                for (HistoricActivityInstance activityInstance : page.getResults()) {
+                    pagedIds.add(activityInstance.getId());
+                }
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+
+            assertEquals(expectedIds, pagedIds);
+        }
+    }
+
     @Deployment
     public void testSorting() {
         runtimeService.startProcessInstanceByKey("process");
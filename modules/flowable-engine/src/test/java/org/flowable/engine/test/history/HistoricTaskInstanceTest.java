@@ -24,6 +24,8 @@ import java.util.Map;
 
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.common.api.query.CursorPage;
+import org.flowable.engine.common.api.query.QueryCursor;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
@@ -691,6 +693,39 @@ public class HistoricTaskInstanceTest extends PluggableFlowableTestCase {
         assertEquals(2, historyService.createHistoricTaskInstanceQuery().processFinished().count());
     }
 
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testHistoricTaskInstanceQueryListPageAfter() {
+        // All tasks have the same create time, as the clock isn't moved
+        processEngineConfiguration.getClock().setCurrentTime(processEngineConfiguration.getClock().getCurrentTime());
+        try {
+            for (int i = 0; i < 5; i++) {
+                runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            }
+        } finally {
+            processEngineConfiguration.getClock().reset();
+        }
+
+        waitForHistoryJobExecutorToProcessAllJobs(5000, 100);
+
+        List<String> expectedIds = new ArrayList<>();
+        for (HistoricTaskInstance task : historyService.createHistoricTaskInstanceQuery().orderByTaskCreateTime().asc().orderByTaskId().asc().list()) {
+            expectedIds.add(task.getId());
+        }
+
+        List<String> pagedIds = new ArrayList<>();
+        QueryCursor cursor = null;
+        do {
+            CursorPage<HistoricTaskInstance> page = historyService.createHistoricTaskInstanceQuery().orderByTaskCreateTime().asc().listPageAfter(cursor, 2);
+            for (HistoricTaskInstance task : page.getResults()) {
+                pagedIds.add(task.getId());
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(5, pagedIds.size());
+        assertEquals(expectedIds, pagedIds);
+    }
+
     @Deployment
     public void testHistoricTaskInstanceQuerySorting() {
         ProcessInstance instance = runtimeService.startProcessInstanceByKey("HistoricTaskQueryTest");
@@ -0,0 +1,166 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.job.service.impl.asyncexecutor.AcquireAsyncJobsDueRunnable;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.InMemoryJobNotificationChannel;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the notification of async executors of jobs created on another engine.
+ */
+public class JobNotificationChannelTest {
+
+    @Test
+    public void testNotificationPublishedOncePerTransaction() {
+        InMemoryJobNotificationChannel jobNotificationChannel = new InMemoryJobNotificationChannel();
+        ProcessEngine processEngine = createProcessEngine(false, jobNotificationChannel);
+        try {
+            deploy(processEngine);
+
+            // Two async jobs are created in one transaction
+            final RuntimeService runtimeService = processEngine.getRuntimeService();
+            processEngine.getManagementService().executeCommand(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    runtimeService.startProcessInstanceByKey("jobNotification");
+                    runtimeService.startProcessInstanceByKey("jobNotification");
+                    return null;
+                }
+            });
+            Assert.assertEquals(2, processEngine.getManagementService().createJobQuery().count());
+            Assert.assertEquals(1, jobNotificationChannel.getNotificationCount());
+
+            processEngine.getRuntimeService().startProcessInstanceByKey("jobNotification");
+            Assert.assertEquals(2, jobNotificationChannel.getNotificationCount());
+
+        } finally {
+            cleanup(processEngine);
+        }
+    }
+
+    @Test
+    public void testAsyncExecutorWokenUpByNotification() throws Exception {
+        InMemoryJobNotificationChannel jobNotificationChannel = new InMemoryJobNotificationChannel();
+
+        // The async executor of the second engine only polls once a minute
+        ProcessEngine executingProcessEngine = createProcessEngine(true, jobNotificationChannel);
+        ProcessEngine processEngine = createProcessEngine(false, jobNotificationChannel);
+        try {
+            deploy(processEngine);
+            Assert.assertEquals(1, jobNotificationChannel.getListeners().size());
+            Thread.sleep(500L); // make sure the acquisition thread is waiting
+
+            ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("jobNotification");
+            Assert.assertEquals(1, jobNotificationChannel.getNotificationCount());
+
+            long waitUntil = System.currentTimeMillis() + 10000L;
+            while (processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).count() == 0
+                    && System.currentTimeMillis() < waitUntil) {
+                Thread.sleep(100L);
+            }
+            Assert.assertEquals(1, processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).count());
+            Assert.assertEquals(0, processEngine.getManagementService().createJobQuery().count());
+
+        } finally {
+            cleanup(processEngine);
+            executingProcessEngine.close();
+        }
+        Assert.assertEquals(0, jobNotificationChannel.getListeners().size());
+    }
+
+    @Test
+    public void testIdleWaitTimeOnlyBacksOffWithNotificationChannel() {
+        ProcessEngine processEngine = createProcessEngine(false, null);
+        try {
+            TestAcquireAsyncJobsDueRunnable runnable = new TestAcquireAsyncJobsDueRunnable(getAsyncExecutor(processEngine));
+            Assert.assertEquals(10000L, runnable.calculateIdleWaitTime(1));
+            Assert.assertEquals(10000L, runnable.calculateIdleWaitTime(0));
+        } finally {
+            processEngine.close();
+        }
+
+        processEngine = createProcessEngine(false, new InMemoryJobNotificationChannel());
+        try {
+            TestAcquireAsyncJobsDueRunnable runnable = new TestAcquireAsyncJobsDueRunnable(getAsyncExecutor(processEngine));
+            Assert.assertEquals(100L, runnable.calculateIdleWaitTime(1));
+            Assert.assertEquals(200L, runnable.calculateIdleWaitTime(0));
+            Assert.assertEquals(400L, runnable.calculateIdleWaitTime(0));
+            Assert.assertEquals(100L, runnable.calculateIdleWaitTime(2));
+        } finally {
+            processEngine.close();
+        }
+    }
+
+    // Helpers ////////////////////////////////////////////////////////
+
+    protected AsyncExecutor getAsyncExecutor(ProcessEngine processEngine) {
+        return ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getAsyncExecutor();
+    }
+
+    protected static class TestAcquireAsyncJobsDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+        public TestAcquireAsyncJobsDueRunnable(AsyncExecutor asyncExecutor) {
+            super("test", asyncExecutor, null);
+        }
+
+        @Override
+        public long calculateIdleWaitTime(int acquiredJobCount) {
+            return super.calculateIdleWaitTime(acquiredJobCount);
+        }
+    }
+
+    protected ProcessEngine createProcessEngine(boolean enableAsyncExecutor, InMemoryJobNotificationChannel jobNotificationChannel) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-JobNotificationChannelTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncExecutorJobNotificationChannel(jobNotificationChannel);
+
+        if (enableAsyncExecutor) {
+            processEngineConfiguration.setAsyncExecutorActivate(true);
+
+            DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+            asyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(60000);
+            asyncExecutor.setTimerRunnableNeeded(false);
+            processEngineConfiguration.setAsyncExecutor(asyncExecutor);
+        }
+
+        return processEngineConfiguration.buildProcessEngine();
+    }
+
+    protected void deploy(ProcessEngine processEngine) {
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/jobexecutor/JobNotificationChannelTest.bpmn20.xml")
+                .deploy();
+    }
+
+    protected void cleanup(ProcessEngine processEngine) {
+        for (Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+            processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+        }
+        processEngine.close();
+    }
+
+}
@@ -15,7 +15,10 @@ package org.flowable.examples.bpmn.scripttask;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.script.CompiledScript;
+
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -43,6 +46,29 @@ public class ScriptTaskTest extends PluggableFlowableTestCase {
         assertEquals(pi.getId(), runtimeService.getVariable(pi.getId(), "newProcessVariableName"));
     }
 
+    @Deployment
+    public void testCompiledScriptIsReused() {
+        String id1 = runtimeService.startProcessInstanceByKey("compiledScript", CollectionUtil.map("a", 20, "b", 22)).getId();
+
+        // Nashorn doesn't allow multi-threaded access, so its compiled scripts are kept for the current thread
+        DeploymentCache<CompiledScript> threadCompiledScriptCache = processEngineConfiguration.getScriptingEngines().getThreadCompiledScriptCache();
+        assertNotNull(threadCompiledScriptCache);
+        CompiledScript compiledScript = threadCompiledScriptCache.get("javascript:a + b");
+        assertNotNull(compiledScript);
+
+        String id2 = runtimeService.startProcessInstanceByKey("compiledScript", CollectionUtil.map("a", 1, "b", 2)).getId();
+        assertSame(compiledScript, threadCompiledScriptCache.get("javascript:a + b"));
+
+        // The compiled script is evaluated with the variables of each execution
+        assertEquals(42, ((Number) runtimeService.getVariable(id1, "sum")).intValue());
+        assertEquals(3, ((Number) runtimeService.getVariable(id2, "sum")).intValue());
+
+        // Closing the engine clears the compiled scripts of all threads
+        processEngineConfiguration.getScriptingEngines().clearCompiledScriptCaches();
+        assertNull(threadCompiledScriptCache.get("javascript:a + b"));
+        assertNull(processEngineConfiguration.getScriptingEngines().getThreadCompiledScriptCache());
+    }
+
     @Deployment
     public void testFailingScript() {
         Exception expectedException = null;
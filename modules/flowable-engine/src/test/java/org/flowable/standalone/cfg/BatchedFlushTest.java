@@ -0,0 +1,148 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.cfg;
+
+import java.util.List;
+
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.service.Task;
+
+/**
+ * Tests the engine with JDBC batching of updates and deletes enabled.
+ */
+public class BatchedFlushTest extends ResourceFlowableTestCase {
+
+    public BatchedFlushTest() {
+        super("org/flowable/standalone/cfg/batched-flush-flowable.cfg.xml");
+    }
+
+    @Deployment
+    public void testParallelUserTasks() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("batchedFlush");
+        assertEquals(3, taskService.createTaskQuery().processInstanceId(processInstance.getId()).count());
+
+        // Claiming all tasks in one command results in one batch of updates
+        final List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                for (Task task : tasks) {
+                    CommandContextUtil.getTaskService(commandContext).getTask(task.getId()).setAssignee("kermit");
+                }
+                return null;
+            }
+        });
+        assertEquals(3, taskService.createTaskQuery().taskAssignee("kermit").count());
+        
+        // H2 returns the update counts of batched statements, which is determined before the first batch
+        assertEquals(Boolean.TRUE, processEngineConfiguration.getDbSqlSessionFactory().getBatchUpdateCountsSupported());
+
+        // Deleting the process instance removes the tasks and executions in batches
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+        assertEquals(0, taskService.createTaskQuery().count());
+        assertEquals(0, runtimeService.createExecutionQuery().count());
+    }
+
+    @Deployment(resources = "org/flowable/standalone/cfg/BatchedFlushTest.testParallelUserTasks.bpmn20.xml")
+    public void testCompleteParallelUserTasks() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("batchedFlush");
+        for (Task task : taskService.createTaskQuery().processInstanceId(processInstance.getId()).list()) {
+            taskService.complete(task.getId());
+        }
+        assertEquals(0, runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count());
+        assertEquals(1, historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstance.getId()).finished().count());
+    }
+
+    @Deployment(resources = "org/flowable/standalone/cfg/BatchedFlushTest.testParallelUserTasks.bpmn20.xml")
+    public void testOptimisticLockingInBatch() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("batchedFlush");
+        final List<Task> staleTasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).orderByTaskName().asc().list();
+
+        // Concurrent modification of the last task of the batch
+        Task task = taskService.createTaskQuery().taskId(staleTasks.get(2).getId()).singleResult();
+        task.setName("Updated");
+        taskService.saveTask(task);
+
+        try {
+            managementService.executeCommand(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    for (Task staleTask : staleTasks) {
+                        staleTask.setDescription("Stale update");
+                        CommandContextUtil.getDbSqlSession(commandContext).update((Entity) staleTask);
+                    }
+                    return null;
+                }
+            });
+            fail();
+        } catch (FlowableOptimisticLockingException e) {
+            // expected
+        }
+
+        // The whole batch is rolled back
+        assertEquals(0, taskService.createTaskQuery().taskDescription("Stale update").count());
+        assertEquals("Updated", taskService.createTaskQuery().taskId(task.getId()).singleResult().getName());
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+    }
+
+    @Deployment(resources = "org/flowable/standalone/cfg/BatchedFlushTest.testParallelUserTasks.bpmn20.xml")
+    public void testOptimisticLockingWithoutBatchUpdateCounts() {
+        // Simulates a driver returning SUCCESS_NO_INFO, which makes versioned updates and deletes fall back to regular statements
+        Boolean batchUpdateCountsSupported = processEngineConfiguration.getDbSqlSessionFactory().getBatchUpdateCountsSupported();
+        processEngineConfiguration.getDbSqlSessionFactory().setBatchUpdateCountsSupported(false);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("batchedFlush");
+            final List<Task> staleTasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).orderByTaskName().asc().list();
+
+            Task task = taskService.createTaskQuery().taskId(staleTasks.get(2).getId()).singleResult();
+            task.setName("Updated");
+            taskService.saveTask(task);
+
+            try {
+                managementService.executeCommand(new Command<Void>() {
+
+                    @Override
+                    public Void execute(CommandContext commandContext) {
+                        for (Task staleTask : staleTasks) {
+                            staleTask.setDescription("Stale update");
+                            CommandContextUtil.getDbSqlSession(commandContext).update((Entity) staleTask);
+                        }
+                        return null;
+                    }
+                });
+                fail();
+            } catch (FlowableOptimisticLockingException e) {
+                // expected
+            }
+            assertEquals(0, taskService.createTaskQuery().taskDescription("Stale update").count());
+
+            runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+            assertEquals(0, taskService.createTaskQuery().count());
+            assertEquals(0, runtimeService.createExecutionQuery().count());
+
+        } finally {
+            processEngineConfiguration.getDbSqlSessionFactory().setBatchUpdateCountsSupported(batchUpdateCountsSupported);
+        }
+    }
+
+}
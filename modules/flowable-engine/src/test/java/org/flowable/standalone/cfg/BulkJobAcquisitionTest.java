@@ -0,0 +1,153 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.cfg;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.common.impl.Page;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.service.Job;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredTimerJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.data.JobDataManager;
+
+/**
+ * Tests the acquisition of jobs when they are locked with one update statement per acquisition.
+ */
+public class BulkJobAcquisitionTest extends ResourceFlowableTestCase {
+
+    public BulkJobAcquisitionTest() {
+        super("org/flowable/standalone/cfg/bulk-job-acquisition-flowable.cfg.xml");
+    }
+
+    @Deployment
+    public void testAcquireAsyncJobs() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("bulkJobAcquisition");
+        assertEquals(3, managementService.createJobQuery().processInstanceId(processInstance.getId()).count());
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        int originalMaxAsyncJobsDuePerAcquisition = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(2);
+        try {
+            AcquiredJobEntities acquiredJobs = managementService.executeCommand(new AcquireJobsCmd(asyncExecutor));
+            assertEquals(2, acquiredJobs.size());
+            for (JobInfoEntity job : acquiredJobs.getJobs()) {
+                assertEquals(asyncExecutor.getLockOwner(), job.getLockOwner());
+                assertNotNull(job.getLockExpirationTime());
+            }
+            assertEquals(2, managementService.createJobQuery().lockOwner(asyncExecutor.getLockOwner()).count());
+
+            // Only the job that wasn't locked yet is acquired
+            AcquiredJobEntities remainingJobs = managementService.executeCommand(new AcquireJobsCmd(asyncExecutor));
+            assertEquals(1, remainingJobs.size());
+            assertEquals(0, managementService.createJobQuery().unlocked().count());
+            assertEquals(0, managementService.executeCommand(new AcquireJobsCmd(asyncExecutor)).size());
+
+            // The revision of the acquired jobs matches the one in the database
+            List<JobInfoEntity> jobs = new ArrayList<>(acquiredJobs.getJobs());
+            jobs.addAll(remainingJobs.getJobs());
+            for (JobInfoEntity job : jobs) {
+                JobEntity jobInDb = (JobEntity) managementService.createJobQuery().jobId(job.getId()).singleResult();
+                assertEquals(jobInDb.getRevision(), job.getRevision());
+                managementService.executeJob(job.getId());
+            }
+
+        } finally {
+            asyncExecutor.setMaxAsyncJobsDuePerAcquisition(originalMaxAsyncJobsDuePerAcquisition);
+        }
+
+        assertEquals("Task after jobs", taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getName());
+    }
+
+    @Deployment(resources = "org/flowable/standalone/cfg/BulkJobAcquisitionTest.testAcquireAsyncJobs.bpmn20.xml")
+    public void testJobsAcquiredConcurrentlyAreNotClaimed() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("bulkJobAcquisition");
+
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                JobDataManager jobDataManager = CommandContextUtil.getJobServiceConfiguration(commandContext).getJobDataManager();
+                List<JobEntity> jobs = jobDataManager.findJobsToClaim(new Page(0, 10));
+                assertEquals(3, jobs.size());
+
+                List<String> jobIds = new ArrayList<>();
+                for (JobEntity job : jobs) {
+                    jobIds.add(job.getId());
+                }
+
+                // Another executor acquires one of the jobs in the meantime
+                Date lockExpirationTime = new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + 60000L);
+                assertEquals(1, jobDataManager.claimJobs(jobIds.subList(0, 1), "otherLockOwner", lockExpirationTime));
+
+                assertEquals(2, jobDataManager.claimJobs(jobIds, "lockOwner", lockExpirationTime));
+                List<String> claimedJobIds = jobDataManager.findJobIdsByLockOwner(jobIds, "lockOwner");
+                assertEquals(2, claimedJobIds.size());
+                assertFalse(claimedJobIds.contains(jobIds.get(0)));
+                return null;
+            }
+        });
+
+        assertEquals(1, managementService.createJobQuery().lockOwner("otherLockOwner").count());
+        assertEquals(2, managementService.createJobQuery().lockOwner("lockOwner").count());
+
+        for (Job job : managementService.createJobQuery().processInstanceId(processInstance.getId()).list()) {
+            managementService.executeJob(job.getId());
+        }
+        assertEquals(1, taskService.createTaskQuery().processInstanceId(processInstance.getId()).count());
+    }
+
+    @Deployment
+    public void testAcquireTimerJobs() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("bulkTimerJobAcquisition");
+        final AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        assertEquals(0, managementService.executeCommand(new AcquireTimerJobsCmd(asyncExecutor)).size());
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + (2 * 60 * 60 * 1000)));
+        final AcquiredTimerJobEntities acquiredJobs = managementService.executeCommand(new AcquireTimerJobsCmd(asyncExecutor));
+        assertEquals(1, acquiredJobs.size());
+        assertEquals(0, managementService.executeCommand(new AcquireTimerJobsCmd(asyncExecutor)).size());
+
+        // Moving the acquired timer job deletes it with the revision set by the acquisition
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                for (TimerJobEntity timerJob : acquiredJobs.getJobs()) {
+                    assertEquals(asyncExecutor.getLockOwner(), timerJob.getLockOwner());
+                    CommandContextUtil.getJobServiceConfiguration(commandContext).getJobManager().moveTimerJobToExecutableJob(timerJob);
+                }
+                return null;
+            }
+        });
+        assertEquals(0, managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).count());
+
+        Job job = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        managementService.executeJob(job.getId());
+        assertEquals("Task after timer", taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getName());
+    }
+
+}
@@ -0,0 +1,159 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.text.MessageFormat;
+
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+
+public class ConcurrentDeploymentCacheTest extends ResourceFlowableTestCase {
+
+    public ConcurrentDeploymentCacheTest() {
+        super("org/flowable/standalone/deploy/concurrent.deployment.cache.test.flowable.cfg.xml");
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testWeightedDeploymentCacheLimit() {
+        ConcurrentDeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = (ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>) processEngineConfiguration
+                .getProcessDefinitionCache();
+        assertEquals(0, processDefinitionCache.size());
+
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        for (int i = 1; i <= 5; i++) {
+            repositoryService.createDeployment().addString("Process " + i + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, i)).deploy();
+            assertEquals(Math.min(i, 3), processDefinitionCache.size());
+        }
+        assertEquals(15, processDefinitionCache.getTotalWeight());
+        assertEquals(2, processDefinitionCache.getEvictionCount());
+
+        // None of the definitions was used after its deployment, so the oldest ones are evicted
+        for (int i = 1; i <= 5; i++) {
+            ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess" + i).singleResult();
+            assertEquals("myProcess" + i, i > 2, processDefinitionCache.contains(processDefinition.getId()));
+        }
+
+        // Cached definition: hit
+        long hitCount = processDefinitionCache.getHitCount();
+        long missCount = processDefinitionCache.getMissCount();
+        long evictionCount = processDefinitionCache.getEvictionCount();
+        ProcessDefinition processDefinition5 = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess5").singleResult();
+        runtimeService.startProcessInstanceById(processDefinition5.getId());
+        assertTrue(processDefinitionCache.getHitCount() > hitCount);
+        assertEquals(missCount, processDefinitionCache.getMissCount());
+
+        // Evicted definition: miss, after which it's cached again and another definition is evicted
+        ProcessDefinition processDefinition1 = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess1").singleResult();
+        runtimeService.startProcessInstanceById(processDefinition1.getId());
+        assertTrue(processDefinitionCache.getMissCount() > missCount);
+        assertNotNull(processDefinitionCache.get(processDefinition1.getId()));
+        assertNotNull(processDefinitionCache.get(processDefinition5.getId()));
+        assertEquals(3, processDefinitionCache.size());
+        assertEquals(evictionCount + 1, processDefinitionCache.getEvictionCount());
+
+        // Cleanup
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+        assertEquals(0, processDefinitionCache.size());
+        assertEquals(0, processDefinitionCache.getTotalWeight());
+    }
+
+    public void testUnlimitedCache() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>();
+        for (int i = 0; i < 100; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+        assertEquals(100, cache.size());
+        assertEquals("value42", cache.get("id42"));
+        assertNull(cache.get("unknown"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0, cache.getEvictionCount());
+
+        cache.remove("id42");
+        assertFalse(cache.contains("id42"));
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    public void testReferencedEntriesGetSecondChance() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(2);
+        cache.add("a", "A");
+        cache.add("b", "B");
+        cache.get("a");
+
+        // 'a' was read, so 'b' is evicted first
+        cache.add("c", "C");
+        assertTrue(cache.contains("a"));
+        assertFalse(cache.contains("b"));
+        assertTrue(cache.contains("c"));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    public void testUnreferencedEntriesAreEvictedInInsertionOrder() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(3);
+        cache.add("a", "A");
+        cache.add("b", "B");
+        cache.add("c", "C");
+        cache.get("a");
+        cache.get("c");
+
+        // 'a' gets a second chance, 'b' is the oldest unreferenced entry
+        cache.add("d", "D");
+        assertKeys(cache, "a", "c", "d");
+
+        // The second chance cleared the flag of 'a', while 'c' is only visited now and gets its second chance
+        cache.add("e", "E");
+        assertKeys(cache, "c", "d", "e");
+
+        // 'd' was never referenced and is the oldest entry now
+        cache.add("f", "F");
+        assertKeys(cache, "c", "e", "f");
+        assertEquals(3, cache.getEvictionCount());
+    }
+
+    public void testReplacedAndRemovedEntriesAreSkippedByEviction() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(2);
+        cache.add("a", "A");
+        cache.add("b", "B");
+
+        // Replacing an entry moves it to the back of the clock
+        for (int i = 0; i < 1000; i++) {
+            cache.add("a", "A" + i);
+        }
+        assertEquals(2, cache.size());
+        assertEquals(0, cache.getEvictionCount());
+
+        cache.add("c", "C");
+        assertKeys(cache, "a", "c");
+        assertEquals("A999", cache.get("a"));
+
+        cache.remove("a");
+        cache.add("d", "D");
+        cache.add("e", "E");
+        assertKeys(cache, "d", "e");
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    protected void assertKeys(ConcurrentDeploymentCache<String> cache, String... expectedKeys) {
+        assertEquals(expectedKeys.length, cache.size());
+        for (String expectedKey : expectedKeys) {
+            assertTrue(expectedKey, cache.contains(expectedKey));
+        }
+    }
+
+}
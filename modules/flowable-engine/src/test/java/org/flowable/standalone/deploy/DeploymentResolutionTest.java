@@ -0,0 +1,198 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheWarmUp;
+import org.flowable.engine.impl.ProcessEngineImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneProcessEngineConfiguration;
+import org.flowable.engine.impl.cmd.GetDeploymentProcessDefinitionCmd;
+import org.flowable.engine.impl.persistence.deploy.Deployer;
+import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.ProcessDefinition;
+
+public class DeploymentResolutionTest extends PluggableFlowableTestCase {
+
+    public void testConcurrentCacheMissesParseDeploymentOnce() throws Exception {
+        String deploymentId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml")
+                .deploy()
+                .getId();
+        final List<ProcessDefinition> processDefinitions = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).list();
+        assertEquals(2, processDefinitions.size());
+        processEngineConfiguration.getProcessDefinitionCache().clear();
+
+        DeploymentManager deploymentManager = processEngineConfiguration.getDeploymentManager();
+        List<Deployer> originalDeployers = deploymentManager.getDeployers();
+        CountingDeployer countingDeployer = new CountingDeployer();
+        List<Deployer> deployers = new ArrayList<>();
+        deployers.add(countingDeployer);
+        deployers.addAll(originalDeployers);
+        deploymentManager.setDeployers(deployers);
+
+        try {
+            final CountDownLatch startLatch = new CountDownLatch(1);
+            final List<Throwable> failures = Collections.synchronizedList(new ArrayList<Throwable>());
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                final String processDefinitionId = processDefinitions.get(i % 2).getId();
+                Thread thread = new Thread(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        try {
+                            startLatch.await();
+                            managementService.executeCommand(new GetDeploymentProcessDefinitionCmd(processDefinitionId));
+                        } catch (Throwable t) {
+                            failures.add(t);
+                        }
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+
+            startLatch.countDown();
+            for (Thread thread : threads) {
+                thread.join(10000L);
+            }
+
+            assertTrue(failures.isEmpty());
+            assertEquals(1, countingDeployer.count.get());
+            assertTrue(processEngineConfiguration.getProcessDefinitionCache().contains(processDefinitions.get(0).getId()));
+            assertTrue(processEngineConfiguration.getProcessDefinitionCache().contains(processDefinitions.get(1).getId()));
+            assertEquals(0, deploymentManager.getResolutionLocks().size());
+
+        } finally {
+            deploymentManager.setDeployers(originalDeployers);
+            repositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
+
+    public void testDeploymentCacheWarmUp() throws Exception {
+        String deploymentId1 = repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy().getId();
+        String deploymentId2 = repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml").deploy().getId();
+        processEngineConfiguration.getProcessDefinitionCache().clear();
+
+        try {
+            String processDefinitionId1 = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId1).singleResult().getId();
+            String processDefinitionId2 = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId2).singleResult().getId();
+
+            DeploymentCacheWarmUp warmUp = new DeploymentCacheWarmUp("bpmn", processEngineConfiguration.getCommandExecutor(), 2);
+            warmUp.start(Arrays.asList(new GetDeploymentProcessDefinitionCmd(processDefinitionId1), new GetDeploymentProcessDefinitionCmd(processDefinitionId2),
+                    new GetDeploymentProcessDefinitionCmd("unknown")));
+            assertTrue(warmUp.awaitTermination(10, TimeUnit.SECONDS));
+
+            // A failing command doesn't stop the others
+            assertEquals(2, warmUp.getResolvedCount());
+            assertEquals(1, warmUp.getFailedCount());
+            assertTrue(processEngineConfiguration.getProcessDefinitionCache().contains(processDefinitionId1));
+            assertTrue(processEngineConfiguration.getProcessDefinitionCache().contains(processDefinitionId2));
+
+        } finally {
+            repositoryService.deleteDeployment(deploymentId1, true);
+            repositoryService.deleteDeployment(deploymentId2, true);
+        }
+    }
+
+    public void testWarmUpSelectsOneDefinitionPerRecentDeployment() {
+        Map<String, String> deploymentIdByLatestDefinitionId = new HashMap<>();
+        deploymentIdByLatestDefinitionId.put("a", "deployment1");
+        deploymentIdByLatestDefinitionId.put("b", "deployment2");
+        deploymentIdByLatestDefinitionId.put("c", "deployment2");
+        deploymentIdByLatestDefinitionId.put("d", "deployment3");
+        List<String> deploymentIds = Arrays.asList("deployment3", "deployment2", "deployment1", "deploymentWithoutLatestDefinitions");
+
+        assertEquals(3, DeploymentCacheWarmUp.selectDefinitionIds(deploymentIdByLatestDefinitionId, deploymentIds, 0).size());
+
+        // The two definitions of the second deployment fill the limit
+        List<String> definitionIds = DeploymentCacheWarmUp.selectDefinitionIds(deploymentIdByLatestDefinitionId, deploymentIds, 2);
+        assertEquals(2, definitionIds.size());
+        assertEquals("d", definitionIds.get(0));
+        assertTrue(definitionIds.get(1).equals("b") || definitionIds.get(1).equals("c"));
+    }
+
+    public void testEngineBootWarmsUpMostRecentDeployments() throws Exception {
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        List<String> deploymentIds = new ArrayList<>();
+        List<String> processDefinitionIds = new ArrayList<>();
+        Date now = new Date();
+        for (int i = 1; i <= 3; i++) {
+            processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + i * 60000L));
+            String deploymentId = repositoryService.createDeployment().addString("Process " + i + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, i)).deploy().getId();
+            deploymentIds.add(deploymentId);
+            processDefinitionIds.add(repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult().getId());
+        }
+        processEngineConfiguration.getClock().reset();
+
+        ProcessEngineConfigurationImpl warmUpEngineConfiguration = (ProcessEngineConfigurationImpl) new StandaloneProcessEngineConfiguration()
+                .setEngineName("cacheWarmUpEngine")
+                .setDataSource(processEngineConfiguration.getDataSource())
+                .setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_FALSE);
+        warmUpEngineConfiguration.setProcessDefinitionCacheLimit(2);
+        warmUpEngineConfiguration.setEnableProcessDefinitionCacheWarmUp(true);
+        ProcessEngineImpl warmUpEngine = (ProcessEngineImpl) warmUpEngineConfiguration.buildProcessEngine();
+
+        try {
+            assertTrue(warmUpEngine.getProcessDefinitionCacheWarmUp().awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(2, warmUpEngine.getProcessDefinitionCacheWarmUp().getResolvedCount());
+
+            // Only the two most recent deployments fit in the cache
+            DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = warmUpEngineConfiguration.getProcessDefinitionCache();
+            assertFalse(processDefinitionCache.contains(processDefinitionIds.get(0)));
+            assertTrue(processDefinitionCache.contains(processDefinitionIds.get(1)));
+            assertTrue(processDefinitionCache.contains(processDefinitionIds.get(2)));
+
+        } finally {
+            warmUpEngine.close();
+            for (String deploymentId : deploymentIds) {
+                repositoryService.deleteDeployment(deploymentId, true);
+            }
+        }
+    }
+
+    protected static class CountingDeployer implements Deployer {
+
+        protected AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void deploy(DeploymentEntity deployment, Map<String, Object> deploymentSettings) {
+            count.incrementAndGet();
+            try {
+                // Give the other threads the time to miss the cache as well
+                Thread.sleep(200L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
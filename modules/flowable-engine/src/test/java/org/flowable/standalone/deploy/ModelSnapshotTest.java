@@ -0,0 +1,157 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.util.Arrays;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.deploy.ModelSnapshotCodec;
+import org.flowable.engine.common.impl.util.IoUtil;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.service.Task;
+
+public class ModelSnapshotTest extends PluggableFlowableTestCase {
+
+    protected static final String RESOURCE_NAME = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml";
+
+    public void testNoModelSnapshotByDefault() {
+        String deploymentId = repositoryService.createDeployment().addClasspathResource(RESOURCE_NAME).deploy().getId();
+        try {
+            assertFalse(repositoryService.getDeploymentResourceNames(deploymentId).contains(ModelSnapshotCodec.getResourceName(RESOURCE_NAME)));
+        } finally {
+            repositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
+
+    public void testModelSnapshotIsUsedOnCacheMiss() {
+        processEngineConfiguration.setEnableModelSnapshots(true);
+        String deploymentId = repositoryService.createDeployment().addClasspathResource(RESOURCE_NAME).deploy().getId();
+        try {
+            assertTrue(repositoryService.getDeploymentResourceNames(deploymentId).contains(ModelSnapshotCodec.getResourceName(RESOURCE_NAME)));
+            ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult();
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+
+            // The XML can't be parsed anymore, so the process definition can only be resolved from the snapshot
+            resolveWithResourceBytes(processDefinition, RESOURCE_NAME, "not xml".getBytes());
+            assertProcessDefinitionIsExecutable(processDefinition);
+
+        } finally {
+            processEngineConfiguration.setEnableModelSnapshots(false);
+            repositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
+
+    public void testXmlIsParsedWhenModelSnapshotFormatVersionDoesNotMatch() {
+        processEngineConfiguration.setEnableModelSnapshots(true);
+        String deploymentId = repositoryService.createDeployment().addClasspathResource(RESOURCE_NAME).deploy().getId();
+        try {
+            ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult();
+            String snapshotResourceName = ModelSnapshotCodec.getResourceName(RESOURCE_NAME);
+            byte[] snapshot = IoUtil.readInputStream(repositoryService.getResourceAsStream(deploymentId, snapshotResourceName), snapshotResourceName);
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+
+            // The format version follows the 4 bytes of the magic number
+            snapshot[4]++;
+            resolveWithResourceBytes(processDefinition, snapshotResourceName, snapshot);
+            assertProcessDefinitionIsExecutable(processDefinition);
+
+        } finally {
+            processEngineConfiguration.setEnableModelSnapshots(false);
+            repositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
+
+    public void testXmlIsParsedWhenModelSnapshotWasWrittenByAnotherVersion() {
+        processEngineConfiguration.setEnableModelSnapshots(true);
+        String deploymentId = repositoryService.createDeployment().addClasspathResource(RESOURCE_NAME).deploy().getId();
+        try {
+            ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult();
+            String snapshotResourceName = ModelSnapshotCodec.getResourceName(RESOURCE_NAME);
+            byte[] snapshot = IoUtil.readInputStream(repositoryService.getResourceAsStream(deploymentId, snapshotResourceName), snapshotResourceName);
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+
+            // A snapshot of another engine version with a changed process id, which must not end up in the cache
+            ModelSnapshotCodec modelSnapshotCodec = new ModelSnapshotCodec("org.flowable.bpmn.model");
+            BpmnModel bpmnModel = modelSnapshotCodec.decode(snapshot, BpmnModel.class);
+            bpmnModel.getMainProcess().setId("otherVersionProcess");
+            modelSnapshotCodec.setVersion("6.1.0.0");
+            resolveWithResourceBytes(processDefinition, snapshotResourceName, modelSnapshotCodec.encode(bpmnModel));
+            assertProcessDefinitionIsExecutable(processDefinition);
+
+        } finally {
+            processEngineConfiguration.setEnableModelSnapshots(false);
+            repositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
+
+    public void testResourceWithModelSnapshotNameIsNotUsedAsSnapshot() {
+        processEngineConfiguration.setEnableModelSnapshots(true);
+        String otherResourceName = "org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml";
+        String otherSnapshotResourceName = ModelSnapshotCodec.getResourceName(otherResourceName);
+        String deploymentId = repositoryService.createDeployment().addClasspathResource(RESOURCE_NAME).deploy().getId();
+        String otherDeploymentId = null;
+        try {
+            String snapshotResourceName = ModelSnapshotCodec.getResourceName(RESOURCE_NAME);
+            byte[] snapshot = IoUtil.readInputStream(repositoryService.getResourceAsStream(deploymentId, snapshotResourceName), snapshotResourceName);
+
+            // The deployment holds a resource of the user named like the snapshot of the other process, with the snapshot of the one task process
+            otherDeploymentId = repositoryService.createDeployment().addClasspathResource(otherResourceName).addBytes(otherSnapshotResourceName, snapshot).deploy().getId();
+            byte[] otherSnapshot = IoUtil.readInputStream(repositoryService.getResourceAsStream(otherDeploymentId, otherSnapshotResourceName), otherSnapshotResourceName);
+            assertTrue(Arrays.equals(snapshot, otherSnapshot));
+
+            ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().deploymentId(otherDeploymentId).singleResult();
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+            assertEquals("twoTasksProcess", repositoryService.getBpmnModel(processDefinition.getId()).getMainProcess().getId());
+
+        } finally {
+            processEngineConfiguration.setEnableModelSnapshots(false);
+            repositoryService.deleteDeployment(deploymentId, true);
+            if (otherDeploymentId != null) {
+                repositoryService.deleteDeployment(otherDeploymentId, true);
+            }
+        }
+    }
+
+    protected void resolveWithResourceBytes(final ProcessDefinition processDefinition, final String resourceName, final byte[] bytes) {
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                DeploymentEntity deployment = CommandContextUtil.getDeploymentEntityManager(commandContext).findById(processDefinition.getDeploymentId());
+                deployment.getResources().get(resourceName).setBytes(bytes);
+                CommandContextUtil.getProcessEngineConfiguration(commandContext).getDeploymentManager().findDeployedProcessDefinitionById(processDefinition.getId());
+                return null;
+            }
+        });
+    }
+
+    protected void assertProcessDefinitionIsExecutable(ProcessDefinition processDefinition) {
+        ProcessDefinitionCacheEntry cacheEntry = processEngineConfiguration.getProcessDefinitionCache().get(processDefinition.getId());
+        assertNotNull(cacheEntry);
+        assertEquals("oneTaskProcess", cacheEntry.getProcess().getId());
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceById(processDefinition.getId());
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertNotNull(task);
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+}
@@ -0,0 +1,165 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.history.async.AsyncHistoryDateUtil;
+import org.flowable.engine.impl.history.async.AsyncHistoryJobHandler;
+import org.flowable.engine.impl.history.async.BinaryAsyncHistoryPayloadCodec;
+import org.flowable.engine.impl.history.async.DefaultAsyncHistoryJobProducer;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.job.service.HistoryJob;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.task.service.history.HistoricTaskInstance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class AsyncHistoryPayloadCodecTest extends ResourceFlowableTestCase {
+
+    public AsyncHistoryPayloadCodecTest() {
+        super("org/flowable/standalone/history/async/binary-payload.flowable.cfg.xml");
+    }
+
+    public void testEncodeAndDecode() {
+        JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+        ObjectNode node = nodeFactory.objectNode();
+        node.put("type", "activity-start");
+        ObjectNode data = node.putObject("data");
+        data.put("id", "2501");
+        data.put("negative", "-42");
+        data.put("zero", "0");
+        data.put("leadingZero", "007");
+        data.put("minusZero", "-0");
+        data.put("tooLong", "12345678901234567890");
+        data.put("notADateField", "2017-10-08T13:25:12.123Z");
+        data.put("endTime", "not a date");
+        data.put("name", "Grüße");
+        data.put("empty", "");
+        data.put("nullValue", (String) null);
+        data.put("number", 12);
+        data.put("bool", true);
+        data.putArray("array").add("a").add(1);
+
+        ObjectNode otherNode = nodeFactory.objectNode();
+        otherNode.put("type", "activity-start");
+        otherNode.putObject("data").put("id", "2501");
+
+        BinaryAsyncHistoryPayloadCodec codec = new BinaryAsyncHistoryPayloadCodec();
+        List<ObjectNode> nodes = Arrays.asList(node, otherNode);
+        assertEquals(nodes, codec.decode(codec.encode(nodes)));
+
+        codec.setCompressionThreshold(0);
+        assertEquals(nodes, codec.decode(codec.encode(nodes)));
+    }
+
+    public void testDateFieldsAreDecodedAsTime() {
+        ObjectNode node = JsonNodeFactory.instance.objectNode();
+        node.put("type", "activity-start");
+        node.putObject("data").put("startTime", "2017-10-08T13:25:12.123Z");
+
+        BinaryAsyncHistoryPayloadCodec codec = new BinaryAsyncHistoryPayloadCodec();
+        byte[] bytes = codec.encode(Collections.singletonList(node));
+        JsonNode startTimeNode = codec.decode(bytes).get(0).get("data").get("startTime");
+        assertTrue(startTimeNode.isNumber());
+        assertEquals(AsyncHistoryDateUtil.parseDate("2017-10-08T13:25:12.123Z").getTime(), startTimeNode.longValue());
+    }
+
+    public void testCompressedPayloadIsSmallerThanJson() throws Exception {
+        JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+        List<ObjectNode> nodes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ObjectNode node = nodeFactory.objectNode();
+            node.put("type", "variable-created");
+            ObjectNode data = node.putObject("data");
+            data.put("id", String.valueOf(10000 + i));
+            data.put("processInstanceId", "2501");
+            data.put("createTime", "2017-10-08T13:25:12.123Z");
+            data.put("name", "var" + i);
+            nodes.add(node);
+        }
+
+        BinaryAsyncHistoryPayloadCodec codec = new BinaryAsyncHistoryPayloadCodec();
+        codec.setCompressionEnabled(false);
+        byte[] json = processEngineConfiguration.getObjectMapper().writeValueAsBytes(nodes);
+        byte[] binary = codec.encode(nodes);
+        assertTrue(binary.length * 2 < json.length);
+
+        codec.setCompressionEnabled(true);
+        assertTrue(codec.encode(nodes).length < binary.length);
+    }
+
+    public void testOneTaskProcess() {
+        deployOneTaskTestProcess();
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+
+        List<HistoryJob> jobs = managementService.createHistoryJobQuery().list();
+        assertFalse(jobs.isEmpty());
+        for (HistoryJob job : jobs) {
+            assertEquals(BinaryAsyncHistoryPayloadCodec.JOB_TYPE, job.getJobHandlerType());
+            assertNotNull(((HistoryJobEntity) job).getAdvancedJobHandlerConfigurationByteArrayRef());
+        }
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000L, 100L);
+
+        assertHistoricProcessInstance(processInstanceId);
+    }
+
+    public void testQueuedJsonJobsAreProcessed() {
+        deployOneTaskTestProcess();
+
+        // Jobs created before the codec was configured
+        DefaultAsyncHistoryJobProducer asyncHistoryJobProducer = (DefaultAsyncHistoryJobProducer) processEngineConfiguration.getAsyncHistoryListener();
+        asyncHistoryJobProducer.setPayloadCodec(null);
+        String processInstanceId;
+        try {
+            processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        } finally {
+            asyncHistoryJobProducer.setPayloadCodec(processEngineConfiguration.getAsyncHistoryPayloadCodec());
+        }
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+
+        List<String> jobTypes = new ArrayList<>();
+        for (HistoryJob job : managementService.createHistoryJobQuery().list()) {
+            jobTypes.add(job.getJobHandlerType());
+        }
+        assertTrue(jobTypes.contains(AsyncHistoryJobHandler.JOB_TYPE));
+        assertTrue(jobTypes.contains(BinaryAsyncHistoryPayloadCodec.JOB_TYPE));
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000L, 100L);
+
+        assertHistoricProcessInstance(processInstanceId);
+    }
+
+    protected void assertHistoricProcessInstance(String processInstanceId) {
+        HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        assertNotNull(historicProcessInstance);
+        assertNotNull(historicProcessInstance.getEndTime());
+
+        HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        assertEquals("The Task", historicTaskInstance.getName());
+        assertEquals("kermit", historicTaskInstance.getAssignee());
+        assertNotNull(historicTaskInstance.getStartTime());
+        assertNotNull(historicTaskInstance.getEndTime());
+
+        assertEquals(3, historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).count());
+    }
+
+}
@@ -0,0 +1,201 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.common.impl.Page;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.job.service.HistoryJob;
+import org.flowable.job.service.JobInfo;
+import org.flowable.job.service.impl.asyncexecutor.PartitionedAsyncHistoryJobExecutor;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.task.service.Task;
+
+public class PartitionedAsyncHistoryExecutorTest extends ResourceFlowableTestCase {
+
+    public PartitionedAsyncHistoryExecutorTest() {
+        super("org/flowable/standalone/history/async/partitioned.flowable.cfg.xml");
+    }
+
+    public void testHistoryJobsArePartitionedByProcessInstance() {
+        assertTrue(processEngineConfiguration.getAsyncHistoryExecutor() instanceof PartitionedAsyncHistoryJobExecutor);
+
+        deployOneTaskTestProcess();
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.complete(task.getId());
+        }
+
+        List<HistoryJob> jobs = managementService.createHistoryJobQuery().list();
+        assertEquals(55, jobs.size());
+        for (HistoryJob job : jobs) {
+            assertTrue(processInstanceIds.contains(job.getJobHandlerConfiguration()));
+        }
+
+        waitForHistoryJobExecutorToProcessAllJobs(20000L, 100L);
+
+        for (String processInstanceId : processInstanceIds) {
+            HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+            assertNotNull(historicProcessInstance.getEndTime());
+            assertNotNull(historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult().getEndTime());
+            assertEquals(3, historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).finished().count());
+        }
+    }
+
+    public void testJobsAreAcquiredInCreationOrder() {
+        deployOneTaskTestProcess();
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+
+        List<HistoryJobEntity> jobs = managementService.executeCommand(new Command<List<HistoryJobEntity>>() {
+
+            @Override
+            public List<HistoryJobEntity> execute(CommandContext commandContext) {
+                return processEngineConfiguration.getAsyncHistoryExecutor().getJobServiceConfiguration().getHistoryJobEntityManager()
+                        .findJobsToExecute(new Page(0, 100));
+            }
+        });
+        assertTrue(jobs.size() > 3);
+        for (int i = 1; i < jobs.size(); i++) {
+            HistoryJobEntity previousJob = jobs.get(i - 1);
+            HistoryJobEntity job = jobs.get(i);
+            int createTimeComparison = previousJob.getCreateTime().compareTo(job.getCreateTime());
+            assertTrue(createTimeComparison < 0 || (createTimeComparison == 0 && previousJob.getId().compareTo(job.getId()) < 0));
+        }
+
+        waitForHistoryJobExecutorToProcessAllJobs(20000L, 100L);
+    }
+
+    public void testJobsOfPartitionAreExecutedInOrderInOneTransaction() {
+        deployOneTaskTestProcess();
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.complete(task.getId());
+        }
+
+        // The jobs are handed to the executor in reverse order, before any partition is executed
+        List<JobInfo> jobs = new ArrayList<JobInfo>(managementService.createHistoryJobQuery().list());
+        Collections.reverse(jobs);
+        RecordingPartitionedAsyncHistoryJobExecutor executor = new RecordingPartitionedAsyncHistoryJobExecutor();
+        QueueingExecutorService executorService = new QueueingExecutorService();
+        executor.setExecutorService(executorService);
+        for (JobInfo job : jobs) {
+            assertTrue(executor.executeAsyncJob(job, null));
+        }
+        assertEquals(3, executorService.runnables.size());
+        for (Runnable runnable : executorService.runnables) {
+            runnable.run();
+        }
+
+        // Each partition is executed in creation order, in a single transaction
+        assertEquals(0, executor.jobsExecutedOneByOne);
+        assertEquals(3, executor.executedBatches.size());
+        for (List<JobInfo> batch : executor.executedBatches) {
+            assertEquals(11, batch.size());
+            String partitionKey = batch.get(0).getJobHandlerConfiguration();
+            assertTrue(processInstanceIds.contains(partitionKey));
+            for (int i = 1; i < batch.size(); i++) {
+                assertEquals(partitionKey, batch.get(i).getJobHandlerConfiguration());
+                assertTrue(Long.parseLong(batch.get(i - 1).getId()) < Long.parseLong(batch.get(i).getId()));
+            }
+        }
+
+        assertEquals(0, managementService.createHistoryJobQuery().count());
+        for (String processInstanceId : processInstanceIds) {
+            assertNotNull(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult().getEndTime());
+            assertEquals(3, historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).finished().count());
+        }
+    }
+
+    protected class RecordingPartitionedAsyncHistoryJobExecutor extends PartitionedAsyncHistoryJobExecutor {
+
+        protected List<List<JobInfo>> executedBatches = new ArrayList<>();
+        protected int jobsExecutedOneByOne;
+
+        public RecordingPartitionedAsyncHistoryJobExecutor() {
+            setJobServiceConfiguration(processEngineConfiguration.getAsyncHistoryExecutor().getJobServiceConfiguration());
+            initializeJobEntityManager();
+        }
+
+        @Override
+        protected boolean executeAsyncJob(JobInfo job, Runnable runnable) {
+            // Overridden to be callable from the test
+            return super.executeAsyncJob(job, runnable);
+        }
+
+        @Override
+        protected void executeJobs(Partition partition, List<JobInfo> jobs) {
+            executedBatches.add(jobs);
+            super.executeJobs(partition, jobs);
+        }
+
+        @Override
+        protected Runnable createRunnableForJob(JobInfo job) {
+            // Only used when a batch can't be executed in one transaction
+            jobsExecutedOneByOne++;
+            return super.createRunnableForJob(job);
+        }
+
+    }
+
+    protected static class QueueingExecutorService extends AbstractExecutorService {
+
+        protected List<Runnable> runnables = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable runnable) {
+            runnables.add(runnable);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return runnables;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntity;
@@ -40,4 +41,9 @@ public interface HistoricIdentityLinkService {
     void deleteHistoricIdentityLinksByProcessInstanceId(String processInstanceId);
     
     void deleteHistoricIdentityLinksByTaskId(String taskId);
+
+    /**
+     * Deletes all historic identity links of the given process instances and of their tasks with a set-based statement, without loading them first.
+     */
+    void bulkDeleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
 }
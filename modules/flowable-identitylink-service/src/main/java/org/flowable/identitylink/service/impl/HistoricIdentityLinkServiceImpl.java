@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.identitylink.service.HistoricIdentityLinkService;
@@ -76,4 +77,9 @@ public class HistoricIdentityLinkServiceImpl extends ServiceImpl implements Hist
     public void deleteHistoricIdentityLinksByTaskId(String taskId) {
         getHistoricIdentityLinkEntityManager().deleteHistoricIdentityLinksByTaskId(taskId);
     }
+
+    @Override
+    public void bulkDeleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricIdentityLinkEntityManager().bulkDeleteHistoricIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
 }
@@ -13,6 +13,7 @@
 
 package org.flowable.identitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -67,6 +68,11 @@ public class HistoricIdentityLinkEntityManagerImpl extends AbstractEntityManager
 
     }
 
+    @Override
+    public void bulkDeleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicIdentityLinkDataManager.bulkDeleteHistoricIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
+
     public HistoricIdentityLinkDataManager getHistoricIdentityLinkDataManager() {
         return historicIdentityLinkDataManager;
     }
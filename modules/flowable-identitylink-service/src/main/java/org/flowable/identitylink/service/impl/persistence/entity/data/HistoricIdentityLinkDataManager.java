@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -26,4 +27,10 @@ public interface HistoricIdentityLinkDataManager extends DataManager<HistoricIde
 
     List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByProcessInstanceId(String processInstanceId);
 
+    /**
+     * Deletes the historic identity links of the given process instances and of their tasks with a set-based statement, which
+     * is executed when the session is flushed (before the historic tasks are deleted).
+     */
+    void bulkDeleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.db.AbstractDataManager;
@@ -49,4 +50,9 @@ public class MybatisHistoricIdentityLinkDataManager extends AbstractDataManager<
         return getList("selectHistoricIdentityLinksByProcessInstance", processInstanceId, historicIdentityLinksByProcInstMatcher, true);
     }
 
+    @Override
+    public void bulkDeleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteHistoricIdentityLinksByProcessInstanceIds", processInstanceIds, getManagedEntityClass());
+    }
+
 }
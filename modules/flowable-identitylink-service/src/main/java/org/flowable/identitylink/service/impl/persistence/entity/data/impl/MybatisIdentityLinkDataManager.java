@@ -18,6 +18,7 @@ import java.util.Map;
 
 import org.flowable.engine.common.impl.db.AbstractDataManager;
 import org.flowable.engine.common.impl.db.CachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntityImpl;
 import org.flowable.identitylink.service.impl.persistence.entity.data.IdentityLinkDataManager;
@@ -28,6 +29,14 @@ import org.flowable.identitylink.service.impl.persistence.entity.data.impl.cache
  */
 public class MybatisIdentityLinkDataManager extends AbstractDataManager<IdentityLinkEntity> implements IdentityLinkDataManager {
 
+    public static final EntityCacheIndex<IdentityLinkEntity> PROCESS_INSTANCE_ID_INDEX = new EntityCacheIndex<IdentityLinkEntity>() {
+
+        @Override
+        public Object getIndexKey(IdentityLinkEntity entity) {
+            return entity.getProcessInstanceId();
+        }
+    };
+
     protected CachedEntityMatcher<IdentityLinkEntity> identityLinkByProcessInstanceMatcher = new IdentityLinksByProcInstMatcher();
 
     @Override
@@ -12,13 +12,18 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcherAdapter;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
+import org.flowable.identitylink.service.impl.persistence.entity.data.impl.MybatisIdentityLinkDataManager;
 
 /**
  * @author Joram Barrez
  */
-public class IdentityLinksByProcInstMatcher extends CachedEntityMatcherAdapter<IdentityLinkEntity> {
+public class IdentityLinksByProcInstMatcher extends IndexedCachedEntityMatcherAdapter<IdentityLinkEntity> {
+
+    public IdentityLinksByProcInstMatcher() {
+        super(MybatisIdentityLinkDataManager.PROCESS_INSTANCE_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(IdentityLinkEntity entity, Object parameter) {
@@ -49,6 +49,7 @@ import org.flowable.idm.engine.impl.IdmManagementServiceImpl;
 import org.flowable.idm.engine.impl.ServiceImpl;
 import org.flowable.idm.engine.impl.authentication.BlankSalt;
 import org.flowable.idm.engine.impl.authentication.ClearTextPasswordEncoder;
+import org.flowable.idm.engine.impl.cache.GroupMembershipCache;
 import org.flowable.idm.engine.impl.cfg.StandaloneIdmEngineConfiguration;
 import org.flowable.idm.engine.impl.cfg.StandaloneInMemIdmEngineConfiguration;
 import org.flowable.idm.engine.impl.db.EntityDependencyOrder;
@@ -135,6 +136,23 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration {
     protected PasswordEncoder passwordEncoder;
     protected PasswordSalt passwordSalt;
 
+    /**
+     * The maximum number of users for which the groups they belong to are cached, see {@link GroupMembershipCache}.
+     * The cache is used when querying the groups of a user, for example for every task query with a candidate user. Changes to the memberships
+     * done through the {@link IdmIdentityService} invalidate the cached groups of the user.
+     * <p>
+     * By default -1, meaning no cache is used.
+     */
+    protected int groupMembershipCacheSize = -1;
+
+    /**
+     * The time in milliseconds after which the cached groups of a user expire, so that membership changes that were not done through
+     * this engine (for example by another node of the cluster) become visible. By default five minutes.
+     */
+    protected long groupMembershipCacheExpirationTime = 300000L;
+
+    protected GroupMembershipCache groupMembershipCache;
+
     public static IdmEngineConfiguration createIdmEngineConfigurationFromResourceDefault() {
         return createIdmEngineConfigurationFromResource("flowable.idm.cfg.xml", "idmEngineConfiguration");
     }
@@ -198,6 +216,7 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration {
         initDataManagers();
         initEntityManagers();
         initClock();
+        initGroupMembershipCache();
         initEventDispatcher();
     }
     
@@ -351,6 +370,12 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration {
         }
     }
 
+    public void initGroupMembershipCache() {
+        if (groupMembershipCache == null && groupMembershipCacheSize > 0) {
+            groupMembershipCache = new GroupMembershipCache(groupMembershipCacheSize, groupMembershipCacheExpirationTime, clock);
+        }
+    }
+
     // command executors
     // ////////////////////////////////////////////////////////
 
@@ -810,6 +835,33 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration {
         return this;
     }
 
+    public int getGroupMembershipCacheSize() {
+        return groupMembershipCacheSize;
+    }
+
+    public IdmEngineConfiguration setGroupMembershipCacheSize(int groupMembershipCacheSize) {
+        this.groupMembershipCacheSize = groupMembershipCacheSize;
+        return this;
+    }
+
+    public long getGroupMembershipCacheExpirationTime() {
+        return groupMembershipCacheExpirationTime;
+    }
+
+    public IdmEngineConfiguration setGroupMembershipCacheExpirationTime(long groupMembershipCacheExpirationTime) {
+        this.groupMembershipCacheExpirationTime = groupMembershipCacheExpirationTime;
+        return this;
+    }
+
+    public GroupMembershipCache getGroupMembershipCache() {
+        return groupMembershipCache;
+    }
+
+    public IdmEngineConfiguration setGroupMembershipCache(GroupMembershipCache groupMembershipCache) {
+        this.groupMembershipCache = groupMembershipCache;
+        return this;
+    }
+
     @Override
     public IdmEngineConfiguration setSessionFactories(Map<Class<?>, SessionFactory> sessionFactories) {
         this.sessionFactories = sessionFactories;
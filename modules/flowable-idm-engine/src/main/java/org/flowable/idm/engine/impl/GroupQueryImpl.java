@@ -22,6 +22,7 @@ import org.flowable.engine.common.impl.interceptor.CommandExecutor;
 import org.flowable.idm.api.Group;
 import org.flowable.idm.api.GroupQuery;
 import org.flowable.idm.api.GroupQueryProperty;
+import org.flowable.idm.engine.impl.cache.GroupMembershipCache;
 import org.flowable.idm.engine.impl.util.CommandContextUtil;
 
 /**
@@ -150,9 +151,28 @@ public class GroupQueryImpl extends AbstractQuery<GroupQuery, Group> implements
     @Override
     public List<Group> executeList(CommandContext commandContext) {
         checkQueryOk();
+
+        GroupMembershipCache groupMembershipCache = CommandContextUtil.getIdmEngineConfiguration(commandContext).getGroupMembershipCache();
+        if (groupMembershipCache != null && isGroupMemberOnlyQuery()) {
+            List<Group> groups = groupMembershipCache.get(userId);
+            if (groups == null) {
+                groups = CommandContextUtil.getGroupEntityManager(commandContext).findGroupByQueryCriteria(this);
+                groupMembershipCache.add(userId, groups);
+            }
+            return groups;
+        }
+
         return CommandContextUtil.getGroupEntityManager(commandContext).findGroupByQueryCriteria(this);
     }
 
+    /**
+     * Only a plain list of all groups of one user, without other criteria, paging or ordering, can be served from the {@link GroupMembershipCache}.
+     */
+    protected boolean isGroupMemberOnlyQuery() {
+        return userId != null && id == null && ids == null && name == null && nameLike == null && nameLikeIgnoreCase == null
+                && type == null && userIds == null && resultType == ResultType.LIST && orderByColumns == null;
+    }
+
     // getters ////////////////////////////////////////////////////////
 
     public String getId() {
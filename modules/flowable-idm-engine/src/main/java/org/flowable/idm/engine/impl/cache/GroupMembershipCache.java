@@ -0,0 +1,243 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.impl.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.flowable.engine.common.runtime.ClockReader;
+import org.flowable.idm.api.Group;
+import org.flowable.idm.engine.impl.persistence.entity.GroupEntity;
+import org.flowable.idm.engine.impl.persistence.entity.GroupEntityImpl;
+
+/**
+ * Thread-safe cache for the groups a user belongs to, which avoids hitting the identity store each time the groups of a user are needed,
+ * for example for every task query with a candidate user.
+ *
+ * Cached entries have an expiration time: changes to the memberships that don't go through the engine are visible after that time.
+ * The groups are copied when they are added and when they are returned, so callers can't change the cached instances.
+ *
+ * When a maximum size is set, eviction uses the CLOCK (second chance) policy: a hit only sets the referenced flag of the entry, and when the
+ * cache is full, entries are visited in insertion order and the first one that wasn't referenced since the previous visit is evicted.
+ * Reads never take a lock, only adding a user to a full cache does.
+ */
+public class GroupMembershipCache {
+
+    protected ConcurrentMap<String, CacheEntry> cache = new ConcurrentHashMap<>();
+    protected Queue<CacheEntry> clock = new ConcurrentLinkedQueue<>();
+    protected AtomicInteger clockSize = new AtomicInteger();
+    protected ReentrantLock evictionLock = new ReentrantLock();
+
+    protected int cacheSize;
+    protected long expirationTime;
+    protected ClockReader clockReader;
+
+    /**
+     * @param cacheSize the maximum number of users for which the groups are cached, or -1 for no limit
+     * @param expirationTime the time in milliseconds after which a cached entry expires
+     */
+    public GroupMembershipCache(int cacheSize, long expirationTime, ClockReader clockReader) {
+        this.cacheSize = cacheSize;
+        this.expirationTime = expirationTime;
+        this.clockReader = clockReader;
+    }
+
+    /**
+     * Returns the cached groups of the given user, or null when they are not cached or have expired.
+     */
+    public List<Group> get(String userId) {
+        CacheEntry entry = cache.get(userId);
+        if (entry != null) {
+            if (clockReader.getCurrentTime().getTime() - entry.timestamp < expirationTime) {
+                if (!entry.referenced) { // avoid writing the shared flag when not needed
+                    entry.referenced = true;
+                }
+                cacheHit(userId);
+                return copyGroups(entry.groups);
+            }
+
+            if (cache.remove(userId, entry)) {
+                cacheExpired(userId);
+                cacheEviction(userId);
+            }
+        }
+
+        cacheMiss(userId);
+        return null;
+    }
+
+    public void add(String userId, List<Group> groups) {
+        CacheEntry entry = new CacheEntry(userId, clockReader.getCurrentTime().getTime(), Collections.unmodifiableList(copyGroups(groups)));
+        cache.put(userId, entry);
+
+        if (isLimited()) {
+            clock.offer(entry);
+            clockSize.incrementAndGet();
+            if (cache.size() > cacheSize || clockSize.get() > 2 * cacheSize) {
+                evict();
+            }
+        }
+    }
+
+    /**
+     * Removes the cached groups of the given user, for example because one of his memberships changed.
+     */
+    public void remove(String userId) {
+        cache.remove(userId);
+    }
+
+    /**
+     * Removes the cached groups of all users that are a member of the given group, for example because the group was renamed.
+     */
+    public void removeGroup(String groupId) {
+        for (CacheEntry entry : cache.values()) {
+            for (Group group : entry.groups) {
+                if (groupId.equals(group.getId())) {
+                    cache.remove(entry.userId, entry);
+                    break;
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        evictionLock.lock();
+        try {
+            cache.clear();
+            clock.clear();
+            clockSize.set(0);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    protected boolean isLimited() {
+        return cacheSize > 0;
+    }
+
+    protected void evict() {
+        evictionLock.lock();
+        try {
+            // Drop the entries of users that were removed, expired or re-added since they were queued
+            if (clockSize.get() > 2 * cacheSize) {
+                Iterator<CacheEntry> iterator = clock.iterator();
+                while (iterator.hasNext()) {
+                    CacheEntry entry = iterator.next();
+                    if (cache.get(entry.userId) != entry) {
+                        iterator.remove();
+                        clockSize.decrementAndGet();
+                    }
+                }
+            }
+
+            CacheEntry entry = null;
+            while (cache.size() > cacheSize && (entry = clock.poll()) != null) {
+                clockSize.decrementAndGet();
+                if (cache.get(entry.userId) != entry) {
+                    continue; // stale entry
+                }
+
+                if (entry.referenced) {
+                    // Second chance: clear the flag and move the entry to the back of the clock
+                    entry.referenced = false;
+                    clock.offer(entry);
+                    clockSize.incrementAndGet();
+
+                } else if (cache.remove(entry.userId, entry)) {
+                    cacheEviction(entry.userId);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    protected List<Group> copyGroups(List<Group> groups) {
+        List<Group> copies = new ArrayList<>(groups.size());
+        for (Group group : groups) {
+            copies.add(copyGroup(group));
+        }
+        return copies;
+    }
+
+    /**
+     * Group entities are copied, other group implementations are kept as they are.
+     */
+    protected Group copyGroup(Group group) {
+        if (!(group instanceof GroupEntity)) {
+            return group;
+        }
+
+        GroupEntity groupEntity = (GroupEntity) group;
+        GroupEntity copy = new GroupEntityImpl();
+        copy.setId(groupEntity.getId());
+        copy.setRevision(groupEntity.getRevision());
+        copy.setName(groupEntity.getName());
+        copy.setType(groupEntity.getType());
+        return copy;
+    }
+
+    // Hooks for subclasses that want to keep track of the cache usage
+
+    protected void cacheHit(String userId) {
+    }
+
+    protected void cacheMiss(String userId) {
+    }
+
+    protected void cacheEviction(String userId) {
+    }
+
+    protected void cacheExpired(String userId) {
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public long getExpirationTime() {
+        return expirationTime;
+    }
+
+    public void setExpirationTime(long expirationTime) {
+        this.expirationTime = expirationTime;
+    }
+
+    protected static class CacheEntry {
+
+        protected final String userId;
+        protected final long timestamp;
+        protected final List<Group> groups;
+        protected volatile boolean referenced;
+
+        public CacheEntry(String userId, long timestamp, List<Group> groups) {
+            this.userId = userId;
+            this.timestamp = timestamp;
+            this.groups = groups;
+        }
+
+    }
+
+}
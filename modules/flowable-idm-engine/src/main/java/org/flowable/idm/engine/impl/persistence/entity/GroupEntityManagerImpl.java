@@ -16,6 +16,11 @@ package org.flowable.idm.engine.impl.persistence.entity;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.impl.cfg.TransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
 import org.flowable.idm.api.Group;
 import org.flowable.idm.api.GroupQuery;
@@ -23,6 +28,7 @@ import org.flowable.idm.api.event.FlowableIdmEventType;
 import org.flowable.idm.engine.IdmEngineConfiguration;
 import org.flowable.idm.engine.delegate.event.impl.FlowableIdmEventBuilder;
 import org.flowable.idm.engine.impl.GroupQueryImpl;
+import org.flowable.idm.engine.impl.cache.GroupMembershipCache;
 import org.flowable.idm.engine.impl.persistence.entity.data.GroupDataManager;
 
 /**
@@ -66,6 +72,37 @@ public class GroupEntityManagerImpl extends AbstractEntityManager<GroupEntity> i
         }
     }
 
+    @Override
+    public GroupEntity update(GroupEntity entity, boolean fireUpdateEvent) {
+        GroupEntity updatedEntity = super.update(entity, fireUpdateEvent);
+        invalidateGroupMembershipCache(entity.getId());
+        return updatedEntity;
+    }
+
+    /**
+     * Removes the cached groups of the members of the given group, as they contain the old name and type of the group. This is done again
+     * when the transaction is committed, as a concurrent query could have cached the old group in the meantime.
+     */
+    protected void invalidateGroupMembershipCache(final String groupId) {
+        final GroupMembershipCache groupMembershipCache = getIdmEngineConfiguration().getGroupMembershipCache();
+        if (groupMembershipCache == null) {
+            return;
+        }
+
+        groupMembershipCache.removeGroup(groupId);
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+                @Override
+                public void execute(CommandContext commandContext) {
+                    groupMembershipCache.removeGroup(groupId);
+                }
+            });
+        }
+    }
+
     @Override
     public GroupQuery createNewGroupQuery() {
         return new GroupQueryImpl(getCommandExecutor());
@@ -13,10 +13,16 @@
 
 package org.flowable.idm.engine.impl.persistence.entity;
 
+import org.flowable.engine.common.impl.cfg.TransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
 import org.flowable.idm.api.event.FlowableIdmEventType;
 import org.flowable.idm.engine.IdmEngineConfiguration;
 import org.flowable.idm.engine.delegate.event.impl.FlowableIdmEventBuilder;
+import org.flowable.idm.engine.impl.cache.GroupMembershipCache;
 import org.flowable.idm.engine.impl.persistence.entity.data.MembershipDataManager;
 
 /**
@@ -43,6 +49,7 @@ public class MembershipEntityManagerImpl extends AbstractEntityManager<Membershi
         membershipEntity.setUserId(userId);
         membershipEntity.setGroupId(groupId);
         insert(membershipEntity, false);
+        invalidateGroupMembershipCache(userId);
 
         if (getEventDispatcher().isEnabled()) {
             getEventDispatcher().dispatchEvent(FlowableIdmEventBuilder.createMembershipEvent(FlowableIdmEventType.MEMBERSHIP_CREATED, groupId, userId));
@@ -52,6 +59,7 @@ public class MembershipEntityManagerImpl extends AbstractEntityManager<Membershi
     @Override
     public void deleteMembership(String userId, String groupId) {
         membershipDataManager.deleteMembership(userId, groupId);
+        invalidateGroupMembershipCache(userId);
         if (getEventDispatcher().isEnabled()) {
             getEventDispatcher().dispatchEvent(FlowableIdmEventBuilder.createMembershipEvent(FlowableIdmEventType.MEMBERSHIP_DELETED, groupId, userId));
         }
@@ -60,11 +68,45 @@ public class MembershipEntityManagerImpl extends AbstractEntityManager<Membershi
     @Override
     public void deleteMembershipByGroupId(String groupId) {
         membershipDataManager.deleteMembershipByGroupId(groupId);
+        invalidateGroupMembershipCache(null);
     }
 
     @Override
     public void deleteMembershipByUserId(String userId) {
         membershipDataManager.deleteMembershipByUserId(userId);
+        invalidateGroupMembershipCache(userId);
+    }
+
+    /**
+     * Removes the cached groups of the given user, or of all users when null is passed. This is done again when the transaction is committed,
+     * as a concurrent query could have cached the old memberships in the meantime.
+     */
+    protected void invalidateGroupMembershipCache(final String userId) {
+        final GroupMembershipCache groupMembershipCache = getIdmEngineConfiguration().getGroupMembershipCache();
+        if (groupMembershipCache == null) {
+            return;
+        }
+
+        removeFromGroupMembershipCache(groupMembershipCache, userId);
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+                @Override
+                public void execute(CommandContext commandContext) {
+                    removeFromGroupMembershipCache(groupMembershipCache, userId);
+                }
+            });
+        }
+    }
+
+    protected void removeFromGroupMembershipCache(GroupMembershipCache groupMembershipCache, String userId) {
+        if (userId != null) {
+            groupMembershipCache.remove(userId);
+        } else {
+            groupMembershipCache.clear();
+        }
     }
 
     public MembershipDataManager getMembershipDataManager() {
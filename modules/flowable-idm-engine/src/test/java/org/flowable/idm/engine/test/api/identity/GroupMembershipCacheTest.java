@@ -0,0 +1,161 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.test.api.identity;
+
+import java.util.Date;
+
+import org.flowable.idm.api.Group;
+import org.flowable.idm.engine.impl.cache.GroupMembershipCache;
+import org.flowable.idm.engine.test.PluggableFlowableIdmTestCase;
+
+public class GroupMembershipCacheTest extends PluggableFlowableIdmTestCase {
+
+    protected GroupMembershipCache groupMembershipCache;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        groupMembershipCache = new GroupMembershipCache(2, 60000L, idmEngineConfiguration.getClock());
+        idmEngineConfiguration.setGroupMembershipCache(groupMembershipCache);
+
+        createGroup("muppets", "user");
+        createGroup("frogs", "user");
+        createGroup("admin", "security");
+
+        idmIdentityService.saveUser(idmIdentityService.newUser("kermit"));
+        idmIdentityService.saveUser(idmIdentityService.newUser("fozzie"));
+        idmIdentityService.saveUser(idmIdentityService.newUser("mispiggy"));
+
+        idmIdentityService.createMembership("kermit", "muppets");
+        idmIdentityService.createMembership("kermit", "frogs");
+        idmIdentityService.createMembership("fozzie", "muppets");
+        idmIdentityService.createMembership("mispiggy", "muppets");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        idmEngineConfiguration.setGroupMembershipCache(null);
+        idmEngineConfiguration.getClock().reset();
+
+        idmIdentityService.deleteUser("kermit");
+        idmIdentityService.deleteUser("fozzie");
+        idmIdentityService.deleteUser("mispiggy");
+
+        idmIdentityService.deleteGroup("muppets");
+        idmIdentityService.deleteGroup("frogs");
+        idmIdentityService.deleteGroup("admin");
+
+        super.tearDown();
+    }
+
+    protected void createGroup(String id, String type) {
+        Group group = idmIdentityService.newGroup(id);
+        group.setName(id);
+        group.setType(type);
+        idmIdentityService.saveGroup(group);
+    }
+
+    public void testGroupsOfUserAreCached() {
+        assertNull(groupMembershipCache.get("kermit"));
+        assertEquals(2, idmIdentityService.createGroupQuery().groupMember("kermit").list().size());
+        assertEquals(2, groupMembershipCache.get("kermit").size());
+        assertEquals(2, idmIdentityService.createGroupQuery().groupMember("kermit").list().size());
+
+        // Queries with other criteria are not cached
+        assertEquals(1, idmIdentityService.createGroupQuery().groupMember("fozzie").groupType("user").list().size());
+        assertEquals(1, idmIdentityService.createGroupQuery().groupMember("fozzie").listPage(0, 10).size());
+        assertEquals(1, idmIdentityService.createGroupQuery().groupMember("fozzie").count());
+        assertNull(groupMembershipCache.get("fozzie"));
+    }
+
+    public void testMembershipChangesInvalidateCache() {
+        assertEquals(2, idmIdentityService.createGroupQuery().groupMember("kermit").list().size());
+
+        idmIdentityService.createMembership("kermit", "admin");
+        assertNull(groupMembershipCache.get("kermit"));
+        assertEquals(3, idmIdentityService.createGroupQuery().groupMember("kermit").list().size());
+
+        idmIdentityService.deleteMembership("kermit", "frogs");
+        assertNull(groupMembershipCache.get("kermit"));
+        assertEquals(2, idmIdentityService.createGroupQuery().groupMember("kermit").list().size());
+
+        // Deleting a group removes the cached groups of all users
+        assertEquals(1, idmIdentityService.createGroupQuery().groupMember("fozzie").list().size());
+        idmIdentityService.deleteGroup("muppets");
+        assertEquals(0, groupMembershipCache.size());
+        assertEquals(1, idmIdentityService.createGroupQuery().groupMember("kermit").list().size());
+        assertEquals(0, idmIdentityService.createGroupQuery().groupMember("fozzie").list().size());
+    }
+
+    public void testGroupChangesInvalidateCache() {
+        assertEquals(2, idmIdentityService.createGroupQuery().groupMember("kermit").list().size());
+        assertEquals(1, idmIdentityService.createGroupQuery().groupMember("fozzie").list().size());
+
+        Group group = idmIdentityService.createGroupQuery().groupId("frogs").singleResult();
+        group.setName("Frogs");
+        idmIdentityService.saveGroup(group);
+
+        // Only the members of the renamed group are removed from the cache
+        assertNull(groupMembershipCache.get("kermit"));
+        assertNotNull(groupMembershipCache.get("fozzie"));
+
+        boolean found = false;
+        for (Group kermitGroup : idmIdentityService.createGroupQuery().groupMember("kermit").list()) {
+            if ("frogs".equals(kermitGroup.getId())) {
+                assertEquals("Frogs", kermitGroup.getName());
+                found = true;
+            }
+        }
+        assertTrue(found);
+    }
+
+    public void testCachedGroupsAreCopied() {
+        Group group = idmIdentityService.createGroupQuery().groupMember("fozzie").list().get(0);
+        group.setName("changed");
+
+        Group cachedGroup = idmIdentityService.createGroupQuery().groupMember("fozzie").list().get(0);
+        assertNotSame(group, cachedGroup);
+        assertEquals("muppets", cachedGroup.getName());
+
+        cachedGroup.setName("changed");
+        assertEquals("muppets", idmIdentityService.createGroupQuery().groupMember("fozzie").list().get(0).getName());
+    }
+
+    public void testCachedGroupsExpire() {
+        Date now = new Date();
+        idmEngineConfiguration.getClock().setCurrentTime(now);
+        assertEquals(2, idmIdentityService.createGroupQuery().groupMember("kermit").list().size());
+
+        idmEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 30000L));
+        assertNotNull(groupMembershipCache.get("kermit"));
+
+        idmEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 90000L));
+        assertNull(groupMembershipCache.get("kermit"));
+        assertEquals(0, groupMembershipCache.size());
+    }
+
+    public void testLeastRecentlyUsedUserIsEvicted() {
+        idmIdentityService.createGroupQuery().groupMember("kermit").list();
+        idmIdentityService.createGroupQuery().groupMember("fozzie").list();
+        idmIdentityService.createGroupQuery().groupMember("kermit").list();
+
+        // The cache holds two users: fozzie wasn't used since it was cached and is evicted
+        idmIdentityService.createGroupQuery().groupMember("mispiggy").list();
+        assertEquals(2, groupMembershipCache.size());
+        assertNotNull(groupMembershipCache.get("kermit"));
+        assertNotNull(groupMembershipCache.get("mispiggy"));
+        assertNull(groupMembershipCache.get("fozzie"));
+    }
+
+}
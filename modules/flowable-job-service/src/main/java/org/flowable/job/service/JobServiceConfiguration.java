@@ -27,6 +27,7 @@ import org.flowable.job.service.impl.asyncexecutor.AsyncRunnableExecutionExcepti
 import org.flowable.job.service.impl.asyncexecutor.DefaultJobManager;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.asyncexecutor.JobNotificationChannel;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManagerImpl;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityManager;
@@ -109,6 +110,9 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     
     protected int asyncExecutorNumberOfRetries;
     protected int asyncExecutorResetExpiredJobsMaxTimeout;
+    protected boolean asyncExecutorBulkJobAcquisitionEnabled;
+    protected boolean asyncExecutorBulkJobAcquisitionMysqlSkipLocked;
+    protected JobNotificationChannel jobNotificationChannel;
     
     protected ObjectMapper objectMapper;
 
@@ -451,6 +455,33 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public boolean isAsyncExecutorBulkJobAcquisitionEnabled() {
+        return asyncExecutorBulkJobAcquisitionEnabled;
+    }
+
+    public JobServiceConfiguration setAsyncExecutorBulkJobAcquisitionEnabled(boolean asyncExecutorBulkJobAcquisitionEnabled) {
+        this.asyncExecutorBulkJobAcquisitionEnabled = asyncExecutorBulkJobAcquisitionEnabled;
+        return this;
+    }
+
+    public boolean isAsyncExecutorBulkJobAcquisitionMysqlSkipLocked() {
+        return asyncExecutorBulkJobAcquisitionMysqlSkipLocked;
+    }
+
+    public JobServiceConfiguration setAsyncExecutorBulkJobAcquisitionMysqlSkipLocked(boolean asyncExecutorBulkJobAcquisitionMysqlSkipLocked) {
+        this.asyncExecutorBulkJobAcquisitionMysqlSkipLocked = asyncExecutorBulkJobAcquisitionMysqlSkipLocked;
+        return this;
+    }
+
+    public JobNotificationChannel getJobNotificationChannel() {
+        return jobNotificationChannel;
+    }
+
+    public JobServiceConfiguration setJobNotificationChannel(JobNotificationChannel jobNotificationChannel) {
+        this.jobNotificationChannel = jobNotificationChannel;
+        return this;
+    }
+
     @Override
     public ObjectMapper getObjectMapper() {
         return objectMapper;
@@ -36,6 +36,7 @@ public class DeadLetterJobQueryImpl extends AbstractQuery<DeadLetterJobQuery, Jo
     protected String processInstanceId;
     protected String executionId;
     protected String handlerType;
+    protected String handlerConfigurationLike;
     protected String processDefinitionId;
     protected boolean executable;
     protected boolean onlyTimers;
@@ -106,6 +107,17 @@ public class DeadLetterJobQueryImpl extends AbstractQuery<DeadLetterJobQuery, Jo
         return this;
     }
 
+    /**
+     * Only select jobs whose handler configuration matches the given parameter. The syntax that should be used is the same as in SQL, eg. %signal-broadcast%.
+     */
+    public DeadLetterJobQueryImpl handlerConfigurationLike(String handlerConfigurationLike) {
+        if (handlerConfigurationLike == null) {
+            throw new FlowableIllegalArgumentException("Provided handlerConfigurationLike is null");
+        }
+        this.handlerConfigurationLike = handlerConfigurationLike;
+        return this;
+    }
+
     @Override
     public DeadLetterJobQueryImpl executable() {
         executable = true;
@@ -247,6 +259,10 @@ public class DeadLetterJobQueryImpl extends AbstractQuery<DeadLetterJobQuery, Jo
         return handlerType;
     }
 
+    public String getHandlerConfigurationLike() {
+        return handlerConfigurationLike;
+    }
+
     public boolean getExecutable() {
         return executable;
     }
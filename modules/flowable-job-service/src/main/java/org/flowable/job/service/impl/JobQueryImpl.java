@@ -37,6 +37,7 @@ public class JobQueryImpl extends AbstractQuery<JobQuery, Job> implements JobQue
     protected String processInstanceId;
     protected String executionId;
     protected String handlerType;
+    protected String handlerConfigurationLike;
     protected String processDefinitionId;
     protected boolean onlyTimers;
     protected boolean onlyMessages;
@@ -109,6 +110,17 @@ public class JobQueryImpl extends AbstractQuery<JobQuery, Job> implements JobQue
         return this;
     }
 
+    /**
+     * Only select jobs whose handler configuration matches the given parameter. The syntax that should be used is the same as in SQL, eg. %signal-broadcast%.
+     */
+    public JobQueryImpl handlerConfigurationLike(String handlerConfigurationLike) {
+        if (handlerConfigurationLike == null) {
+            throw new FlowableIllegalArgumentException("Provided handlerConfigurationLike is null");
+        }
+        this.handlerConfigurationLike = handlerConfigurationLike;
+        return this;
+    }
+
     @Override
     public JobQuery timers() {
         if (onlyMessages) {
@@ -262,6 +274,10 @@ public class JobQueryImpl extends AbstractQuery<JobQuery, Job> implements JobQue
         return this.handlerType;
     }
 
+    public String getHandlerConfigurationLike() {
+        return handlerConfigurationLike;
+    }
+
     public Date getNow() {
         return CommandContextUtil.getJobServiceConfiguration().getClock().getCurrentTime();
     }
@@ -53,6 +53,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int maxAsyncJobsDuePerAcquisition = 1;
     protected int defaultTimerJobAcquireWaitTimeInMillis = 10 * 1000;
     protected int defaultAsyncJobAcquireWaitTimeInMillis = 10 * 1000;
+    protected int minAsyncJobAcquireWaitTimeInMillis = 100;
     protected int defaultQueueSizeFullWaitTime;
 
     protected String lockOwner = UUID.randomUUID().toString();
@@ -141,6 +142,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         if (!isMessageQueueMode && asyncJobsDueRunnable == null) {
             String acquireJobsRunnableName = acquireRunnableThreadName != null ? acquireRunnableThreadName : "flowable-acquire-async-jobs";
             asyncJobsDueRunnable = new AcquireAsyncJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManagerToUse);
+            asyncJobsDueRunnable.setMinAcquireWaitTimeInMillis(minAsyncJobAcquireWaitTimeInMillis);
         }
     }
 
@@ -289,6 +291,14 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.defaultAsyncJobAcquireWaitTimeInMillis = defaultAsyncJobAcquireWaitTimeInMillis;
     }
 
+    public int getMinAsyncJobAcquireWaitTimeInMillis() {
+        return minAsyncJobAcquireWaitTimeInMillis;
+    }
+
+    public void setMinAsyncJobAcquireWaitTimeInMillis(int minAsyncJobAcquireWaitTimeInMillis) {
+        this.minAsyncJobAcquireWaitTimeInMillis = minAsyncJobAcquireWaitTimeInMillis;
+    }
+
     public void setTimerJobRunnable(AcquireTimerJobsRunnable timerJobRunnable) {
         this.timerJobRunnable = timerJobRunnable;
     }
@@ -25,10 +25,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Runnable that acquires the async jobs that are due and hands them to the {@link AsyncExecutor}.
+ * 
+ * When fewer jobs than the maximum per acquisition were found, the thread waits the default acquire wait time of the async executor
+ * before acquiring again. When a {@link JobNotificationChannel} is configured, the thread is woken up as soon as new jobs are available
+ * and the wait time backs off adaptively: after an acquisition that found jobs it is {@link #minAcquireWaitTimeInMillis}, and it is doubled
+ * after every acquisition that didn't find any job, up to the default acquire wait time.
  * 
  * @author Tijs Rademakers
  */
-public class AcquireAsyncJobsDueRunnable implements Runnable {
+public class AcquireAsyncJobsDueRunnable implements Runnable, JobsAvailableListener {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AcquireAsyncJobsDueRunnable.class);
 
@@ -39,6 +45,10 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
+    protected final AtomicBoolean jobsAvailable = new AtomicBoolean(false);
+
+    protected int minAcquireWaitTimeInMillis = 100;
+    protected long idleWaitTimeInMillis;
 
     public AcquireAsyncJobsDueRunnable(String name, AsyncExecutor asyncExecutor, 
             JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
@@ -53,10 +63,17 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         Thread.currentThread().setName(name);
 
         CommandExecutor commandExecutor = asyncExecutor.getJobServiceConfiguration().getCommandExecutor();
+        JobNotificationChannel jobNotificationChannel = asyncExecutor.getJobServiceConfiguration().getJobNotificationChannel();
+        if (jobNotificationChannel != null) {
+            jobNotificationChannel.addListener(this);
+        }
 
         while (!isInterrupted) {
             final long millisToWait;
 
+            // Notifications received from here on will trigger a new acquisition
+            jobsAvailable.set(false);
+
             int remainingCapacity = asyncExecutor.getRemainingCapacity();
             if (remainingCapacity > 0) {
                 millisToWait = acquireAndExecuteJobs(commandExecutor, remainingCapacity);
@@ -76,6 +93,10 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                 sleep(millisToWait);
             }
         }
+
+        if (jobNotificationChannel != null) {
+            jobNotificationChannel.removeListener(this);
+        }
         LOGGER.info("stopped async job due acquisition");
     }
 
@@ -94,6 +115,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                 // the maximum amount of jobs were acquired, so we can expect more.
                 return 0L;
             }
+            return calculateIdleWaitTime(acquiredJobs.size());
 
         } catch (FlowableOptimisticLockingException optimisticLockingException) {
             if (LOGGER.isDebugEnabled()) {
@@ -110,6 +132,33 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
     }
 
+    protected long calculateIdleWaitTime(int acquiredJobCount) {
+        long maxWaitTime = asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+        if (asyncExecutor.getJobServiceConfiguration().getJobNotificationChannel() == null) {
+            // Without notifications, new jobs would only be found sooner by polling more often
+            return maxWaitTime;
+        }
+
+        if (acquiredJobCount > 0) {
+            idleWaitTimeInMillis = Math.min(minAcquireWaitTimeInMillis, maxWaitTime);
+        } else if (idleWaitTimeInMillis <= 0) {
+            idleWaitTimeInMillis = maxWaitTime;
+        } else {
+            idleWaitTimeInMillis = Math.min(idleWaitTimeInMillis * 2, maxWaitTime);
+        }
+        return idleWaitTimeInMillis;
+    }
+
+    @Override
+    public void jobsAvailable() {
+        synchronized (MONITOR) {
+            jobsAvailable.set(true);
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
     protected List<JobInfoEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
         List<JobInfoEntity> rejected = new ArrayList<>();
         for (JobInfoEntity job : acquiredJobs.getJobs()) {
@@ -121,6 +170,14 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return rejected;
     }
 
+    public int getMinAcquireWaitTimeInMillis() {
+        return minAcquireWaitTimeInMillis;
+    }
+
+    public void setMinAcquireWaitTimeInMillis(int minAcquireWaitTimeInMillis) {
+        this.minAcquireWaitTimeInMillis = minAcquireWaitTimeInMillis;
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
@@ -137,7 +194,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                     LOGGER.debug("async job acquisition thread sleeping for {} millis", millisToWait);
                 }
                 synchronized (MONITOR) {
-                    if (!isInterrupted) {
+                    if (!isInterrupted && !jobsAvailable.get()) {
                         isWaiting.set(true);
                         MONITOR.wait(millisToWait);
                     }
@@ -56,6 +56,8 @@ public class DefaultJobManager implements JobManager {
     public static final String ASYNC_JOB_TYPE = "async-continuation";
     public static final String CYCLE_TYPE = "cycle";
 
+    protected static final String JOBS_AVAILABLE_NOTIFICATION_ATTRIBUTE = "jobsAvailableNotification";
+
     protected JobServiceConfiguration jobServiceConfiguration;
 
     public DefaultJobManager() {
@@ -86,6 +88,8 @@ public class DefaultJobManager implements JobManager {
         // When the async executor is activated, the job is directly passed on to the async executor thread
         if (isAsyncExecutorActive()) {
             hintAsyncExecutor(jobEntity);
+        } else {
+            notifyJobsAvailable();
         }
     }
 
@@ -395,6 +399,26 @@ public class DefaultJobManager implements JobManager {
         }
     }
     
+    /**
+     * Publishes a notification on the {@link JobNotificationChannel}, if one is configured, once the current transaction is committed.
+     * Only one notification is published per command context, regardless of the number of jobs created.
+     */
+    protected void notifyJobsAvailable() {
+        JobNotificationChannel jobNotificationChannel = jobServiceConfiguration.getJobNotificationChannel();
+        CommandContext commandContext = getCommandContext();
+        if (jobNotificationChannel == null || commandContext == null || commandContext.getAttribute(JOBS_AVAILABLE_NOTIFICATION_ATTRIBUTE) != null) {
+            return;
+        }
+
+        JobsAvailableNotification jobsAvailableNotification = new JobsAvailableNotification(jobNotificationChannel);
+        commandContext.addAttribute(JOBS_AVAILABLE_NOTIFICATION_ATTRIBUTE, jobsAvailableNotification);
+        if (Context.getTransactionContext() != null) {
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, jobsAvailableNotification);
+        } else {
+            commandContext.addCloseListener(jobsAvailableNotification);
+        }
+    }
+
     @Override
     public String getBusinessCalendarName(JobEntity timerEntity, VariableScope variableScope) {
         String calendarValue = null;
@@ -426,6 +450,7 @@ public class DefaultJobManager implements JobManager {
     @Override
     public HistoryJobEntity scheduleHistoryJob(HistoryJobEntity historyJobEntity) {
         jobServiceConfiguration.getHistoryJobEntityManager().insert(historyJobEntity);
+        notifyJobsAvailable();
         return historyJobEntity;
     }
     
@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link JobNotificationChannel} that directly notifies the listeners registered in the same JVM.
+ * 
+ * Sharing one instance between multiple engines (for example in tests) simulates a transport between nodes. Transports to other nodes 
+ * can extend this class: {@link #notifyJobsAvailable()} publishes the notification to the other nodes, and a received notification is 
+ * passed to the local listeners by calling {@link #notifyListeners()}.
+ */
+public class InMemoryJobNotificationChannel implements JobNotificationChannel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryJobNotificationChannel.class);
+
+    protected List<JobsAvailableListener> listeners = new CopyOnWriteArrayList<>();
+    protected AtomicLong notificationCount = new AtomicLong();
+
+    @Override
+    public void notifyJobsAvailable() {
+        notificationCount.incrementAndGet();
+        notifyListeners();
+    }
+
+    protected void notifyListeners() {
+        for (JobsAvailableListener listener : listeners) {
+            try {
+                listener.jobsAvailable();
+            } catch (RuntimeException e) {
+                LOGGER.warn("Exception while notifying listener {} of available jobs", listener, e);
+            }
+        }
+    }
+
+    @Override
+    public void addListener(JobsAvailableListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(JobsAvailableListener listener) {
+        listeners.remove(listener);
+    }
+
+    public List<JobsAvailableListener> getListeners() {
+        return listeners;
+    }
+
+    /**
+     * @return the number of notifications published through this channel
+     */
+    public long getNotificationCount() {
+        return notificationCount.get();
+    }
+
+}
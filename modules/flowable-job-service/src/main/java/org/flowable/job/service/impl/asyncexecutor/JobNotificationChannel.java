@@ -0,0 +1,38 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+/**
+ * Channel through which async executors are notified that new jobs are available for acquisition.
+ * 
+ * Jobs created while the async executor of the engine is active are handed directly to that executor, but other executors 
+ * (for example on other nodes of a cluster) only find them when polling the database. When a channel is configured, the engine 
+ * publishes a notification after every transaction that created jobs which weren't handed to the local executor, and the acquisition 
+ * threads of the async (history) executors subscribe to it, so they can acquire the new jobs immediately instead of waiting for 
+ * their next acquisition cycle.
+ * 
+ * The {@link InMemoryJobNotificationChannel} only notifies listeners in the same JVM. A transport to other nodes (e.g. a message broker, 
+ * or the notification mechanism of a database) can be plugged in by implementing this interface.
+ */
+public interface JobNotificationChannel {
+
+    /**
+     * Notifies all (local and remote) listeners that new jobs are available.
+     */
+    void notifyJobsAvailable();
+
+    void addListener(JobsAvailableListener listener);
+
+    void removeListener(JobsAvailableListener listener);
+
+}
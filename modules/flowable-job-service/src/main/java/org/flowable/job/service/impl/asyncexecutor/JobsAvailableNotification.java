@@ -0,0 +1,66 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.CommandContextCloseListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes a notification on the {@link JobNotificationChannel} when the transaction that created new jobs is committed 
+ * (or when the command context is closed, when there's no transaction context).
+ */
+public class JobsAvailableNotification implements TransactionListener, CommandContextCloseListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobsAvailableNotification.class);
+
+    protected JobNotificationChannel jobNotificationChannel;
+
+    public JobsAvailableNotification(JobNotificationChannel jobNotificationChannel) {
+        this.jobNotificationChannel = jobNotificationChannel;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        notifyJobsAvailable();
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+        notifyJobsAvailable();
+    }
+
+    protected void notifyJobsAvailable() {
+        try {
+            jobNotificationChannel.notifyJobsAvailable();
+        } catch (RuntimeException e) {
+            // The jobs will be found by the next acquisition cycle of the executors
+            LOGGER.warn("Could not publish the notification that new jobs are available", e);
+        }
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+    }
+
+}
@@ -0,0 +1,235 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.job.service.JobInfo;
+import org.flowable.job.service.impl.cmd.ExecuteAsyncJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Async history executor that partitions the history jobs by their job handler configuration, which the async history of the process
+ * engine sets to the id of the process instance the historic data belongs to.
+ *
+ * Partitions are executed concurrently, but the jobs of one partition are executed one after the other, in the order in which they were
+ * created: jobs acquired while the partition is being executed are queued and picked up by the same thread afterwards. Consecutive jobs of
+ * a partition are executed in one transaction (up to {@link #maxJobsPerPartitionBatch}), so that for example a historic activity instance
+ * that is started by one job and ended by the next one is inserted once, instead of being inserted and updated.
+ *
+ * When such a batch fails, its jobs are executed again one by one, each with the usual failure handling. Jobs without partition key are
+ * executed as with the {@link DefaultAsyncHistoryJobExecutor}.
+ *
+ * History jobs are acquired ordered by their creation time and id, so jobs created in the same transaction, which share their creation
+ * time, are acquired in a deterministic order. Within a partition, jobs are executed by creation time, and by id for jobs with the same
+ * creation time, comparing ids of the default id generator as numbers.
+ *
+ * The order is only guaranteed within one node: this executor partitions the jobs it acquires itself, and nothing prevents an executor on
+ * another node from acquiring jobs of the same process instance. Run the partitioned mode on a single node when the history relies on
+ * this order. Jobs of the same partition acquired by other executors, and jobs that failed, still rely on the retry of history jobs that
+ * can't be applied yet.
+ */
+public class PartitionedAsyncHistoryJobExecutor extends DefaultAsyncHistoryJobExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionedAsyncHistoryJobExecutor.class);
+
+    protected static final Comparator<JobInfo> CREATION_ORDER = new Comparator<JobInfo>() {
+
+        @Override
+        public int compare(JobInfo job1, JobInfo job2) {
+            Date createTime1 = ((HistoryJobEntity) job1).getCreateTime();
+            Date createTime2 = ((HistoryJobEntity) job2).getCreateTime();
+            if (createTime1 != null && createTime2 != null && !createTime1.equals(createTime2)) {
+                return createTime1.compareTo(createTime2);
+            }
+
+            // Ids of the default id generator are increasing numbers
+            String id1 = job1.getId();
+            String id2 = job2.getId();
+            if (id1.length() != id2.length()) {
+                return id1.length() - id2.length();
+            }
+            return id1.compareTo(id2);
+        }
+
+    };
+
+    /** Guarded by itself */
+    protected final Map<String, Partition> partitions = new HashMap<>();
+
+    /** The number of jobs that are queued in partitions that are being executed. Guarded by {@link #partitions} */
+    protected int queuedPartitionJobs;
+
+    /** The maximum number of jobs of a partition that are executed in one transaction */
+    protected int maxJobsPerPartitionBatch = 50;
+
+    public PartitionedAsyncHistoryJobExecutor() {
+        // Acquire several jobs at once, so that consecutive jobs of a partition can be executed together
+        setMaxAsyncJobsDuePerAcquisition(maxJobsPerPartitionBatch);
+    }
+
+    @Override
+    protected boolean executeAsyncJob(final JobInfo job, Runnable runnable) {
+        String partitionKey = getPartitionKey(job);
+        if (partitionKey == null) {
+            return super.executeAsyncJob(job, runnable);
+        }
+
+        Partition partition;
+        synchronized (partitions) {
+            partition = partitions.get(partitionKey);
+            if (partition != null) {
+                // The thread executing the partition will execute the job after the jobs queued before it
+                partition.jobs.add(job);
+                queuedPartitionJobs++;
+                return true;
+            }
+
+            partition = new Partition(partitionKey);
+            partition.jobs.add(job);
+            queuedPartitionJobs++;
+            partitions.put(partitionKey, partition);
+        }
+
+        try {
+            executorService.execute(new ExecutePartitionRunnable(partition));
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            List<JobInfo> rejectedJobs;
+            synchronized (partitions) {
+                partitions.remove(partitionKey);
+                rejectedJobs = partition.poll(Integer.MAX_VALUE);
+            }
+            for (JobInfo rejectedJob : rejectedJobs) {
+                unacquireJob(rejectedJob);
+            }
+
+            // Job queue full, returning false so the acquiring can be throttled
+            return false;
+        }
+    }
+
+    protected String getPartitionKey(JobInfo job) {
+        if (job instanceof HistoryJobEntity) {
+            return job.getJobHandlerConfiguration();
+        }
+        return null;
+    }
+
+    @Override
+    public int getRemainingCapacity() {
+        synchronized (partitions) {
+            return super.getRemainingCapacity() - queuedPartitionJobs;
+        }
+    }
+
+    protected void executePartition(Partition partition) {
+        while (true) {
+            List<JobInfo> jobs;
+            synchronized (partitions) {
+                jobs = partition.poll(maxJobsPerPartitionBatch);
+                if (jobs.isEmpty()) {
+                    partitions.remove(partition.key);
+                    return;
+                }
+            }
+
+            try {
+                executeJobs(partition, jobs);
+            } catch (Throwable t) {
+                LOGGER.error("Error while executing the history jobs of partition {}", partition.key, t);
+            }
+        }
+    }
+
+    protected void executeJobs(Partition partition, List<JobInfo> jobs) {
+        if (jobs.size() > 1) {
+            List<String> jobIds = new ArrayList<>(jobs.size());
+            for (JobInfo job : jobs) {
+                jobIds.add(job.getId());
+            }
+
+            try {
+                jobServiceConfiguration.getCommandExecutor().execute(new ExecuteAsyncJobsCmd(jobIds, jobEntityManager));
+                return;
+
+            } catch (Throwable t) {
+                LOGGER.debug("Could not execute {} history jobs of partition {} in one transaction, executing them one by one: {}",
+                        jobs.size(), partition.key, t.getMessage());
+            }
+        }
+
+        for (JobInfo job : jobs) {
+            createRunnableForJob(job).run();
+        }
+    }
+
+    public int getMaxJobsPerPartitionBatch() {
+        return maxJobsPerPartitionBatch;
+    }
+
+    public void setMaxJobsPerPartitionBatch(int maxJobsPerPartitionBatch) {
+        this.maxJobsPerPartitionBatch = maxJobsPerPartitionBatch;
+    }
+
+    protected class Partition {
+
+        protected final String key;
+        protected final LinkedList<JobInfo> jobs = new LinkedList<>();
+
+        public Partition(String key) {
+            this.key = key;
+        }
+
+        /**
+         * Removes and returns at most the given number of queued jobs, in creation order. Must be called while holding the partitions lock.
+         */
+        protected List<JobInfo> poll(int maxJobs) {
+            List<JobInfo> polledJobs = new ArrayList<>(Math.min(maxJobs, jobs.size()));
+            while (!jobs.isEmpty() && polledJobs.size() < maxJobs) {
+                polledJobs.add(jobs.poll());
+            }
+            queuedPartitionJobs -= polledJobs.size();
+            Collections.sort(polledJobs, CREATION_ORDER);
+            return polledJobs;
+        }
+
+    }
+
+    protected class ExecutePartitionRunnable implements Runnable {
+
+        protected final Partition partition;
+
+        public ExecutePartitionRunnable(Partition partition) {
+            this.partition = partition;
+        }
+
+        @Override
+        public void run() {
+            executePartition(partition);
+        }
+
+    }
+
+}
@@ -21,10 +21,14 @@ import org.flowable.job.service.impl.util.CommandContextUtil;
 
 public class UnacquireAsyncHistoryJobExceptionHandler implements AsyncRunnableExecutionExceptionHandler {
 
+    /**
+     * The job handler types of async history jobs all start with this prefix (async-history, async-history-zipped, async-history-binary, ...).
+     */
+    public static final String ASYNC_HISTORY_JOB_HANDLER_TYPE_PREFIX = "async-history";
+
     @Override
     public boolean handleException(final JobServiceConfiguration jobServiceConfiguration, final JobInfo job, final Throwable exception) {
-        if (job != null 
-                && ("async-history".equals(job.getJobHandlerType()) || "async-history-zipped".equals(job.getJobHandlerType()) ) ) {
+        if (job != null && job.getJobHandlerType() != null && job.getJobHandlerType().startsWith(ASYNC_HISTORY_JOB_HANDLER_TYPE_PREFIX)) {
             
             return jobServiceConfiguration.getCommandExecutor().execute(new Command<Boolean>() {
                 @Override
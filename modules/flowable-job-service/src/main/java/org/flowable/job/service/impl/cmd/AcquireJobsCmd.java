@@ -13,6 +13,7 @@
 package org.flowable.job.service.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -49,9 +50,18 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
     @Override
     public AcquiredJobEntities execute(CommandContext commandContext) {
         int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+        AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
+
+        if (CommandContextUtil.getJobServiceConfiguration(commandContext).isAsyncExecutorBulkJobAcquisitionEnabled()) {
+            List<? extends JobInfoEntity> jobs = jobEntityManager.claimJobsToExecute(asyncExecutor.getLockOwner(),
+                    getLockExpirationTime(commandContext, asyncExecutor.getAsyncJobLockTimeInMillis()), new Page(0, maxResults));
+            for (JobInfoEntity job : jobs) {
+                acquiredJobs.addJob(job);
+            }
+            return acquiredJobs;
+        }
 
         List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecute(new Page(0, maxResults)); 
-        AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
 
         for (JobInfoEntity job : jobs) {
             lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis());
@@ -62,10 +72,14 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
     }
 
     protected void lockJob(CommandContext commandContext, JobInfoEntity job, int lockTimeInMillis) {
+        job.setLockOwner(asyncExecutor.getLockOwner());
+        job.setLockExpirationTime(getLockExpirationTime(commandContext, lockTimeInMillis));
+    }
+
+    protected Date getLockExpirationTime(CommandContext commandContext, int lockTimeInMillis) {
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
         gregorianCalendar.setTime(CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime());
         gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
-        job.setLockOwner(asyncExecutor.getLockOwner());
-        job.setLockExpirationTime(gregorianCalendar.getTime());
+        return gregorianCalendar.getTime();
     }
 }
@@ -13,6 +13,7 @@
 package org.flowable.job.service.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -38,6 +39,16 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
     @Override
     public AcquiredTimerJobEntities execute(CommandContext commandContext) {
         AcquiredTimerJobEntities acquiredJobs = new AcquiredTimerJobEntities();
+
+        if (CommandContextUtil.getJobServiceConfiguration(commandContext).isAsyncExecutorBulkJobAcquisitionEnabled()) {
+            List<TimerJobEntity> timerJobs = CommandContextUtil.getTimerJobEntityManager(commandContext).claimTimerJobsToExecute(asyncExecutor.getLockOwner(),
+                    getLockExpirationTime(commandContext, asyncExecutor.getAsyncJobLockTimeInMillis()), new Page(0, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
+            for (TimerJobEntity job : timerJobs) {
+                acquiredJobs.addJob(job);
+            }
+            return acquiredJobs;
+        }
+
         List<TimerJobEntity> timerJobs = CommandContextUtil.getTimerJobEntityManager(commandContext)
                 .findTimerJobsToExecute(new Page(0, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
 
@@ -54,10 +65,14 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
         // This will trigger an optimistic locking exception when two concurrent executors
         // try to lock, as the revision will not match.
 
+        job.setLockOwner(asyncExecutor.getLockOwner());
+        job.setLockExpirationTime(getLockExpirationTime(commandContext, lockTimeInMillis));
+    }
+
+    protected Date getLockExpirationTime(CommandContext commandContext, int lockTimeInMillis) {
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
         gregorianCalendar.setTime(CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime());
         gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
-        job.setLockOwner(asyncExecutor.getLockOwner());
-        job.setLockExpirationTime(gregorianCalendar.getTime());
+        return gregorianCalendar.getTime();
     }
 }
\ No newline at end of file
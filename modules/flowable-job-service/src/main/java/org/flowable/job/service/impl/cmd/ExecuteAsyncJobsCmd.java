@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+
+/**
+ * Executes async jobs one after the other in one transaction: either all of them are executed, or none of them.
+ */
+public class ExecuteAsyncJobsCmd implements Command<Object>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected List<String> jobIds;
+    protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+
+    public ExecuteAsyncJobsCmd(List<String> jobIds, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        this.jobIds = jobIds;
+        this.jobEntityManager = jobEntityManager;
+    }
+
+    @Override
+    public Object execute(CommandContext commandContext) {
+        for (String jobId : jobIds) {
+            new ExecuteAsyncJobCmd(jobId, jobEntityManager).execute(commandContext);
+        }
+        return null;
+    }
+
+}
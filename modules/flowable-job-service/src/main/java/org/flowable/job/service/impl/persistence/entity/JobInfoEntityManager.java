@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.engine.common.impl.Page;
@@ -26,6 +27,14 @@ public interface JobInfoEntityManager <T extends JobInfoEntity> extends EntityMa
      */
     List<T> findJobsToExecute(Page page);
 
+    /**
+     * Returns {@link JobEntity} that are eligible to be executed, locked by the given lock owner until the given expiration time.
+     * 
+     * Contrary to locking the jobs returned by {@link #findJobsToExecute(Page)}, which results in one optimistic locking update per job, 
+     * the jobs are locked with one update statement. Jobs that were acquired concurrently by another executor are not returned.
+     */
+    List<T> claimJobsToExecute(String lockOwner, Date lockExpirationTime, Page page);
+
     /**
      * Returns all {@link JobEntity} instances related to on ExecutionEntity.
      */
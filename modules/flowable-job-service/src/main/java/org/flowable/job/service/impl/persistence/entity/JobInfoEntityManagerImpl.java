@@ -13,6 +13,10 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 
 import org.flowable.engine.common.impl.Page;
@@ -44,6 +48,37 @@ public abstract class JobInfoEntityManagerImpl<T extends JobInfoEntity> extends
         return jobDataManager.findJobsToExecute(page);
     }
 
+    @Override
+    public List<T> claimJobsToExecute(String lockOwner, Date lockExpirationTime, Page page) {
+        List<T> jobs = jobDataManager.findJobsToClaim(page);
+        if (jobs.isEmpty()) {
+            return jobs;
+        }
+
+        List<String> jobIds = new ArrayList<>(jobs.size());
+        for (T job : jobs) {
+            jobIds.add(job.getId());
+        }
+
+        Collection<String> claimedJobIds = jobIds;
+        int claimedJobCount = jobDataManager.claimJobs(jobIds, lockOwner, lockExpirationTime);
+        if (claimedJobCount < jobIds.size()) {
+            // Some of the jobs were acquired by another executor in the meantime
+            claimedJobIds = new HashSet<>(jobDataManager.findJobIdsByLockOwner(jobIds, lockOwner));
+        }
+
+        List<T> claimedJobs = new ArrayList<>(claimedJobIds.size());
+        for (T job : jobs) {
+            if (claimedJobIds.contains(job.getId())) {
+                job.setLockOwner(lockOwner);
+                job.setLockExpirationTime(lockExpirationTime);
+                job.setRevision(job.getRevisionNext()); // the claim update has incremented the revision
+                claimedJobs.add(job);
+            }
+        }
+        return claimedJobs;
+    }
+
     @Override
     public List<T> findJobsByExecutionId(String executionId) {
         return jobDataManager.findJobsByExecutionId(executionId);
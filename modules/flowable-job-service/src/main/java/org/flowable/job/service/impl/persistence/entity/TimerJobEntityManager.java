@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.engine.common.impl.Page;
@@ -40,6 +41,12 @@ public interface TimerJobEntityManager extends EntityManager<TimerJobEntity> {
      */
     List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+    /**
+     * Returns the {@link TimerJobEntity} instances that are eligible to execute, locked by the given lock owner until the given expiration time.
+     * The timer jobs are locked with one update statement, timer jobs that were acquired concurrently by another executor are not returned.
+     */
+    List<TimerJobEntity> claimTimerJobsToExecute(String lockOwner, Date lockExpirationTime, Page page);
+
     /**
      * Returns the {@link TimerJobEntity} for a given process definition.
      * <p>
@@ -13,8 +13,11 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
@@ -65,6 +68,37 @@ public class TimerJobEntityManagerImpl extends AbstractEntityManager<TimerJobEnt
         return jobDataManager.findTimerJobsToExecute(page);
     }
 
+    @Override
+    public List<TimerJobEntity> claimTimerJobsToExecute(String lockOwner, Date lockExpirationTime, Page page) {
+        List<TimerJobEntity> timerJobs = jobDataManager.findTimerJobsToClaim(page);
+        if (timerJobs.isEmpty()) {
+            return timerJobs;
+        }
+
+        List<String> jobIds = new ArrayList<>(timerJobs.size());
+        for (TimerJobEntity timerJob : timerJobs) {
+            jobIds.add(timerJob.getId());
+        }
+
+        Collection<String> claimedJobIds = jobIds;
+        int claimedJobCount = jobDataManager.claimTimerJobs(jobIds, lockOwner, lockExpirationTime);
+        if (claimedJobCount < jobIds.size()) {
+            // Some of the timer jobs were acquired by another executor in the meantime
+            claimedJobIds = new HashSet<>(jobDataManager.findTimerJobIdsByLockOwner(jobIds, lockOwner));
+        }
+
+        List<TimerJobEntity> claimedTimerJobs = new ArrayList<>(claimedJobIds.size());
+        for (TimerJobEntity timerJob : timerJobs) {
+            if (claimedJobIds.contains(timerJob.getId())) {
+                timerJob.setLockOwner(lockOwner);
+                timerJob.setLockExpirationTime(lockExpirationTime);
+                timerJob.setRevision(timerJob.getRevisionNext()); // the claim update has incremented the revision
+                claimedTimerJobs.add(timerJob);
+            }
+        }
+        return claimedTimerJobs;
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
         return jobDataManager.findJobsByTypeAndProcessDefinitionId(jobHandlerType, processDefinitionId);
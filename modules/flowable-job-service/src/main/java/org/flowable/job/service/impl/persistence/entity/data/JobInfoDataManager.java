@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.engine.common.impl.Page;
@@ -22,6 +23,12 @@ public interface JobInfoDataManager<T extends JobInfoEntity> extends DataManager
 
     List<T> findJobsToExecute(Page page);
 
+    List<T> findJobsToClaim(Page page);
+
+    int claimJobs(List<String> jobIds, String lockOwner, Date lockExpirationTime);
+
+    List<String> findJobIdsByLockOwner(List<String> jobIds, String lockOwner);
+
     List<T> findJobsByExecutionId(final String executionId);
 
     List<T> findJobsByProcessInstanceId(final String processInstanceId);
@@ -17,6 +17,7 @@ import java.util.List;
 
 import org.flowable.engine.common.impl.db.AbstractDataManager;
 import org.flowable.engine.common.impl.db.CachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
 import org.flowable.job.service.Job;
 import org.flowable.job.service.impl.DeadLetterJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
@@ -29,6 +30,14 @@ import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.D
  */
 public class MybatisDeadLetterJobDataManager extends AbstractDataManager<DeadLetterJobEntity> implements DeadLetterJobDataManager {
 
+    public static final EntityCacheIndex<DeadLetterJobEntity> EXECUTION_ID_INDEX = new EntityCacheIndex<DeadLetterJobEntity>() {
+
+        @Override
+        public Object getIndexKey(DeadLetterJobEntity entity) {
+            return entity.getExecutionId();
+        }
+    };
+
     protected CachedEntityMatcher<DeadLetterJobEntity> deadLetterByExecutionIdMatcher = new DeadLetterJobsByExecutionIdMatcher();
 
     @Override
@@ -49,10 +49,48 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
         ListQueryParameterObject params = new ListQueryParameterObject();
         params.setFirstResult(page.getFirstResult());
         params.setMaxResults(page.getMaxResults());
-        params.setOrderByColumns("CREATE_TIME_ ASC");
+        params.setOrderByColumns("CREATE_TIME_ ASC, ID_ ASC");
         return getDbSqlSession().selectList("selectHistoryJobsToExecute", params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoryJobEntity> findJobsToClaim(Page page) {
+        ListQueryParameterObject params = new ListQueryParameterObject();
+        params.setFirstResult(page.getFirstResult());
+        params.setMaxResults(page.getMaxResults());
+        params.setOrderByColumns("CREATE_TIME_ ASC, ID_ ASC");
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck(getToClaimStatement("selectHistoryJobsToClaim"), params);
+    }
+
+    /**
+     * On MySQL, the candidate jobs are only selected with 'for update skip locked' when the server is configured to support it.
+     */
+    protected String getToClaimStatement(String statement) {
+        if (CommandContextUtil.getJobServiceConfiguration().isAsyncExecutorBulkJobAcquisitionMysqlSkipLocked() && getDbSqlSession().getDbSqlSessionFactory().isMysql()) {
+            return statement + "SkipLocked";
+        }
+        return statement;
+    }
+
+    @Override
+    public int claimJobs(List<String> jobIds, String lockOwner, Date lockExpirationTime) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobIds", jobIds);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        return getDbSqlSession().update("claimHistoryJobs", params);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findJobIdsByLockOwner(List<String> jobIds, String lockOwner) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobIds", jobIds);
+        params.put("lockOwner", lockOwner);
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectHistoryJobIdsByLockOwner", params);
+    }
+
     @Override
     public List<HistoryJobEntity> findJobsByExecutionId(final String executionId) {
         return getDbSqlSession().selectList("selectHistoryJobsByExecutionId", executionId);
@@ -20,6 +20,8 @@ import java.util.Map;
 import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.common.impl.db.AbstractDataManager;
 import org.flowable.engine.common.impl.db.CachedEntityMatcher;
+import org.flowable.engine.common.impl.db.ListQueryParameterObject;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
 import org.flowable.job.service.Job;
 import org.flowable.job.service.impl.JobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
@@ -34,6 +36,14 @@ import org.flowable.job.service.impl.util.CommandContextUtil;
  */
 public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implements JobDataManager {
 
+    public static final EntityCacheIndex<JobEntity> EXECUTION_ID_INDEX = new EntityCacheIndex<JobEntity>() {
+
+        @Override
+        public Object getIndexKey(JobEntity entity) {
+            return entity.getExecutionId();
+        }
+    };
+
     protected CachedEntityMatcher<JobEntity> jobsByExecutionIdMatcher = new JobsByExecutionIdMatcher();
 
     @Override
@@ -52,6 +62,41 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         return getDbSqlSession().selectList("selectJobsToExecute", null, page);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobEntity> findJobsToClaim(Page page) {
+        ListQueryParameterObject params = new ListQueryParameterObject(null, page.getFirstResult(), page.getMaxResults());
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck(getToClaimStatement("selectJobsToClaim"), params);
+    }
+
+    /**
+     * On MySQL, the candidate jobs are only selected with 'for update skip locked' when the server is configured to support it.
+     */
+    protected String getToClaimStatement(String statement) {
+        if (CommandContextUtil.getJobServiceConfiguration().isAsyncExecutorBulkJobAcquisitionMysqlSkipLocked() && getDbSqlSession().getDbSqlSessionFactory().isMysql()) {
+            return statement + "SkipLocked";
+        }
+        return statement;
+    }
+
+    @Override
+    public int claimJobs(List<String> jobIds, String lockOwner, Date lockExpirationTime) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobIds", jobIds);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        return getDbSqlSession().update("claimJobs", params);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findJobIdsByLockOwner(List<String> jobIds, String lockOwner) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobIds", jobIds);
+        params.put("lockOwner", lockOwner);
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectJobIdsByLockOwner", params);
+    }
+
     @Override
     public List<JobEntity> findJobsByExecutionId(final String executionId) {
         return getList("selectJobsByExecutionId", executionId, jobsByExecutionIdMatcher, true);
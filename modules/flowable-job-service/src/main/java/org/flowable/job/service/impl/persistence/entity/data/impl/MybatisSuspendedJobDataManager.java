@@ -17,6 +17,7 @@ import java.util.List;
 
 import org.flowable.engine.common.impl.db.AbstractDataManager;
 import org.flowable.engine.common.impl.db.CachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
 import org.flowable.job.service.Job;
 import org.flowable.job.service.impl.SuspendedJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntity;
@@ -29,6 +30,14 @@ import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.S
  */
 public class MybatisSuspendedJobDataManager extends AbstractDataManager<SuspendedJobEntity> implements SuspendedJobDataManager {
 
+    public static final EntityCacheIndex<SuspendedJobEntity> EXECUTION_ID_INDEX = new EntityCacheIndex<SuspendedJobEntity>() {
+
+        @Override
+        public Object getIndexKey(SuspendedJobEntity entity) {
+            return entity.getExecutionId();
+        }
+    };
+
     protected CachedEntityMatcher<SuspendedJobEntity> suspendedJobsByExecutionIdMatcher = new SuspendedJobsByExecutionIdMatcher();
 
     @Override
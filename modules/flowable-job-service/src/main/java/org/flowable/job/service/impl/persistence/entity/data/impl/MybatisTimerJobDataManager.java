@@ -20,6 +20,8 @@ import java.util.Map;
 import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.common.impl.db.AbstractDataManager;
 import org.flowable.engine.common.impl.db.CachedEntityMatcher;
+import org.flowable.engine.common.impl.db.ListQueryParameterObject;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
 import org.flowable.job.service.Job;
 import org.flowable.job.service.impl.TimerJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
@@ -34,6 +36,14 @@ import org.flowable.job.service.impl.util.CommandContextUtil;
  */
 public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEntity> implements TimerJobDataManager {
 
+    public static final EntityCacheIndex<TimerJobEntity> EXECUTION_ID_INDEX = new EntityCacheIndex<TimerJobEntity>() {
+
+        @Override
+        public Object getIndexKey(TimerJobEntity entity) {
+            return entity.getExecutionId();
+        }
+    };
+
     protected CachedEntityMatcher<TimerJobEntity> timerJobsByExecutionIdMatcher = new TimerJobsByExecutionIdMatcher();
 
     @Override
@@ -65,6 +75,42 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         return getDbSqlSession().selectList("selectTimerJobsToExecute", now, page);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> findTimerJobsToClaim(Page page) {
+        Date now = CommandContextUtil.getJobServiceConfiguration().getClock().getCurrentTime();
+        ListQueryParameterObject params = new ListQueryParameterObject(now, page.getFirstResult(), page.getMaxResults());
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck(getToClaimStatement("selectTimerJobsToClaim"), params);
+    }
+
+    /**
+     * On MySQL, the candidate jobs are only selected with 'for update skip locked' when the server is configured to support it.
+     */
+    protected String getToClaimStatement(String statement) {
+        if (CommandContextUtil.getJobServiceConfiguration().isAsyncExecutorBulkJobAcquisitionMysqlSkipLocked() && getDbSqlSession().getDbSqlSessionFactory().isMysql()) {
+            return statement + "SkipLocked";
+        }
+        return statement;
+    }
+
+    @Override
+    public int claimTimerJobs(List<String> jobIds, String lockOwner, Date lockExpirationTime) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobIds", jobIds);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        return getDbSqlSession().update("claimTimerJobs", params);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findTimerJobIdsByLockOwner(List<String> jobIds, String lockOwner) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobIds", jobIds);
+        params.put("lockOwner", lockOwner);
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectTimerJobIdsByLockOwner", params);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
@@ -12,13 +12,18 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcherAdapter;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
+import org.flowable.job.service.impl.persistence.entity.data.impl.MybatisDeadLetterJobDataManager;
 
 /**
  * @author Joram Barrez
  */
-public class DeadLetterJobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<DeadLetterJobEntity> {
+public class DeadLetterJobsByExecutionIdMatcher extends IndexedCachedEntityMatcherAdapter<DeadLetterJobEntity> {
+
+    public DeadLetterJobsByExecutionIdMatcher() {
+        super(MybatisDeadLetterJobDataManager.EXECUTION_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(DeadLetterJobEntity jobEntity, Object param) {
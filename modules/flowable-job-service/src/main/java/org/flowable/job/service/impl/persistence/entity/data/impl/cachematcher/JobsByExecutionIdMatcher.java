@@ -12,13 +12,18 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcherAdapter;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.data.impl.MybatisJobDataManager;
 
 /**
  * @author Joram Barrez
  */
-public class JobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<JobEntity> {
+public class JobsByExecutionIdMatcher extends IndexedCachedEntityMatcherAdapter<JobEntity> {
+
+    public JobsByExecutionIdMatcher() {
+        super(MybatisJobDataManager.EXECUTION_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(JobEntity jobEntity, Object parameter) {
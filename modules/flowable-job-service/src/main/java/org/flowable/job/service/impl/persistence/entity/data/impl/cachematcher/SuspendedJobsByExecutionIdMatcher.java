@@ -12,13 +12,18 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcherAdapter;
 import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntity;
+import org.flowable.job.service.impl.persistence.entity.data.impl.MybatisSuspendedJobDataManager;
 
 /**
  * @author Joram Barrez
  */
-public class SuspendedJobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<SuspendedJobEntity> {
+public class SuspendedJobsByExecutionIdMatcher extends IndexedCachedEntityMatcherAdapter<SuspendedJobEntity> {
+
+    public SuspendedJobsByExecutionIdMatcher() {
+        super(MybatisSuspendedJobDataManager.EXECUTION_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(SuspendedJobEntity jobEntity, Object param) {
@@ -12,13 +12,18 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcherAdapter;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.data.impl.MybatisTimerJobDataManager;
 
 /**
  * @author Joram Barrez
  */
-public class TimerJobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<TimerJobEntity> {
+public class TimerJobsByExecutionIdMatcher extends IndexedCachedEntityMatcherAdapter<TimerJobEntity> {
+
+    public TimerJobsByExecutionIdMatcher() {
+        super(MybatisTimerJobDataManager.EXECUTION_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(TimerJobEntity jobEntity, Object param) {
@@ -12,13 +12,8 @@
  */
 package org.flowable.ldap;
 
-import java.util.Date;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
-
 import org.flowable.engine.common.runtime.ClockReader;
-import org.flowable.idm.api.Group;
+import org.flowable.idm.engine.impl.cache.GroupMembershipCache;
 
 /**
  * Simple cache for groups a user belongs to, which avoid hitting the LDAP system too much. Groups are fetched internally by the engine for example when doing queries, eg when fetching tasks for a
@@ -26,94 +21,46 @@ import org.flowable.idm.api.Group;
  * 
  * Cached entries have an expiration time. For example when set to one hour, changes to the ldap system around the groups of a user will be visible after that hour.
  * 
+ * The cache is safe for concurrent use, see {@link GroupMembershipCache} for the eviction policy that is used when the cache is full.
+ * 
  * Experimental: can have a listener for cache events, and instance of {@link LDAPGroupCacheListener}.
  * 
  * @author Joram Barrez
  */
-public class LDAPGroupCache {
-
-    private final ClockReader clockReader;
-    protected Map<String, LDAPGroupCacheEntry> groupCache;
-    protected long expirationTime;
+public class LDAPGroupCache extends GroupMembershipCache {
 
     protected LDAPGroupCacheListener ldapCacheListener;
 
     public LDAPGroupCache(final int cacheSize, final long expirationTime, final ClockReader clockReader) {
-        this.clockReader = clockReader;
-
-        // From
-        // http://stackoverflow.com/questions/224868/easy-simple-to-use-lru-cache-in-java
-        this.groupCache = new LinkedHashMap<String, LDAPGroupCache.LDAPGroupCacheEntry>(cacheSize + 1, 0.75f, true) {
-
-            private static final long serialVersionUID = 5207574193173514579L;
-
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<String, LDAPGroupCacheEntry> eldest) {
-                boolean removeEldest = size() > cacheSize;
-
-                if (removeEldest && ldapCacheListener != null) {
-                    ldapCacheListener.cacheEviction(eldest.getKey());
-                }
-
-                return removeEldest;
-            }
-
-        };
-        this.expirationTime = expirationTime;
+        super(cacheSize, expirationTime, clockReader);
     }
 
-    public void add(String userId, List<Group> groups) {
-        this.groupCache.put(userId, new LDAPGroupCacheEntry(clockReader.getCurrentTime(), groups));
-    }
-
-    public List<Group> get(String userId) {
-        LDAPGroupCacheEntry cacheEntry = groupCache.get(userId);
-        if (cacheEntry != null) {
-            if ((clockReader.getCurrentTime().getTime() - cacheEntry.getTimestamp().getTime()) < expirationTime) {
-
-                if (ldapCacheListener != null) {
-                    ldapCacheListener.cacheHit(userId);
-                }
-
-                return cacheEntry.getGroups();
-
-            } else {
-
-                this.groupCache.remove(userId);
-
-                if (ldapCacheListener != null) {
-                    ldapCacheListener.cacheExpired(userId);
-                    ldapCacheListener.cacheEviction(userId);
-                }
-
-            }
+    @Override
+    protected void cacheHit(String userId) {
+        if (ldapCacheListener != null) {
+            ldapCacheListener.cacheHit(userId);
         }
+    }
 
+    @Override
+    protected void cacheMiss(String userId) {
         if (ldapCacheListener != null) {
             ldapCacheListener.cacheMiss(userId);
         }
-
-        return null;
-    }
-
-    public void clear() {
-        groupCache.clear();
-    }
-
-    public Map<String, LDAPGroupCacheEntry> getGroupCache() {
-        return groupCache;
     }
 
-    public void setGroupCache(Map<String, LDAPGroupCacheEntry> groupCache) {
-        this.groupCache = groupCache;
-    }
-
-    public long getExpirationTime() {
-        return expirationTime;
+    @Override
+    protected void cacheEviction(String userId) {
+        if (ldapCacheListener != null) {
+            ldapCacheListener.cacheEviction(userId);
+        }
     }
 
-    public void setExpirationTime(long expirationTime) {
-        this.expirationTime = expirationTime;
+    @Override
+    protected void cacheExpired(String userId) {
+        if (ldapCacheListener != null) {
+            ldapCacheListener.cacheExpired(userId);
+        }
     }
 
     public LDAPGroupCacheListener getLdapCacheListener() {
@@ -124,40 +71,6 @@ public class LDAPGroupCache {
         this.ldapCacheListener = ldapCacheListener;
     }
 
-    // Helper classes ////////////////////////////////////
-
-    static class LDAPGroupCacheEntry {
-
-        protected Date timestamp;
-        protected List<Group> groups;
-
-        public LDAPGroupCacheEntry() {
-
-        }
-
-        public LDAPGroupCacheEntry(Date timestamp, List<Group> groups) {
-            this.timestamp = timestamp;
-            this.groups = groups;
-        }
-
-        public Date getTimestamp() {
-            return timestamp;
-        }
-
-        public void setTimestamp(Date timestamp) {
-            this.timestamp = timestamp;
-        }
-
-        public List<Group> getGroups() {
-            return groups;
-        }
-
-        public void setGroups(List<Group> groups) {
-            this.groups = groups;
-        }
-
-    }
-
     // Cache listeners. Currently not yet exposed (only programmatically for the
     // moment)
 
@@ -13,6 +13,7 @@
 
 package org.flowable.rest.service.api.history;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -24,6 +25,8 @@ import org.flowable.rest.api.DataResponse;
 import org.flowable.rest.service.api.RestResponseFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 /**
  * @author Tijs Rademakers
  */
@@ -52,6 +55,16 @@ public class HistoricActivityInstanceBaseResource {
     protected HistoryService historyService;
 
     protected DataResponse getQueryResponse(HistoricActivityInstanceQueryRequest queryRequest, Map<String, String> allRequestParams) {
+        HistoricActivityInstanceQuery query = createQuery(queryRequest);
+        return new HistoricActivityInstancePaginateList(restResponseFactory).paginateList(allRequestParams, queryRequest, query, "startTime", allowedSortProperties);
+    }
+
+    protected void streamQueryResponse(HistoricActivityInstanceQueryRequest queryRequest, Map<String, String> allRequestParams, JsonGenerator generator) throws IOException {
+        HistoricActivityInstanceQuery query = createQuery(queryRequest);
+        new HistoricActivityInstancePaginateList(restResponseFactory).streamList(allRequestParams, queryRequest, query, "startTime", allowedSortProperties, generator);
+    }
+
+    protected HistoricActivityInstanceQuery createQuery(HistoricActivityInstanceQueryRequest queryRequest) {
         HistoricActivityInstanceQuery query = historyService.createHistoricActivityInstanceQuery();
 
         // Populate query based on request
@@ -108,6 +121,6 @@ public class HistoricActivityInstanceBaseResource {
             query.activityWithoutTenantId();
         }
 
-        return new HistoricActivityInstancePaginateList(restResponseFactory).paginateList(allRequestParams, queryRequest, query, "startTime", allowedSortProperties);
+        return query;
     }
 }
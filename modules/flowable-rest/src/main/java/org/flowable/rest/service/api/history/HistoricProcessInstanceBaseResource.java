@@ -13,6 +13,7 @@
 
 package org.flowable.rest.service.api.history;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -29,6 +30,8 @@ import org.flowable.rest.service.api.engine.variable.QueryVariable;
 import org.flowable.rest.service.api.engine.variable.QueryVariable.QueryVariableOperation;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 /**
  * @author Tijs Rademakers
  */
@@ -53,6 +56,16 @@ public class HistoricProcessInstanceBaseResource {
     protected HistoryService historyService;
 
     protected DataResponse getQueryResponse(HistoricProcessInstanceQueryRequest queryRequest, Map<String, String> allRequestParams) {
+        HistoricProcessInstanceQuery query = createQuery(queryRequest);
+        return new HistoricProcessInstancePaginateList(restResponseFactory).paginateList(allRequestParams, queryRequest, query, "processInstanceId", allowedSortProperties);
+    }
+
+    protected void streamQueryResponse(HistoricProcessInstanceQueryRequest queryRequest, Map<String, String> allRequestParams, JsonGenerator generator) throws IOException {
+        HistoricProcessInstanceQuery query = createQuery(queryRequest);
+        new HistoricProcessInstancePaginateList(restResponseFactory).streamList(allRequestParams, queryRequest, query, "processInstanceId", allowedSortProperties, generator);
+    }
+
+    protected HistoricProcessInstanceQuery createQuery(HistoricProcessInstanceQueryRequest queryRequest) {
         HistoricProcessInstanceQuery query = historyService.createHistoricProcessInstanceQuery();
 
         // Populate query based on request
@@ -123,7 +136,7 @@ public class HistoricProcessInstanceBaseResource {
             query.processInstanceWithoutTenantId();
         }
 
-        return new HistoricProcessInstancePaginateList(restResponseFactory).paginateList(allRequestParams, queryRequest, query, "processInstanceId", allowedSortProperties);
+        return query;
     }
 
     protected void addVariables(HistoricProcessInstanceQuery processInstanceQuery, List<QueryVariable> variables) {
@@ -13,17 +13,23 @@
 
 package org.flowable.rest.service.api.history;
 
+import java.io.IOException;
 import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.flowable.rest.api.DataResponse;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -38,6 +44,9 @@ import io.swagger.annotations.Authorization;
 @Api(tags = { "History" }, description = "Manage History", authorizations = { @Authorization(value = "basicAuth") })
 public class HistoricProcessInstanceQueryResource extends HistoricProcessInstanceBaseResource {
 
+    @Autowired
+    protected ObjectMapper objectMapper;
+
     @ApiOperation(value = "Query for historic process instances", tags = {
             "History" }, nickname = "queryHistoricProcessInstance", notes = "All supported JSON parameter fields allowed are exactly the same as the parameters found for getting a collection of historic process instances, but passed in as JSON-body arguments rather than URL-parameters to allow for more advanced querying and preventing errors with request-uri’s that are too long. On top of that, the query allows for filtering based on process variables. The variables property is a JSON-array containing objects with the format as described here.")
     @ApiResponses(value = {
@@ -48,4 +57,17 @@ public class HistoricProcessInstanceQueryResource extends HistoricProcessInstanc
 
         return getQueryResponse(queryRequest, allRequestParams);
     }
+
+    @ApiOperation(value = "Stream all historic process instances matching a query", tags = { "History" }, notes = "Accepts the same JSON body as the query for historic process instances, but returns all matching process instances as a JSON array that is read from the database in batches while it is written. Paging parameters are ignored, sort and order are applied. When reading fails after the response started, the response is aborted before the array is closed, so the JSON is incomplete.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates request was successful and the process instances are returned"),
+            @ApiResponse(code = 400, message = "Indicates an parameter was passed in the wrong format or the query can't be streamed. The status-message contains additional information") })
+    @RequestMapping(value = "/query/historic-process-instances/stream", method = RequestMethod.POST, produces = "application/json")
+    public void streamProcessInstances(@RequestBody HistoricProcessInstanceQueryRequest queryRequest, @ApiParam(hidden = true) @RequestParam Map<String, String> allRequestParams, HttpServletResponse response) throws IOException {
+
+        response.setContentType("application/json;charset=UTF-8");
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        streamQueryResponse(queryRequest, allRequestParams, generator);
+        generator.close();
+    }
 }
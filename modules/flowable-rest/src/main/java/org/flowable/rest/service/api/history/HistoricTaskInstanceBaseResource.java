@@ -13,6 +13,7 @@
 
 package org.flowable.rest.service.api.history;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +28,8 @@ import org.flowable.task.service.history.HistoricTaskInstanceQuery;
 import org.flowable.task.service.impl.HistoricTaskInstanceQueryProperty;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 /**
  * @author Tijs Rademakers
  */
@@ -64,6 +67,16 @@ public class HistoricTaskInstanceBaseResource {
     protected HistoryService historyService;
 
     protected DataResponse getQueryResponse(HistoricTaskInstanceQueryRequest queryRequest, Map<String, String> allRequestParams, String serverRootUrl) {
+        HistoricTaskInstanceQuery query = createQuery(queryRequest);
+        return new HistoricTaskInstancePaginateList(restResponseFactory, serverRootUrl).paginateList(allRequestParams, queryRequest, query, "taskInstanceId", allowedSortProperties);
+    }
+
+    protected void streamQueryResponse(HistoricTaskInstanceQueryRequest queryRequest, Map<String, String> allRequestParams, String serverRootUrl, JsonGenerator generator) throws IOException {
+        HistoricTaskInstanceQuery query = createQuery(queryRequest);
+        new HistoricTaskInstancePaginateList(restResponseFactory, serverRootUrl).streamList(allRequestParams, queryRequest, query, "taskInstanceId", allowedSortProperties, generator);
+    }
+
+    protected HistoricTaskInstanceQuery createQuery(HistoricTaskInstanceQueryRequest queryRequest) {
         HistoricTaskInstanceQuery query = historyService.createHistoricTaskInstanceQuery();
 
         // Populate query based on request
@@ -240,7 +253,7 @@ public class HistoricTaskInstanceBaseResource {
             query.taskCandidateGroup(queryRequest.getTaskCandidateGroup());
         }
 
-        return new HistoricTaskInstancePaginateList(restResponseFactory, serverRootUrl).paginateList(allRequestParams, queryRequest, query, "taskInstanceId", allowedSortProperties);
+        return query;
     }
 
     protected void addTaskVariables(HistoricTaskInstanceQuery taskInstanceQuery, List<QueryVariable> variables) {
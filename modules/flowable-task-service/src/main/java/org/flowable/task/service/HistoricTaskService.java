@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.task.service.history.HistoricTaskInstance;
@@ -41,4 +42,9 @@ public interface HistoricTaskService {
     void insertHistoricTask(HistoricTaskInstanceEntity historicTaskInstanceEntity, boolean fireCreateEvent);
     
     void deleteHistoricTask(HistoricTaskInstanceEntity HistoricTaskInstance);
+
+    /**
+     * Deletes all historic task instances of the given process instances with a set-based statement, without loading them first.
+     */
+    void bulkDeleteHistoricTaskInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
 }
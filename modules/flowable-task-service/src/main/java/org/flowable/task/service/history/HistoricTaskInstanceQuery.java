@@ -15,6 +15,7 @@ package org.flowable.task.service.history;
 
 import java.util.Date;
 
+import org.flowable.engine.common.api.query.ScrollableQuery;
 import org.flowable.task.service.TaskInfoQuery;
 
 /**
@@ -23,7 +24,7 @@ import org.flowable.task.service.TaskInfoQuery;
  * @author Tom Baeyens
  * @author Joram Barrez
  */
-public interface HistoricTaskInstanceQuery extends TaskInfoQuery<HistoricTaskInstanceQuery, HistoricTaskInstance> {
+public interface HistoricTaskInstanceQuery extends TaskInfoQuery<HistoricTaskInstanceQuery, HistoricTaskInstance>, ScrollableQuery<HistoricTaskInstance> {
 
     /** Only select historic task instances with the given task delete reason. */
     HistoricTaskInstanceQuery taskDeleteReason(String taskDeleteReason);
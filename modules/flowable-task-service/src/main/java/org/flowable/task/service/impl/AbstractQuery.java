@@ -17,11 +17,16 @@ import java.util.List;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.CursorPage;
 import org.flowable.engine.common.api.query.Query;
+import org.flowable.engine.common.api.query.QueryCursor;
 import org.flowable.engine.common.api.query.QueryProperty;
+import org.flowable.engine.common.api.query.QueryResultHandler;
+import org.flowable.engine.common.api.query.ScrollableQuery;
 import org.flowable.engine.common.impl.Direction;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.db.ListQueryParameterObject;
+import org.flowable.engine.common.impl.db.QueryCursorUtil;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.interceptor.CommandExecutor;
@@ -37,6 +42,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
 
     protected transient CommandExecutor commandExecutor;
     protected transient CommandContext commandContext;
+    protected transient QueryResultHandler<? super U> resultHandler;
 
     protected AbstractQuery() {
         parameter = this;
@@ -127,6 +133,33 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return executeList(Context.getCommandContext());
     }
 
+    /**
+     * Implements {@link ScrollableQuery#listPageAfter(QueryCursor, int)} for the queries that support it.
+     */
+    @SuppressWarnings("unchecked")
+    public CursorPage<U> listPageAfter(QueryCursor cursor, int maxResults) {
+        initializeListPageAfter(cursor, maxResults, getCursorResultMap());
+        if (commandExecutor != null) {
+            return (CursorPage<U>) commandExecutor.execute(this);
+        }
+        return executeListPageAfter(Context.getCommandContext());
+    }
+
+    /**
+     * Implements {@link ScrollableQuery#stream(QueryResultHandler)} for the queries that support it.
+     */
+    public void stream(QueryResultHandler<? super U> resultHandler) {
+        this.resultHandler = resultHandler;
+        this.firstResult = -1;
+        this.maxResults = -1;
+        this.resultType = ResultType.STREAM;
+        if (commandExecutor != null) {
+            commandExecutor.execute(this);
+        } else {
+            executeStream(Context.getCommandContext(), resultHandler);
+        }
+    }
+
     @Override
     public long count() {
         this.resultType = ResultType.COUNT;
@@ -144,6 +177,11 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
             return executeSingleResult(commandContext);
         } else if (resultType == ResultType.LIST_PAGE) {
             return executeList(commandContext);
+        } else if (resultType == ResultType.LIST_PAGE_AFTER) {
+            return executeListPageAfter(commandContext);
+        } else if (resultType == ResultType.STREAM) {
+            executeStream(commandContext, resultHandler);
+            return null;
         } else {
             return executeCount(commandContext);
         }
@@ -156,6 +194,26 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
      */
     public abstract List<U> executeList(CommandContext commandContext);
 
+    public CursorPage<U> executeListPageAfter(CommandContext commandContext) {
+        return QueryCursorUtil.createCursorPage(this, executeList(commandContext), getCursorResultMap(), commandContext);
+    }
+
+    /**
+     * Returns the id of the MyBatis result map used to map the results of {@link #executeList(CommandContext)}, which is needed to
+     * create the cursor of the next page. Queries that support {@link #listPageAfter(QueryCursor, int)} override this method.
+     */
+    protected String getCursorResultMap() {
+        return null;
+    }
+
+    /**
+     * Executes the query and passes the results to the result handler, without keeping them in a list or in the entity cache.
+     * Queries that support {@link #stream(QueryResultHandler)} override this method.
+     */
+    public void executeStream(CommandContext commandContext, QueryResultHandler<? super U> resultHandler) {
+        throw new FlowableIllegalArgumentException("Streaming results is not supported by " + getClass().getName());
+    }
+
     public U executeSingleResult(CommandContext commandContext) {
         List<U> results = executeList(commandContext);
         if (results.size() == 1) {
@@ -19,6 +19,9 @@ import java.util.List;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.CursorPage;
+import org.flowable.engine.common.api.query.QueryCursor;
+import org.flowable.engine.common.api.query.QueryResultHandler;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.interceptor.CommandExecutor;
 import org.flowable.idm.api.Group;
@@ -78,6 +81,7 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     protected String candidateUser;
     protected String candidateGroup;
     private List<String> candidateGroups;
+    private List<String> cachedCandidateGroups;
     protected String involvedUser;
     protected Integer taskPriority;
     protected Integer taskMinPriority;
@@ -150,6 +154,37 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return tasks;
     }
 
+    @Override
+    public void executeStream(CommandContext commandContext, final QueryResultHandler<? super HistoricTaskInstance> resultHandler) {
+        checkQueryOk();
+        ensureVariablesInitialized();
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
+            throw new FlowableIllegalArgumentException("Streaming results is not supported when variables or identity links are included");
+        }
+
+        QueryResultHandler<? super HistoricTaskInstance> handler = resultHandler;
+        final TaskServiceConfiguration taskServiceConfiguration = CommandContextUtil.getTaskServiceConfiguration();
+        if (taskServiceConfiguration.isEnableLocalization()) {
+            handler = new QueryResultHandler<HistoricTaskInstance>() {
+
+                @Override
+                public void handleResult(HistoricTaskInstance task) {
+                    taskServiceConfiguration.getInternalTaskLocalizationManager().localize(task, locale, withLocalizationFallback);
+                    resultHandler.handleResult(task);
+                }
+            };
+        }
+        CommandContextUtil.getHistoricTaskInstanceEntityManager(commandContext).findHistoricTaskInstancesByQueryCriteria(this, handler);
+    }
+
+    @Override
+    protected String getCursorResultMap() {
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
+            return null;
+        }
+        return "historicTaskInstanceResultMap";
+    }
+
     @Override
     public HistoricTaskInstanceQueryImpl processInstanceId(String processInstanceId) {
         if (inOrStatement) {
@@ -1363,7 +1398,10 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
             return candidateGroups;
 
         } else if (candidateUser != null) {
-            return getGroupsForCandidateUser(candidateUser);
+            if (cachedCandidateGroups == null) {
+                cachedCandidateGroups = getGroupsForCandidateUser(candidateUser);
+            }
+            return cachedCandidateGroups;
         }
         return null;
     }
@@ -1654,4 +1692,34 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     public List<HistoricTaskInstanceQueryImpl> getOrQueryObjects() {
         return orQueryObjects;
     }
+
+    @Override
+    public List<HistoricTaskInstance> list() {
+        cachedCandidateGroups = null;
+        return super.list();
+    }
+
+    @Override
+    public List<HistoricTaskInstance> listPage(int firstResult, int maxResults) {
+        cachedCandidateGroups = null;
+        return super.listPage(firstResult, maxResults);
+    }
+
+    @Override
+    public CursorPage<HistoricTaskInstance> listPageAfter(QueryCursor cursor, int maxResults) {
+        cachedCandidateGroups = null;
+        return super.listPageAfter(cursor, maxResults);
+    }
+
+    @Override
+    public void stream(QueryResultHandler<? super HistoricTaskInstance> resultHandler) {
+        cachedCandidateGroups = null;
+        super.stream(resultHandler);
+    }
+
+    @Override
+    public long count() {
+        cachedCandidateGroups = null;
+        return super.count();
+    }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.task.service.HistoricTaskService;
@@ -74,4 +75,9 @@ public class HistoricTaskServiceImpl extends ServiceImpl implements HistoricTask
         getHistoricTaskInstanceEntityManager().delete(HistoricTaskInstance);
     }
 
+    @Override
+    public void bulkDeleteHistoricTaskInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricTaskInstanceEntityManager().bulkDeleteHistoricTaskInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
 }
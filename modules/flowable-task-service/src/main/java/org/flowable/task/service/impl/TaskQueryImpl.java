@@ -18,6 +18,9 @@ import java.util.List;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.CursorPage;
+import org.flowable.engine.common.api.query.QueryCursor;
+import org.flowable.engine.common.api.query.QueryResultHandler;
 import org.flowable.engine.common.impl.db.SuspensionState;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.interceptor.CommandExecutor;
@@ -1231,7 +1234,7 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
 
         } else if (userIdForCandidateAndAssignee != null) {
             if (cachedCandidateGroups == null) {
-                return getGroupsForCandidateUser(userIdForCandidateAndAssignee);
+                cachedCandidateGroups = getGroupsForCandidateUser(userIdForCandidateAndAssignee);
             }
             return cachedCandidateGroups;
         }
@@ -1400,6 +1403,14 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return tasks;
     }
 
+    @Override
+    protected String getCursorResultMap() {
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
+            return null;
+        }
+        return "taskResultMap";
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
@@ -1689,6 +1700,18 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return super.listPage(firstResult, maxResults);
     }
 
+    @Override
+    public CursorPage<Task> listPageAfter(QueryCursor cursor, int maxResults) {
+        cachedCandidateGroups = null;
+        return super.listPageAfter(cursor, maxResults);
+    }
+
+    @Override
+    public void stream(QueryResultHandler<? super Task> resultHandler) {
+        cachedCandidateGroups = null;
+        super.stream(resultHandler);
+    }
+
     @Override
     public long count() {
         cachedCandidateGroups = null;
@@ -13,10 +13,12 @@
 
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.query.QueryResultHandler;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
 import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.history.HistoricTaskInstance;
@@ -73,6 +75,13 @@ public class HistoricTaskInstanceEntityManagerImpl extends AbstractEntityManager
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    public void findHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery, QueryResultHandler<? super HistoricTaskInstance> resultHandler) {
+        if (taskServiceConfiguration.isHistoryEnabled()) {
+            historicTaskInstanceDataManager.findHistoricTaskInstancesByQueryCriteria(historicTaskInstanceQuery, resultHandler);
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
@@ -92,6 +101,11 @@ public class HistoricTaskInstanceEntityManagerImpl extends AbstractEntityManager
         return historicTaskInstanceDataManager.findHistoricTaskInstanceCountByNativeQuery(parameterMap);
     }
 
+    @Override
+    public void bulkDeleteHistoricTaskInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicTaskInstanceDataManager.bulkDeleteHistoricTaskInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
     public HistoricTaskInstanceDataManager getHistoricTaskInstanceDataManager() {
         return historicTaskInstanceDataManager;
     }
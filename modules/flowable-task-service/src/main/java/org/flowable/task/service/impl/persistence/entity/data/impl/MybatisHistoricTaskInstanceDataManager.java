@@ -12,10 +12,12 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.query.QueryResultHandler;
 import org.flowable.engine.common.impl.db.AbstractDataManager;
 import org.flowable.task.service.history.HistoricTaskInstance;
 import org.flowable.task.service.impl.HistoricTaskInstanceQueryImpl;
@@ -68,6 +70,11 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
         return getDbSqlSession().selectList("selectHistoricTaskInstancesByQueryCriteria", historicTaskInstanceQuery);
     }
 
+    @Override
+    public void findHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery, QueryResultHandler<? super HistoricTaskInstance> resultHandler) {
+        getDbSqlSession().selectWithResultHandler("selectHistoricTaskInstancesStreamByQueryCriteria", historicTaskInstanceQuery, resultHandler);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
@@ -115,4 +122,9 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
         return (Long) getDbSqlSession().selectOne("selectHistoricTaskInstanceCountByNativeQuery", parameterMap);
     }
 
+    @Override
+    public void bulkDeleteHistoricTaskInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteHistoricTaskInstancesByProcessInstanceIds", processInstanceIds, getManagedEntityClass());
+    }
+
 }
@@ -19,6 +19,7 @@ import java.util.Map;
 
 import org.flowable.engine.common.impl.db.AbstractDataManager;
 import org.flowable.engine.common.impl.db.CachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
 import org.flowable.task.service.Task;
 import org.flowable.task.service.impl.TaskQueryImpl;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
@@ -32,6 +33,14 @@ import org.flowable.task.service.impl.util.CommandContextUtil;
  */
 public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> implements TaskDataManager {
 
+    public static final EntityCacheIndex<TaskEntity> EXECUTION_ID_INDEX = new EntityCacheIndex<TaskEntity>() {
+
+        @Override
+        public Object getIndexKey(TaskEntity entity) {
+            return entity.getExecutionId();
+        }
+    };
+
     protected CachedEntityMatcher<TaskEntity> tasksByExecutionIdMatcher = new TasksByExecutionIdMatcher();
 
     @Override
@@ -12,13 +12,18 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcherAdapter;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.flowable.task.service.impl.persistence.entity.data.impl.MybatisTaskDataManager;
 
 /**
  * @author Joram Barrez
  */
-public class TasksByExecutionIdMatcher extends CachedEntityMatcherAdapter<TaskEntity> {
+public class TasksByExecutionIdMatcher extends IndexedCachedEntityMatcherAdapter<TaskEntity> {
+
+    public TasksByExecutionIdMatcher() {
+        super(MybatisTaskDataManager.EXECUTION_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(TaskEntity taskEntity, Object parameter) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.variable.service.history.HistoricVariableInstance;
@@ -45,4 +46,14 @@ public interface HistoricVariableService {
     void deleteHistoricVariableInstancesByProcessInstanceId(String processInstanceId);
     
     void deleteHistoricVariableInstancesByTaskId(String taskId);
+
+    /**
+     * Deletes all historic variable instances of the given process instances with set-based statements, without loading them first.
+     */
+    void bulkDeleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    /**
+     * Deletes all historic variable instances of the given scopes with set-based statements, without loading them first.
+     */
+    void bulkDeleteHistoricVariableInstancesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
@@ -30,4 +30,12 @@ public interface VariableInstanceEntity extends VariableInstance, Entity, HasRev
     VariableType getType();
 
     void setType(VariableType type);
+
+    /**
+     * Marks the variable as read-only for the current command: changes made to its deserialized value (for example a serializable
+     * or json object) are not verified when the command closes and will not be flushed.
+     */
+    void setReadOnly(boolean readOnly);
+
+    boolean isReadOnly();
 }
@@ -18,6 +18,7 @@ import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
+import org.flowable.engine.common.impl.persistence.entity.ChangeTrackingEntity;
 import org.flowable.variable.service.impl.types.ValueFields;
 import org.flowable.variable.service.impl.types.VariableType;
 
@@ -26,7 +27,7 @@ import org.flowable.variable.service.impl.types.VariableType;
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableInstanceEntityImpl extends AbstractEntity implements VariableInstanceEntity, ValueFields, Serializable {
+public class VariableInstanceEntityImpl extends AbstractEntity implements VariableInstanceEntity, ValueFields, ChangeTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -50,6 +51,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     protected Object cachedValue;
     protected boolean forcedUpdate;
     protected boolean deleted;
+    protected boolean readOnly;
 
     public VariableInstanceEntityImpl() {
 
@@ -80,11 +82,13 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void forceUpdate() {
+        markChanged();
         forcedUpdate = true;
     }
     
     @Override
     public void setExecutionId(String executionId) {
+        markChanged(this.executionId, executionId);
         this.executionId = executionId;
     }
 
@@ -109,6 +113,9 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     @Override
     public void setBytes(byte[] bytes) {
         ensureByteArrayRefInitialized();
+        if (byteArrayRef.getId() == null && bytes != null) {
+            markChanged(); // a new byte array is inserted, which changes the byte array id of this variable
+        }
         byteArrayRef.setValue("var-" + name, bytes);
     }
 
@@ -144,6 +151,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void setName(String name) {
+        markChanged(this.name, name);
         this.name = name;
     }
 
@@ -165,6 +173,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void setTypeName(String typeName) {
+        markChanged(this.typeName, typeName);
         this.typeName = typeName;
     }
 
@@ -175,6 +184,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void setType(VariableType type) {
+        markChanged(this.type != null ? this.type.getTypeName() : null, type != null ? type.getTypeName() : null);
         this.type = type;
     }
 
@@ -210,6 +220,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void setScopeId(String scopeId) {
+        markChanged(this.scopeId, scopeId);
         this.scopeId = scopeId;
     }
 
@@ -220,6 +231,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void setScopeType(String scopeType) {
+        markChanged(this.scopeType, scopeType);
         this.scopeType = scopeType;
     }
 
@@ -230,6 +242,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void setLongValue(Long longValue) {
+        markChanged(this.longValue, longValue);
         this.longValue = longValue;
     }
 
@@ -240,6 +253,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void setDoubleValue(Double doubleValue) {
+        markChanged(this.doubleValue, doubleValue);
         this.doubleValue = doubleValue;
     }
 
@@ -250,6 +264,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void setTextValue(String textValue) {
+        markChanged(this.textValue, textValue);
         this.textValue = textValue;
     }
 
@@ -260,6 +275,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void setTextValue2(String textValue2) {
+        markChanged(this.textValue2, textValue2);
         this.textValue2 = textValue2;
     }
 
@@ -273,6 +289,16 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
         this.cachedValue = cachedValue;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    @Override
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
     // misc methods ///////////////////////////////////////////////////////////////
 
     @Override
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -41,4 +42,15 @@ public interface HistoricVariableInstanceDataManager extends DataManager<Histori
 
     long findHistoricVariableInstanceCountByNativeQuery(Map<String, Object> parameterMap);
 
+    /**
+     * Deletes the historic variable instances of the given process instances, together with their byte arrays, with set-based statements
+     * that are executed when the session is flushed. Historic variable instances that are already loaded aren't removed from the cache.
+     */
+    void bulkDeleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    /**
+     * Same as {@link #bulkDeleteHistoricVariableInstancesByProcessInstanceIds(Collection)}, for the given scopes of the given type.
+     */
+    void bulkDeleteHistoricVariableInstancesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+
 }
@@ -12,12 +12,14 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.common.impl.db.AbstractDataManager;
 import org.flowable.engine.common.impl.db.CachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
 import org.flowable.variable.service.history.HistoricVariableInstance;
 import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
@@ -32,6 +34,22 @@ import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematc
  */
 public class MybatisHistoricVariableInstanceDataManager extends AbstractDataManager<HistoricVariableInstanceEntity> implements HistoricVariableInstanceDataManager {
 
+    public static final EntityCacheIndex<HistoricVariableInstanceEntity> PROCESS_INSTANCE_ID_INDEX = new EntityCacheIndex<HistoricVariableInstanceEntity>() {
+
+        @Override
+        public Object getIndexKey(HistoricVariableInstanceEntity entity) {
+            return entity.getProcessInstanceId();
+        }
+    };
+
+    public static final EntityCacheIndex<HistoricVariableInstanceEntity> TASK_ID_INDEX = new EntityCacheIndex<HistoricVariableInstanceEntity>() {
+
+        @Override
+        public Object getIndexKey(HistoricVariableInstanceEntity entity) {
+            return entity.getTaskId();
+        }
+    };
+
     protected CachedEntityMatcher<HistoricVariableInstanceEntity> historicVariableInstanceByTaskIdMatcher = new HistoricVariableInstanceByTaskIdMatcher();
 
     protected CachedEntityMatcher<HistoricVariableInstanceEntity> historicVariableInstanceByProcInstMatcher = new HistoricVariableInstanceByProcInstMatcher();
@@ -98,4 +116,20 @@ public class MybatisHistoricVariableInstanceDataManager extends AbstractDataMana
         return (Long) getDbSqlSession().selectOne("selectHistoricVariableInstanceCountByNativeQuery", parameterMap);
     }
 
+    @Override
+    public void bulkDeleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        // Both statements are flushed together, so the byte arrays are deleted while their variables can still be found
+        getDbSqlSession().delete("bulkDeleteHistoricVariableInstanceByteArraysByProcessInstanceIds", processInstanceIds, getManagedEntityClass());
+        getDbSqlSession().delete("bulkDeleteHistoricVariableInstancesByProcessInstanceIds", processInstanceIds, getManagedEntityClass());
+    }
+
+    @Override
+    public void bulkDeleteHistoricVariableInstancesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("scopeIds", scopeIds);
+        params.put("scopeType", scopeType);
+        getDbSqlSession().delete("bulkDeleteHistoricVariableInstanceByteArraysByScopeIdsAndScopeType", params, getManagedEntityClass());
+        getDbSqlSession().delete("bulkDeleteHistoricVariableInstancesByScopeIdsAndScopeType", params, getManagedEntityClass());
+    }
+
 }
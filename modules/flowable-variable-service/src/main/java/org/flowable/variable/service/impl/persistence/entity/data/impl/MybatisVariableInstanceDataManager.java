@@ -21,6 +21,7 @@ import java.util.Set;
 import org.flowable.engine.common.impl.db.AbstractDataManager;
 import org.flowable.engine.common.impl.db.CachedEntityMatcher;
 import org.flowable.engine.common.impl.db.SingleCachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityImpl;
 import org.flowable.variable.service.impl.persistence.entity.data.VariableInstanceDataManager;
@@ -34,6 +35,22 @@ import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematc
  */
 public class MybatisVariableInstanceDataManager extends AbstractDataManager<VariableInstanceEntity> implements VariableInstanceDataManager {
 
+    public static final EntityCacheIndex<VariableInstanceEntity> EXECUTION_ID_INDEX = new EntityCacheIndex<VariableInstanceEntity>() {
+
+        @Override
+        public Object getIndexKey(VariableInstanceEntity entity) {
+            return entity.getExecutionId();
+        }
+    };
+
+    public static final EntityCacheIndex<VariableInstanceEntity> SCOPE_ID_INDEX = new EntityCacheIndex<VariableInstanceEntity>() {
+
+        @Override
+        public Object getIndexKey(VariableInstanceEntity entity) {
+            return entity.getScopeId();
+        }
+    };
+
     protected CachedEntityMatcher<VariableInstanceEntity> variableInstanceByExecutionIdMatcher = new VariableInstanceByExecutionIdMatcher();
     
     protected CachedEntityMatcher<VariableInstanceEntity> variableInstanceByScopeIdAndScopeTypeMatcher = new VariableInstanceByScopeIdAndScopeTypeMatcher();
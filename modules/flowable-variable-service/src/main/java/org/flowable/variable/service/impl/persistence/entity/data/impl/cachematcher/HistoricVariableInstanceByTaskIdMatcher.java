@@ -12,13 +12,18 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcherAdapter;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.data.impl.MybatisHistoricVariableInstanceDataManager;
 
 /**
  * @author Joram Barrez
  */
-public class HistoricVariableInstanceByTaskIdMatcher extends CachedEntityMatcherAdapter<HistoricVariableInstanceEntity> {
+public class HistoricVariableInstanceByTaskIdMatcher extends IndexedCachedEntityMatcherAdapter<HistoricVariableInstanceEntity> {
+
+    public HistoricVariableInstanceByTaskIdMatcher() {
+        super(MybatisHistoricVariableInstanceDataManager.TASK_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(HistoricVariableInstanceEntity historicVariableInstanceEntity, Object parameter) {
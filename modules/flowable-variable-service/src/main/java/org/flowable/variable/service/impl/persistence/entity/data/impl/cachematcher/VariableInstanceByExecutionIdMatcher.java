@@ -12,13 +12,18 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcherAdapter;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.data.impl.MybatisVariableInstanceDataManager;
 
 /**
  * @author Joram Barrez
  */
-public class VariableInstanceByExecutionIdMatcher extends CachedEntityMatcherAdapter<VariableInstanceEntity> {
+public class VariableInstanceByExecutionIdMatcher extends IndexedCachedEntityMatcherAdapter<VariableInstanceEntity> {
+
+    public VariableInstanceByExecutionIdMatcher() {
+        super(MybatisVariableInstanceDataManager.EXECUTION_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(VariableInstanceEntity variableInstanceEntity, Object parameter) {
@@ -15,13 +15,18 @@ package org.flowable.variable.service.impl.persistence.entity.data.impl.cachemat
 import java.util.Collection;
 import java.util.Map;
 
-import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcherAdapter;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.data.impl.MybatisVariableInstanceDataManager;
 
 /**
  * @author Joram Barrez
  */
-public class VariableInstanceByScopeIdAndScopeTypeAndVariableNamesMatcher extends CachedEntityMatcherAdapter<VariableInstanceEntity> {
+public class VariableInstanceByScopeIdAndScopeTypeAndVariableNamesMatcher extends IndexedCachedEntityMatcherAdapter<VariableInstanceEntity> {
+
+    public VariableInstanceByScopeIdAndScopeTypeAndVariableNamesMatcher() {
+        super(MybatisVariableInstanceDataManager.SCOPE_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(VariableInstanceEntity variableInstanceEntity, Object parameter) {
@@ -32,4 +37,9 @@ public class VariableInstanceByScopeIdAndScopeTypeAndVariableNamesMatcher extend
                 && variableNames.contains(variableInstanceEntity.getName());
     }
 
-}
\ No newline at end of file
+    @Override
+    public Object getIndexKey(Object parameter) {
+        return ((Map<?, ?>) parameter).get("scopeId");
+    }
+
+}
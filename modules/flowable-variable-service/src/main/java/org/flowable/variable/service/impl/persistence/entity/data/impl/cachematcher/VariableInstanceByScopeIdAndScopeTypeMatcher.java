@@ -14,13 +14,18 @@ package org.flowable.variable.service.impl.persistence.entity.data.impl.cachemat
 
 import java.util.Map;
 
-import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcherAdapter;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.data.impl.MybatisVariableInstanceDataManager;
 
 /**
  * @author Joram Barrez
  */
-public class VariableInstanceByScopeIdAndScopeTypeMatcher extends CachedEntityMatcherAdapter<VariableInstanceEntity> {
+public class VariableInstanceByScopeIdAndScopeTypeMatcher extends IndexedCachedEntityMatcherAdapter<VariableInstanceEntity> {
+
+    public VariableInstanceByScopeIdAndScopeTypeMatcher() {
+        super(MybatisVariableInstanceDataManager.SCOPE_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(VariableInstanceEntity variableInstanceEntity, Object parameter) {
@@ -29,4 +34,9 @@ public class VariableInstanceByScopeIdAndScopeTypeMatcher extends CachedEntityMa
                 && map.get("scopeType").equals(variableInstanceEntity.getScopeType());
     }
 
-}
\ No newline at end of file
+    @Override
+    public Object getIndexKey(Object parameter) {
+        return ((Map<?, ?>) parameter).get("scopeId");
+    }
+
+}
@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An {@link OutputStream} that doesn't keep the bytes written to it, but compares them with the expected bytes as they are written.
+ * Once a byte differs, the write fails with an {@link IOException}, so that the serialization stops at the first differing byte.
+ * 
+ * Used to verify whether the serialized form of a deserialized object is still the same, without buffering the serialized form.
+ */
+public class ComparingOutputStream extends OutputStream {
+
+    protected final byte[] expectedBytes;
+    protected int position;
+    protected boolean different;
+
+    public ComparingOutputStream(byte[] expectedBytes) {
+        this.expectedBytes = expectedBytes;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (different || position >= expectedBytes.length || expectedBytes[position] != (byte) b) {
+            throw bytesDiffer();
+        }
+        position++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (different || position + length > expectedBytes.length) {
+            throw bytesDiffer();
+        }
+        for (int i = 0; i < length; i++) {
+            if (expectedBytes[position + i] != bytes[offset + i]) {
+                throw bytesDiffer();
+            }
+        }
+        position += length;
+    }
+
+    protected IOException bytesDiffer() {
+        different = true;
+        return new BytesDifferException();
+    }
+
+    /**
+     * @return true if exactly the expected bytes were written.
+     */
+    public boolean isEqual() {
+        return !different && position == expectedBytes.length;
+    }
+
+    /**
+     * Thrown to abort the serialization, without the cost of filling in the stack trace.
+     */
+    private static class BytesDifferException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+    }
+
+}
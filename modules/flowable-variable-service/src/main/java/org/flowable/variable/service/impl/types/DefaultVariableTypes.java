@@ -14,9 +14,15 @@ package org.flowable.variable.service.impl.types;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.flowable.engine.common.api.FlowableException;
 
@@ -27,8 +33,27 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The built-in types of which {@link VariableType#isAbleToStore(Object)} only depends on the class of the value. Subclasses of these
+     * types can decide differently (e.g. the {@link LongJsonType}), so they're matched on the exact class.
+     */
+    protected static final Set<Class<?>> CLASS_BASED_TYPES = new HashSet<Class<?>>(Arrays.<Class<?>>asList(
+            NullType.class, BooleanType.class, ShortType.class, IntegerType.class, LongType.class, DoubleType.class, DateType.class,
+            JodaDateType.class, JodaDateTimeType.class, UUIDType.class, ByteArrayType.class, SerializableType.class, CustomObjectType.class,
+            JPAEntityVariableType.class, HistoricJPAEntityVariableType.class));
+
+    /** Limits the number of value classes for which the candidate types are kept, as they keep a reference to the class */
+    protected static final int MAX_CACHED_VALUE_CLASSES = 1024;
+
     private final List<VariableType> typesList = new ArrayList<>();
     private final Map<String, VariableType> typesMap = new HashMap<>();
+    private final Map<VariableType, Integer> typeIndexes = new IdentityHashMap<>();
+
+    /**
+     * The types that need to be checked for values of a class, in order: the types that decide based on the value, up to and including the
+     * first class based type that is able to store values of the class.
+     */
+    private final ConcurrentMap<Class<?>, List<VariableType>> candidateTypesByClass = new ConcurrentHashMap<>();
 
     @Override
     public DefaultVariableTypes addType(VariableType type) {
@@ -39,6 +64,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public DefaultVariableTypes addType(VariableType type, int index) {
         typesList.add(index, type);
         typesMap.put(type.getTypeName(), type);
+        typesChanged();
         return this;
     }
 
@@ -49,6 +75,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
         for (VariableType type : typesList) {
             typesMap.put(type.getTypeName(), type);
         }
+        typesChanged();
     }
 
     @Override
@@ -58,7 +85,8 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
 
     @Override
     public VariableType findVariableType(Object value) {
-        for (VariableType type : typesList) {
+        List<VariableType> candidateTypes = value != null ? getCandidateTypes(value) : typesList;
+        for (VariableType type : candidateTypes) {
             if (type.isAbleToStore(value)) {
                 return type;
             }
@@ -66,9 +94,30 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
         throw new FlowableException("couldn't find a variable type that is able to serialize " + value);
     }
 
+    protected List<VariableType> getCandidateTypes(Object value) {
+        Class<?> valueClass = value.getClass();
+        List<VariableType> candidateTypes = candidateTypesByClass.get(valueClass);
+        if (candidateTypes == null) {
+            candidateTypes = new ArrayList<>();
+            for (VariableType type : typesList) {
+                if (!CLASS_BASED_TYPES.contains(type.getClass())) {
+                    candidateTypes.add(type);
+                } else if (type.isAbleToStore(value)) {
+                    candidateTypes.add(type);
+                    break;
+                }
+            }
+            if (candidateTypesByClass.size() < MAX_CACHED_VALUE_CLASSES) {
+                candidateTypesByClass.putIfAbsent(valueClass, candidateTypes);
+            }
+        }
+        return candidateTypes;
+    }
+
     @Override
     public int getTypeIndex(VariableType type) {
-        return typesList.indexOf(type);
+        Integer index = typeIndexes.get(type);
+        return index != null ? index : -1;
     }
 
     @Override
@@ -85,6 +134,15 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public VariableTypes removeType(VariableType type) {
         typesList.remove(type);
         typesMap.remove(type.getTypeName());
+        typesChanged();
         return this;
     }
+
+    protected void typesChanged() {
+        typeIndexes.clear();
+        for (int i = typesList.size() - 1; i >= 0; i--) { // the first index wins when a type was added twice, like with indexOf
+            typeIndexes.put(typesList.get(i), i);
+        }
+        candidateTypesByClass.clear();
+    }
 }
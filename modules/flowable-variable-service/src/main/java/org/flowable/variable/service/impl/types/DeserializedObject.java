@@ -14,6 +14,7 @@ package org.flowable.variable.service.impl.types;
 
 import java.util.Arrays;
 
+import org.flowable.engine.common.api.FlowableException;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
@@ -36,7 +37,21 @@ public class DeserializedObject {
 
     public void verifyIfBytesOfSerializedObjectChanged() {
         // this first check verifies if the variable value was not overwritten with another object
-        if (deserializedObject == variableInstanceEntity.getCachedValue() && !variableInstanceEntity.isDeleted()) {
+        if (deserializedObject == variableInstanceEntity.getCachedValue() && !variableInstanceEntity.isDeleted() && !variableInstanceEntity.isReadOnly()) {
+
+            // Compare while serializing, so that an unchanged object doesn't need to be buffered
+            if (deserializedObject != null && originalBytes != null) {
+                ComparingOutputStream comparingOutputStream = new ComparingOutputStream(originalBytes);
+                try {
+                    type.serialize(deserializedObject, variableInstanceEntity, comparingOutputStream);
+                } catch (FlowableException e) {
+                    // the comparing stream aborts the serialization at the first differing byte
+                }
+                if (comparingOutputStream.isEqual()) {
+                    return;
+                }
+            }
+
             byte[] bytes = type.serialize(deserializedObject, variableInstanceEntity);
             if (!Arrays.equals(originalBytes, bytes)) {
 
@@ -12,6 +12,8 @@
  */
 package org.flowable.variable.service.impl.types;
 
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,10 +29,16 @@ public class JsonType implements VariableType {
 
     protected final int maxLength;
     protected ObjectMapper objectMapper;
+    protected boolean trackObjects;
 
     public JsonType(int maxLength, ObjectMapper objectMapper) {
+        this(maxLength, objectMapper, false);
+    }
+
+    public JsonType(int maxLength, ObjectMapper objectMapper, boolean trackObjects) {
         this.maxLength = maxLength;
         this.objectMapper = objectMapper;
+        this.trackObjects = trackObjects;
     }
 
     @Override
@@ -53,12 +61,21 @@ public class JsonType implements VariableType {
                 LOGGER.error("Error reading json variable {}", valueFields.getName(), e);
             }
         }
+        trackValue(jsonValue, valueFields);
         return jsonValue;
     }
 
     @Override
     public void setValue(Object value, ValueFields valueFields) {
         valueFields.setTextValue(value != null ? value.toString() : null);
+        trackValue(value, valueFields);
+    }
+
+    protected void trackValue(Object value, ValueFields valueFields) {
+        if (trackObjects && value instanceof JsonNode && valueFields instanceof VariableInstanceEntity) {
+            Context.getCommandContext().addCloseListener(new VerifyJsonValueCommandContextCloseListener(
+                    (JsonNode) value, valueFields.getTextValue(), (VariableInstanceEntity) valueFields, maxLength));
+        }
     }
 
     @Override
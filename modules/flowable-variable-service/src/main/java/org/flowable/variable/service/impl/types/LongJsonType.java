@@ -12,6 +12,9 @@
  */
 package org.flowable.variable.service.impl.types;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import org.flowable.engine.common.api.FlowableException;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -26,6 +29,11 @@ public class LongJsonType extends SerializableType {
     protected ObjectMapper objectMapper;
 
     public LongJsonType(int minLength, ObjectMapper objectMapper) {
+        this(minLength, objectMapper, false);
+    }
+
+    public LongJsonType(int minLength, ObjectMapper objectMapper, boolean trackObjects) {
+        super(trackObjects);
         this.minLength = minLength;
         this.objectMapper = objectMapper;
     }
@@ -60,6 +68,15 @@ public class LongJsonType extends SerializableType {
         }
     }
 
+    @Override
+    public void serialize(Object value, ValueFields valueFields, OutputStream outputStream) {
+        try {
+            outputStream.write(serialize(value, valueFields));
+        } catch (IOException e) {
+            throw new FlowableException("Error writing json variable", e);
+        }
+    }
+
     @Override
     public Object deserialize(byte[] bytes, ValueFields valueFields) {
         JsonNode valueNode = null;
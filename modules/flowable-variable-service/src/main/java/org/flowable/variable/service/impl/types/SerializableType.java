@@ -93,16 +93,24 @@ public class SerializableType extends ByteArrayType {
             return null;
         }
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        serialize(value, valueFields, baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Writes the serialized form of the value to the given stream. Used when verifying whether a deserialized object has changed,
+     * so subclasses that change the serialization format need to override this method as well.
+     */
+    public void serialize(Object value, ValueFields valueFields, OutputStream outputStream) {
         ObjectOutputStream oos = null;
         try {
-            oos = createObjectOutputStream(baos);
+            oos = createObjectOutputStream(outputStream);
             oos.writeObject(value);
         } catch (Exception e) {
             throw new FlowableException("Couldn't serialize value '" + value + "' in variable '" + valueFields.getName() + "'", e);
         } finally {
             IoUtil.closeSilently(oos);
         }
-        return baos.toByteArray();
     }
 
     public Object deserialize(byte[] bytes, ValueFields valueFields) {
@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.CommandContextCloseListener;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.util.CommandContextUtil;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A {@link CommandContextCloseListener} added by the {@link JsonType} when the json value of a variable is read or set.
+ * 
+ * Json nodes are mutable, so on the {@link #closing(CommandContext)} of the {@link CommandContext} the text of the json value is compared
+ * with the text the variable was loaded or set with. If it differs, the variable is updated such that the changes will be flushed.
+ * When the changed text doesn't fit the text column anymore, the variable is stored with the {@link LongJsonType}, as it would have been when setting it.
+ */
+public class VerifyJsonValueCommandContextCloseListener implements CommandContextCloseListener {
+
+    protected JsonNode jsonValue;
+    protected String originalText;
+    protected VariableInstanceEntity variableInstanceEntity;
+    protected int maxLength;
+
+    public VerifyJsonValueCommandContextCloseListener(JsonNode jsonValue, String originalText, VariableInstanceEntity variableInstanceEntity, int maxLength) {
+        this.jsonValue = jsonValue;
+        this.originalText = originalText;
+        this.variableInstanceEntity = variableInstanceEntity;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+        // the variable value could have been overwritten with another object
+        if (jsonValue == variableInstanceEntity.getCachedValue() && !variableInstanceEntity.isDeleted() && !variableInstanceEntity.isReadOnly()) {
+            String text = jsonValue.toString();
+            if (!text.equals(originalText)) {
+                if (text.length() <= maxLength) {
+                    variableInstanceEntity.setTextValue(text);
+                } else {
+                    storeAsLongJson(commandContext);
+                }
+            }
+        }
+    }
+
+    protected void storeAsLongJson(CommandContext commandContext) {
+        VariableType longJsonType = CommandContextUtil.getVariableServiceConfiguration(commandContext).getVariableTypes().getVariableType("longJson");
+        if (!(longJsonType instanceof LongJsonType) || !longJsonType.isAbleToStore(jsonValue)) {
+            throw new FlowableException("The changed json value of variable '" + variableInstanceEntity.getName() + "' is longer than " + maxLength
+                    + " characters and can't be stored as a longJson variable");
+        }
+
+        // Not using the setValue of the type: close listeners can't be added while they are executed
+        variableInstanceEntity.setTextValue(null);
+        variableInstanceEntity.setType(longJsonType);
+        variableInstanceEntity.setTypeName(longJsonType.getTypeName());
+        variableInstanceEntity.forceUpdate();
+        variableInstanceEntity.setBytes(((LongJsonType) longJsonType).serialize(jsonValue, variableInstanceEntity));
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+
+    }
+
+}